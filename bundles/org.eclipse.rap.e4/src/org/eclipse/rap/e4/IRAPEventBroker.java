@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4;
+
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * The event broker of a RAP e4 application. Events are delivered to the handlers of the session
+ * that sent them, without the OSGi <code>EventAdmin</code>. Handlers that also need to receive
+ * events sent directly through the <code>EventAdmin</code> can subscribe globally.
+ * <p>
+ * Sent events are delivered to headless handlers in the calling thread and to the other handlers
+ * on the UI thread. Posted events are delivered to headless handlers on a background thread and to
+ * the other handlers on the UI thread, in the order they have been posted.
+ * </p>
+ * <p>
+ * Methods and fields that are injected with <code>@EventTopic</code> or
+ * <code>@UIEventTopic</code> are subscribed to the broker of the session as well. Hence they do
+ * not receive events that are sent directly through the <code>EventAdmin</code>.
+ * </p>
+ * <p>
+ * An instance can be obtained from the application context, either by this type or by
+ * {@link IEventBroker}.
+ * </p>
+ *
+ * @since 3.16
+ */
+public interface IRAPEventBroker extends IEventBroker {
+
+	/**
+	 * Subscribes the given event handler as an OSGi <code>EventHandler</code> service. As long
+	 * as the session has global subscriptions, the events it sends are also passed to the
+	 * <code>EventAdmin</code>.
+	 *
+	 * @param topic the topic to subscribe to, relative to the session
+	 * @param filter the LDAP filter for the event properties, or <code>null</code>
+	 * @param eventHandler the handler to notify
+	 * @param headless <code>false</code> to notify the handler on the UI thread
+	 * @return <code>true</code> if the handler has been subscribed
+	 * @see IEventBroker#subscribe(String, String, EventHandler, boolean)
+	 */
+	public boolean subscribeGlobally(String topic, String filter, EventHandler eventHandler, boolean headless);
+
+}
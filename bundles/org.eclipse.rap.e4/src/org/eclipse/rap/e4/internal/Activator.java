@@ -1,5 +1,9 @@
 package org.eclipse.rap.e4.internal;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
@@ -14,6 +18,7 @@ public class Activator implements BundleActivator {
 	
 	private ServiceTracker eventAdminTracker;
 	private BundleContext bundleContext;
+	private ExecutorService eventExecutor;
 
 	/*
 	 * Returns the singleton for this Activator. Callers should be aware that
@@ -39,6 +44,23 @@ public class Activator implements BundleActivator {
 		return (EventAdmin) eventAdminTracker.getService();
 	}
 
+	/*
+	 * Returns the executor that delivers posted events to headless handlers, shared by all
+	 * sessions. It is shut down when the bundle is stopped.
+	 */
+	public synchronized ExecutorService getEventExecutor() {
+		if (eventExecutor == null) {
+			eventExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "RAP e4 Event Dispatcher"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return eventExecutor;
+	}
+
 	public void stop(BundleContext context) throws Exception {
 		if (contextServiceReg != null) {
 			contextServiceReg.unregister();
@@ -53,6 +75,12 @@ public class Activator implements BundleActivator {
 			eventAdminTracker.close();
 			eventAdminTracker = null;
 		}
+		synchronized (this) {
+			if (eventExecutor != null) {
+				eventExecutor.shutdown();
+				eventExecutor = null;
+			}
+		}
 		bundleContext = null;
 		singleton = null;
 	}
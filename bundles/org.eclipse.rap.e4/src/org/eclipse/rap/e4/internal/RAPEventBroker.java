@@ -3,9 +3,11 @@ package org.eclipse.rap.e4.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -19,21 +21,41 @@ import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.rap.e4.IRAPEventBroker;
+import org.eclipse.rap.e4.internal.RAPEventBus.Subscription;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
-public class RAPEventBroker implements IEventBroker {
-	    // TBD synchronization
+/**
+ * Delivers the events of a session to the handlers subscribed in that session through a
+ * {@link RAPEventBus}. Only handlers that subscribe globally are registered with the
+ * <code>EventAdmin</code>, events are passed to it as long as such handlers exist.
+ * <p>
+ * Like with the <code>EventAdmin</code>, sent events are delivered to headless handlers in the
+ * calling thread. Posted events are delivered to headless handlers on a background thread and
+ * to the other handlers on the UI thread, both in the order they have been posted.
+ * </p>
+ */
+public class RAPEventBroker implements IRAPEventBroker {
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+		private final RAPEventBus eventBus = new RAPEventBus();
+
+		// delivers posted events to headless handlers
+		private final Executor headlessExecutor;
+
+		// the global subscriptions, registered as EventHandler services
+		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new ConcurrentHashMap<EventHandler, Collection<ServiceRegistration<?>>>();
 
 		@Inject
 		Logger logger;
@@ -50,9 +72,9 @@ public class RAPEventBroker implements IEventBroker {
 		// EventAdmin implementation is started. This code it to be removed once
 		// the proper method to start EventAdmin is added.
 		static {
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				Bundle[] bundles = Activator.getDefault().getBundleContext().getBundles();
+			Activator activator = Activator.getDefault();
+			if (activator != null && activator.getEventAdmin() == null) {
+				Bundle[] bundles = activator.getBundleContext().getBundles();
 				for (Bundle bundle : bundles) {
 					if (!"org.eclipse.equinox.event".equals(bundle.getSymbolicName()))
 						continue;
@@ -67,12 +89,39 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public RAPEventBroker() {
-			// placeholder
+			this(Activator.getDefault().getEventExecutor());
+		}
+
+		RAPEventBroker(Executor executor) {
+			headlessExecutor = new SerialExecutor(executor);
 		}
 
 		public boolean send(String topic, Object data) {
-			Event event = constructEvent(topic, data, false);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
+			final Event event = constructEvent(topic, data, false);
+			List<Subscription> subscriptions = eventBus.getSubscriptions(event);
+			List<Subscription> uiSubscriptions = null;
+			for (Subscription subscription : subscriptions) {
+				if (subscription.isHeadless() || uiSync == null) {
+					dispatch(subscription.getHandler(), event);
+				} else {
+					if (uiSubscriptions == null) {
+						uiSubscriptions = new ArrayList<Subscription>();
+					}
+					uiSubscriptions.add(subscription);
+				}
+			}
+			if (uiSubscriptions != null) {
+				final List<Subscription> handlers = uiSubscriptions;
+				uiSync.syncExec(new Runnable() {
+					public void run() {
+						dispatch(handlers, event);
+					}
+				});
+			}
+			if (registrations.isEmpty()) {
+				return true;
+			}
+			EventAdmin eventAdmin = getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
 				return false;
@@ -82,8 +131,44 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean post(String topic, Object data) {
-			Event event = constructEvent(topic, data, true);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
+			final Event event = constructEvent(topic, data, true);
+			List<Subscription> headlessSubscriptions = null;
+			List<Subscription> uiSubscriptions = null;
+			for (Subscription subscription : eventBus.getSubscriptions(event)) {
+				if (subscription.isHeadless() || uiSync == null) {
+					if (headlessSubscriptions == null) {
+						headlessSubscriptions = new ArrayList<Subscription>();
+					}
+					headlessSubscriptions.add(subscription);
+				} else {
+					if (uiSubscriptions == null) {
+						uiSubscriptions = new ArrayList<Subscription>();
+					}
+					uiSubscriptions.add(subscription);
+				}
+			}
+			// the handlers of an event are notified in a single runnable per thread, which keeps
+			// the order of posted events
+			if (headlessSubscriptions != null) {
+				final List<Subscription> handlers = headlessSubscriptions;
+				headlessExecutor.execute(new Runnable() {
+					public void run() {
+						dispatch(handlers, event);
+					}
+				});
+			}
+			if (uiSubscriptions != null) {
+				final List<Subscription> handlers = uiSubscriptions;
+				uiSync.asyncExec(new Runnable() {
+					public void run() {
+						dispatch(handlers, event);
+					}
+				});
+			}
+			if (registrations.isEmpty()) {
+				return true;
+			}
+			EventAdmin eventAdmin = getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
 				return false;
@@ -92,6 +177,35 @@ public class RAPEventBroker implements IEventBroker {
 			return true;
 		}
 
+		private void dispatch(List<Subscription> subscriptions, Event event) {
+			for (Subscription subscription : subscriptions) {
+				dispatch(subscription.getHandler(), event);
+			}
+		}
+
+		private void dispatch(EventHandler handler, Event event) {
+			// like the EventAdmin, do not let a failing handler stop the delivery
+			try {
+				handler.handleEvent(event);
+			} catch (RuntimeException e) {
+				logger.error(e, NLS.bind("Exception while dispatching event {0} to handler {1}", event, handler));
+			}
+		}
+
+		RAPEventBus getEventBus() {
+			return eventBus;
+		}
+
+		EventAdmin getEventAdmin() {
+			Activator activator = Activator.getDefault();
+			return activator == null ? null : activator.getEventAdmin();
+		}
+
+		BundleContext getBundleContext() {
+			Activator activator = Activator.getDefault();
+			return activator == null ? null : activator.getBundleContext();
+		}
+
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
 			topic = rapifyTopic(instanceId, topic);
@@ -123,8 +237,22 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
+			Filter eventFilter = null;
+			if (filter != null) {
+				try {
+					eventFilter = FrameworkUtil.createFilter(filter);
+				} catch (InvalidSyntaxException e) {
+					logger.error(e, NLS.bind("Invalid event filter {0}", filter));
+					return false;
+				}
+			}
+			eventBus.subscribe(rapifyTopic(instanceId, topic), eventFilter, eventHandler, headless);
+			return true;
+		}
+
+		public boolean subscribeGlobally(String topic, String filter, EventHandler eventHandler, boolean headless) {
 			topic = rapifyTopic(instanceId, topic);
-			BundleContext bundleContext = Activator.getDefault().getBundleContext();
+			BundleContext bundleContext = getBundleContext();
 			if (bundleContext == null) {
 				logger.error(NLS.bind("No EventAdmin", topic));
 				return false;
@@ -137,21 +265,26 @@ public class RAPEventBroker implements IEventBroker {
 			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
 			ServiceRegistration<?> registration = bundleContext.registerService(
 					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
-					.get(eventHandler);
-			if (handled == null) {
-				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
+			synchronized (registrations) {
+				Collection<ServiceRegistration<?>> handled = registrations
+						.get(eventHandler);
+				if (handled == null) {
+					registrations.put(eventHandler,
+							handled = new ArrayList<ServiceRegistration<?>>());
+				}
+				handled.add(registration);
 			}
-			handled.add(registration);
 			return true;
 		}
 
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
-					.remove(eventHandler);
+			boolean result = eventBus.unsubscribe(eventHandler);
+			Collection<ServiceRegistration<?>> handled;
+			synchronized (registrations) {
+				handled = registrations.remove(eventHandler);
+			}
 			if (handled == null || handled.isEmpty())
-				return false;
+				return result;
 			for (ServiceRegistration<?> r : handled) {
 				r.unregister();
 			}
@@ -160,9 +293,12 @@ public class RAPEventBroker implements IEventBroker {
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
-					registrations.values());
-			registrations.clear();
+			eventBus.clear();
+			Collection<Collection<ServiceRegistration<?>>> values;
+			synchronized (registrations) {
+				values = new ArrayList<Collection<ServiceRegistration<?>>>(registrations.values());
+				registrations.clear();
+			}
 			for (Collection<ServiceRegistration<?>> handled : values) {
 				for (ServiceRegistration<?> registration : handled) {
 					// System.out.println("EventBroker dispose:" + registration[i] +
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.osgi.framework.Filter;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * An in-process event bus that holds the event handlers of a single session. The subscriptions
+ * are kept in a trie of topic segments, an event is only matched against the subscriptions of its
+ * own topic and the wildcard subscriptions of the topics above it.
+ * <p>
+ * Topics follow the EventAdmin syntax: segments are separated by <code>/</code>, a trailing
+ * <code>*</code> segment matches all topics below the preceding segments.
+ * </p>
+ */
+class RAPEventBus {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+
+	private final Node root = new Node();
+	private final ConcurrentMap<EventHandler, Collection<Subscription>> subscriptions
+		= new ConcurrentHashMap<EventHandler, Collection<Subscription>>();
+
+	void subscribe(String topic, Filter filter, EventHandler handler, boolean headless) {
+		Node node = root;
+		List<String> segments = split(topic);
+		int last = segments.size() - 1;
+		boolean wildcard = WILDCARD.equals(segments.get(last));
+		int length = wildcard ? last : segments.size();
+		for (int i = 0; i < length; i++) {
+			node = node.getOrCreateChild(segments.get(i));
+		}
+		List<Subscription> owner = wildcard ? node.wildcardSubscriptions : node.subscriptions;
+		Subscription subscription = new Subscription(owner, handler, filter, headless);
+		Collection<Subscription> handled = subscriptions.get(handler);
+		if (handled == null) {
+			handled = new CopyOnWriteArrayList<Subscription>();
+			Collection<Subscription> existing = subscriptions.putIfAbsent(handler, handled);
+			if (existing != null) {
+				handled = existing;
+			}
+		}
+		handled.add(subscription);
+		owner.add(subscription);
+	}
+
+	boolean unsubscribe(EventHandler handler) {
+		Collection<Subscription> handled = subscriptions.remove(handler);
+		if (handled == null || handled.isEmpty()) {
+			return false;
+		}
+		for (Subscription subscription : handled) {
+			subscription.owner.remove(subscription);
+		}
+		return true;
+	}
+
+	List<Subscription> getSubscriptions(Event event) {
+		List<Subscription> result = null;
+		List<String> segments = split(event.getTopic());
+		Node node = root;
+		for (int i = 0; i < segments.size() && node != null; i++) {
+			result = collect(node.wildcardSubscriptions, event, result);
+			node = node.children.get(segments.get(i));
+		}
+		if (node != null) {
+			result = collect(node.subscriptions, event, result);
+		}
+		return result == null ? Collections.<Subscription>emptyList() : result;
+	}
+
+	void clear() {
+		for (EventHandler handler : new ArrayList<EventHandler>(subscriptions.keySet())) {
+			unsubscribe(handler);
+		}
+	}
+
+	private static List<Subscription> collect(List<Subscription> subscriptions,
+	                                          Event event,
+	                                          List<Subscription> result)
+	{
+		for (Subscription subscription : subscriptions) {
+			if (subscription.filter == null || event.matches(subscription.filter)) {
+				if (result == null) {
+					result = new ArrayList<Subscription>();
+				}
+				result.add(subscription);
+			}
+		}
+		return result;
+	}
+
+	private static List<String> split(String topic) {
+		List<String> segments = new ArrayList<String>();
+		int start = 0;
+		int index = topic.indexOf('/');
+		while (index != -1) {
+			segments.add(topic.substring(start, index));
+			start = index + 1;
+			index = topic.indexOf('/', start);
+		}
+		segments.add(topic.substring(start));
+		return segments;
+	}
+
+	static final class Subscription {
+
+		private final List<Subscription> owner;
+		private final EventHandler handler;
+		private final Filter filter;
+		private final boolean headless;
+
+		Subscription(List<Subscription> owner, EventHandler handler, Filter filter, boolean headless) {
+			this.owner = owner;
+			this.handler = handler;
+			this.filter = filter;
+			this.headless = headless;
+		}
+
+		EventHandler getHandler() {
+			return handler;
+		}
+
+		boolean isHeadless() {
+			return headless;
+		}
+	}
+
+	private static final class Node {
+
+		final ConcurrentMap<String, Node> children = new ConcurrentHashMap<String, Node>();
+		final List<Subscription> subscriptions = new CopyOnWriteArrayList<Subscription>();
+		final List<Subscription> wildcardSubscriptions = new CopyOnWriteArrayList<Subscription>();
+
+		Node getOrCreateChild(String segment) {
+			Node child = children.get(segment);
+			if (child == null) {
+				child = new Node();
+				Node existing = children.putIfAbsent(segment, child);
+				if (existing != null) {
+					child = existing;
+				}
+			}
+			return child;
+		}
+	}
+
+}
@@ -16,11 +16,13 @@ import javax.inject.Named;
 
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
+import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.di.extensions.EventTopic;
 import org.eclipse.e4.core.di.internal.extensions.util.EventUtils;
 import org.eclipse.e4.core.di.suppliers.ExtendedObjectSupplier;
 import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -129,10 +131,17 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
 
+	// handlers subscribed to the event bus of the session, guarded by registrations
+	private Map<Subscriber, EventHandler> busHandlers = new HashMap<Subscriber, EventHandler>();
+
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	@Optional
+	protected IEventBroker eventBroker;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -150,14 +159,23 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		String topic = getTopic(descriptor);
-		EventAdmin eventAdmin = getEventAdmin();
-		if (topic == null || eventAdmin == null || topic.length() == 0)
+		if (topic == null || topic.length() == 0)
 			return IInjector.NOT_A_VALUE;
-
-		if (track)
-			subscribe(topic, eventAdmin, requestor);
-		else
-			unsubscribe(requestor);
+		RAPEventBus eventBus = getEventBus();
+		if (eventBus != null) {
+			if (track)
+				subscribe(topic, eventBus, requestor);
+			else
+				unsubscribe(requestor);
+		} else {
+			EventAdmin eventAdmin = getEventAdmin();
+			if (eventAdmin == null)
+				return IInjector.NOT_A_VALUE;
+			if (track)
+				subscribe(topic, eventAdmin, requestor);
+			else
+				unsubscribe(requestor);
+		}
 
 		if (!currentEvents.containsKey(topic))
 			return IInjector.NOT_A_VALUE;
@@ -190,6 +208,25 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		}
 	}
 
+	private void subscribe(String topic, RAPEventBus eventBus, IRequestor requestor) {
+		Subscriber subscriber = new Subscriber(requestor, topic);
+		EventHandler handler;
+		synchronized (registrations) {
+			if (busHandlers.containsKey(subscriber))
+				return;
+			handler = makeHandler(topic, requestor);
+			busHandlers.put(subscriber, handler);
+		}
+		// the handlers take care of the UI thread themselves
+		eventBus.subscribe(topic, null, handler, true);
+	}
+
+	private RAPEventBus getEventBus() {
+		if (eventBroker instanceof RAPEventBroker)
+			return ((RAPEventBroker) eventBroker).getEventBus();
+		return null;
+	}
+
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
 		return new DIEventHandler(topic, requestor);
 	}
@@ -221,6 +258,16 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 				registration.unregister();
 				i.remove();
 			}
+			RAPEventBus eventBus = getEventBus();
+			Iterator<Entry<Subscriber, EventHandler>> j = busHandlers.entrySet().iterator();
+			while (j.hasNext()) {
+				Entry<Subscriber, EventHandler> entry = j.next();
+				if (!requestor.equals(entry.getKey().getRequestor()))
+					continue;
+				if (eventBus != null)
+					eventBus.unsubscribe(entry.getValue());
+				j.remove();
+			}
 		}
 	}
 
@@ -231,6 +278,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 			Collection<ServiceRegistration> values = registrations.values();
 			array = values.toArray(new ServiceRegistration[values.size()]);
 			registrations.clear();
+			RAPEventBus eventBus = getEventBus();
+			if (eventBus != null) {
+				for (EventHandler handler : busHandlers.values()) {
+					eventBus.unsubscribe(handler);
+				}
+			}
+			busHandlers.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
 			array[i].unregister();
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes tasks one at a time in the order they have been submitted, using the threads of a
+ * shared executor. Hence the tasks of a session are ordered without a thread per session.
+ * <p>
+ * If the shared executor rejects a task because it has been shut down, the pending tasks are
+ * executed in the calling thread.
+ * </p>
+ */
+class SerialExecutor implements Executor {
+
+	private final Executor executor;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final Runnable drain = new Runnable() {
+		public void run() {
+			try {
+				Runnable task = tasks.poll();
+				while (task != null) {
+					task.run();
+					task = tasks.poll();
+				}
+			} finally {
+				running.set(false);
+				// tasks may have been added after the queue was found empty
+				schedule();
+			}
+		}
+	};
+
+	SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	public void execute(Runnable task) {
+		tasks.add(task);
+		schedule();
+	}
+
+	private void schedule() {
+		if (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+			try {
+				executor.execute(drain);
+			} catch (RejectedExecutionException e) {
+				drain.run();
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ public class FileUploadHandler {
   private final FileUploadListenerList listeners;
   private long maxFileSize = -1;
   private long uploadTimeLimit = -1;
+  private long progressInterval;
 
   /**
    * Constructs a file upload handler that is associated with the given receiver. The receiver is
@@ -144,6 +145,30 @@ public class FileUploadHandler {
     uploadTimeLimit = timeLimit;
   }
 
+  /**
+   * Returns the minimum time in milliseconds between two progress notifications. The default value
+   * of 0 indicates that listeners are notified whenever new data has been received.
+   *
+   * @since 3.16
+   */
+  public long getProgressInterval() {
+    return progressInterval;
+  }
+
+  /**
+   * Sets the minimum time in milliseconds between two progress notifications. For large uploads,
+   * a longer interval reduces the number of listener notifications considerably. The progress of
+   * the completely received data is always reported. The default value of 0 indicates that
+   * listeners are notified whenever new data has been received.
+   *
+   * @see #getProgressInterval
+   *
+   * @since 3.16
+   */
+  public void setProgressInterval( long interval ) {
+    progressInterval = interval;
+  }
+
   FileUploadListenerList getListeners() {
     return listeners;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,12 +34,14 @@ final class FileUploadProcessor {
 
   private final FileUploadHandler handler;
   private final FileUploadTracker tracker;
+  private final ThrottledProgressListener progressListener;
   private String fileName;
   private long deadline;
 
   FileUploadProcessor( FileUploadHandler handler ) {
     this.handler = handler;
     tracker = new FileUploadTracker( handler );
+    progressListener = new ThrottledProgressListener();
     deadline = -1;
   }
 
@@ -64,6 +66,7 @@ final class FileUploadProcessor {
         tracker.handleFailed();
         response.sendError( HttpServletResponse.SC_BAD_REQUEST, errorMessage );
       } else {
+        progressListener.reportPendingProgress();
         tracker.handleFinished();
       }
     } catch( Exception exception ) {
@@ -89,35 +92,11 @@ final class FileUploadProcessor {
   private ServletFileUpload createUpload() {
     ServletFileUpload upload = new ServletFileUpload();
     upload.setFileSizeMax( handler.getMaxFileSize() );
-    upload.setProgressListener( createProgressListener() );
+    upload.setProgressListener( progressListener );
     upload.setHeaderEncoding( HTTP.CHARSET_UTF_8 );
     return upload;
   }
 
-  private ProgressListener createProgressListener() {
-    ProgressListener result = new ProgressListener() {
-      long prevTotalBytesRead = -1;
-      @Override
-      public void update( long totalBytesRead, long contentLength, int item ) {
-        // Depending on the servlet engine and other environmental factors,
-        // this listener may be notified for every network packet, so don't notify unless there
-        // is an actual increase.
-        if ( totalBytesRead > prevTotalBytesRead ) {
-          if( deadline > 0 && System.currentTimeMillis() > deadline ) {
-            long timeLimit = handler.getUploadTimeLimit();
-            Exception exception = new UploadTimeLimitExceededException( timeLimit, fileName );
-            throw new RuntimeException( exception );
-          }
-          prevTotalBytesRead = totalBytesRead;
-          tracker.setContentLength( contentLength );
-          tracker.setBytesRead( totalBytesRead );
-          tracker.handleProgress();
-        }
-      }
-    };
-    return result;
-  }
-
   private void receive( FileItemStream item ) throws IOException {
     InputStream stream = item.openStream();
     try {
@@ -146,4 +125,49 @@ final class FileUploadProcessor {
     return result;
   }
 
+  private final class ThrottledProgressListener implements ProgressListener {
+
+    private long prevTotalBytesRead = -1;
+    private long reportedBytesRead = -1;
+    private long nextProgressTime;
+
+    @Override
+    public void update( long totalBytesRead, long contentLength, int item ) {
+      // Depending on the servlet engine and other environmental factors,
+      // this listener may be notified for every network packet, so don't notify unless there
+      // is an actual increase.
+      if ( totalBytesRead > prevTotalBytesRead ) {
+        long now = System.currentTimeMillis();
+        if( deadline > 0 && now > deadline ) {
+          long timeLimit = handler.getUploadTimeLimit();
+          Exception exception = new UploadTimeLimitExceededException( timeLimit, fileName );
+          throw new RuntimeException( exception );
+        }
+        prevTotalBytesRead = totalBytesRead;
+        tracker.setContentLength( contentLength );
+        tracker.setBytesRead( totalBytesRead );
+        if( now >= nextProgressTime || totalBytesRead == contentLength ) {
+          nextProgressTime = now + handler.getProgressInterval();
+          report();
+        }
+      }
+    }
+
+    /*
+     * Reports the progress that has been held back by the throttling. Without a content length,
+     * the last update cannot be recognized as complete while it is received.
+     */
+    void reportPendingProgress() {
+      if( reportedBytesRead != prevTotalBytesRead ) {
+        report();
+      }
+    }
+
+    private void report() {
+      reportedBytesRead = prevTotalBytesRead;
+      tracker.handleProgress();
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.grid;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.checkMarkupPrecondition;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
@@ -209,6 +210,7 @@ public class Grid extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -233,6 +235,7 @@ public class Grid extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -262,6 +265,7 @@ public class Grid extends Composite {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -286,6 +290,7 @@ public class Grid extends Composite {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -306,6 +311,7 @@ public class Grid extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    markChanged( this );
     int itemCount = Math.max( 0, count );
     while( itemCount < items.size() ) {
       int flatIndex = items.size() - 1;
@@ -751,6 +757,7 @@ public class Grid extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    markChanged( this );
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -984,6 +991,7 @@ public class Grid extends Composite {
    */
   public void clear( int index, boolean allChildren ) {
     checkWidget();
+    markChanged( this );
     if( index < 0 || index >= items.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1016,6 +1024,7 @@ public class Grid extends Composite {
    */
   public void clear( int start, int end, boolean allChildren ) {
     checkWidget();
+    markChanged( this );
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < items.size() ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1051,6 +1060,7 @@ public class Grid extends Composite {
    */
   public void clear( int[] indices, boolean allChildren ) {
     checkWidget();
+    markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1086,6 +1096,7 @@ public class Grid extends Composite {
    */
   public void clearAll( boolean allChildren ) {
     checkWidget();
+    markChanged( this );
     int itemsCount = items.size();
     if( itemsCount > 0 ) {
       // [if] Note: The parameter allChildren has no effect as all items (not only rootItems)
@@ -1111,6 +1122,7 @@ public class Grid extends Composite {
    */
   public void setSelectionEnabled( boolean selectionEnabled ) {
     checkWidget();
+    markChanged( this );
     if( !selectionEnabled ) {
       selectedItems.clear();
     }
@@ -1167,6 +1179,7 @@ public class Grid extends Composite {
    */
   public void setCellSelectionEnabled( boolean cellSelection ) {
     checkWidget();
+    markChanged( this );
     if( cellSelection ) {
       if( ( getStyle() & SWT.SINGLE ) == 0 ) {
         // To keep compatibility, one can selected multiple cells
@@ -1207,6 +1220,7 @@ public class Grid extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    markChanged( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1240,6 +1254,7 @@ public class Grid extends Composite {
    */
   public void select( int start, int end ) {
     checkWidget();
+    markChanged( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1278,6 +1293,7 @@ public class Grid extends Composite {
    */
   public void select( int[] indices ) {
     checkWidget();
+    markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1306,6 +1322,7 @@ public class Grid extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    markChanged( this );
     if( selectionEnabled && selectionType != SWT.SINGLE ) {
       if( cellSelectionEnabled ) {
         selectAllCells();
@@ -1338,6 +1355,7 @@ public class Grid extends Composite {
    */
   public void selectCell( Point cell ) {
     checkWidget();
+    markChanged( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1369,6 +1387,7 @@ public class Grid extends Composite {
    */
   public void selectCells( Point[] cells ) {
     checkWidget();
+    markChanged( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1399,6 +1418,7 @@ public class Grid extends Composite {
    */
   public void selectAllCells() {
     checkWidget();
+    markChanged( this );
     internalSelectAll();
   }
 
@@ -1419,6 +1439,7 @@ public class Grid extends Composite {
    */
   public void selectColumn( int col ) {
     checkWidget();
+    markChanged( this );
     selectCells( getCells( getColumn( col ) ) );
   }
 
@@ -1460,6 +1481,7 @@ public class Grid extends Composite {
    */
   public void selectColumnGroup( GridColumnGroup colGroup ) {
     checkWidget();
+    markChanged( this );
     selectCells( getCells( colGroup ) );
   }
 
@@ -1480,6 +1502,7 @@ public class Grid extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    markChanged( this );
     if( isValidItemIndex( index ) ) {
       internalDeselect( index );
     }
@@ -1505,6 +1528,7 @@ public class Grid extends Composite {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    markChanged( this );
     for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
       internalDeselect( index );
     }
@@ -1533,6 +1557,7 @@ public class Grid extends Composite {
    */
   public void deselect( int[] indices ) {
     checkWidget();
+    markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1554,6 +1579,7 @@ public class Grid extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    markChanged( this );
     internalDeselectAll();
   }
 
@@ -1579,6 +1605,7 @@ public class Grid extends Composite {
    */
   public void deselectCell( Point cell ) {
     checkWidget();
+    markChanged( this );
     if( cell == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1608,6 +1635,7 @@ public class Grid extends Composite {
    */
   public void deselectCells( Point[] cells ) {
     checkWidget();
+    markChanged( this );
     if( cells == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1636,6 +1664,7 @@ public class Grid extends Composite {
    */
   public void deselectAllCells() {
     checkWidget();
+    markChanged( this );
     selectedCells.clear();
   }
 
@@ -1656,6 +1685,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    markChanged( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       internalDeselectAll();
       internalSelect( index );
@@ -1686,6 +1716,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    markChanged( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       internalDeselectAll();
       for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
@@ -1720,6 +1751,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int[] indices ) {
     checkWidget();
+    markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1758,6 +1790,7 @@ public class Grid extends Composite {
    */
   public void setSelection( GridItem[] items ) {
     checkWidget();
+    markChanged( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1881,6 +1914,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point cell ) {
     checkWidget();
+    markChanged( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1918,6 +1952,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point[] cells ) {
     checkWidget();
+    markChanged( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -2186,6 +2221,7 @@ public class Grid extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    markChanged( this );
     if( index < 0 || index > items.size() - 1 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -2212,6 +2248,7 @@ public class Grid extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    markChanged( this );
     for( int i = end; i >= start; i-- ) {
       if( i < 0 || i > items.size() - 1 ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -2240,6 +2277,7 @@ public class Grid extends Composite {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2269,6 +2307,7 @@ public class Grid extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    markChanged( this );
     while( items.size() > 0 ) {
       int flatIndex = items.size() - 1;
       items.get( flatIndex ).dispose( flatIndex );
@@ -2289,6 +2328,7 @@ public class Grid extends Composite {
    */
   public void setHeaderVisible( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( columnHeadersVisible != show ) {
       columnHeadersVisible = show;
       layoutCache.invalidateHeaderHeight();
@@ -2347,6 +2387,7 @@ public class Grid extends Composite {
    */
   public void setFooterVisible( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( columnFootersVisible != show ) {
       columnFootersVisible = show;
       layoutCache.invalidateFooterHeight();
@@ -2420,6 +2461,7 @@ public class Grid extends Composite {
    */
   public void setLinesVisible( boolean linesVisible ) {
     checkWidget();
+    markChanged( this );
     this.linesVisible = linesVisible;
   }
 
@@ -2456,6 +2498,7 @@ public class Grid extends Composite {
    */
   public void setFocusItem( GridItem item ) {
     checkWidget();
+    markChanged( this );
     if( item == null || item.isDisposed() || item.getParent() != this || !item.isVisible() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2500,6 +2543,7 @@ public class Grid extends Composite {
    */
   public void setFocusColumn( GridColumn column ) {
     checkWidget();
+    markChanged( this );
     if( column == null
         || column.isDisposed()
         || column.getParent() != this
@@ -2589,6 +2633,7 @@ public class Grid extends Composite {
    */
   public void setItemHeight( int height ) {
     checkWidget();
+    markChanged( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2646,6 +2691,7 @@ public class Grid extends Composite {
    */
   public void setTopIndex( int index ) {
     checkWidget();
+    markChanged( this );
     if( isValidItemIndex( index ) ) {
       updateScrollBars();
       GridItem item = items.get( index );
@@ -2719,6 +2765,7 @@ public class Grid extends Composite {
    */
   public void showItem( GridItem item ) {
     checkWidget();
+    markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2759,6 +2806,7 @@ public class Grid extends Composite {
    */
   public void showColumn( GridColumn column ) {
     checkWidget();
+    markChanged( this );
     if( column == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2803,6 +2851,7 @@ public class Grid extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    markChanged( this );
     GridItem item = null;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
@@ -2830,6 +2879,7 @@ public class Grid extends Composite {
    */
   public void setAutoHeight( boolean autoHeight ) {
     checkWidget();
+    markChanged( this );
     if( this.autoHeight != autoHeight ) {
       this.autoHeight = autoHeight;
       layoutCache.invalidateHeaderHeight();
@@ -2904,6 +2954,7 @@ public class Grid extends Composite {
    */
   public void setRowHeaderVisible( boolean show, int minWidth ) {
     checkWidget();
+    markChanged( this );
     if( rowHeadersColumn != null ) {
       if( show ) {
         rowHeadersColumn.setMinimumWidth( Math.max( 10, minWidth ) );
@@ -2926,6 +2977,7 @@ public class Grid extends Composite {
    */
   public void setItemHeaderWidth( int width ) {
     checkWidget();
+    markChanged( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWidth( width );
     }
@@ -2983,6 +3035,7 @@ public class Grid extends Composite {
    */
   public void setWordWrapHeader( boolean enabled ) {
     checkWidget();
+    markChanged( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWordWrap( enabled );
     }
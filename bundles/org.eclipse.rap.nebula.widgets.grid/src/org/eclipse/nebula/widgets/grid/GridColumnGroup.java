@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.grid;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -123,6 +125,7 @@ public class GridColumnGroup extends Item {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -150,6 +153,7 @@ public class GridColumnGroup extends Item {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -189,6 +193,7 @@ public class GridColumnGroup extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    markChanged( this );
     if( this.expanded != expanded ) {
       this.expanded = expanded;
       if( parent.getCellSelectionEnabled() ) {
@@ -267,6 +272,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderFont( Font font ) {
     checkWidget();
+    markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -298,6 +304,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderWordWrap( boolean wordWrap ) {
     checkWidget();
+    markChanged( this );
     headerWordWrap = wordWrap;
     parent.layoutCache.invalidateHeaderHeight();
     parent.scheduleRedraw();
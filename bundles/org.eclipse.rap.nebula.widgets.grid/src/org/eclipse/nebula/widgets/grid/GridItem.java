@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.nebula.widgets.grid;
 
 import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.stringExtent;
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
@@ -459,6 +460,7 @@ public class GridItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    markChanged( this );
     if( getItemData().expanded != expanded ) {
       getItemData().expanded = expanded;
       boolean unselected = false;
@@ -529,6 +531,7 @@ public class GridItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -581,6 +584,7 @@ public class GridItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -636,6 +640,7 @@ public class GridItem extends Item {
    */
   public void setBackground( Color background ) {
     checkWidget();
+    markChanged( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -686,6 +691,7 @@ public class GridItem extends Item {
    */
   public void setBackground( int index, Color background ) {
     checkWidget();
+    markChanged( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -739,6 +745,7 @@ public class GridItem extends Item {
    */
   public void setForeground( Color foreground ) {
     checkWidget();
+    markChanged( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -789,6 +796,7 @@ public class GridItem extends Item {
    */
   public void setForeground( int index, Color foreground ) {
     checkWidget();
+    markChanged( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -826,6 +834,7 @@ public class GridItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    markChanged( this );
     setText( 0, string );
   }
 
@@ -859,6 +868,7 @@ public class GridItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -909,6 +919,7 @@ public class GridItem extends Item {
    */
   public void setToolTipText( int index, String tooltip ) {
     checkWidget();
+    markChanged( this );
     getCellData( index ).tooltip = tooltip;
     if( tooltip != null && tooltip.length() > 0 ) {
       parent.setCellToolTipsEnabled( true );
@@ -942,6 +953,7 @@ public class GridItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markChanged( this );
     setImage( 0, image );
   }
 
@@ -975,6 +987,7 @@ public class GridItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1021,6 +1034,7 @@ public class GridItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    markChanged( this );
     setChecked( 0, checked );
   }
 
@@ -1058,6 +1072,7 @@ public class GridItem extends Item {
    */
   public void setChecked( int index, boolean checked ) {
     checkWidget();
+    markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checked = checked;
     markCached();
@@ -1100,6 +1115,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    markChanged( this );
     setGrayed( 0, grayed );
   }
 
@@ -1141,6 +1157,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( int index, boolean grayed ) {
     checkWidget();
+    markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).grayed = grayed;
     markCached();
@@ -1188,6 +1205,7 @@ public class GridItem extends Item {
    */
   public void setCheckable( int index, boolean checked ) {
     checkWidget();
+    markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checkable = checked;
     markCached();
@@ -1239,6 +1257,7 @@ public class GridItem extends Item {
    */
   public void setColumnSpan( int index, int span ) {
     checkWidget();
+    markChanged( this );
     getCellData( index ).columnSpan = span;
     parent.setHasSpanning( true );
   }
@@ -1279,6 +1298,7 @@ public class GridItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    markChanged( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1323,6 +1343,7 @@ public class GridItem extends Item {
    */
   public void setHeaderText( String text ) {
     checkWidget();
+    markChanged( this );
     if( parent.getRowHeadersColumn() != null ) {
       updateColumnTextCount( Integer.MIN_VALUE, internalGetHeaderText(), text );
       getItemData().headerText = text;
@@ -1368,6 +1389,7 @@ public class GridItem extends Item {
    */
   public void setHeaderImage( Image image ) {
     checkWidget();
+    markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1415,6 +1437,7 @@ public class GridItem extends Item {
    */
   public void setHeaderBackground( Color headerBackground ) {
     checkWidget();
+    markChanged( this );
     if( headerBackground != null && headerBackground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1459,6 +1482,7 @@ public class GridItem extends Item {
    */
   public void setHeaderForeground( Color headerForeground ) {
     checkWidget();
+    markChanged( this );
     if( headerForeground != null && headerForeground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1503,6 +1527,7 @@ public class GridItem extends Item {
    */
   public void setHeaderFont( Font headerFont ) {
     checkWidget();
+    markChanged( this );
     if( headerFont != null && headerFont.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1543,6 +1568,7 @@ public class GridItem extends Item {
    */
   public void pack() {
     checkWidget();
+    markChanged( this );
     // [if] As different item heights (wordwrap and autoHeight) are not supported,
     // we only invalidate the cache here
     parent.layoutCache.invalidateItemHeight();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 EclipseSource.
+ * Copyright (c) 2013, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ class JsonParser {
 
   private static final int MIN_BUFFER_SIZE = 10;
   private static final int DEFAULT_BUFFER_SIZE = 1024;
+  private static final int NAME_CACHE_SIZE = 64;
 
   private final Reader reader;
   private final char[] buffer;
@@ -30,6 +31,7 @@ class JsonParser {
   private int current;
   private StringBuilder captureBuffer;
   private int captureStart;
+  private StringCache names;
 
   /*
    * |                      bufferOffset
@@ -144,7 +146,10 @@ class JsonParser {
     if( current != '"' ) {
       throw expected( "name" );
     }
-    return readStringInternal();
+    if( names == null ) {
+      names = new StringCache( NAME_CACHE_SIZE );
+    }
+    return readStringInternal( true );
   }
 
   private JsonValue readNull() throws IOException {
@@ -179,10 +184,14 @@ class JsonParser {
   }
 
   private JsonValue readString() throws IOException {
-    return new JsonString( readStringInternal() );
+    return new JsonString( readStringInternal( false ) );
   }
 
-  private String readStringInternal() throws IOException {
+  /*
+   * Member names recur within a document, such as the property names in client messages, and are
+   * taken from a cache that lives as long as this parser. String values are never cached.
+   */
+  private String readStringInternal( boolean name ) throws IOException {
     read();
     startCapture();
     while( current != '"' ) {
@@ -196,7 +205,7 @@ class JsonParser {
         read();
       }
     }
-    String string = endCapture();
+    String string = endCapture( name );
     read();
     return string;
   }
@@ -254,7 +263,7 @@ class JsonParser {
     }
     readFraction();
     readExponent();
-    return new JsonNumber( endCapture() );
+    return new JsonNumber( endCapture( false ) );
   }
 
   private boolean readFraction() throws IOException {
@@ -343,13 +352,15 @@ class JsonParser {
     captureStart = -1;
   }
 
-  private String endCapture() {
+  private String endCapture( boolean cached ) {
     int end = current == -1 ? index : index - 1;
     String captured;
     if( captureBuffer.length() > 0 ) {
       captureBuffer.append( buffer, captureStart, end - captureStart );
       captured = captureBuffer.toString();
       captureBuffer.setLength( 0 );
+    } else if( cached ) {
+      captured = names.get( buffer, captureStart, end - captureStart );
     } else {
       captured = new String( buffer, captureStart, end - captureStart );
     }
@@ -389,4 +400,54 @@ class JsonParser {
     return current == -1;
   }
 
+  /*
+   * A fixed-size cache for short strings. A lookup compares the characters in the read buffer
+   * with the cached string, so that no string is created for a cached value. Colliding strings
+   * replace each other.
+   */
+  static final class StringCache {
+
+    private static final int MAX_LENGTH = 32;
+
+    private final String[] entries;
+
+    StringCache( int size ) {
+      if( Integer.bitCount( size ) != 1 ) {
+        throw new IllegalArgumentException( "Size must be a power of two: " + size );
+      }
+      entries = new String[ size ];
+    }
+
+    String get( char[] chars, int offset, int length ) {
+      if( length > MAX_LENGTH ) {
+        return new String( chars, offset, length );
+      }
+      int hash = 0;
+      for( int i = 0; i < length; i++ ) {
+        hash = 31 * hash + chars[ offset + i ];
+      }
+      int slot = ( hash ^ hash >>> 16 ) & ( entries.length - 1 );
+      String entry = entries[ slot ];
+      if( entry != null && matches( entry, chars, offset, length ) ) {
+        return entry;
+      }
+      String result = new String( chars, offset, length );
+      entries[ slot ] = result;
+      return result;
+    }
+
+    private static boolean matches( String string, char[] chars, int offset, int length ) {
+      if( string.length() != length ) {
+        return false;
+      }
+      for( int i = 0; i < length; i++ ) {
+        if( string.charAt( i ) != chars[ offset + i ] ) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
 }
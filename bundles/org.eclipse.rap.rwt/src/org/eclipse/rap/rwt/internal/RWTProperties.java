@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,66 @@ public final class RWTProperties {
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
 
+  /*
+   * The path of a file that the measured text sizes are saved to when the application is stopped
+   * and loaded from when it is started. The file can be shared by several cluster nodes.
+   */
+  public static final String TEXT_SIZE_STORE_FILE = "org.eclipse.rap.rwt.textSizeStoreFile";
+
+  /*
+   * Enables the incremental life cycle, which only visits widgets that have been changed
+   * during the current request instead of the entire widget tree.
+   */
+  public static final String INCREMENTAL_LIFECYCLE = "org.eclipse.rap.rwt.incrementalLifeCycle";
+
+  /*
+   * Runs the UI code of each session on a virtual thread instead of a dedicated platform thread.
+   * Ignored if the JVM does not support virtual threads without pinning (Java 24 and later).
+   */
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+
+  /*
+   * The maximum number of images created from image data or streams that are kept in the shared
+   * image cache. The least recently used images are evicted. Zero or less means unbounded.
+   */
+  public static final String GENERATED_IMAGE_CACHE_SIZE
+    = "org.eclipse.rap.rwt.generatedImageCacheSize";
+
+  /*
+   * The maximum total size in bytes of the decoded image data that is cached to speed up
+   * Image#getImageData(). The least recently used image data is evicted.
+   */
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+
+  /*
+   * Enables gzip and deflate compression of protocol messages for clients that accept it. Also
+   * stores a precompressed copy next to each compressible resource, which can be served by
+   * servlet containers that support precompressed files.
+   */
+  public static final String COMPRESSION = "org.eclipse.rap.rwt.compression";
+
+  /*
+   * In a cluster, does not flag a UI session for replication after server push requests, unless
+   * the UI session has been changed during the request. All other requests are considered to
+   * change the UI session, as application code may change session state in place, e.g. session
+   * singletons.
+   */
+  public static final String REPLICATE_CHANGES_ONLY = "org.eclipse.rap.rwt.replicateChangesOnly";
+
+  /*
+   * Enables the collection of per request metrics like phase durations, operation counts and
+   * response sizes. The metrics are aggregated per entry point and can be obtained from the
+   * MetricsManager of the application context.
+   */
+  public static final String REQUEST_METRICS = "org.eclipse.rap.rwt.requestMetrics";
+
+  /*
+   * The time in milliseconds that a single call to readAndDispatch may spend on draining runnables
+   * passed to asyncExec. The remaining runnables are processed by the next call. Zero or less
+   * runs one runnable per call.
+   */
+  public static final String ASYNC_EXEC_DRAIN_BUDGET = "org.eclipse.rap.rwt.asyncExecDrainBudget";
+
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
    * to activate support for custom widget ids.</p>
@@ -40,6 +100,42 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  public static String getTextSizeStoreFile() {
+    return System.getProperty( TEXT_SIZE_STORE_FILE );
+  }
+
+  public static boolean isIncrementalLifeCycle() {
+    return getBooleanProperty( INCREMENTAL_LIFECYCLE, false );
+  }
+
+  public static boolean isVirtualUIThreads() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  public static int getGeneratedImageCacheSize( int defaultValue ) {
+    return getIntProperty( GENERATED_IMAGE_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static boolean isCompression() {
+    return getBooleanProperty( COMPRESSION, false );
+  }
+
+  public static boolean isReplicateChangesOnly() {
+    return getBooleanProperty( REPLICATE_CHANGES_ONLY, false );
+  }
+
+  public static boolean isRequestMetrics() {
+    return getBooleanProperty( REQUEST_METRICS, false );
+  }
+
+  public static int getAsyncExecDrainBudget( int defaultValue ) {
+    return getIntProperty( ASYNC_EXEC_DRAIN_BUDGET, defaultValue );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,10 +11,16 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreFile;
+
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicReference;
@@ -27,6 +33,7 @@ import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseListenerManager;
+import org.eclipse.rap.rwt.internal.metrics.MetricsManager;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.internal.remote.MessageFilter;
@@ -44,9 +51,11 @@ import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorageFile;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
 import org.eclipse.rap.rwt.service.ApplicationContextListener;
@@ -103,6 +112,10 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
+  private final MetricsManager metricsManager;
+  private final ApplicationScheduler scheduler;
+  private final ApplicationScheduler ioScheduler;
+  private final ApplicationScheduler serverPushScheduler;
   private final Set<ApplicationContextListener> appContextListeners;
   private final Set<UIThreadListener> uiThreadListeners;
   private final SerializableLock listenersLock;
@@ -125,7 +138,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     themeManager = createThemeManager();
     resourceFactory = new ResourceFactory();
     imageFactory = new ImageFactory();
-    internalImageFactory = new InternalImageFactory();
+    internalImageFactory = new InternalImageFactory( resourceManager );
     imageDataFactory = new ImageDataFactory( resourceManager );
     fontDataFactory = new FontDataFactory();
     settingStoreManager = new SettingStoreManager();
@@ -136,6 +149,11 @@ public class ApplicationContextImpl implements ApplicationContext {
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
+    metricsManager = new MetricsManager();
+    scheduler = new ApplicationScheduler();
+    ioScheduler = new ApplicationScheduler( ApplicationScheduler.IO_THREAD_NAME, true );
+    serverPushScheduler
+      = new ApplicationScheduler( ApplicationScheduler.SERVER_PUSH_THREAD_NAME, false );
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
     state = new AtomicReference<>( State.INACTIVE );
@@ -324,6 +342,46 @@ public class ApplicationContextImpl implements ApplicationContext {
     return fontDataFactory;
   }
 
+  public Map<String, Statistics> getSharedInstanceStatistics() {
+    Map<String, Statistics> result = new LinkedHashMap<>();
+    result.put( "images", imageFactory.getStatistics() );
+    result.put( "internalImages", internalImageFactory.getStatistics() );
+    result.put( "generatedImages", internalImageFactory.getGeneratedImageStatistics() );
+    result.put( "colors", resourceFactory.getColorStatistics() );
+    result.put( "fonts", resourceFactory.getFontStatistics() );
+    result.put( "cursors", resourceFactory.getCursorStatistics() );
+    result.put( "fontData", fontDataFactory.getStatistics() );
+    result.put( "imageData", imageDataFactory.getStatistics() );
+    return result;
+  }
+
+  /**
+   * Returns the request metrics of this application, aggregated per entry point.
+   */
+  public MetricsManager getMetricsManager() {
+    return metricsManager;
+  }
+
+  public ApplicationScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Returns the scheduler for tasks that block on I/O, like writing files. These tasks are
+   * executed on a separate thread, so that they never delay the tasks of {@link #getScheduler()}.
+   * Tasks that are pending when the application is deactivated are still executed.
+   */
+  public ApplicationScheduler getIOScheduler() {
+    return ioScheduler;
+  }
+
+  /**
+   * Returns the scheduler for the periodic checks of suspended server push requests.
+   */
+  public ApplicationScheduler getServerPushScheduler() {
+    return serverPushScheduler;
+  }
+
   public StartupPage getStartupPage() {
     return startupPage;
   }
@@ -372,19 +430,36 @@ public class ApplicationContextImpl implements ApplicationContext {
     resourceDirectory.configure( getContextDirectory() );
     addInternalServiceHandlers();
     setInternalSettingStoreFactory();
-    startupPage.activate();
-    lifeCycleFactory.activate();
-    // Note: order is crucial here
-    themeManager.activate();
-    if( !skipResoureRegistration ) {
-      ClientResources clientResources = new ClientResources( this );
-      clientResources.registerResources();
+    startBatchRegistration();
+    RuntimeException failure = null;
+    try {
+      scheduler.activate();
+      ioScheduler.activate();
+      serverPushScheduler.activate();
+      startupPage.activate();
+      lifeCycleFactory.activate();
+      // Note: order is crucial here
+      themeManager.activate();
+      if( !skipResoureRegistration ) {
+        ClientResources clientResources = new ClientResources( this );
+        clientResources.registerResources();
+      }
+      resourceRegistry.registerResources();
+      clientSelector.activate();
+    } catch( RuntimeException exception ) {
+      failure = exception;
+      throw exception;
+    } finally {
+      finishBatchRegistration( failure );
     }
-    resourceRegistry.registerResources();
-    clientSelector.activate();
+    loadTextSizes();
   }
 
   void doDeactivate() {
+    saveTextSizes();
+    scheduler.deactivate();
+    ioScheduler.deactivate();
+    serverPushScheduler.deactivate();
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
@@ -413,6 +488,55 @@ public class ApplicationContextImpl implements ApplicationContext {
     return location;
   }
 
+  private void startBatchRegistration() {
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      ( ( ResourceManagerImpl )resourceManager ).startBatch();
+    }
+  }
+
+  /*
+   * A failure to write the batch must not mask the failure that aborted the activation.
+   */
+  private void finishBatchRegistration( RuntimeException failure ) {
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      try {
+        ( ( ResourceManagerImpl )resourceManager ).finishBatch();
+      } catch( RuntimeException exception ) {
+        if( failure == null ) {
+          throw exception;
+        }
+        failure.addSuppressed( exception );
+      }
+    }
+  }
+
+  private void loadTextSizes() {
+    TextSizeStorageFile file = getTextSizeStorageFile();
+    if( file != null && file.exists() ) {
+      try {
+        file.load( textSizeStorage );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not load text sizes from " + file.getFile(), exception );
+      }
+    }
+  }
+
+  private void saveTextSizes() {
+    TextSizeStorageFile file = getTextSizeStorageFile();
+    if( file != null ) {
+      try {
+        file.save( textSizeStorage );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not save text sizes to " + file.getFile(), exception );
+      }
+    }
+  }
+
+  private static TextSizeStorageFile getTextSizeStorageFile() {
+    String path = getTextSizeStoreFile();
+    return path == null ? null : new TextSizeStorageFile( new File( path ) );
+  }
+
   private void addInternalServiceHandlers() {
     serviceManager.registerServiceHandler( ServerPushServiceHandler.HANDLER_ID,
                                            new ServerPushServiceHandler() );
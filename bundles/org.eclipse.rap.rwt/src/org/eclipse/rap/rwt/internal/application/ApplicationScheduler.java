@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.application;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Executes delayed tasks of all UI sessions of an application on a single daemon thread. The
+ * thread is started when the first task is scheduled. Tasks must not block, as they delay all
+ * other tasks of the scheduler. Blocking tasks like file system writes must use a separate
+ * scheduler, see {@link ApplicationContextImpl#getIOScheduler()}.
+ */
+public class ApplicationScheduler {
+
+  static final String TIMER_THREAD_NAME = "RWT timerExec scheduler";
+  static final String IO_THREAD_NAME = "RWT I/O scheduler";
+  static final String SERVER_PUSH_THREAD_NAME = "RWT server push scheduler";
+
+  private final String threadName;
+  private final boolean completeTasksOnDeactivate;
+  private volatile ScheduledThreadPoolExecutor executor;
+
+  public ApplicationScheduler() {
+    this( TIMER_THREAD_NAME, false );
+  }
+
+  /*
+   * If completeTasksOnDeactivate is true, tasks that have been scheduled before the application
+   * is deactivated are still executed, otherwise they are discarded.
+   */
+  ApplicationScheduler( String threadName, boolean completeTasksOnDeactivate ) {
+    this.threadName = threadName;
+    this.completeTasksOnDeactivate = completeTasksOnDeactivate;
+  }
+
+  void activate() {
+    executor = createExecutor();
+  }
+
+  void deactivate() {
+    ScheduledThreadPoolExecutor oldExecutor = executor;
+    executor = null;
+    if( oldExecutor != null ) {
+      if( completeTasksOnDeactivate ) {
+        // delayed tasks are still executed after shutdown, the thread terminates afterwards
+        oldExecutor.shutdown();
+      } else {
+        oldExecutor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Schedules the given task for execution after the given delay in milliseconds.
+   *
+   * @return the future of the scheduled task or <code>null</code> if the application is not
+   *         active
+   */
+  public ScheduledFuture<?> schedule( Runnable task, long delay ) {
+    ScheduledThreadPoolExecutor currentExecutor = executor;
+    if( currentExecutor != null ) {
+      try {
+        return currentExecutor.schedule( task, Math.max( 0, delay ), MILLISECONDS );
+      } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+        // application has been deactivated concurrently
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Schedules the given task for repeated execution, with the given delay in milliseconds before
+   * the first execution and between the end of an execution and the start of the next.
+   *
+   * @return the future of the scheduled task or <code>null</code> if the application is not
+   *         active
+   */
+  public ScheduledFuture<?> scheduleWithFixedDelay( Runnable task, long delay ) {
+    ScheduledThreadPoolExecutor currentExecutor = executor;
+    if( currentExecutor != null ) {
+      try {
+        return currentExecutor.scheduleWithFixedDelay( task, delay, delay, MILLISECONDS );
+      } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+        // application has been deactivated concurrently
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of tasks that are scheduled but not yet executed.
+   */
+  public int getTaskCount() {
+    ScheduledThreadPoolExecutor currentExecutor = executor;
+    return currentExecutor == null ? 0 : currentExecutor.getQueue().size();
+  }
+
+  private ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, threadName );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+    // cancelled tasks are removed right away instead of when their delay has elapsed
+    result.setRemoveOnCancelPolicy( true );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.engine;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.isReplicateChangesOnly;
+
 import java.io.IOException;
 
 import javax.servlet.Filter;
@@ -24,6 +26,8 @@ import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
+import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -72,15 +76,21 @@ public class RWTClusterSupport implements Filter {
   private static void afterService( ServletRequest request ) {
     HttpSession httpSession = getHttpSession( request );
     if( httpSession != null ) {
-      afterService( httpSession, getConnectionId( request ) );
+      afterService( httpSession, getConnectionId( request ), isServerPushRequest( request ) );
     }
   }
 
-  private static void afterService( HttpSession httpSession, String connectionId ) {
-    markSessionChanged( httpSession, connectionId );
+  private static void afterService( HttpSession httpSession,
+                                    String connectionId,
+                                    boolean serverPushRequest )
+  {
+    markSessionChanged( httpSession, connectionId, serverPushRequest );
   }
 
-  private static void markSessionChanged( HttpSession httpSession, String connectionId ) {
+  private static void markSessionChanged( HttpSession httpSession,
+                                          String connectionId,
+                                          boolean serverPushRequest )
+  {
     // If a session attribute changes, the servlet engine must be told to replicate the change.
     // Unfortunately the Servlet specs do not specify how this should be done.
     // The most common way is to call HttpSession.setAttribute() to flag the object as changed.
@@ -88,11 +98,22 @@ public class RWTClusterSupport implements Filter {
     // See also: J2EE clustering, Part 2, section Session-storage guidelines
     // http://java.sun.com/developer/technicalArticles/J2EE/clustering/
     UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( httpSession, connectionId );
-    if( uiSession != null ) {
+    if( uiSession != null && isChanged( uiSession, serverPushRequest ) ) {
       uiSession.attachToHttpSession();
     }
   }
 
+  private static boolean isChanged( UISessionImpl uiSession, boolean serverPushRequest ) {
+    // Application code may change session state in place, e.g. the widget tree or session
+    // singletons, without notice. Only server push requests are known not to run such code.
+    return !isReplicateChangesOnly() || !serverPushRequest || uiSession.isChanged();
+  }
+
+  private static boolean isServerPushRequest( ServletRequest request ) {
+    String serviceHandlerId = request.getParameter( ServiceManagerImpl.REQUEST_PARAM );
+    return ServerPushServiceHandler.HANDLER_ID.equals( serviceHandlerId );
+  }
+
   private static HttpSession getHttpSession( ServletRequest request ) {
     return ( ( HttpServletRequest )request ).getSession( false );
   }
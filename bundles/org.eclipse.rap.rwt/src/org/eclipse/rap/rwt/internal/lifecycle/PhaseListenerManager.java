@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.text.MessageFormat;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
@@ -53,6 +54,10 @@ public class PhaseListenerManager {
   }
 
   void notifyBeforePhase( PhaseId phase, LifeCycle eventSource ) {
+    RequestMetrics requestMetrics = RequestMetrics.getCurrent();
+    if( requestMetrics != null ) {
+      requestMetrics.beginPhase( phase );
+    }
     if( PhaseId.PROCESS_ACTION.equals( phase ) ) {
       getApplicationContext().notifyEnterUIThread( getUISession() );
     }
@@ -86,6 +91,10 @@ public class PhaseListenerManager {
         }
       }
     }
+    RequestMetrics requestMetrics = RequestMetrics.getCurrent();
+    if( requestMetrics != null ) {
+      requestMetrics.endPhase( phase );
+    }
   }
 
   public void clear() {
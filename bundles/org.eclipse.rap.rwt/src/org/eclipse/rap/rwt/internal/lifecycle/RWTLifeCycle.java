@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,9 +16,11 @@ import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
@@ -83,10 +85,20 @@ public class RWTLifeCycle extends LifeCycle {
   };
 
   Runnable uiRunnable;
+  private UIThreadFactory uiThreadFactory;
 
   public RWTLifeCycle( ApplicationContextImpl applicationContext ) {
     super( applicationContext );
     uiRunnable = new UIThreadController();
+    uiThreadFactory = createUIThreadFactory();
+  }
+
+  public void setUIThreadFactory( UIThreadFactory uiThreadFactory ) {
+    this.uiThreadFactory = uiThreadFactory;
+  }
+
+  UIThreadFactory getUIThreadFactory() {
+    return uiThreadFactory;
   }
 
   @Override
@@ -188,6 +200,7 @@ public class RWTLifeCycle extends LifeCycle {
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
       synchronized( uiThread.getLock() ) {
+        beginUIThreadHandOver( context );
         uiThread.getThread().start();
         uiThread.switchThread();
       }
@@ -195,6 +208,7 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread.setServiceContext( context );
       // See bug 354368
       if( !Boolean.TRUE.equals( uiSession.getAttribute( UI_THREAD_WAITING_FOR_TERMINATION ) ) ) {
+        beginUIThreadHandOver( context );
         uiThread.switchThread();
       }
     }
@@ -205,6 +219,20 @@ public class RWTLifeCycle extends LifeCycle {
     handleUIThreadException();
   }
 
+  private static void beginUIThreadHandOver( ServiceContext context ) {
+    RequestMetrics requestMetrics = context.getRequestMetrics();
+    if( requestMetrics != null ) {
+      requestMetrics.beginUIThreadHandOver();
+    }
+  }
+
+  private static void endUIThreadHandOver() {
+    RequestMetrics requestMetrics = RequestMetrics.getCurrent();
+    if( requestMetrics != null ) {
+      requestMetrics.endUIThreadHandOver();
+    }
+  }
+
   private static void handleUIThreadException() throws IOException {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     Throwable throwable = ( Throwable )serviceStore.getAttribute( UI_THREAD_THROWABLE );
@@ -231,13 +259,14 @@ public class RWTLifeCycle extends LifeCycle {
     ServerPushManager.getInstance().notifyUIThreadEnd();
     uiThread.switchThread();
     uiThread.updateServiceContext();
+    endUIThreadHandOver();
     ServerPushManager.getInstance().notifyUIThreadStart();
     continueLifeCycle();
   }
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result = uiThreadFactory.createUIThread( uiRunnable );
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -245,6 +274,13 @@ public class RWTLifeCycle extends LifeCycle {
     return result;
   }
 
+  private static UIThreadFactory createUIThreadFactory() {
+    if( RWTProperties.isVirtualUIThreads() && VirtualUIThreadFactory.isSupported() ) {
+      return new VirtualUIThreadFactory();
+    }
+    return new PlatformUIThreadFactory();
+  }
+
   private static Integer getCurrentPhase() {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     return ( Integer )serviceStore.getAttribute( CURRENT_PHASE );
@@ -276,15 +312,23 @@ public class RWTLifeCycle extends LifeCycle {
     }
   }
 
+  private static final class PlatformUIThreadFactory implements UIThreadFactory {
+    @Override
+    public IUIThreadHolder createUIThread( Runnable runnable ) {
+      return new UIThread( runnable );
+    }
+  }
+
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = UIThreadHolder.getCurrent();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
         synchronized( uiThread.getLock() ) {
           try {
             uiThread.updateServiceContext();
+            endUIThreadHandOver();
             ServerPushManager.getInstance().notifyUIThreadStart();
             continueLifeCycle();
             createUI();
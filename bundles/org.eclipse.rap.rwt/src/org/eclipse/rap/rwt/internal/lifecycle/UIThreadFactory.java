@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+
+/**
+ * Creates the UI thread of a UI session. The returned holder must also implement
+ * <code>ISessionShutdownAdapter</code>.
+ */
+public interface UIThreadFactory {
+
+  IUIThreadHolder createUIThread( Runnable runnable );
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Runs the UI code of each session on a virtual thread. An idle session then only keeps a
+ * small heap-allocated stack instead of a native thread.
+ * <p>
+ * Virtual threads are accessed reflectively, as the bundle is compiled against Java 8.
+ * </p>
+ */
+public class VirtualUIThreadFactory implements UIThreadFactory {
+
+  // Before Java 24 (JEP 491) a virtual thread that waits in Object.wait() pins its carrier
+  // thread, thus a waiting UI thread would block a carrier thread for the lifetime of the session
+  private static final int NON_PINNING_JAVA_VERSION = 24;
+
+  private final ThreadFactory threadFactory;
+
+  public VirtualUIThreadFactory() {
+    threadFactory = createVirtualThreadFactory();
+  }
+
+  /**
+   * Returns whether the JVM provides virtual threads that can be used as UI threads without
+   * pinning their carrier threads.
+   */
+  public static boolean isSupported() {
+    return isAvailable() && getJavaVersion() >= NON_PINNING_JAVA_VERSION;
+  }
+
+  /**
+   * Returns whether the JVM provides virtual threads at all.
+   */
+  public static boolean isAvailable() {
+    try {
+      Thread.class.getMethod( "ofVirtual" );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+      return false;
+    }
+  }
+
+  @Override
+  public IUIThreadHolder createUIThread( Runnable runnable ) {
+    return new UIThreadHolder( runnable, threadFactory );
+  }
+
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+      Method factory = Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" );
+      return ( ThreadFactory )factory.invoke( builder );
+    } catch( Exception exception ) {
+      throw new UnsupportedOperationException( "Virtual threads are not available", exception );
+    }
+  }
+
+  static int getJavaVersion() {
+    String version = System.getProperty( "java.specification.version", "" );
+    if( version.startsWith( "1." ) ) {
+      version = version.substring( 2 );
+    }
+    try {
+      return Integer.parseInt( version );
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return 0;
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
+
+
+/**
+ * Counts the widgets visited by the life cycle in each phase of the current request.
+ */
+@SuppressWarnings( "deprecation" )
+public final class VisitedWidgets {
+
+  private static final String COUNTS = VisitedWidgets.class.getName() + "#counts";
+
+  public static void add( int count ) {
+    PhaseId phaseId = CurrentPhase.get();
+    if( phaseId != null ) {
+      Map<PhaseId, Integer> counts = getCounts( true );
+      Integer current = counts.get( phaseId );
+      counts.put( phaseId, Integer.valueOf( current == null ? count : current.intValue() + count ) );
+    }
+  }
+
+  public static int getCount( PhaseId phaseId ) {
+    Map<PhaseId, Integer> counts = getCounts( false );
+    Integer count = counts == null ? null : counts.get( phaseId );
+    return count == null ? 0 : count.intValue();
+  }
+
+  public static int getTotalCount() {
+    Map<PhaseId, Integer> counts = getCounts( false );
+    int result = 0;
+    if( counts != null ) {
+      for( Integer count : counts.values() ) {
+        result += count.intValue();
+      }
+    }
+    return result;
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static Map<PhaseId, Integer> getCounts( boolean create ) {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    Map<PhaseId, Integer> counts = ( Map<PhaseId, Integer> )serviceStore.getAttribute( COUNTS );
+    if( counts == null && create ) {
+      counts = new HashMap<>();
+      serviceStore.setAttribute( COUNTS, counts );
+    }
+    return counts;
+  }
+
+  private VisitedWidgets() {
+    // prevent instantiation
+  }
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.metrics.Histogram.Snapshot;
+
+
+/**
+ * Aggregates the metrics of all requests to one entry point. There is one histogram per metric,
+ * all histograms are created upfront so that recording does not need any locking.
+ */
+public final class EntryPointMetrics {
+
+  private final Histogram[] histograms;
+
+  EntryPointMetrics() {
+    Metric[] metrics = Metric.values();
+    histograms = new Histogram[ metrics.length ];
+    for( int i = 0; i < metrics.length; i++ ) {
+      histograms[ i ] = new Histogram();
+    }
+  }
+
+  void record( Metric metric, long value ) {
+    histograms[ metric.ordinal() ].record( value );
+  }
+
+  public Snapshot getSnapshot( Metric metric ) {
+    return histograms[ metric.ordinal() ].getSnapshot();
+  }
+
+  public Map<Metric, Snapshot> getSnapshots() {
+    Map<Metric, Snapshot> result = new EnumMap<>( Metric.class );
+    for( Metric metric : Metric.values() ) {
+      result.put( metric, getSnapshot( metric ) );
+    }
+    return result;
+  }
+
+  void reset() {
+    for( Histogram histogram : histograms ) {
+      histogram.reset();
+    }
+  }
+
+}
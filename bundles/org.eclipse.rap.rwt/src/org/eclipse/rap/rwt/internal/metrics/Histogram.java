@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A histogram of non-negative values that can be updated concurrently without locking. Values
+ * are counted in buckets of powers of two, hence percentiles are approximated by the upper bound
+ * of the bucket they fall into.
+ */
+public final class Histogram {
+
+  // bucket 0 holds the value 0, bucket i holds values from 2^(i-1) to 2^i - 1, the last bucket
+  // ends at Long.MAX_VALUE as negative values are not recorded
+  private static final int BUCKET_COUNT = 64;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder sum;
+  private final AtomicLong max;
+
+  public Histogram() {
+    buckets = new AtomicLongArray( BUCKET_COUNT );
+    count = new LongAdder();
+    sum = new LongAdder();
+    max = new AtomicLong();
+  }
+
+  public void record( long value ) {
+    long positiveValue = Math.max( 0, value );
+    buckets.incrementAndGet( getBucketIndex( positiveValue ) );
+    count.increment();
+    sum.add( positiveValue );
+    long currentMax = max.get();
+    while( positiveValue > currentMax && !max.compareAndSet( currentMax, positiveValue ) ) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * Returns a snapshot of the recorded values. As the histogram is not locked, values that are
+   * recorded concurrently may be missing in some of the figures.
+   */
+  public Snapshot getSnapshot() {
+    long[] bucketCounts = new long[ BUCKET_COUNT ];
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      bucketCounts[ i ] = buckets.get( i );
+    }
+    return new Snapshot( bucketCounts, count.sum(), sum.sum(), max.get() );
+  }
+
+  public void reset() {
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      buckets.set( i, 0 );
+    }
+    count.reset();
+    sum.reset();
+    max.set( 0 );
+  }
+
+  static int getBucketIndex( long value ) {
+    return 64 - Long.numberOfLeadingZeros( value );
+  }
+
+  static long getBucketUpperBound( int index ) {
+    return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : ( 1L << index ) - 1;
+  }
+
+  /**
+   * An immutable view of the values of a histogram at a certain point in time.
+   */
+  public static final class Snapshot {
+
+    private final long[] buckets;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    Snapshot( long[] buckets, long count, long sum, long max ) {
+      this.buckets = buckets;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getSum() {
+      return sum;
+    }
+
+    public long getMax() {
+      return max;
+    }
+
+    public double getMean() {
+      return count == 0 ? 0 : ( double )sum / count;
+    }
+
+    /**
+     * Returns an upper bound for the value below which the given percentage (0 to 100) of all
+     * recorded values fall. The result is never larger than the maximum recorded value.
+     */
+    public long getPercentile( double percentile ) {
+      if( percentile < 0 || percentile > 100 ) {
+        throw new IllegalArgumentException( "Percentile out of range: " + percentile );
+      }
+      long total = 0;
+      for( long bucketCount : buckets ) {
+        total += bucketCount;
+      }
+      long rank = Math.max( 1, ( long )Math.ceil( percentile / 100 * total ) );
+      long seen = 0;
+      for( int i = 0; i < buckets.length; i++ ) {
+        seen += buckets[ i ];
+        if( seen >= rank ) {
+          return Math.min( max, getBucketUpperBound( i ) );
+        }
+      }
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot{count=" + count
+           + ", mean=" + ( long )getMean()
+           + ", p50=" + getPercentile( 50 )
+           + ", p99=" + getPercentile( 99 )
+           + ", max=" + max
+           + "}";
+    }
+
+  }
+
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+
+/**
+ * The values that are recorded for every UI request. Durations are measured in nanoseconds.
+ */
+public enum Metric {
+
+  /** The total time spent in processing a UI request, including waiting for the request lock */
+  REQUEST_TIME,
+  /** The time a UI request waited for the request lock of its UI session */
+  REQUEST_LOCK_WAIT,
+  /** The time spent in the READ_DATA phase */
+  READ_DATA_TIME,
+  /** The time spent in the PROCESS_ACTION phase */
+  PROCESS_ACTION_TIME,
+  /** The time spent in the RENDER phase */
+  RENDER_TIME,
+  /** The time between handing control to the UI thread and the UI thread starting to run */
+  UI_THREAD_WAIT,
+  /** The number of widgets visited by the life cycle */
+  WIDGETS_VISITED,
+  /** The number of operations in the client message */
+  OPERATIONS_IN,
+  /** The number of operations in the response message */
+  OPERATIONS_OUT,
+  /** The number of bytes written for the response message, after compression */
+  RESPONSE_BYTES,
+  /** The time a server push request was held open before it was released */
+  SERVER_PUSH_HOLD
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.lifecycle.VisitedWidgets;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+
+
+/**
+ * Records request metrics of an application context, aggregated per entry point. Entry points
+ * are identified by their servlet path. Metrics are only collected when enabled with the system
+ * property <code>org.eclipse.rap.rwt.requestMetrics</code>, otherwise no request metrics are
+ * created and the instrumented code paths only check for <code>null</code>.
+ */
+public class MetricsManager {
+
+  private final boolean enabled;
+  private final ConcurrentMap<String, EntryPointMetrics> entryPointMetrics;
+
+  public MetricsManager() {
+    this( RWTProperties.isRequestMetrics() );
+  }
+
+  public MetricsManager( boolean enabled ) {
+    this.enabled = enabled;
+    entryPointMetrics = new ConcurrentHashMap<>();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts collecting metrics for the request of the given service context.
+   *
+   * @return the metrics of the request, or <code>null</code> if metrics are disabled
+   */
+  public RequestMetrics beginRequest( ServiceContext context ) {
+    RequestMetrics result = null;
+    if( enabled ) {
+      String entryPointPath = getEntryPointPath( context.getRequest() );
+      result = new RequestMetrics( entryPointPath, System.nanoTime() );
+      context.setRequestMetrics( result );
+    }
+    return result;
+  }
+
+  /**
+   * Records the metrics collected for a request. Must be called on the request thread while the
+   * service context is still available.
+   */
+  public void endRequest( RequestMetrics requestMetrics ) {
+    requestMetrics.add( Metric.REQUEST_TIME, System.nanoTime() - requestMetrics.getStartTime() );
+    int visitedWidgets = VisitedWidgets.getTotalCount();
+    if( visitedWidgets > 0 ) {
+      requestMetrics.add( Metric.WIDGETS_VISITED, visitedWidgets );
+    }
+    EntryPointMetrics metrics = getOrCreateEntryPointMetrics( requestMetrics.getEntryPointPath() );
+    for( Metric metric : Metric.values() ) {
+      if( requestMetrics.isMeasured( metric ) ) {
+        metrics.record( metric, requestMetrics.getValue( metric ) );
+      }
+    }
+  }
+
+  /**
+   * Records the time in nanoseconds a server push request for the given entry point was held.
+   */
+  public void recordServerPushHold( String entryPointPath, long holdTime ) {
+    if( enabled ) {
+      getOrCreateEntryPointMetrics( entryPointPath ).record( Metric.SERVER_PUSH_HOLD, holdTime );
+    }
+  }
+
+  public EntryPointMetrics getEntryPointMetrics( String entryPointPath ) {
+    return entryPointMetrics.get( entryPointPath );
+  }
+
+  /**
+   * Returns the metrics of all entry points that received requests, sorted by path.
+   */
+  public Map<String, EntryPointMetrics> getAllEntryPointMetrics() {
+    return Collections.unmodifiableMap( new TreeMap<>( entryPointMetrics ) );
+  }
+
+  public void reset() {
+    for( EntryPointMetrics metrics : entryPointMetrics.values() ) {
+      metrics.reset();
+    }
+  }
+
+  public static String getEntryPointPath( HttpServletRequest request ) {
+    String servletPath = request.getServletPath();
+    return servletPath == null ? "" : servletPath;
+  }
+
+  private EntryPointMetrics getOrCreateEntryPointMetrics( String entryPointPath ) {
+    EntryPointMetrics result = entryPointMetrics.get( entryPointPath );
+    if( result == null ) {
+      EntryPointMetrics newMetrics = new EntryPointMetrics();
+      result = entryPointMetrics.putIfAbsent( entryPointPath, newMetrics );
+      if( result == null ) {
+        result = newMetrics;
+      }
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+
+
+/**
+ * Collects the metrics of a single UI request. The instance is attached to the service context
+ * and used by the request thread and the UI thread, which never run at the same time. When the
+ * request is finished, the collected values are recorded by the <code>MetricsManager</code>.
+ */
+@SuppressWarnings( "deprecation" )
+public final class RequestMetrics {
+
+  private static final Metric[] METRICS = Metric.values();
+
+  private final String entryPointPath;
+  private final long startTime;
+  private final long[] values;
+  private final boolean[] measured;
+  private final long[] phaseStartTimes;
+  private long handOverTime;
+
+  RequestMetrics( String entryPointPath, long startTime ) {
+    this.entryPointPath = entryPointPath;
+    this.startTime = startTime;
+    values = new long[ METRICS.length ];
+    measured = new boolean[ METRICS.length ];
+    phaseStartTimes = new long[ METRICS.length ];
+  }
+
+  /**
+   * Returns the metrics of the request that is currently processed, or <code>null</code> if
+   * metrics are disabled.
+   */
+  public static RequestMetrics getCurrent() {
+    return ContextProvider.getContext().getRequestMetrics();
+  }
+
+  public void add( Metric metric, long value ) {
+    values[ metric.ordinal() ] += value;
+    measured[ metric.ordinal() ] = true;
+  }
+
+  public void beginPhase( org.eclipse.rap.rwt.internal.lifecycle.PhaseId phaseId ) {
+    Metric metric = getPhaseMetric( phaseId );
+    if( metric != null ) {
+      phaseStartTimes[ metric.ordinal() ] = System.nanoTime();
+    }
+  }
+
+  public void endPhase( org.eclipse.rap.rwt.internal.lifecycle.PhaseId phaseId ) {
+    Metric metric = getPhaseMetric( phaseId );
+    if( metric != null ) {
+      long phaseStartTime = phaseStartTimes[ metric.ordinal() ];
+      if( phaseStartTime != 0 ) {
+        add( metric, System.nanoTime() - phaseStartTime );
+        phaseStartTimes[ metric.ordinal() ] = 0;
+      }
+    }
+  }
+
+  /**
+   * Called by the request thread before it hands control over to the UI thread.
+   */
+  public void beginUIThreadHandOver() {
+    handOverTime = System.nanoTime();
+  }
+
+  /**
+   * Called by the UI thread when it takes over control from the request thread.
+   */
+  public void endUIThreadHandOver() {
+    if( handOverTime != 0 ) {
+      add( Metric.UI_THREAD_WAIT, System.nanoTime() - handOverTime );
+      handOverTime = 0;
+    }
+  }
+
+  String getEntryPointPath() {
+    return entryPointPath;
+  }
+
+  long getStartTime() {
+    return startTime;
+  }
+
+  long getValue( Metric metric ) {
+    return values[ metric.ordinal() ];
+  }
+
+  boolean isMeasured( Metric metric ) {
+    return measured[ metric.ordinal() ];
+  }
+
+  private static Metric getPhaseMetric( org.eclipse.rap.rwt.internal.lifecycle.PhaseId phaseId ) {
+    if( phaseId == org.eclipse.rap.rwt.internal.lifecycle.PhaseId.READ_DATA ) {
+      return Metric.READ_DATA_TIME;
+    } else if( phaseId == org.eclipse.rap.rwt.internal.lifecycle.PhaseId.PROCESS_ACTION ) {
+      return Metric.PROCESS_ACTION_TIME;
+    } else if( phaseId == org.eclipse.rap.rwt.internal.lifecycle.PhaseId.RENDER ) {
+      return Metric.RENDER_TIME;
+    }
+    return null;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.rap.rwt.internal.resources.ClientFilesReader.getInputF
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
@@ -144,10 +145,20 @@ public final class ClientResources {
     } finally {
       inputStream.close();
     }
-    String location = resourceManager.getLocation( name );
+    String location = resourceManager.getLocation( name ) + "?" + getContentHash( buffer );
     applicationContext.getStartupPage().setClientJsLibrary( location );
   }
 
+  /*
+   * The content hash in the URL of the client library lets browsers cache it for a long time,
+   * while changes in the custom appearances still lead to a new URL.
+   */
+  private static String getContentHash( ContentBuffer buffer ) {
+    CRC32 crc = new CRC32();
+    crc.update( buffer.getContent() );
+    return Long.toHexString( crc.getValue() );
+  }
+
   private InputStream openResourceStream( String name ) {
     return getClass().getClassLoader().getResourceAsStream( name );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,12 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.isCompression;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -21,10 +25,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.rap.rwt.internal.util.ContentEncoding;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -38,7 +53,16 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * requested. Usually resources are stored in libraries in the WEB-INF/lib
  * directory of a web-application
  * <p>
- * Implementation as singleton.
+ * The content of small resources is also kept in memory, so that
+ * <code>getRegisteredContent</code> does not need to access the disk. Between
+ * <code>startBatch</code> and <code>finishBatch</code>, resources are written to
+ * disk by a background thread. Outside of a batch, large resources are streamed
+ * to disk.
+ * </p>
+ * <p>
+ * If compression is enabled, a gzip compressed copy with the suffix
+ * <code>.gz</code> is written next to each compressible resource, to be served
+ * by servlet containers that support precompressed files.
  * </p>
  * <p>
  * This class is not intended to be used by clients.
@@ -46,12 +70,27 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  static final int MAX_MEMORY_RESOURCE_SIZE = 16 * 1024;
+  static final long MAX_MEMORY_SIZE = 4 * 1024 * 1024;
+  private static final String THREAD_NAME = "RAP Resource Writer";
+  private static final String COMPRESSED_SUFFIX = ".gz";
+  private static final Set<String> COMPRESSIBLE_EXTENSIONS
+    = new HashSet<>( Arrays.asList( "js", "css", "json", "html", "htm", "svg", "txt", "xml" ) );
+
   private final ResourceDirectory resourceDirectory;
-  private final Set<String> resources;
+  private final ConcurrentMap<String,Resource> resources;
+  private final AtomicLong memorySize;
+  private final Object batchLock;
+  // access is guarded by 'batchLock'
+  private ExecutorService batchExecutor;
+  // access is guarded by 'batchLock'
+  private List<Future<?>> batchWrites;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
     this.resourceDirectory = resourceDirectory;
-    resources = Collections.synchronizedSet( new HashSet<String>() );
+    resources = new ConcurrentHashMap<>();
+    memorySize = new AtomicLong();
+    batchLock = new Object();
   }
 
   /////////////////////////////
@@ -60,7 +99,7 @@ public class ResourceManagerImpl implements ResourceManager {
   public void registerOnce( String resource, ResourceLoader loader ) {
     ParamCheck.notNull( resource, "resource" );
     ParamCheck.notNull( loader, "loader" );
-    if( !resources.contains( resource ) ) {
+    if( !resources.containsKey( resource ) ) {
       checkPath( resource );
       InputStream stream = null;
       try {
@@ -88,10 +127,18 @@ public class ResourceManagerImpl implements ResourceManager {
   public boolean unregister( String name ) {
     ParamCheck.notNull( name, "name" );
     boolean result = false;
-    if( resources.remove( name ) ) {
+    Resource resource = resources.remove( name );
+    if( resource != null ) {
       result = true;
-      File file = getDiskLocation( name );
-      file.delete();
+      releaseMemory( resource );
+      final File file = getDiskLocation( name );
+      execute( new Runnable() {
+        @Override
+        public void run() {
+          file.delete();
+          getCompressedLocation( file ).delete();
+        }
+      } );
     }
     return result;
   }
@@ -99,13 +146,13 @@ public class ResourceManagerImpl implements ResourceManager {
   @Override
   public boolean isRegistered( String name ) {
     ParamCheck.notNull( name, "name" );
-    return resources.contains( name );
+    return resources.containsKey( name );
   }
 
   @Override
   public String getLocation( String name ) {
     ParamCheck.notNull( name, "name" );
-    if( !resources.contains( name ) ) {
+    if( !resources.containsKey( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
     return createRequestUrl( name );
@@ -115,17 +162,67 @@ public class ResourceManagerImpl implements ResourceManager {
   public InputStream getRegisteredContent( String name ) {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
-    if( resources.contains( name ) ) {
-      File file = getDiskLocation( name );
-      try {
-        result = new FileInputStream( file );
-      } catch( FileNotFoundException fnfe ) {
-        throw new RuntimeException( fnfe );
+    Resource resource = resources.get( name );
+    if( resource != null ) {
+      byte[] content = resource.content;
+      if( content != null ) {
+        result = new ByteArrayInputStream( content );
+      } else {
+        File file = getDiskLocation( name );
+        try {
+          result = new FileInputStream( file );
+        } catch( FileNotFoundException fnfe ) {
+          throw new RuntimeException( fnfe );
+        }
       }
     }
     return result;
   }
 
+  ///////////////////
+  // batch processing
+
+  /**
+   * Resources that are registered after this method has been called are written
+   * to disk asynchronously, until <code>finishBatch</code> is called.
+   */
+  public void startBatch() {
+    synchronized( batchLock ) {
+      if( batchExecutor == null ) {
+        batchExecutor = Executors.newSingleThreadExecutor( new ThreadFactory() {
+          @Override
+          public Thread newThread( Runnable runnable ) {
+            Thread result = new Thread( runnable, THREAD_NAME );
+            result.setDaemon( true );
+            return result;
+          }
+        } );
+        batchWrites = new ArrayList<>();
+      }
+    }
+  }
+
+  /**
+   * Waits until all resources that have been registered since
+   * <code>startBatch</code> are written to disk.
+   *
+   * @throws RuntimeException if a resource could not be written
+   */
+  public void finishBatch() {
+    ExecutorService executor;
+    List<Future<?>> writes;
+    synchronized( batchLock ) {
+      executor = batchExecutor;
+      writes = batchWrites;
+      batchExecutor = null;
+      batchWrites = null;
+    }
+    if( executor != null ) {
+      executor.shutdown();
+      awaitWrites( writes );
+    }
+  }
+
   //////////////////
   // helping methods
 
@@ -138,31 +235,197 @@ public class ResourceManagerImpl implements ResourceManager {
   }
 
   private void internalRegister( String name, InputStream inputStream ) {
+    InputStream bufferedStream = new BufferedInputStream( inputStream );
+    try {
+      if( isBatch() ) {
+        registerContent( name, ResourceUtil.readBinary( bufferedStream ) );
+      } else {
+        int limit = MAX_MEMORY_RESOURCE_SIZE + 1;
+        byte[] head = ResourceUtil.readBinary( bufferedStream, limit );
+        if( head.length < limit ) {
+          registerContent( name, head );
+        } else {
+          registerStream( name, head, bufferedStream );
+        }
+      }
+    } catch( IOException ioe ) {
+      throw new RuntimeException( "Failed to register resource: " + name, ioe );
+    }
+  }
+
+  private void registerContent( final String name, byte[] content ) {
+    final File location = getDiskLocation( name );
+    final Resource resource = new Resource( content );
+    reserveMemory( resource );
+    Resource previous = resources.put( name, resource );
+    if( previous != null ) {
+      releaseMemory( previous );
+    }
+    try {
+      execute( new Runnable() {
+        @Override
+        public void run() {
+          writeResource( name, resource, location );
+        }
+      } );
+    } catch( RuntimeException exception ) {
+      if( resources.remove( name, resource ) ) {
+        releaseMemory( resource );
+      }
+      throw exception;
+    }
+  }
+
+  /*
+   * Large resources that are registered outside of a batch are streamed to disk,
+   * without reading them into memory.
+   */
+  private void registerStream( String name, byte[] head, InputStream inputStream )
+    throws IOException
+  {
     File location = getDiskLocation( name );
+    createDirectories( location );
+    long size = writeResource( location, head, inputStream, isCompressible( name ) );
+    Resource previous = resources.put( name, new Resource( size ) );
+    if( previous != null ) {
+      releaseMemory( previous );
+    }
+  }
+
+  private static void writeResource( String name, Resource resource, File location ) {
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
-    } catch ( IOException ioe ) {
+      ResourceUtil.write( location, resource.content );
+      if( resource.size >= ContentEncoding.MIN_COMPRESSION_SIZE && isCompressible( name ) ) {
+        byte[] compressed = ContentEncoding.encode( resource.content, ENCODING_GZIP );
+        ResourceUtil.write( getCompressedLocation( location ), compressed );
+      }
+    } catch( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
+    } finally {
+      // the content of large resources is kept until it is written, to serve it in the meantime
+      if( !resource.inMemory ) {
+        resource.content = null;
+      }
     }
-    resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
+  private static long writeResource( File location,
+                                     byte[] head,
+                                     InputStream inputStream,
+                                     boolean compress )
     throws IOException
   {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
+    long result = 0;
     OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
     try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
-      while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
+      OutputStream compressedStream = null;
+      if( compress ) {
+        File compressedLocation = getCompressedLocation( location );
+        compressedStream = new BufferedOutputStream( new FileOutputStream( compressedLocation ) );
+      }
+      try {
+        OutputStream encodingStream = null;
+        if( compressedStream != null ) {
+          encodingStream = ContentEncoding.createOutputStream( compressedStream, ENCODING_GZIP );
+        }
+        try {
+          byte[] buffer = head;
+          int read = head.length;
+          while( read != -1 ) {
+            outputStream.write( buffer, 0, read );
+            if( encodingStream != null ) {
+              encodingStream.write( buffer, 0, read );
+            }
+            result += read;
+            if( buffer == head ) {
+              buffer = new byte[ 8192 ];
+            }
+            read = inputStream.read( buffer );
+          }
+        } finally {
+          if( encodingStream != null ) {
+            encodingStream.close();
+          }
+        }
+      } finally {
+        if( compressedStream != null ) {
+          compressedStream.close();
+        }
       }
     } finally {
       outputStream.close();
     }
+    return result;
+  }
+
+  private static boolean isCompressible( String name ) {
+    int index = name.lastIndexOf( '.' );
+    String extension = index == -1 ? "" : name.substring( index + 1 ).toLowerCase();
+    return isCompression() && COMPRESSIBLE_EXTENSIONS.contains( extension );
+  }
+
+  private static File getCompressedLocation( File location ) {
+    return new File( location.getPath() + COMPRESSED_SUFFIX );
+  }
+
+  private boolean isBatch() {
+    synchronized( batchLock ) {
+      return batchExecutor != null;
+    }
+  }
+
+  private void execute( Runnable runnable ) {
+    synchronized( batchLock ) {
+      if( batchExecutor != null ) {
+        batchWrites.add( batchExecutor.submit( runnable ) );
+        return;
+      }
+    }
+    runnable.run();
+  }
+
+  private static void awaitWrites( List<Future<?>> writes ) {
+    RuntimeException failure = null;
+    for( Future<?> write : writes ) {
+      try {
+        write.get();
+      } catch( ExecutionException exception ) {
+        if( failure == null ) {
+          failure = toRuntimeException( exception.getCause() );
+        }
+      } catch( InterruptedException exception ) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException( "Interrupted while writing resources", exception );
+      }
+    }
+    if( failure != null ) {
+      throw failure;
+    }
+  }
+
+  private static RuntimeException toRuntimeException( Throwable throwable ) {
+    if( throwable instanceof RuntimeException ) {
+      return ( RuntimeException )throwable;
+    }
+    return new RuntimeException( throwable );
+  }
+
+  private void reserveMemory( Resource resource ) {
+    long size = resource.size;
+    if( size <= MAX_MEMORY_RESOURCE_SIZE ) {
+      long current = memorySize.get();
+      while( !resource.inMemory && current + size <= MAX_MEMORY_SIZE ) {
+        resource.inMemory = memorySize.compareAndSet( current, current + size );
+        current = memorySize.get();
+      }
+    }
+  }
+
+  private void releaseMemory( Resource resource ) {
+    if( resource.inMemory ) {
+      memorySize.addAndGet( -resource.size );
+    }
   }
 
   private static void createDirectories( File file ) throws IOException {
@@ -198,4 +461,21 @@ public class ResourceManagerImpl implements ResourceManager {
       .replaceAll( "\\?", "\\$2" );
   }
 
+  private static final class Resource {
+
+    private final long size;
+    private volatile byte[] content;
+    private boolean inMemory;
+
+    Resource( byte[] content ) {
+      this.content = content;
+      size = content.length;
+    }
+
+    Resource( long size ) {
+      this.size = size;
+    }
+
+  }
+
 }
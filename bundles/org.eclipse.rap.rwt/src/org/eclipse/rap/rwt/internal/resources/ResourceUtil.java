@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 
 
 public final class ResourceUtil {
@@ -49,6 +50,21 @@ public final class ResourceUtil {
     return bufferedResult.toByteArray();
   }
 
+  /*
+   * Reads at most the given number of bytes. The stream is left open, so that the remaining
+   * content can be read from it.
+   */
+  static byte[] readBinary( InputStream stream, int limit ) throws IOException {
+    byte[] buffer = new byte[ limit ];
+    int count = 0;
+    int read;
+    do {
+      read = stream.read( buffer, count, limit - count );
+      count += Math.max( read, 0 );
+    } while( read > 0 && count < limit );
+    return count < limit ? Arrays.copyOf( buffer, count ) : buffer;
+  }
+
   private ResourceUtil() {
     // prevent instantiation
   }
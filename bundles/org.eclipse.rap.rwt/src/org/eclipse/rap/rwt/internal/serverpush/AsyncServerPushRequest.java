@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.serverpush;
+
+import java.util.concurrent.ScheduledFuture;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/**
+ * A server push request that has been suspended using the Servlet 3 async API. The request
+ * does not occupy a container thread while it is suspended.
+ * <p>
+ * The request is released when the UI session is destroyed. It listens as a transient listener,
+ * which is neither serialized with the UI session nor marks it as changed.
+ * </p>
+ */
+class AsyncServerPushRequest implements AsyncListener, UISessionListener {
+
+  private final ServerPushManager manager;
+  private final AsyncContext asyncContext;
+  private final UISession uiSession;
+  private final long startTime;
+  private ScheduledFuture<?> check;
+  private boolean completed;
+
+  AsyncServerPushRequest( ServerPushManager manager, AsyncContext asyncContext, UISession uiSession ) {
+    this.manager = manager;
+    this.asyncContext = asyncContext;
+    this.uiSession = uiSession;
+    startTime = System.currentTimeMillis();
+  }
+
+  UISession getUISession() {
+    return uiSession;
+  }
+
+  long getStartTime() {
+    return startTime;
+  }
+
+  HttpServletResponse getResponse() {
+    return ( HttpServletResponse )asyncContext.getResponse();
+  }
+
+  void suspend( int checkInterval ) {
+    asyncContext.setTimeout( 0 );
+    asyncContext.addListener( this );
+    ( ( UISessionImpl )uiSession ).addTransientUISessionListener( this );
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )uiSession.getApplicationContext();
+    check = applicationContext.getServerPushScheduler().scheduleWithFixedDelay( new Runnable() {
+      @Override
+      public void run() {
+        manager.checkAsyncRequest( AsyncServerPushRequest.this );
+      }
+    }, checkInterval );
+  }
+
+  synchronized void complete() {
+    if( !completed ) {
+      completed = true;
+      if( check != null ) {
+        check.cancel( false );
+      }
+      ( ( UISessionImpl )uiSession ).removeTransientUISessionListener( this );
+      try {
+        asyncContext.complete();
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+        // request has already been completed or recycled by the container
+      }
+    }
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    manager.releaseAsyncRequest( this );
+  }
+
+  @Override
+  public void onComplete( AsyncEvent event ) {
+    manager.releaseAsyncRequest( this );
+  }
+
+  @Override
+  public void onTimeout( AsyncEvent event ) {
+    manager.releaseAsyncRequest( this );
+  }
+
+  @Override
+  public void onError( AsyncEvent event ) {
+    manager.releaseAsyncRequest( this );
+  }
+
+  @Override
+  public void onStartAsync( AsyncEvent event ) {
+    // nothing to do
+  }
+
+}
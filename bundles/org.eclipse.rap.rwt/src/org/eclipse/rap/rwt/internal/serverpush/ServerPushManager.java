@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,13 +13,18 @@ package org.eclipse.rap.rwt.internal.serverpush;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
@@ -41,6 +46,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private boolean hasRunnables;
   private int requestCheckInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient List<AsyncServerPushRequest> asyncRequests;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -48,6 +54,7 @@ public final class ServerPushManager implements SerializableCompatibility {
     uiThreadRunning = false;
     requestCheckInterval = DEFAULT_REQUEST_CHECK_INTERVAL;
     serverPushRequestTracker = new ServerPushRequestTracker();
+    asyncRequests = new ArrayList<>();
   }
 
   public static ServerPushManager getInstance() {
@@ -71,6 +78,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      checkAsyncRequests();
     }
   }
 
@@ -149,6 +157,61 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  void processAsyncRequest( HttpServletRequest request, HttpServletResponse response ) {
+    synchronized( lock ) {
+      if( mustBlockCallBackRequest() ) {
+        AsyncContext asyncContext = request.startAsync( request, response );
+        UISession uiSession = ContextProvider.getUISession();
+        AsyncServerPushRequest asyncRequest = new AsyncServerPushRequest( this,
+                                                                          asyncContext,
+                                                                          uiSession );
+        serverPushRequestTracker.activate( asyncRequest );
+        asyncRequests.add( asyncRequest );
+        asyncRequest.suspend( requestCheckInterval );
+        // release previously suspended requests, only the most recent one is kept
+        releaseBlockedRequest();
+      } else if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+    }
+  }
+
+  void checkAsyncRequest( AsyncServerPushRequest asyncRequest ) {
+    synchronized( lock ) {
+      if( asyncRequests.contains( asyncRequest ) && canReleaseAsyncRequest( asyncRequest ) ) {
+        releaseAsyncRequest( asyncRequest );
+      }
+    }
+  }
+
+  void releaseAsyncRequest( AsyncServerPushRequest asyncRequest ) {
+    synchronized( lock ) {
+      asyncRequests.remove( asyncRequest );
+      serverPushRequestTracker.deactivate( asyncRequest );
+    }
+    asyncRequest.complete();
+  }
+
+  private void checkAsyncRequests() {
+    for( AsyncServerPushRequest asyncRequest : new ArrayList<>( asyncRequests ) ) {
+      checkAsyncRequest( asyncRequest );
+    }
+  }
+
+  private boolean canReleaseAsyncRequest( AsyncServerPushRequest asyncRequest ) {
+    boolean result = false;
+    if( !mustBlockCallBackRequest() ) {
+      result = true;
+    } else if( isSessionExpired( asyncRequest.getUISession(), asyncRequest.getStartTime() ) ) {
+      result = true;
+    } else if( !isConnectionAlive( asyncRequest.getResponse() ) ) {
+      result = true;
+    } else if( !serverPushRequestTracker.isActive( asyncRequest ) ) {
+      result = true;
+    }
+    return result;
+  }
+
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
     if( !mustBlockCallBackRequest() ) {
@@ -173,6 +236,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
+    asyncRequests = new ArrayList<>();
     return this;
   }
 
@@ -188,8 +252,15 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
-    if( uiSession == null ) {
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  private static boolean isSessionExpired( UISession uiSession, long requestStartTime ) {
+    return isSessionExpired( uiSession, requestStartTime, System.currentTimeMillis() );
+  }
+
+  static boolean isSessionExpired( UISession uiSession, long requestStartTime, long currentTime ) {
+    if( uiSession == null || !uiSession.isBound() ) {
       return true;
     }
     HttpSession httpSession = uiSession.getHttpSession();
@@ -230,11 +301,11 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
 
     public void attach() {
-      uiSession.addUISessionListener( this );
+      ( ( UISessionImpl )uiSession ).addTransientUISessionListener( this );
     }
 
     public void detach() {
-      uiSession.removeUISessionListener( this );
+      ( ( UISessionImpl )uiSession ).removeTransientUISessionListener( this );
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,26 +16,26 @@ import java.util.List;
 
 class ServerPushRequestTracker {
 
-  private transient List<Thread> callBackRequests;
+  private transient List<Object> callBackRequests;
 
   ServerPushRequestTracker() {
     callBackRequests = new LinkedList<>();
   }
 
-  void deactivate( Thread thread ) {
-    callBackRequests.remove( thread );
+  void deactivate( Object request ) {
+    callBackRequests.remove( request );
   }
 
-  void activate( Thread thread ) {
-    callBackRequests.add( 0, thread );
+  void activate( Object request ) {
+    callBackRequests.add( 0, request );
   }
 
   boolean hasActive() {
     return callBackRequests.isEmpty();
   }
 
-  boolean isActive( Thread thread ) {
-    return !hasActive() && callBackRequests.get( 0 ) == thread;
+  boolean isActive( Object request ) {
+    return !hasActive() && callBackRequests.get( 0 ) == request;
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,18 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 
 import java.io.IOException;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.metrics.MetricsManager;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 
 
@@ -31,10 +36,45 @@ public class ServerPushServiceHandler implements ServiceHandler {
   {
     setResponseHeaders( response );
     if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+      MetricsManager metricsManager = getEnabledMetricsManager();
+      long startTime = metricsManager == null ? 0 : System.nanoTime();
+      if( request.isAsyncSupported() ) {
+        // suspend the request without blocking a container thread
+        ServerPushManager.getInstance().processAsyncRequest( request, response );
+      } else {
+        ServerPushManager.getInstance().processRequest( response );
+      }
+      if( metricsManager != null ) {
+        recordHoldTime( metricsManager, request, startTime );
+      }
     }
   }
 
+  private static MetricsManager getEnabledMetricsManager() {
+    ApplicationContextImpl applicationContext = getApplicationContext();
+    MetricsManager result = applicationContext == null
+                          ? null
+                          : applicationContext.getMetricsManager();
+    return result != null && result.isEnabled() ? result : null;
+  }
+
+  private static void recordHoldTime( MetricsManager metricsManager,
+                                      HttpServletRequest request,
+                                      long startTime )
+  {
+    String entryPointPath = MetricsManager.getEntryPointPath( request );
+    HoldTimeListener listener = new HoldTimeListener( metricsManager, entryPointPath, startTime );
+    if( request.isAsyncStarted() ) {
+      try {
+        request.getAsyncContext().addListener( listener );
+        return;
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+        // request has already been completed
+      }
+    }
+    listener.record();
+  }
+
   private static void setResponseHeaders( HttpServletResponse response ) {
     // Ensures that the response is not cached
     // 410157: [ServerPush] ServerPush requests always return immediately in IE
@@ -45,4 +85,46 @@ public class ServerPushServiceHandler implements ServiceHandler {
     response.setDateHeader( "Expires", 0 );
   }
 
+  private static final class HoldTimeListener implements AsyncListener {
+
+    private final MetricsManager metricsManager;
+    private final String entryPointPath;
+    private final long startTime;
+    private boolean recorded;
+
+    HoldTimeListener( MetricsManager metricsManager, String entryPointPath, long startTime ) {
+      this.metricsManager = metricsManager;
+      this.entryPointPath = entryPointPath;
+      this.startTime = startTime;
+    }
+
+    synchronized void record() {
+      if( !recorded ) {
+        recorded = true;
+        metricsManager.recordServerPushHold( entryPointPath, System.nanoTime() - startTime );
+      }
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      record();
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      record();
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      record();
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,30 +11,41 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static javax.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
+import static org.eclipse.rap.rwt.internal.RWTProperties.isCompression;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getContext;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 
-import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.metrics.Metric;
+import org.eclipse.rap.rwt.internal.metrics.MetricsManager;
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.Message;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
+import org.eclipse.rap.rwt.internal.util.ContentEncoding;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -42,8 +53,8 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
-  private static final String ATTR_LAST_RESPONSE_MESSAGE
-    = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final String ATTR_LAST_RESPONSE_CONTENT
+    = LifeCycleServiceHandler.class.getName() + "#lastResponseContent";
 
   private final MessageChainReference messageChainReference;
 
@@ -60,10 +71,22 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       setJsonResponseHeaders( response );
       writeSessionTimeoutError( response );
     } else {
-      // Do not use uiSession itself as a lock
-      // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=372946
-      synchronized( uiSession.getRequestLock() ) {
-        synchronizedService( request, response );
+      MetricsManager metricsManager = getApplicationContext().getMetricsManager();
+      RequestMetrics requestMetrics = metricsManager.beginRequest( getContext() );
+      try {
+        long lockRequestTime = requestMetrics == null ? 0 : System.nanoTime();
+        // Do not use uiSession itself as a lock
+        // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=372946
+        synchronized( uiSession.getRequestLock() ) {
+          if( requestMetrics != null ) {
+            requestMetrics.add( Metric.REQUEST_LOCK_WAIT, System.nanoTime() - lockRequestTime );
+          }
+          synchronizedService( request, response );
+        }
+      } finally {
+        if( requestMetrics != null ) {
+          metricsManager.endRequest( requestMetrics );
+        }
       }
     }
   }
@@ -86,6 +109,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     throws IOException
   {
     RequestMessage requestMessage = readRequestMessage( request );
+    addRequestMetric( Metric.OPERATIONS_IN, requestMessage.getOperations().size() );
     setJsonResponseHeaders( response );
     if( isSessionShutdown( requestMessage ) ) {
       shutdownUISession();
@@ -140,7 +164,9 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   private static boolean isDuplicateRequest( RequestMessage requestMessage ) {
     int currentRequestId = RequestCounter.getInstance().currentRequestId();
     JsonValue sentRequestId = requestMessage.getHead().get( REQUEST_COUNTER );
-    return sentRequestId != null && sentRequestId.asInt() == currentRequestId - 1;
+    return    sentRequestId != null
+           && sentRequestId.asInt() == currentRequestId - 1
+           && getBufferedContent() != null;
   }
 
   private static void shutdownUISession() {
@@ -165,43 +191,80 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     response.setStatus( statusCode );
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     writer.appendHead( PROP_ERROR, JsonValue.valueOf( errorType ) );
-    writer.createMessage().toJson().writeTo( response.getWriter() );
+    writeMessage( writer.createMessage(), response );
   }
 
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
     return JsonValue.TRUE.equals( requestMessage.getHead().get( SHUTDOWN ) );
   }
 
-  private static void setJsonResponseHeaders( ServletResponse response ) {
+  private static void setJsonResponseHeaders( HttpServletResponse response ) {
     response.setContentType( CONTENT_TYPE_JSON );
     response.setCharacterEncoding( CHARSET_UTF_8 );
+    if( isCompression() ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
   }
 
-  private static void writeEmptyMessage( ServletResponse response ) throws IOException {
-    new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
+  private static void writeEmptyMessage( HttpServletResponse response ) throws IOException {
+    writeMessage( new ProtocolMessageWriter().createMessage(), response );
   }
 
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            HttpServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    addRequestMetric( Metric.OPERATIONS_OUT, responseMessage.getOperations().size() );
+    ResponseMessageWriter writer = writeMessage( responseMessage, response );
+    bufferContent( writer.getContent() );
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+    ResponseMessageWriter writer = createWriter( response );
+    writer.write( new String( getBufferedContent(), UTF_8 ) );
+    writer.close();
+    addRequestMetric( Metric.RESPONSE_BYTES, writer.getByteCount() );
+  }
+
+  /*
+   * The message is serialized directly to the response, without building an intermediate JSON
+   * tree or string.
+   */
+  private static ResponseMessageWriter writeMessage( Message message,
+                                                     HttpServletResponse response )
+    throws IOException
+  {
+    ResponseMessageWriter writer = createWriter( response );
+    message.writeTo( writer );
+    writer.close();
+    addRequestMetric( Metric.RESPONSE_BYTES, writer.getByteCount() );
+    return writer;
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static ResponseMessageWriter createWriter( HttpServletResponse response ) {
+    String encoding = isCompression() ? ContentEncoding.getAcceptedEncoding( getRequest() ) : null;
+    return new ResponseMessageWriter( response, encoding );
+  }
+
+  private static void addRequestMetric( Metric metric, long value ) {
+    RequestMetrics requestMetrics = getContext().getRequestMetrics();
+    if( requestMetrics != null ) {
+      requestMetrics.add( metric, value );
+    }
+  }
+
+  /*
+   * The serialized response is kept instead of the message, as a replay only needs its content.
+   */
+  private static void bufferContent( byte[] content ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_CONTENT, content );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static byte[] getBufferedContent() {
+    return ( byte[] )getUISession().getAttribute( ATTR_LAST_RESPONSE_CONTENT );
   }
 
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.util.ContentEncoding;
+
+
+/*
+ * Passes a message to the response while it is being serialized. If the content may be encoded,
+ * the first characters are held back until it is known whether the message is large enough to
+ * be compressed. The response is complete when the writer is closed, which does not close the
+ * response itself. The UTF-8 encoded, uncompressed content is kept, so that it can be sent again
+ * without serializing the message a second time.
+ */
+final class ResponseMessageWriter extends Writer {
+
+  private final HttpServletResponse response;
+  private final String encoding;
+  private final char[] buffer;
+  private int count;
+  private Writer writer;
+  private CountingOutputStream encodedOutput;
+  private final ByteArrayOutputStream content;
+  private final Writer contentWriter;
+
+  ResponseMessageWriter( HttpServletResponse response, String encoding ) {
+    this.response = response;
+    this.encoding = encoding;
+    buffer = encoding == null ? null : new char[ ContentEncoding.MIN_COMPRESSION_SIZE ];
+    content = new ByteArrayOutputStream();
+    contentWriter = new OutputStreamWriter( content, UTF_8 );
+  }
+
+  @Override
+  public void write( char[] chars, int offset, int length ) throws IOException {
+    if( writer == null && buffer != null && count + length < buffer.length ) {
+      System.arraycopy( chars, offset, buffer, count, length );
+      count += length;
+    } else {
+      getWriter().write( chars, offset, length );
+    }
+    contentWriter.write( chars, offset, length );
+  }
+
+  @Override
+  public void write( String string, int offset, int length ) throws IOException {
+    if( writer == null && buffer != null && count + length < buffer.length ) {
+      string.getChars( offset, offset + length, buffer, count );
+      count += length;
+    } else {
+      getWriter().write( string, offset, length );
+    }
+    contentWriter.write( string, offset, length );
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if( writer != null ) {
+      writer.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if( writer == null ) {
+      // the content is too small to be compressed
+      writer = response.getWriter();
+      writer.write( buffer, 0, count );
+      count = 0;
+    } else if( encodedOutput != null ) {
+      // completes the encoded content, the response output stream is left open
+      writer.close();
+    }
+    contentWriter.flush();
+  }
+
+  /*
+   * Returns the number of bytes that have been sent, after encoding.
+   */
+  long getByteCount() {
+    return encodedOutput == null ? content.size() : encodedOutput.count;
+  }
+
+  /*
+   * Returns the UTF-8 encoded content before it was compressed. Only complete after close().
+   */
+  byte[] getContent() {
+    return content.toByteArray();
+  }
+
+  private Writer getWriter() throws IOException {
+    if( writer == null ) {
+      if( buffer == null ) {
+        writer = response.getWriter();
+      } else {
+        response.setHeader( HEADER_CONTENT_ENCODING, encoding );
+        encodedOutput = new CountingOutputStream( response.getOutputStream() );
+        OutputStream output = ContentEncoding.createOutputStream( encodedOutput, encoding );
+        writer = new OutputStreamWriter( output, UTF_8 );
+        writer.write( buffer, 0, count );
+        count = 0;
+      }
+    }
+    return writer;
+  }
+
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    long count;
+
+    CountingOutputStream( OutputStream output ) {
+      super( output );
+    }
+
+    @Override
+    public void write( int value ) throws IOException {
+      out.write( value );
+      count++;
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      out.write( bytes, offset, length );
+      count += length;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.UISession;
@@ -34,6 +35,7 @@ public final class ServiceContext {
   private UISession uiSession;
   private ApplicationContextImpl applicationContext;
   private ProtocolMessageWriter protocolWriter;
+  private RequestMetrics requestMetrics;
 
   public ServiceContext( HttpServletRequest request,
                          HttpServletResponse response,
@@ -95,6 +97,20 @@ public final class ServiceContext {
     protocolWriter = new ProtocolMessageWriter();
   }
 
+  /**
+   * Returns the metrics of the current request, or <code>null</code> if request metrics are
+   * disabled.
+   */
+  public RequestMetrics getRequestMetrics() {
+    checkState();
+    return requestMetrics;
+  }
+
+  public void setRequestMetrics( RequestMetrics requestMetrics ) {
+    checkState();
+    this.requestMetrics = requestMetrics;
+  }
+
   public UISession getUISession() {
     checkState();
     if( uiSession != null && !uiSession.isBound() ) {
@@ -122,6 +138,7 @@ public final class ServiceContext {
     serviceStore = null;
     uiSession = null;
     applicationContext = null;
+    requestMetrics = null;
     disposed = true;
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,8 +20,10 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -29,6 +31,7 @@ import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.RWTMessages;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.service.StartupPageTemplate.VariableWriter;
 import org.eclipse.rap.rwt.internal.theme.CssImage;
 import org.eclipse.rap.rwt.internal.theme.SimpleSelector;
@@ -36,51 +39,83 @@ import org.eclipse.rap.rwt.internal.util.HTTP;
 
 
 public class StartupPage {
+
+  // These variables only depend on the entry point and its theme, but not on the request
+  private static final List<String> STATIC_VARIABLES = Arrays.asList(
+    StartupPageTemplate.TOKEN_LIBRARIES,
+    StartupPageTemplate.TOKEN_TITLE,
+    StartupPageTemplate.TOKEN_BODY,
+    StartupPageTemplate.TOKEN_HEADERS,
+    StartupPageTemplate.TOKEN_BACKGROUND_IMAGE
+  );
+
   private final ApplicationContextImpl applicationContext;
   private final List<String> jsLibraries;
+  private final Map<String, RenderedPage> renderedPages;
   private String clientJsLibrary;
   StartupPageTemplate startupPageTemplate;
 
   public StartupPage( ApplicationContextImpl applicationContext ) {
     this.applicationContext = applicationContext;
     jsLibraries = new ArrayList<>();
+    renderedPages = new ConcurrentHashMap<>();
   }
 
   public void activate() {
     startupPageTemplate = new StartupPageTemplate();
+    renderedPages.clear();
   }
 
   public void deactivate() {
     startupPageTemplate = null;
+    renderedPages.clear();
   }
 
   public void setClientJsLibrary( String location ) {
     clientJsLibrary = location;
+    renderedPages.clear();
   }
 
   public void addJsLibrary( String location ) {
     jsLibraries.add( location );
+    renderedPages.clear();
   }
 
   public void send( HttpServletResponse response ) throws IOException {
     setResponseHeaders( response );
-    startupPageTemplate.writePage( response.getWriter(), new StartupPageValueProvider() );
+    StartupPageTemplate template = getRenderedPage().template;
+    template.writePage( response.getWriter(), new StartupPageValueProvider() );
   }
 
   static void setResponseHeaders( HttpServletResponse response ) {
     response.setContentType( HTTP.CONTENT_TYPE_HTML );
     response.setCharacterEncoding( HTTP.CHARSET_UTF_8 );
-    // TODO [rh] this is a preliminary fix for a behavior that was easily
-    //      reproducible in IE but also happened in FF: when restarting a
-    //      web app (hit return in location bar), the browser used a cached
-    //      version of the index.html *without* sending a request to ask
-    //      whether the cached page can be used.
-    //      fix for bug 220733: append no-store to the Cache-Control header
+    // Without no-store, browsers restore the page from their cache without asking the server
+    // when a web app is restarted (hit return in location bar), see bug 220733
     response.addHeader( "Cache-Control", "max-age=0, no-cache, must-revalidate, no-store" );
     response.setHeader( "Pragma", "no-cache" );
     response.setDateHeader( "Expires", 0 );
   }
 
+  /*
+   * Returns the page for the current entry point, in which all variables that do not depend on
+   * the request are already replaced. The page is rendered again when the entry point has been
+   * registered anew.
+   */
+  private RenderedPage getRenderedPage() {
+    String servletPath = getRequest().getServletPath();
+    EntryPointManager entryPointManager = applicationContext.getEntryPointManager();
+    EntryPointRegistration registration = entryPointManager.getRegistrationByPath( servletPath );
+    RenderedPage result = renderedPages.get( servletPath );
+    if( result == null || result.registration != registration ) {
+      StartupPageTemplate template
+        = startupPageTemplate.resolve( new StartupPageValueProvider(), STATIC_VARIABLES );
+      result = new RenderedPage( registration, template );
+      renderedPages.put( servletPath, result );
+    }
+    return result;
+  }
+
   protected void writeTitle( PrintWriter printWriter ) {
     writeEntryPointProperty( printWriter, WebClient.PAGE_TITLE );
   }
@@ -164,6 +199,18 @@ public class StartupPage {
     }
   }
 
+  private static final class RenderedPage {
+
+    final EntryPointRegistration registration;
+    final StartupPageTemplate template;
+
+    RenderedPage( EntryPointRegistration registration, StartupPageTemplate template ) {
+      this.registration = registration;
+      this.template = template;
+    }
+
+  }
+
   private class StartupPageValueProvider implements VariableWriter {
 
     @Override
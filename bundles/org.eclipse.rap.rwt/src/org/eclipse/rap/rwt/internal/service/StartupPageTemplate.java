@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -46,6 +48,10 @@ public final class StartupPageTemplate {
     tokens = new TemplateParser( template ).parse();
   }
 
+  private StartupPageTemplate( Token[] tokens ) {
+    this.tokens = tokens;
+  }
+
   public void writePage( PrintWriter printWriter, VariableWriter variableValueProvider ) {
     for( Token token : tokens ) {
       if( token.isVariable() ) {
@@ -57,6 +63,39 @@ public final class StartupPageTemplate {
     printWriter.flush();
   }
 
+  /*
+   * Returns a copy of this template in which the given variables are replaced by the text that
+   * the value provider writes for them. All other variables are retained.
+   */
+  public StartupPageTemplate resolve( VariableWriter variableValueProvider,
+                                      Collection<String> variableNames )
+  {
+    List<Token> result = new LinkedList<>();
+    StringWriter text = new StringWriter();
+    PrintWriter printWriter = new PrintWriter( text );
+    for( Token token : tokens ) {
+      if( !token.isVariable() ) {
+        printWriter.print( token.toString() );
+      } else if( variableNames.contains( token.toString() ) ) {
+        variableValueProvider.writeVariable( printWriter, token.toString() );
+      } else {
+        addTextToken( result, printWriter, text );
+        result.add( token );
+      }
+    }
+    addTextToken( result, printWriter, text );
+    return new StartupPageTemplate( result.toArray( new Token[ result.size() ] ) );
+  }
+
+  private static void addTextToken( List<Token> tokens, PrintWriter printWriter, StringWriter text )
+  {
+    printWriter.flush();
+    if( text.getBuffer().length() > 0 ) {
+      tokens.add( new Token( text.toString(), false ) );
+      text.getBuffer().setLength( 0 );
+    }
+  }
+
   private static String loadStatupPageTemplate() {
     StringBuilder buffer = new StringBuilder();
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,12 @@
 package org.eclipse.rap.rwt.internal.service;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +60,8 @@ public class UISessionImpl
   private Connection connection;
   private boolean bound;
   private boolean inDestroy;
+  private transient boolean changed;
+  private transient Set<UISessionListener> transientListeners;
   private transient HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
@@ -88,9 +92,38 @@ public class UISessionImpl
   }
 
   public void attachToHttpSession() {
+    resetChanged();
     httpSession.setAttribute( getUISessionAttributeName( connectionId ), this );
   }
 
+  /**
+   * Returns whether attributes or listeners of this UI session have been changed, or the UI
+   * session has been marked as changed, since it has been attached to the HTTP session the last
+   * time.
+   */
+  public boolean isChanged() {
+    synchronized( lock ) {
+      return changed;
+    }
+  }
+
+  /**
+   * Marks this UI session as changed, so that it is replicated after the current request. To be
+   * used for changes of session state that are not made through attributes, e.g. changes of
+   * session singletons.
+   */
+  public void markChanged() {
+    synchronized( lock ) {
+      changed = true;
+    }
+  }
+
+  private void resetChanged() {
+    synchronized( lock ) {
+      changed = false;
+    }
+  }
+
   public void setApplicationContext( ApplicationContextImpl applicationContext ) {
     if( this.applicationContext != null ) {
       this.applicationContext.removeApplicationContextListener( this );
@@ -156,6 +189,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        changed = true;
         attributes.put( name, value );
       }
     }
@@ -169,6 +203,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        changed = true;
         attributes.remove( name );
       }
     }
@@ -258,6 +293,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound && !inDestroy ) {
         result = true;
+        changed = true;
         listeners.add( listener );
       }
     }
@@ -271,12 +307,48 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound && !inDestroy ) {
         result = true;
+        changed = true;
         listeners.remove( listener );
       }
     }
     return result;
   }
 
+  /**
+   * Adds a listener that is notified before this UI session is destroyed. In contrast to
+   * <code>addUISessionListener</code>, the listener is not serialized with this UI session, and
+   * adding or removing it does not mark the UI session as changed. To be used for listeners that
+   * only belong to the current server node, e.g. suspended requests.
+   */
+  public boolean addTransientUISessionListener( UISessionListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    boolean result = false;
+    synchronized( lock ) {
+      if( bound && !inDestroy ) {
+        result = true;
+        if( transientListeners == null ) {
+          transientListeners = new HashSet<>();
+        }
+        transientListeners.add( listener );
+      }
+    }
+    return result;
+  }
+
+  public boolean removeTransientUISessionListener( UISessionListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    boolean result = false;
+    synchronized( lock ) {
+      if( bound && !inDestroy ) {
+        result = true;
+        if( transientListeners != null ) {
+          transientListeners.remove( listener );
+        }
+      }
+    }
+    return result;
+  }
+
   @Override
   public void valueBound( HttpSessionBindingEvent event ) {
     synchronized( lock ) {
@@ -334,16 +406,19 @@ public class UISessionImpl
       setApplicationContext( null );
       attributes.clear();
       listeners.clear();
+      transientListeners = null;
       bound = false;
       inDestroy = false;
     }
   }
 
   private void fireBeforeDestroy() {
-    UISessionListener[] listenersCopy;
+    List<UISessionListener> listenersCopy;
     synchronized( lock ) {
-      int size = listeners.size();
-      listenersCopy = listeners.toArray( new UISessionListener[ size ] );
+      listenersCopy = new ArrayList<>( listeners );
+      if( transientListeners != null ) {
+        listenersCopy.addAll( transientListeners );
+      }
     }
     UISessionEvent event = new UISessionEvent( this );
     for( UISessionListener listener : listenersCopy ) {
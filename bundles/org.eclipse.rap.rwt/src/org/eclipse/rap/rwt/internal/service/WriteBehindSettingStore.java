@@ -0,0 +1,513 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.service.SettingStore;
+import org.eclipse.rap.rwt.service.SettingStoreEvent;
+import org.eclipse.rap.rwt.service.SettingStoreListener;
+
+
+/*
+ * A setting store that keeps its attributes in memory and writes changes to the file system
+ * asynchronously. Changes are collected until the next flush, which is scheduled on the I/O
+ * scheduler of the application. Hence a series of changes results in a single write. A failed
+ * flush is retried after the flush delay. Reads do not block and listeners are notified
+ * synchronously, like with the FileSettingStore.
+ *
+ * The attributes are either stored in a Java properties file that is replaced by an atomic rename
+ * on every flush (compatible with the FileSettingStore), or in an append-only log that only
+ * receives the changed attributes and is compacted once it contains too many outdated records.
+ * The log can be shared by several stores with the same id, even in different processes. It is
+ * only accessed while holding a lock on a separate lock file, and compaction merges the records
+ * of all stores.
+ */
+public class WriteBehindSettingStore implements SettingStore {
+
+  public static final long DEFAULT_FLUSH_DELAY = 2000;
+  static final String LOG_SUFFIX = ".log";
+  static final String LOCK_SUFFIX = ".lock";
+  private static final int MIN_COMPACTION_RECORDS = 1000;
+  private static final char SET_RECORD = '+';
+  private static final char REMOVE_RECORD = '-';
+  // file locks are held per JVM, stores of the same JVM have to synchronize before locking
+  private static final Object[] LOG_LOCKS = createLogLocks( 64 );
+
+  private final File workDir;
+  private final boolean appendOnlyLog;
+  private final ApplicationScheduler scheduler;
+  private final long flushDelay;
+  private final Map<String, String> attributes;
+  private final Set<SettingStoreListener> listeners;
+  // names of changed attributes, the current values are read when flushing
+  private final Set<String> pendingChanges;
+  private final Object flushLock;
+  private final Runnable flushTask;
+  private volatile String id;
+  private boolean flushScheduled;
+  private int logRecords;
+
+  /*
+   * Changes are written synchronously if the scheduler is null or not active. The scheduler is
+   * expected to allow blocking tasks.
+   */
+  public WriteBehindSettingStore( File workDir,
+                                  boolean appendOnlyLog,
+                                  ApplicationScheduler scheduler,
+                                  long flushDelay )
+  {
+    ParamCheck.notNull( workDir, "workDir" );
+    if( !workDir.isDirectory() ) {
+      throw new IllegalArgumentException( "workDir is not a directory: " + workDir );
+    }
+    this.workDir = workDir;
+    this.appendOnlyLog = appendOnlyLog;
+    this.scheduler = scheduler;
+    this.flushDelay = flushDelay;
+    attributes = new ConcurrentHashMap<>();
+    listeners = new CopyOnWriteArraySet<>();
+    pendingChanges = new LinkedHashSet<>();
+    flushLock = new Object();
+    flushTask = new Runnable() {
+      @Override
+      public void run() {
+        flushSafely();
+      }
+    };
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public String getAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    return attributes.get( name );
+  }
+
+  @Override
+  public void setAttribute( String name, String value ) throws IOException {
+    ParamCheck.notNull( name, "name" );
+    if( value == null ) {
+      removeAttribute( name );
+    } else {
+      String oldValue = attributes.put( name, value );
+      if( !value.equals( oldValue ) ) {
+        notifyListeners( name, oldValue, value );
+        addPendingChange( name );
+      }
+    }
+  }
+
+  @Override
+  public Enumeration<String> getAttributeNames() {
+    return Collections.enumeration( attributes.keySet() );
+  }
+
+  @Override
+  public void loadById( String id ) throws IOException {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    synchronized( flushLock ) {
+      flush();
+      this.id = id;
+      notifyForEachAttribute( true );
+      attributes.clear();
+      // discards changes that were made before an id was assigned
+      takePendingChanges();
+      if( appendOnlyLog ) {
+        logRecords = readLog( attributes );
+      } else {
+        readProperties();
+      }
+      notifyForEachAttribute( false );
+    }
+  }
+
+  @Override
+  public void removeAttribute( String name ) throws IOException {
+    ParamCheck.notNull( name, "name" );
+    String oldValue = attributes.remove( name );
+    if( oldValue != null ) {
+      notifyListeners( name, oldValue, null );
+      addPendingChange( name );
+    }
+  }
+
+  @Override
+  public void addSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.add( listener );
+  }
+
+  @Override
+  public void removeSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.remove( listener );
+  }
+
+  /*
+   * Writes all pending changes to the file system.
+   */
+  public void flush() throws IOException {
+    synchronized( flushLock ) {
+      if( id != null ) {
+        Set<String> names = takePendingChanges();
+        if( !names.isEmpty() ) {
+          try {
+            if( appendOnlyLog ) {
+              appendToLog( names );
+            } else {
+              writeProperties();
+            }
+          } catch( IOException exception ) {
+            synchronized( pendingChanges ) {
+              pendingChanges.addAll( names );
+            }
+            throw exception;
+          }
+        }
+      }
+    }
+  }
+
+  boolean hasPendingChanges() {
+    synchronized( pendingChanges ) {
+      return !pendingChanges.isEmpty();
+    }
+  }
+
+  File getStoreFile() {
+    return new File( workDir, appendOnlyLog ? id + LOG_SUFFIX : id );
+  }
+
+  //////////////////
+  // helping methods
+
+  private void addPendingChange( String name ) throws IOException {
+    synchronized( pendingChanges ) {
+      pendingChanges.add( name );
+    }
+    if( !scheduleFlush() ) {
+      flush();
+    }
+  }
+
+  /*
+   * Returns false if no flush is scheduled yet and the scheduler is not available.
+   */
+  private boolean scheduleFlush() {
+    synchronized( pendingChanges ) {
+      if( flushScheduled || pendingChanges.isEmpty() ) {
+        return true;
+      }
+      flushScheduled = true;
+    }
+    ScheduledFuture<?> future = null;
+    if( scheduler != null ) {
+      future = scheduler.schedule( flushTask, flushDelay );
+    }
+    if( future == null ) {
+      synchronized( pendingChanges ) {
+        flushScheduled = false;
+      }
+      return false;
+    }
+    return true;
+  }
+
+  private Set<String> takePendingChanges() {
+    synchronized( pendingChanges ) {
+      Set<String> result = new LinkedHashSet<>( pendingChanges );
+      pendingChanges.clear();
+      flushScheduled = false;
+      return result;
+    }
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch( IOException exception ) {
+      ServletLog.log( "Failed to write setting store: " + id, exception );
+      // the failed changes are pending again, without an active scheduler they are written with
+      // the next change or when the session ends
+      scheduleFlush();
+    }
+  }
+
+  private void readProperties() throws IOException {
+    File file = getStoreFile();
+    if( file.exists() ) {
+      Properties properties = new Properties();
+      try( InputStream inputStream = new FileInputStream( file ) ) {
+        properties.load( inputStream );
+      }
+      for( String name : properties.stringPropertyNames() ) {
+        attributes.put( name, properties.getProperty( name ) );
+      }
+    }
+  }
+
+  private void writeProperties() throws IOException {
+    Properties properties = new Properties();
+    properties.putAll( attributes );
+    File tempFile = createTempFile();
+    try {
+      FileOutputStream fileOutputStream = new FileOutputStream( tempFile );
+      try( OutputStream outputStream = new BufferedOutputStream( fileOutputStream ) ) {
+        properties.store( outputStream, WriteBehindSettingStore.class.getName() );
+      }
+      replace( tempFile, getStoreFile() );
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  private int readLog( Map<String, String> target ) throws IOException {
+    if( !getStoreFile().exists() ) {
+      return 0;
+    }
+    synchronized( getLogLock() ) {
+      try( FileChannel lockChannel = openLockFile(); FileLock lock = lockChannel.lock() ) {
+        return readLogRecords( target );
+      }
+    }
+  }
+
+  private int readLogRecords( Map<String, String> target ) throws IOException {
+    File file = getStoreFile();
+    int result = 0;
+    if( file.exists() ) {
+      InputStreamReader reader = new InputStreamReader( new FileInputStream( file ), UTF_8 );
+      try( BufferedReader bufferedReader = new BufferedReader( reader ) ) {
+        String line = bufferedReader.readLine();
+        while( line != null ) {
+          readRecord( line, target );
+          result++;
+          line = bufferedReader.readLine();
+        }
+      }
+    }
+    return result;
+  }
+
+  private static void readRecord( String record, Map<String, String> target ) {
+    if( !record.isEmpty() ) {
+      int separator = record.charAt( 0 ) == SET_RECORD ? indexOfSeparator( record ) : -1;
+      if( separator != -1 ) {
+        String name = unescape( record.substring( 1, separator ) );
+        target.put( name, unescape( record.substring( separator + 1 ) ) );
+      } else if( record.charAt( 0 ) == REMOVE_RECORD ) {
+        target.remove( unescape( record.substring( 1 ) ) );
+      }
+    }
+  }
+
+  private void appendToLog( Set<String> names ) throws IOException {
+    synchronized( getLogLock() ) {
+      try( FileChannel lockChannel = openLockFile(); FileLock lock = lockChannel.lock() ) {
+        FileOutputStream outputStream = new FileOutputStream( getStoreFile(), true );
+        try( Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, UTF_8 ) ) ) {
+          for( String name : names ) {
+            writeRecord( writer, name, attributes.get( name ) );
+            logRecords++;
+          }
+        }
+        if( logRecords > Math.max( MIN_COMPACTION_RECORDS, 2 * attributes.size() ) ) {
+          compactLog();
+        }
+      }
+    }
+  }
+
+  /*
+   * Must be called while holding the log lock. The log is read again, as other stores with the
+   * same id may have appended records that are not known to this store.
+   */
+  private void compactLog() throws IOException {
+    Map<String, String> records = new LinkedHashMap<>();
+    readLogRecords( records );
+    File tempFile = createTempFile();
+    try {
+      FileOutputStream outputStream = new FileOutputStream( tempFile );
+      try( Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, UTF_8 ) ) ) {
+        for( Map.Entry<String, String> entry : records.entrySet() ) {
+          writeRecord( writer, entry.getKey(), entry.getValue() );
+        }
+      }
+      replace( tempFile, getStoreFile() );
+      logRecords = records.size();
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  private FileChannel openLockFile() throws IOException {
+    // the log itself cannot be locked, as compaction replaces it
+    File lockFile = new File( workDir, "." + id + LOG_SUFFIX + LOCK_SUFFIX );
+    return FileChannel.open( lockFile.toPath(),
+                             StandardOpenOption.CREATE,
+                             StandardOpenOption.WRITE );
+  }
+
+  private Object getLogLock() {
+    int hash = getStoreFile().getAbsolutePath().hashCode();
+    return LOG_LOCKS[ ( hash & Integer.MAX_VALUE ) % LOG_LOCKS.length ];
+  }
+
+  private static Object[] createLogLocks( int count ) {
+    Object[] result = new Object[ count ];
+    for( int i = 0; i < count; i++ ) {
+      result[ i ] = new Object();
+    }
+    return result;
+  }
+
+  private static void writeRecord( Writer writer, String name, String value ) throws IOException {
+    if( value == null ) {
+      writer.write( REMOVE_RECORD );
+      writer.write( escape( name, true ) );
+    } else {
+      writer.write( SET_RECORD );
+      writer.write( escape( name, true ) );
+      writer.write( '=' );
+      writer.write( escape( value, false ) );
+    }
+    writer.write( '\n' );
+  }
+
+  private File createTempFile() throws IOException {
+    // write to a temporary file first, so that a crash never leaves an incomplete file behind
+    return File.createTempFile( "." + id + ".", ".tmp", workDir );
+  }
+
+  private static void replace( File source, File target ) throws IOException {
+    try {
+      Files.move( source.toPath(),
+                  target.toPath(),
+                  StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+  }
+
+  static String escape( String string, boolean isName ) {
+    StringBuilder result = new StringBuilder( string.length() );
+    for( int i = 0; i < string.length(); i++ ) {
+      char ch = string.charAt( i );
+      if( ch == '\\' ) {
+        result.append( "\\\\" );
+      } else if( ch == '\n' ) {
+        result.append( "\\n" );
+      } else if( ch == '\r' ) {
+        result.append( "\\r" );
+      } else if( ch == '=' && isName ) {
+        result.append( "\\=" );
+      } else {
+        result.append( ch );
+      }
+    }
+    return result.toString();
+  }
+
+  static String unescape( String string ) {
+    StringBuilder result = new StringBuilder( string.length() );
+    for( int i = 0; i < string.length(); i++ ) {
+      char ch = string.charAt( i );
+      if( ch == '\\' && i + 1 < string.length() ) {
+        char next = string.charAt( ++i );
+        if( next == 'n' ) {
+          result.append( '\n' );
+        } else if( next == 'r' ) {
+          result.append( '\r' );
+        } else {
+          result.append( next );
+        }
+      } else {
+        result.append( ch );
+      }
+    }
+    return result.toString();
+  }
+
+  private static int indexOfSeparator( String record ) {
+    for( int i = 1; i < record.length(); i++ ) {
+      char ch = record.charAt( i );
+      if( ch == '\\' ) {
+        i++;
+      } else if( ch == '=' ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void notifyForEachAttribute( boolean removed ) {
+    for( Map.Entry<String, String> entry : attributes.entrySet() ) {
+      if( removed ) {
+        notifyListeners( entry.getKey(), entry.getValue(), null );
+      } else {
+        notifyListeners( entry.getKey(), null, entry.getValue() );
+      }
+    }
+  }
+
+  private void notifyListeners( String attribute, String oldValue, String newValue ) {
+    SettingStoreEvent event = new SettingStoreEvent( this, attribute, oldValue, newValue );
+    for( SettingStoreListener listener : listeners ) {
+      try {
+        listener.settingChanged( event );
+      } catch( Exception exc ) {
+        String msg = "Exception when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, exc );
+      } catch( LinkageError le ) {
+        String msg = "Linkage error when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, le );
+      }
+    }
+  }
+
+}
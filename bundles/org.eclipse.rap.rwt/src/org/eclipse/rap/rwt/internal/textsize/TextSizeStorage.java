@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,98 +13,121 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * The text sizes are distributed over a number of segments, each of them guarded by its own
+ * lock and kept in access order. Hence the least recently used entry of a segment is always its
+ * first entry. Evicting an entry takes constant time with regard to the number of stored entries.
+ *
+ * Every segment time stamps its entries with its own counter, so that segments do not contend
+ * for a shared clock. As the keys are spread evenly over the segments, their counters advance at
+ * about the same rate, and the first entry with the lowest time stamp approximates the least
+ * recently used entry of the storage.
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
+  private static final int SEGMENT_COUNT = 16;
+
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final Segment[] segments;
+  private final AtomicInteger size;
+  private final ReentrantLock evictionLock;
+  private volatile int maximumStoreSize;
+  private volatile int clearRange;
 
 
   private static class Entry {
-    private Point point;
+    private final Integer key;
+    private final Point point;
     private long timeStamp;
+
+    Entry( Integer key, Point point ) {
+      this.key = key;
+      this.point = point;
+    }
   }
 
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+  private static class EntryComparator implements Comparator<Entry> {
 
     @Override
     public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+      return Long.compare( entry1.timeStamp, entry2.timeStamp );
     }
   }
 
 
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    fontDatas = Collections.newSetFromMap( new ConcurrentHashMap<FontData, Boolean>() );
+    segments = new Segment[ SEGMENT_COUNT ];
+    for( int i = 0; i < segments.length; i++ ) {
+      segments[ i ] = new Segment();
+    }
+    size = new AtomicInteger();
+    evictionLock = new ReentrantLock();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
-    }
+    fontDatas.add( fontData );
   }
 
   Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
+    Point result = getSegment( key ).lookup( key );
+    return defensiveCopy( result );
+  }
+
+  void storeTextSize( Integer key, Point size ) {
+    Entry entry = new Entry( key, defensiveCopy( size ) );
+    if( getSegment( key ).store( key, entry ) ) {
+      if( this.size.incrementAndGet() >= maximumStoreSize ) {
+        handleOverFlow();
       }
     }
-    result = defensiveCopy( result );
-    return result;
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+  int getSize() {
+    return size.get();
+  }
+
+  /*
+   * Returns a copy of all text sizes, ordered approximately from the least to the most recently
+   * used one.
+   */
+  Map<Integer,Point> getTextSizes() {
+    List<Entry> entries = new ArrayList<>( size.get() );
+    for( Segment segment : segments ) {
+      segment.copyEntries( entries );
+    }
+    Collections.sort( entries, new EntryComparator() );
+    Map<Integer,Point> result = new LinkedHashMap<>();
+    for( Entry entry : entries ) {
+      result.put( entry.key, entry.point );
     }
+    return result;
   }
 
   ////////////////////
@@ -121,25 +144,57 @@ public final class TextSizeStorage {
   }
 
   private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    // While another thread holds the lock, this thread returns immediately. The other thread
+    // checks the size again after releasing the lock, which covers the entries added meanwhile.
+    while( size.get() >= maximumStoreSize && evictionLock.tryLock() ) {
+      try {
+        int currentSize = size.get();
+        if( currentSize >= maximumStoreSize ) {
+          evictEldestEntries( currentSize - maximumStoreSize + clearRange );
+        }
+      } finally {
+        evictionLock.unlock();
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private void evictEldestEntries( int count ) {
+    long[] eldestTimeStamps = new long[ segments.length ];
+    for( int i = 0; i < segments.length; i++ ) {
+      eldestTimeStamps[ i ] = segments[ i ].getEldestTimeStamp();
+    }
+    for( int evicted = 0; evicted < count; evicted++ ) {
+      int index = indexOfMinimum( eldestTimeStamps );
+      if( eldestTimeStamps[ index ] == Long.MAX_VALUE ) {
+        return;
+      }
+      if( segments[ index ].removeEldest() ) {
+        size.decrementAndGet();
+      }
+      eldestTimeStamps[ index ] = segments[ index ].getEldestTimeStamp();
+    }
   }
 
 
   //////////////////
   // helping methods
 
+  private Segment getSegment( Integer key ) {
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return segments[ hash & ( SEGMENT_COUNT - 1 ) ];
+  }
+
+  private static int indexOfMinimum( long[] values ) {
+    int result = 0;
+    for( int i = 1; i < values.length; i++ ) {
+      if( values[ i ] < values[ result ] ) {
+        result = i;
+      }
+    }
+    return result;
+  }
+
   private static void checkLowerStoreSizeBoundary( int maximumStoreSize ) {
     if( maximumStoreSize < MIN_STORE_SIZE ) {
       Object[] param = { Integer.valueOf( MIN_STORE_SIZE ) };
@@ -152,14 +207,61 @@ public final class TextSizeStorage {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
   private void calculateClearRange( int maximumStoreSize ) {
     BigDecimal ten = new BigDecimal( 10 );
     BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
     clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
   }
 
+  private final class Segment {
+
+    // access is guarded by 'this', the map is kept in access order
+    private final LinkedHashMap<Integer, Entry> entries;
+    private long clock;
+
+    Segment() {
+      entries = new LinkedHashMap<>( 16, 0.75f, true );
+    }
+
+    synchronized Point lookup( Integer key ) {
+      Entry entry = entries.get( key );
+      if( entry != null ) {
+        entry.timeStamp = ++clock;
+        return entry.point;
+      }
+      return null;
+    }
+
+    synchronized boolean store( Integer key, Entry entry ) {
+      entry.timeStamp = ++clock;
+      return entries.put( key, entry ) == null;
+    }
+
+    synchronized void copyEntries( List<Entry> result ) {
+      for( Entry entry : entries.values() ) {
+        Entry copy = new Entry( entry.key, defensiveCopy( entry.point ) );
+        copy.timeStamp = entry.timeStamp;
+        result.add( copy );
+      }
+    }
+
+    synchronized long getEldestTimeStamp() {
+      if( entries.isEmpty() ) {
+        return Long.MAX_VALUE;
+      }
+      return entries.values().iterator().next().timeStamp;
+    }
+
+    synchronized boolean removeEldest() {
+      Iterator<Entry> iterator = entries.values().iterator();
+      if( iterator.hasNext() ) {
+        iterator.next();
+        iterator.remove();
+        return true;
+      }
+      return false;
+    }
+
+  }
+
 }
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Saves the fonts and text sizes of a TextSizeStorage to a binary file and loads them back.
+ *
+ * The keys of the text sizes are computed by TextSizeStorageUtil#getKey() from the font, the
+ * probe text and the size of the probe as measured by the client. Hence sizes measured by clients
+ * with different font rendering are stored under different keys. The file is only accepted if it
+ * has been written with the same file format and key computation.
+ */
+public final class TextSizeStorageFile {
+
+  private static final int MAGIC = 0x52545353;
+  // increase if the file format or the key computation in TextSizeStorageUtil changes
+  private static final int VERSION = 1;
+
+  private final File file;
+
+  public TextSizeStorageFile( File file ) {
+    this.file = file;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public boolean exists() {
+    return file.isFile();
+  }
+
+  public void save( TextSizeStorage storage ) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if( parent != null ) {
+      parent.mkdirs();
+    }
+    // write to a temporary file first, so other processes never read an incomplete file
+    File tempFile = File.createTempFile( file.getName(), ".tmp", parent );
+    try {
+      write( storage, tempFile );
+      Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  public void load( TextSizeStorage storage ) throws IOException {
+    try( FileChannel channel = FileChannel.open( file.toPath(), StandardOpenOption.READ ) ) {
+      MappedByteBuffer buffer = channel.map( MapMode.READ_ONLY, 0, channel.size() );
+      try {
+        read( buffer, storage );
+      } catch( BufferUnderflowException exception ) {
+        throw new IOException( "Text size storage file is truncated: " + file, exception );
+      }
+    }
+  }
+
+  private static void write( TextSizeStorage storage, File target ) throws IOException {
+    FileOutputStream stream = new FileOutputStream( target );
+    try( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( stream ) ) ) {
+      output.writeInt( MAGIC );
+      output.writeInt( VERSION );
+      FontData[] fontList = storage.getFontList();
+      output.writeInt( fontList.length );
+      for( FontData fontData : fontList ) {
+        byte[] name = fontData.getName().getBytes( UTF_8 );
+        output.writeInt( name.length );
+        output.write( name );
+        output.writeInt( fontData.getHeight() );
+        output.writeInt( fontData.getStyle() );
+      }
+      Map<Integer,Point> textSizes = storage.getTextSizes();
+      output.writeInt( textSizes.size() );
+      for( Map.Entry<Integer,Point> entry : textSizes.entrySet() ) {
+        output.writeInt( entry.getKey().intValue() );
+        output.writeInt( entry.getValue().x );
+        output.writeInt( entry.getValue().y );
+      }
+    }
+  }
+
+  private void read( MappedByteBuffer buffer, TextSizeStorage storage ) throws IOException {
+    if( buffer.getInt() != MAGIC || buffer.getInt() != VERSION ) {
+      throw new IOException( "Incompatible text size storage file: " + file );
+    }
+    int fontCount = readCount( buffer, 12 );
+    FontData[] fontList = new FontData[ fontCount ];
+    for( int i = 0; i < fontCount; i++ ) {
+      byte[] name = new byte[ readCount( buffer, 1 ) ];
+      buffer.get( name );
+      int height = buffer.getInt();
+      int style = buffer.getInt();
+      fontList[ i ] = new FontData( new String( name, UTF_8 ), height, style );
+    }
+    int entryCount = readCount( buffer, 12 );
+    // entries are read completely before the storage is modified, to skip corrupt files entirely
+    int[] entries = new int[ entryCount * 3 ];
+    buffer.asIntBuffer().get( entries );
+    for( FontData fontData : fontList ) {
+      storage.storeFont( fontData );
+    }
+    for( int i = 0; i < entries.length; i += 3 ) {
+      Point size = new Point( entries[ i + 1 ], entries[ i + 2 ] );
+      storage.storeTextSize( Integer.valueOf( entries[ i ] ), size );
+    }
+  }
+
+  private int readCount( MappedByteBuffer buffer, int elementSize ) throws IOException {
+    int result = buffer.getInt();
+    if( result < 0 || result > buffer.remaining() / elementSize ) {
+      throw new IOException( "Corrupt text size storage file: " + file );
+    }
+    return result;
+  }
+
+}
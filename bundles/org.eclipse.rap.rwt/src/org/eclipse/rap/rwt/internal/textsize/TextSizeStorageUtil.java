@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -57,7 +57,9 @@ final class TextSizeStorageUtil {
     Point probeSize = probeResult.getSize();
     int hashCode = 1;
     hashCode = 31 * hashCode + probeText.hashCode();
-    hashCode = 31 * hashCode + probeSize.hashCode();
+    // Point#hashCode() is symmetric in x and y, which would mix up different client fonts
+    hashCode = 31 * hashCode + probeSize.x;
+    hashCode = 31 * hashCode + probeSize.y;
     hashCode = 31 * hashCode + fontData.hashCode();
     hashCode = 31 * hashCode + string.hashCode();
     hashCode = 31 * hashCode + wrapWidth;
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+
+
+/**
+ * The values of a theme, combined with the values of the fallback theme. For every element and
+ * property, the values of the theme are followed by the values of the fallback theme. Values that
+ * can never be selected, because an earlier value has the same constraints or no constraints at
+ * all, are removed. Hence a single pass of a <code>ValueSelector</code> yields the same result as
+ * selecting from the theme first and from the fallback theme second.
+ * <p>
+ * The values of all properties of the theme are combined on construction. The values of other
+ * properties, which can only come from the fallback theme, are combined on first access.
+ * </p>
+ */
+final class CssValueTable {
+
+  private static final ConditionalValue[] EMPTY = new ConditionalValue[ 0 ];
+
+  private final CssValuesMap valuesMap;
+  private final CssValuesMap fallbackValuesMap;
+  private final ConcurrentMap<String, ConcurrentMap<String, ConditionalValue[]>> elementsMap;
+
+  CssValueTable( CssValuesMap valuesMap, CssValuesMap fallbackValuesMap ) {
+    this.valuesMap = valuesMap;
+    this.fallbackValuesMap = fallbackValuesMap;
+    elementsMap = new ConcurrentHashMap<>();
+    for( String elementName : valuesMap.getElementNames() ) {
+      ConcurrentMap<String, ConditionalValue[]> propertiesMap = new ConcurrentHashMap<>();
+      for( String propertyName : valuesMap.getPropertyNames( elementName ) ) {
+        propertiesMap.put( propertyName, combineValues( elementName, propertyName ) );
+      }
+      elementsMap.put( elementName, propertiesMap );
+    }
+  }
+
+  ConditionalValue[] getValues( String elementName, String propertyName ) {
+    ConcurrentMap<String, ConditionalValue[]> propertiesMap = getPropertiesMap( elementName );
+    ConditionalValue[] result = propertiesMap.get( propertyName );
+    if( result == null ) {
+      // not a property of a known element, e.g. a property defined for all elements
+      result = combineValues( elementName, propertyName );
+      ConditionalValue[] existing = propertiesMap.putIfAbsent( propertyName, result );
+      if( existing != null ) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  private ConcurrentMap<String, ConditionalValue[]> getPropertiesMap( String elementName ) {
+    ConcurrentMap<String, ConditionalValue[]> result = elementsMap.get( elementName );
+    if( result == null ) {
+      result = new ConcurrentHashMap<>();
+      ConcurrentMap<String, ConditionalValue[]> existing = elementsMap.putIfAbsent( elementName,
+                                                                                    result );
+      if( existing != null ) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  private ConditionalValue[] combineValues( String elementName, String propertyName ) {
+    List<ConditionalValue> result = new ArrayList<>();
+    boolean complete = addValues( result, valuesMap.getValues( elementName, propertyName ) );
+    if( !complete && fallbackValuesMap != null ) {
+      addValues( result, fallbackValuesMap.getValues( elementName, propertyName ) );
+    }
+    return result.toArray( EMPTY );
+  }
+
+  private static boolean addValues( List<ConditionalValue> result, ConditionalValue[] values ) {
+    if( values != null ) {
+      for( ConditionalValue value : values ) {
+        if( !containsConstraints( result, value.constraints ) ) {
+          result.add( value );
+          if( value.constraints.length == 0 ) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean containsConstraints( List<ConditionalValue> values,
+                                              String[] constraints )
+  {
+    for( ConditionalValue value : values ) {
+      if( Arrays.equals( value.constraints, constraints ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -49,6 +49,14 @@ public final class CssValuesMap {
     return result;
   }
 
+  Set<String> getElementNames() {
+    return elementsMap.keySet();
+  }
+
+  Set<String> getPropertyNames( String elementName ) {
+    return elementsMap.get( elementName ).keySet();
+  }
+
   public CssValue[] getAllValues() {
     Set<CssValue> resultSet = new LinkedHashSet<>();
     for( Map<String, ConditionalValue[]> valuesMap : elementsMap.values() ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.internal.theme.css.CssElementHolder;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.service.ApplicationContext;
@@ -32,6 +33,7 @@ public class Theme {
   private final String name;
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
+  private CssValueTable valueTable;
 
   private String registeredLocation;
 
@@ -103,6 +105,28 @@ public class Theme {
     return valuesMap;
   }
 
+  /**
+   * Combines the values of this theme with the values of the given fallback theme, for fast
+   * access through <code>getValues</code>. Both themes must be initialized.
+   *
+   * @param fallbackTheme the fallback theme or <code>null</code> for the fallback theme itself
+   */
+  public void compile( Theme fallbackTheme ) {
+    CssValuesMap fallbackValuesMap = fallbackTheme == null ? null : fallbackTheme.getValuesMap();
+    valueTable = new CssValueTable( getValuesMap(), fallbackValuesMap );
+  }
+
+  /**
+   * Returns the values for the given element and property, followed by the values of the
+   * fallback theme.
+   */
+  public ConditionalValue[] getValues( String elementName, String propertyName ) {
+    if( valueTable == null ) {
+      throw new IllegalStateException( "Theme is not compiled" );
+    }
+    return valueTable.getValues( elementName, propertyName );
+  }
+
   public String getRegisteredLocation() {
     return registeredLocation;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -123,6 +123,9 @@ public class ThemeManager {
       for( Theme theme : allThemes ) {
         theme.initialize( allThemeableWidgets );
       }
+      for( Theme theme : allThemes ) {
+        theme.compile( theme == fallbackTheme ? null : fallbackTheme );
+      }
       initialized = true;
     }
   }
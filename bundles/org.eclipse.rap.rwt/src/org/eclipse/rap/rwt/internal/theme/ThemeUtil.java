@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,7 +23,6 @@ import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
-import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -85,11 +84,6 @@ public final class ThemeUtil {
     return getApplicationContext().getThemeManager().getTheme( getCurrentThemeId() );
   }
 
-  private static Theme getFallbackTheme() {
-    ThemeManager themeManager = getApplicationContext().getThemeManager();
-    return themeManager.getTheme( ThemeManager.FALLBACK_THEME_ID );
-  }
-
   static StyleSheet readDefaultThemeStyleSheet() {
     StyleSheet result;
     try {
@@ -143,18 +137,9 @@ public final class ThemeUtil {
                                       ValueSelector selector,
                                       Widget widget )
   {
-    Theme theme =  getApplicationContext().getThemeManager().getTheme( themeId );
-    CssValuesMap valuesMap = theme.getValuesMap();
-    ConditionalValue[] values = valuesMap.getValues( cssElement, cssProperty );
-    CssValue result = selector.select( widget, values );
-    if( result == null ) {
-      // resort to fallback theme
-      theme = getFallbackTheme();
-      valuesMap = theme.getValuesMap();
-      values = valuesMap.getValues( cssElement, cssProperty );
-      result = selector.select( widget, values );
-    }
-    return result;
+    Theme theme = getApplicationContext().getThemeManager().getTheme( themeId );
+    // the values of the fallback theme are already included
+    return selector.select( widget, theme.getValues( cssElement, cssProperty ) );
   }
 
   private ThemeUtil() {
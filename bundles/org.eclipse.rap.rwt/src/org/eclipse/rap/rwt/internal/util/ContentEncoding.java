@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_DEFLATE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+
+/**
+ * Negotiates and applies the HTTP content encodings <code>gzip</code> and
+ * <code>deflate</code>. Deflaters are pooled, as they hold native memory that is
+ * expensive to allocate for every response.
+ */
+public final class ContentEncoding {
+
+  public static final int MIN_COMPRESSION_SIZE = 1024;
+
+  private static final int MAX_POOL_SIZE = 16;
+  private static final byte[] GZIP_HEADER
+    = { 0x1f, ( byte )0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, ( byte )0xff };
+
+  private static final DeflaterPool GZIP_DEFLATERS = new DeflaterPool( true );
+  private static final DeflaterPool DEFLATE_DEFLATERS = new DeflaterPool( false );
+
+  /**
+   * Returns the preferred encoding accepted by the client, either <code>gzip</code> or
+   * <code>deflate</code>, or <code>null</code> if the content should not be encoded. The
+   * encoding with the higher quality value is preferred, <code>gzip</code> on equal values. An
+   * encoding that is listed explicitly is not affected by the quality value of <code>*</code>.
+   */
+  public static String getAcceptedEncoding( HttpServletRequest request ) {
+    String header = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( header == null ) {
+      return null;
+    }
+    float gzip = -1;
+    float deflate = -1;
+    float any = -1;
+    for( String element : header.split( "," ) ) {
+      String[] parts = element.split( ";" );
+      String encoding = parts[ 0 ].trim().toLowerCase( Locale.ENGLISH );
+      float quality = getQuality( parts );
+      if( ENCODING_GZIP.equals( encoding ) || "x-gzip".equals( encoding ) ) {
+        gzip = Math.max( gzip, quality );
+      } else if( ENCODING_DEFLATE.equals( encoding ) ) {
+        deflate = Math.max( deflate, quality );
+      } else if( "*".equals( encoding ) ) {
+        any = Math.max( any, quality );
+      }
+    }
+    gzip = gzip == -1 ? any : gzip;
+    deflate = deflate == -1 ? any : deflate;
+    if( gzip > 0 && gzip >= deflate ) {
+      return ENCODING_GZIP;
+    }
+    return deflate > 0 ? ENCODING_DEFLATE : null;
+  }
+
+  public static byte[] encode( byte[] content, String encoding ) {
+    if( ENCODING_GZIP.equals( encoding ) ) {
+      return gzip( content );
+    }
+    if( ENCODING_DEFLATE.equals( encoding ) ) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 );
+      DEFLATE_DEFLATERS.deflate( content, result );
+      return result.toByteArray();
+    }
+    throw new IllegalArgumentException( "Unsupported content encoding: " + encoding );
+  }
+
+  /**
+   * Returns a stream that encodes everything written to it and passes the result on to the given
+   * output. The encoded content is completed when the returned stream is closed, which does not
+   * close the given output.
+   */
+  public static OutputStream createOutputStream( OutputStream output, String encoding )
+    throws IOException
+  {
+    if( ENCODING_GZIP.equals( encoding ) ) {
+      return new EncodingOutputStream( output, GZIP_DEFLATERS, true );
+    }
+    if( ENCODING_DEFLATE.equals( encoding ) ) {
+      return new EncodingOutputStream( output, DEFLATE_DEFLATERS, false );
+    }
+    throw new IllegalArgumentException( "Unsupported content encoding: " + encoding );
+  }
+
+  private static byte[] gzip( byte[] content ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 );
+    result.write( GZIP_HEADER, 0, GZIP_HEADER.length );
+    GZIP_DEFLATERS.deflate( content, result );
+    CRC32 crc = new CRC32();
+    crc.update( content, 0, content.length );
+    writeIntLE( result, ( int )crc.getValue() );
+    writeIntLE( result, content.length );
+    return result.toByteArray();
+  }
+
+  private static float getQuality( String[] parts ) {
+    for( int i = 1; i < parts.length; i++ ) {
+      String parameter = parts[ i ].trim();
+      if( parameter.startsWith( "q=" ) ) {
+        try {
+          return Float.parseFloat( parameter.substring( 2 ).trim() );
+        } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+          return 1;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private static void writeIntLE( ByteArrayOutputStream output, int value ) {
+    output.write( value );
+    output.write( value >> 8 );
+    output.write( value >> 16 );
+    output.write( value >> 24 );
+  }
+
+  private static void writeIntLE( OutputStream output, int value ) throws IOException {
+    output.write( value );
+    output.write( value >> 8 );
+    output.write( value >> 16 );
+    output.write( value >> 24 );
+  }
+
+  private ContentEncoding() {
+    // prevent instantiation
+  }
+
+  private static final class DeflaterPool {
+
+    private final boolean nowrap;
+    private final Queue<Deflater> deflaters;
+    private final AtomicInteger size;
+
+    DeflaterPool( boolean nowrap ) {
+      this.nowrap = nowrap;
+      deflaters = new ConcurrentLinkedQueue<>();
+      size = new AtomicInteger();
+    }
+
+    void deflate( byte[] content, ByteArrayOutputStream result ) {
+      Deflater deflater = acquire();
+      try {
+        deflater.setInput( content );
+        deflater.finish();
+        byte[] buffer = new byte[ 8192 ];
+        while( !deflater.finished() ) {
+          int count = deflater.deflate( buffer );
+          result.write( buffer, 0, count );
+        }
+      } finally {
+        release( deflater );
+      }
+    }
+
+    Deflater acquire() {
+      Deflater result = deflaters.poll();
+      if( result == null ) {
+        result = new Deflater( Deflater.DEFAULT_COMPRESSION, nowrap );
+      } else {
+        size.decrementAndGet();
+      }
+      return result;
+    }
+
+    void release( Deflater deflater ) {
+      if( size.incrementAndGet() <= MAX_POOL_SIZE ) {
+        deflater.reset();
+        deflaters.offer( deflater );
+      } else {
+        size.decrementAndGet();
+        deflater.end();
+      }
+    }
+
+  }
+
+  private static final class EncodingOutputStream extends DeflaterOutputStream {
+
+    private final DeflaterPool pool;
+    private final CRC32 crc;
+    private boolean closed;
+
+    EncodingOutputStream( OutputStream output, DeflaterPool pool, boolean gzip )
+      throws IOException
+    {
+      super( output, pool.acquire(), 8192 );
+      this.pool = pool;
+      crc = gzip ? new CRC32() : null;
+      if( gzip ) {
+        try {
+          output.write( GZIP_HEADER );
+        } catch( IOException exception ) {
+          release();
+          throw exception;
+        }
+      }
+    }
+
+    @Override
+    public void write( byte[] buffer, int offset, int length ) throws IOException {
+      if( closed ) {
+        throw new IOException( "Stream closed" );
+      }
+      // callers do not necessarily close the stream after a failed write
+      try {
+        super.write( buffer, offset, length );
+      } catch( IOException | RuntimeException exception ) {
+        release();
+        throw exception;
+      }
+      if( crc != null ) {
+        crc.update( buffer, offset, length );
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if( !closed ) {
+        try {
+          finish();
+          if( crc != null ) {
+            writeIntLE( out, ( int )crc.getValue() );
+            writeIntLE( out, ( int )def.getBytesRead() );
+          }
+          out.flush();
+        } finally {
+          release();
+        }
+      }
+    }
+
+    private void release() {
+      if( !closed ) {
+        closed = true;
+        pool.release( def );
+      }
+    }
+
+  }
+
+}
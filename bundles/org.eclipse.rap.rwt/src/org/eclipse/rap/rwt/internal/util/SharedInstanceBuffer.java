@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,69 +11,424 @@
 package org.eclipse.rap.rwt.internal.util;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 
+/**
+ * A thread-safe buffer for instances that are shared across sessions. Lookups of existing
+ * instances do not lock. Missing instances are created at most once per key, callers that
+ * request a different key are not blocked by a creation in progress.
+ * <p>
+ * Optionally, the buffer can be bounded by a maximum size or weight. If the bound is exceeded,
+ * the least recently used instances are evicted. The access order is only updated if it is not
+ * locked by another thread, hence lookups do not wait for each other and the order is
+ * approximate under contention.
+ * </p>
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
-  private final Lock readLock;
-  private final Lock writeLock;
-  private final Map<K, I> store;
+  private static final long UNBOUNDED = -1;
+
+  private final ConcurrentMap<Object, Entry<I>> store;
+  private final long maximumWeight;
+  private final Weigher<? super K, ? super I> weigher;
+  private final EvictionListener<? super K, ? super I> evictionListener;
+  private final ReentrantLock evictionLock;
+  // guarded by evictionLock, contains the instances of a bounded buffer in access order
+  private final LinkedHashMap<Object, Entry<I>> accessOrder;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private final LongAdder creationTime;
+  private long totalWeight;
 
   public SharedInstanceBuffer() {
-    ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    readLock = readWriteLock.readLock();
-    writeLock = readWriteLock.writeLock();
-    store = new HashMap<>();
+    this( null, UNBOUNDED, null );
+  }
+
+  public SharedInstanceBuffer( long maximumSize ) {
+    this( UnitWeigher.INSTANCE, checkBound( maximumSize ), null );
+  }
+
+  public SharedInstanceBuffer( long maximumWeight, Weigher<? super K, ? super I> weigher ) {
+    this( checkWeigher( weigher ), checkBound( maximumWeight ), null );
+  }
+
+  /**
+   * Creates a bounded buffer that notifies the given listener about every evicted instance,
+   * e.g. to release resources that are held by the instance.
+   */
+  public SharedInstanceBuffer( long maximumWeight,
+                               Weigher<? super K, ? super I> weigher,
+                               EvictionListener<? super K, ? super I> evictionListener )
+  {
+    this( checkWeigher( weigher ), checkBound( maximumWeight ), checkListener( evictionListener ) );
+  }
+
+  private SharedInstanceBuffer( Weigher<? super K, ? super I> weigher,
+                                long maximumWeight,
+                                EvictionListener<? super K, ? super I> evictionListener )
+  {
+    this.weigher = weigher;
+    this.maximumWeight = maximumWeight;
+    this.evictionListener = evictionListener;
+    store = new ConcurrentHashMap<>();
+    evictionLock = new ReentrantLock();
+    accessOrder = isBounded() ? new LinkedHashMap<Object, Entry<I>>( 16, 0.75f, true ) : null;
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
+    creationTime = new LongAdder();
   }
 
   public I get( K key, InstanceCreator<K, I> instanceCreator ) {
-    I result = getInstance( key );
-    if( result == null ) {
-      result = createInstance( key, instanceCreator );
+    ParamCheck.notNull( instanceCreator, "instanceCreator" );
+    Object storeKey = maskNull( key );
+    while( true ) {
+      Entry<I> entry = getEntry( storeKey );
+      I result = entry.instance;
+      if( result != null ) {
+        hitCount.increment();
+        touch( storeKey );
+        return result;
+      }
+      synchronized( entry ) {
+        // the entry may have been removed while waiting for a concurrent creation to fail
+        if( !entry.removed ) {
+          return getOrCreateInstance( storeKey, key, entry, instanceCreator );
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the instance for the given key if it has already been created, otherwise
+   * <code>null</code>. Only hits are counted, a miss is counted when the instance is created.
+   */
+  public I getIfPresent( K key ) {
+    Object storeKey = maskNull( key );
+    Entry<I> entry = store.get( storeKey );
+    I result = entry == null ? null : entry.instance;
+    if( result != null ) {
+      hitCount.increment();
+      touch( storeKey );
     }
     return result;
   }
 
   public I remove( K key ) {
-    writeLock.lock();
-    try {
-      return store.remove( key );
-    } finally {
-      writeLock.unlock();
+    Object storeKey = maskNull( key );
+    Entry<I> entry = store.remove( storeKey );
+    if( entry == null ) {
+      return null;
+    }
+    // wait for a creation in progress to complete
+    synchronized( entry ) {
+      entry.removed = true;
     }
+    release( storeKey, entry );
+    return entry.instance;
   }
 
-  private I getInstance( K key ) {
-    readLock.lock();
-    try {
-      return store.get( key );
-    } finally {
-      readLock.unlock();
+  public Statistics getStatistics() {
+    long weight = 0;
+    if( isBounded() ) {
+      evictionLock.lock();
+      try {
+        weight = totalWeight;
+      } finally {
+        evictionLock.unlock();
+      }
     }
+    return new Statistics( hitCount.sum(),
+                           missCount.sum(),
+                           evictionCount.sum(),
+                           creationTime.sum(),
+                           store.size(),
+                           weight );
   }
 
-  private I createInstance( K key, InstanceCreator<K, I> instanceCreator ) {
-    writeLock.lock();
-    try {
-      // Re-check because another thread might have acquired write lock and created an instance
-      // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
+  private Entry<I> getEntry( Object storeKey ) {
+    Entry<I> result = store.get( storeKey );
+    if( result == null ) {
+      Entry<I> entry = new Entry<>();
+      result = store.putIfAbsent( storeKey, entry );
       if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
+        result = entry;
       }
+    }
+    return result;
+  }
+
+  private I getOrCreateInstance( Object storeKey,
+                                 K key,
+                                 Entry<I> entry,
+                                 InstanceCreator<K, I> instanceCreator )
+  {
+    I result = entry.instance;
+    if( result != null ) {
+      hitCount.increment();
+      touch( storeKey );
       return result;
+    }
+    missCount.increment();
+    long start = System.nanoTime();
+    try {
+      result = instanceCreator.createInstance( key );
+    } catch( RuntimeException | Error exception ) {
+      discard( storeKey, entry );
+      throw exception;
     } finally {
-      writeLock.unlock();
+      creationTime.add( System.nanoTime() - start );
+    }
+    if( result == null ) {
+      discard( storeKey, entry );
+    } else {
+      add( storeKey, entry, key, result );
+    }
+    return result;
+  }
+
+  private void add( Object storeKey, Entry<I> entry, K key, I instance ) {
+    if( isBounded() ) {
+      int weight = weigher.weigh( key, instance );
+      if( weight > maximumWeight ) {
+        // would evict all other instances, hence it is not buffered at all
+        discard( storeKey, entry );
+        return;
+      }
+      List<Map.Entry<Object, Entry<I>>> evicted;
+      evictionLock.lock();
+      try {
+        entry.weight = weight;
+        entry.instance = instance;
+        totalWeight += weight;
+        accessOrder.put( storeKey, entry );
+        evicted = evictIfNecessary();
+      } finally {
+        evictionLock.unlock();
+      }
+      // listeners are notified without holding the lock
+      notifyEvicted( evicted );
+    } else {
+      entry.instance = instance;
     }
   }
 
+  private void discard( Object storeKey, Entry<I> entry ) {
+    entry.removed = true;
+    store.remove( storeKey, entry );
+  }
+
+  private void release( Object storeKey, Entry<I> entry ) {
+    if( isBounded() ) {
+      evictionLock.lock();
+      try {
+        accessOrder.remove( storeKey, entry );
+        totalWeight -= entry.weight;
+        entry.weight = 0;
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private List<Map.Entry<Object, Entry<I>>> evictIfNecessary() {
+    List<Map.Entry<Object, Entry<I>>> result = null;
+    Iterator<Map.Entry<Object, Entry<I>>> iterator = accessOrder.entrySet().iterator();
+    while( totalWeight > maximumWeight && iterator.hasNext() ) {
+      Map.Entry<Object, Entry<I>> mapEntry = iterator.next();
+      iterator.remove();
+      Entry<I> entry = mapEntry.getValue();
+      // an entry that is not in the store anymore is released by the remove in progress
+      if( store.remove( mapEntry.getKey(), entry ) ) {
+        entry.removed = true;
+        totalWeight -= entry.weight;
+        entry.weight = 0;
+        evictionCount.increment();
+        if( evictionListener != null ) {
+          if( result == null ) {
+            result = new ArrayList<>();
+          }
+          result.add( mapEntry );
+        }
+      }
+    }
+    return result;
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private void notifyEvicted( List<Map.Entry<Object, Entry<I>>> evicted ) {
+    if( evicted != null ) {
+      for( Map.Entry<Object, Entry<I>> mapEntry : evicted ) {
+        K key = ( K )unmaskNull( mapEntry.getKey() );
+        evictionListener.evicted( key, mapEntry.getValue().instance );
+      }
+    }
+  }
+
+  private void touch( Object storeKey ) {
+    if( isBounded() && evictionLock.tryLock() ) {
+      try {
+        // moves the entry to the end of the access order
+        accessOrder.get( storeKey );
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private boolean isBounded() {
+    return maximumWeight != UNBOUNDED;
+  }
+
+  private static Object maskNull( Object key ) {
+    return key == null ? NullKey.INSTANCE : key;
+  }
+
+  private static Object unmaskNull( Object storeKey ) {
+    return storeKey == NullKey.INSTANCE ? null : storeKey;
+  }
+
+  private static <W> W checkWeigher( W weigher ) {
+    ParamCheck.notNull( weigher, "weigher" );
+    return weigher;
+  }
+
+  private static <L> L checkListener( L listener ) {
+    ParamCheck.notNull( listener, "evictionListener" );
+    return listener;
+  }
+
+  private static long checkBound( long bound ) {
+    if( bound <= 0 ) {
+      throw new IllegalArgumentException( "Bound must be positive: " + bound );
+    }
+    return bound;
+  }
+
   public interface InstanceCreator<K, T> extends Serializable {
     T createInstance( K key );
   }
 
+  public interface Weigher<K, T> extends Serializable {
+    int weigh( K key, T instance );
+  }
+
+  public interface EvictionListener<K, T> extends Serializable {
+    void evicted( K key, T instance );
+  }
+
+  /**
+   * A snapshot of the usage statistics of a buffer.
+   */
+  public static final class Statistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long totalCreationTime;
+    private final int size;
+    private final long weight;
+
+    Statistics( long hitCount,
+                long missCount,
+                long evictionCount,
+                long totalCreationTime,
+                int size,
+                long weight )
+    {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+      this.totalCreationTime = totalCreationTime;
+      this.size = size;
+      this.weight = weight;
+    }
+
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that created an instance. A creation that failed is
+     * also counted.
+     */
+    public long getMissCount() {
+      return missCount;
+    }
+
+    public double getHitRate() {
+      long requestCount = hitCount + missCount;
+      return requestCount == 0 ? 1.0 : ( double )hitCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+      return evictionCount;
+    }
+
+    /**
+     * Returns the total time spent in creating instances, in nanoseconds.
+     */
+    public long getTotalCreationTime() {
+      return totalCreationTime;
+    }
+
+    public long getAverageCreationTime() {
+      return missCount == 0 ? 0 : totalCreationTime / missCount;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Returns the total weight of the buffered instances, or zero for an unbounded buffer.
+     */
+    public long getWeight() {
+      return weight;
+    }
+
+    @Override
+    public String toString() {
+      return "Statistics{hits=" + hitCount
+           + ", misses=" + missCount
+           + ", evictions=" + evictionCount
+           + ", creationTime=" + totalCreationTime
+           + ", size=" + size
+           + ", weight=" + weight
+           + "}";
+    }
+
+  }
+
+  private static final class Entry<I> implements Serializable {
+
+    volatile I instance;
+    volatile boolean removed;
+    int weight;
+
+  }
+
+  private static enum NullKey {
+    INSTANCE
+  }
+
+  private static enum UnitWeigher implements Weigher<Object, Object> {
+    INSTANCE;
+
+    @Override
+    public int weigh( Object key, Object instance ) {
+      return 1;
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -64,7 +64,7 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
     return directory;
   }
 
-  private static File selectWorkingDir() {
+  static File selectWorkingDir() {
     File directory = getDirectoryFromServletContext();
     if( directory == null ) {
       directory = getDirectoryFromServletContextTempDir();
@@ -75,7 +75,7 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
     return directory;
   }
 
-  private static void createDirectory( File directory ) {
+  static void createDirectory( File directory ) {
     if( !directory.mkdirs() ) {
       if( !directory.isDirectory() ) {
         String message = "Could not create directory: " + directory.getAbsolutePath();
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.WriteBehindSettingStore;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * A setting store factory that creates setting stores which persist their settings on the file
+ * system asynchronously.
+ * <p>
+ * Unlike the stores created by the {@link FileSettingStoreFactory}, these stores do not write the
+ * settings on every change. Changes are collected in memory and written in the background shortly
+ * after, as well as when the UI session ends. Hence a series of changes results in a single write.
+ * Files are replaced by an atomic rename, so that a crash never leaves an incomplete file behind.
+ * </p>
+ * <p>
+ * By default, the settings are stored in Java properties files in the same directory and format
+ * as with the {@link FileSettingStoreFactory}. For stores with many settings, an append-only log
+ * format can be used instead, which only writes the changed settings. The log is compacted
+ * automatically once it contains too many outdated entries.
+ * </p>
+ *
+ * @see FileSettingStoreFactory
+ * @since 3.16
+ */
+public final class WriteBehindSettingStoreFactory implements SettingStoreFactory {
+
+  private final boolean appendOnlyLog;
+  private File directory;
+
+  /**
+   * Creates a factory for setting stores that use Java properties files.
+   */
+  public WriteBehindSettingStoreFactory() {
+    this( false );
+  }
+
+  /**
+   * Creates a factory for setting stores that use Java properties files or an append-only log.
+   *
+   * @param appendOnlyLog <code>true</code> to store the settings in an append-only log
+   */
+  public WriteBehindSettingStoreFactory( boolean appendOnlyLog ) {
+    this.appendOnlyLog = appendOnlyLog;
+  }
+
+  @Override
+  public SettingStore createSettingStore( String id ) {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    ApplicationScheduler scheduler = ContextProvider.getApplicationContext().getIOScheduler();
+    long flushDelay = WriteBehindSettingStore.DEFAULT_FLUSH_DELAY;
+    WriteBehindSettingStore store
+      = new WriteBehindSettingStore( getWorkingDir(), appendOnlyLog, scheduler, flushDelay );
+    try {
+      store.loadById( id );
+    } catch( IOException sse ) {
+      ServletLog.log( sse.getMessage(), sse );
+    }
+    UISession uiSession = ContextProvider.getUISession();
+    if( uiSession != null ) {
+      uiSession.addUISessionListener( new FlushOnDestroyListener( id ) );
+    }
+    return store;
+  }
+
+  private File getWorkingDir() {
+    if( directory == null ) {
+      directory = FileSettingStoreFactory.selectWorkingDir();
+      FileSettingStoreFactory.createDirectory( directory );
+    }
+    return directory;
+  }
+
+  /*
+   * Looks up the store by its id, which is also the name of the UI session attribute that holds
+   * it, see SettingStoreManager. Hence the listener can be serialized with the UI session.
+   */
+  private static final class FlushOnDestroyListener implements UISessionListener {
+
+    private final String storeId;
+
+    FlushOnDestroyListener( String storeId ) {
+      this.storeId = storeId;
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      Object store = event.getUISession().getAttribute( storeId );
+      if( store instanceof WriteBehindSettingStore ) {
+        try {
+          ( ( WriteBehindSettingStore )store ).flush();
+        } catch( IOException exception ) {
+          ServletLog.log( "Failed to write setting store: " + storeId, exception );
+        }
+      }
+    }
+
+  }
+
+}
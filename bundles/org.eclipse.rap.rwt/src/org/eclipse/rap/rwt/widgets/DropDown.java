@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.rwt.widgets;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -155,6 +156,7 @@ public class DropDown extends Widget {
    */
   public void setItems( String[] items ) {
     checkWidget();
+    markChanged( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -205,6 +207,7 @@ public class DropDown extends Widget {
    */
   public void setSelectionIndex( int selection ) {
     checkWidget();
+    markChanged( this );
     if( selectionIndex != selection && selection >= -1 && selection < items.size() ) {
       setSelectionIndexImpl( selection );
       remoteObject.set( "selectionIndex", selection );
@@ -239,6 +242,7 @@ public class DropDown extends Widget {
    */
   public void setVisibleItemCount( int itemCount ) {
     checkWidget();
+    markChanged( this );
     if( visibleItemCount != itemCount ) {
       visibleItemCount = itemCount;
       remoteObject.set( "visibleItemCount", itemCount );
@@ -273,6 +277,7 @@ public class DropDown extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markChanged( this );
     if( visibility != visible ) {
       setVisibleImpl( visible );
       remoteObject.set( "visible", visible );
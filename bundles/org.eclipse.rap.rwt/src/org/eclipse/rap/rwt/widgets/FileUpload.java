@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.widgets;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -115,6 +117,7 @@ public class FileUpload extends Canvas {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     checkWidget();
+    markChanged( this );
     this.text = text;
   }
 
@@ -150,6 +153,7 @@ public class FileUpload extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -225,6 +229,7 @@ public class FileUpload extends Canvas {
    */
   public void setFilterExtensions( String[] extensions ) {
     checkWidget();
+    markChanged( this );
     if( extensions == null ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -268,6 +273,7 @@ public class FileUpload extends Canvas {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     checkWidget();
+    markChanged( this );
     if( fileNames.length > 0 ) {
       this.url  = url;
     }
@@ -299,6 +305,7 @@ public class FileUpload extends Canvas {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -327,6 +334,7 @@ public class FileUpload extends Canvas {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -380,6 +388,7 @@ public class FileUpload extends Canvas {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     // prevent setting a layout
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.swt.browser;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -137,6 +138,7 @@ public class Browser extends Composite {
    */
   public boolean setUrl( String url ) {
     checkWidget();
+    markChanged( this );
     if( url == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -193,6 +195,7 @@ public class Browser extends Composite {
    */
   public boolean setText( String html ) {
     checkWidget();
+    markChanged( this );
     if( html == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -252,6 +255,7 @@ public class Browser extends Composite {
   public boolean execute( String script ) {
     checkOperationMode();
     checkWidget();
+    markChanged( this );
     if( script == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -397,6 +401,7 @@ public class Browser extends Composite {
    */
   public void addLocationListener( LocationListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -422,6 +427,7 @@ public class Browser extends Composite {
    */
   public void removeLocationListener( LocationListener listener ) {
     checkWidget();
+    markChanged( this );
     removeListener( EventTypes.LOCALTION_CHANGED, listener );
     removeListener( EventTypes.LOCALTION_CHANGING, listener );
   }
@@ -446,6 +452,7 @@ public class Browser extends Composite {
    */
   public void addProgressListener( ProgressListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -474,6 +481,7 @@ public class Browser extends Composite {
    */
   public void removeProgressListener( ProgressListener listener ) {
     checkWidget();
+    markChanged( this );
     removeListener( EventTypes.PROGRESS_CHANGED, listener );
     removeListener( EventTypes.PROGRESS_COMPLETED, listener );
   }
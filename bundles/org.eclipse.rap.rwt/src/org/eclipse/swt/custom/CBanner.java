@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.ControlAdapter;
@@ -373,6 +375,7 @@ public class CBanner extends Composite {
    */
   public void setBottom( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -402,6 +405,7 @@ public class CBanner extends Composite {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     return;
   }
 
@@ -423,6 +427,7 @@ public class CBanner extends Composite {
    */
   public void setLeft( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -452,6 +457,7 @@ public class CBanner extends Composite {
    */
   public void setRight( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -479,6 +485,7 @@ public class CBanner extends Composite {
    */
   public void setRightMinimumSize( Point size ) {
     checkWidget();
+    markChanged( this );
     if( size == null || size.x < SWT.DEFAULT || size.y < SWT.DEFAULT )
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     rightMinWidth = size.x;
@@ -501,6 +508,7 @@ public class CBanner extends Composite {
    */
   public void setRightWidth( int width ) {
     checkWidget();
+    markChanged( this );
     if( width < SWT.DEFAULT )
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     rightWidth = width;
@@ -521,6 +529,7 @@ public class CBanner extends Composite {
    */
   public void setSimple( boolean simple ) {
     checkWidget();
+    markChanged( this );
     if( this.simple != simple ) {
       this.simple = simple;
       if( simple ) {
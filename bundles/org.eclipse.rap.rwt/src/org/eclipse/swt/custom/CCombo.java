@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -167,6 +169,7 @@ public class CCombo extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    markChanged( this );
     if( -1 <= index && index < getItemCount() ) {
       model.setSelection( index );
       updateText();
@@ -187,6 +190,7 @@ public class CCombo extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    markChanged( this );
     if( index == model.getSelectionIndex() ) {
       model.setSelection( -1 );
       updateText();
@@ -209,6 +213,7 @@ public class CCombo extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    markChanged( this );
     model.deselectAll();
     updateText();
   }
@@ -231,6 +236,7 @@ public class CCombo extends Composite {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    markChanged( this );
     if( selection == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -284,6 +290,7 @@ public class CCombo extends Composite {
    */
   public void setTextLimit( int limit ) {
     checkWidget();
+    markChanged( this );
     if( limit == 0 ) {
       SWT.error ( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -350,6 +357,7 @@ public class CCombo extends Composite {
    */
   public void clearSelection() {
     checkWidget();
+    markChanged( this );
     resetSelection();
   }
 
@@ -370,6 +378,7 @@ public class CCombo extends Composite {
    */
   public void add( String string ) {
     checkWidget();
+    markChanged( this );
     model.add( string );
   }
 
@@ -398,6 +407,7 @@ public class CCombo extends Composite {
    */
   public void add( String string, int index) {
     checkWidget();
+    markChanged( this );
     model.add( string, index );
   }
 
@@ -417,6 +427,7 @@ public class CCombo extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    markChanged( this );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == index ) {
       deselect( index );
@@ -442,6 +453,7 @@ public class CCombo extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    markChanged( this );
     int selectionIndex = getSelectionIndex();
     String[] items = model.getItems();
     for( int i = start; i <= end; i++ ) {
@@ -471,6 +483,7 @@ public class CCombo extends Composite {
    */
   public void remove( String string ) {
     checkWidget();
+    markChanged( this );
     int indexOfThisString = indexOf( string );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == indexOfThisString ) {
@@ -490,6 +503,7 @@ public class CCombo extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    markChanged( this );
     deselectAll();
     model.removeAll();
   }
@@ -514,6 +528,7 @@ public class CCombo extends Composite {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    markChanged( this );
     model.setItem( index, string );
   }
 
@@ -533,6 +548,7 @@ public class CCombo extends Composite {
    */
   public void setItems( String... items ) {
     checkWidget();
+    markChanged( this );
     model.setItems( items );
   }
 
@@ -624,6 +640,7 @@ public class CCombo extends Composite {
    */
   public void setVisibleItemCount( int count ) {
     checkWidget();
+    markChanged( this );
     if( count >= 0 ) {
       visibleCount = count;
     }
@@ -665,6 +682,7 @@ public class CCombo extends Composite {
    */
   public void setListVisible( boolean visible ) {
     checkWidget();
+    markChanged( this );
     dropped = visible;
   }
 
@@ -763,6 +781,7 @@ public class CCombo extends Composite {
    */
   public void setText( String string ) {
     checkWidget();
+    markChanged( this );
     if( string == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -801,6 +820,7 @@ public class CCombo extends Composite {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    markChanged( this );
     this.editable = editable;
   }
 
@@ -888,6 +908,7 @@ public class CCombo extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -915,6 +936,7 @@ public class CCombo extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -943,6 +965,7 @@ public class CCombo extends Composite {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -969,6 +992,7 @@ public class CCombo extends Composite {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -997,6 +1021,7 @@ public class CCombo extends Composite {
    */
   public void addVerifyListener( VerifyListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1024,6 +1049,7 @@ public class CCombo extends Composite {
    */
   public void removeVerifyListener( VerifyListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1054,6 +1080,7 @@ public class CCombo extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     return;
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.swt.custom;
 
 import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.textExtent;
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.checkMarkupPrecondition;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
@@ -279,6 +280,7 @@ public class CLabel extends Canvas {
    */
   public void setAlignment( int align ) {
     checkWidget();
+    markChanged( this );
     if ( align != SWT.LEFT && align != SWT.RIGHT && align != SWT.CENTER ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -319,6 +321,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Image image ) {
     checkWidget();
+    markChanged( this );
     if( image != backgroundImage ) {
       backgroundImage = image;
       if( image != null ) {
@@ -390,6 +393,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    markChanged( this );
     if( colors != null ) {
       if( percents == null || percents.length != colors.length - 1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -443,6 +447,7 @@ public class CLabel extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    markChanged( this );
     if ( image != this.image ) {
       this.image = image;
     }
@@ -461,6 +466,7 @@ public class CLabel extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    markChanged( this );
     if( text == null ) {
       this.text = "";
     } else if( !text.equals( this.text ) ) {
@@ -552,6 +558,7 @@ public class CLabel extends Canvas {
    */
   public void setMargins( int leftMargin, int topMargin, int rightMargin, int bottomMargin ) {
     checkWidget();
+    markChanged( this );
     this.leftMargin = Math.max( 0, leftMargin );
     this.topMargin = Math.max( 0, topMargin );
     this.rightMargin = Math.max( 0, rightMargin );
@@ -572,6 +579,7 @@ public class CLabel extends Canvas {
    */
   public void setLeftMargin( int leftMargin ) {
     checkWidget();
+    markChanged( this );
     if( leftMargin >= 0 ) {
       this.leftMargin = leftMargin;
     }
@@ -603,6 +611,7 @@ public class CLabel extends Canvas {
    */
   public void setTopMargin( int topMargin ) {
     checkWidget();
+    markChanged( this );
     if( topMargin >= 0 ) {
       this.topMargin = topMargin;
     }
@@ -634,6 +643,7 @@ public class CLabel extends Canvas {
    */
   public void setRightMargin( int rightMargin ) {
     checkWidget();
+    markChanged( this );
     if( rightMargin >= 0 ) {
       this.rightMargin = rightMargin;
     }
@@ -665,6 +675,7 @@ public class CLabel extends Canvas {
    */
   public void setBottomMargin( int bottomMargin ) {
     checkWidget();
+    markChanged( this );
     if( bottomMargin >= 0 ) {
       this.bottomMargin = bottomMargin;
     }
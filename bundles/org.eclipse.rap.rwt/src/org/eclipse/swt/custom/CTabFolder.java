@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -342,6 +344,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    markChanged( this );
     if( index >= 0 && index <= itemHolder.size() - 1 ) {
       if( selectedIndex != index ) {
         int oldSelectionIndex = selectedIndex;
@@ -397,6 +400,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( CTabItem item ) {
     checkWidget();
+    markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -437,6 +441,7 @@ public class CTabFolder extends Composite {
    */
   public void showSelection () {
     checkWidget();
+    markChanged( this );
     if( selectedIndex != -1 ) {
       showItem( getSelection() );
     }
@@ -462,6 +467,7 @@ public class CTabFolder extends Composite {
    */
   public void showItem( CTabItem item ) {
     checkWidget();
+    markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -524,6 +530,7 @@ public class CTabFolder extends Composite {
    */
   public void setMRUVisible( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( mru != show ) {
       mru = show;
       if( !mru ) {
@@ -589,6 +596,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximizeVisible( boolean maximizeVisible ) {
     checkWidget();
+    markChanged( this );
     if( showMax != maximizeVisible ) {
       showMax = maximizeVisible;
       updateItems();
@@ -624,6 +632,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimizeVisible( boolean minimizeVisible ) {
     checkWidget();
+    markChanged( this );
     if( showMin != minimizeVisible ) {
       showMin = minimizeVisible;
       updateItems();
@@ -659,6 +668,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    markChanged( this );
     if( this.minimized != minimized ) {
       if( minimized && maximized ) {
         setMaximized( false );
@@ -694,6 +704,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    markChanged( this );
     if( this.maximized != maximized ) {
       if( maximized && minimized ) {
         setMinimized( false );
@@ -739,6 +750,7 @@ public class CTabFolder extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     // ignore - CTabFolder manages its own layout
   }
 
@@ -757,6 +769,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabHeight( int height ) {
     checkWidget();
+    markChanged( this );
     if( height < -1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -810,6 +823,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimumCharacters( int minimumCharacters ) {
     checkWidget();
+    markChanged( this );
     if( minimumCharacters < 0 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -856,6 +870,7 @@ public class CTabFolder extends Composite {
    */
   public void setSingle( boolean single ) {
     checkWidget();
+    markChanged( this );
     if( this.single != single ) {
       this.single = single;
       updateItemsWithResizeEvent();
@@ -891,6 +906,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabPosition( int position ) {
     checkWidget();
+    markChanged( this );
     if( position != SWT.TOP && position != SWT.BOTTOM ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -930,6 +946,7 @@ public class CTabFolder extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( ( borderLeft != 1 ) != !show ) {
       borderLeft = borderRight = show ? 1 : 0;
       borderTop = onBottom ? borderLeft : 0;
@@ -965,6 +982,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedImageVisible( boolean visible ) {
     checkWidget();
+    markChanged( this );
     if( showUnselectedImage != visible ) {
       showUnselectedImage = visible;
       updateItems();
@@ -995,6 +1013,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedCloseVisible( boolean visible ) {
     checkWidget();
+    markChanged( this );
     if( showUnselectedClose != visible ) {
       showUnselectedClose = visible;
       updateItems();
@@ -1053,6 +1072,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color color ) {
     checkWidget();
+    markChanged( this );
     if( null != color && color.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1144,6 +1164,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    markChanged( this );
     if( colors != null ) {
       for( int i = 0; i < colors.length; i++ ) {
         if( colors[ i ] != null && colors[ i ].isDisposed() ) {
@@ -1207,6 +1228,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Image image ) {
     checkWidget();
+    markChanged( this );
     selectionBgImage = image;
   }
 
@@ -1222,6 +1244,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionForeground( Color color ) {
     checkWidget();
+    markChanged( this );
     selectionForeground = color;
   }
 
@@ -1268,6 +1291,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control ) {
     checkWidget();
+    markChanged( this );
     setTopRight( control, SWT.RIGHT );
   }
 
@@ -1295,6 +1319,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control, int alignment ) {
     checkWidget();
+    markChanged( this );
     if( alignment != SWT.RIGHT && alignment != SWT.FILL ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1371,6 +1396,7 @@ public class CTabFolder extends Composite {
   @Override
   public void setFont( Font font ) {
     checkWidget();
+    markChanged( this );
     if( font != getFont() ) {
       super.setFont( font );
       if( !updateTabHeight( false ) ) {
@@ -1432,6 +1458,7 @@ public class CTabFolder extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1456,6 +1483,7 @@ public class CTabFolder extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1486,6 +1514,7 @@ public class CTabFolder extends Composite {
    */
   public void addCTabFolder2Listener( CTabFolder2Listener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1515,6 +1544,7 @@ public class CTabFolder extends Composite {
    */
   public void removeCTabFolder2Listener( CTabFolder2Listener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
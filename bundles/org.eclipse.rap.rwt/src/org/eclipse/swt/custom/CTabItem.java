@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.checkMarkupPrecondition;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TOOLTIP;
@@ -177,6 +178,7 @@ public class CTabItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -191,6 +193,7 @@ public class CTabItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markChanged( this );
     if( image != getImage() ) {
       super.setImage( image );
       if( !parent.updateTabHeight( false ) ) {
@@ -220,6 +223,7 @@ public class CTabItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -285,6 +289,7 @@ public class CTabItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control != null ) {
       if( control.isDisposed() ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -321,6 +326,7 @@ public class CTabItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -369,6 +375,7 @@ public class CTabItem extends Item {
    */
   public void setShowClose( boolean close ) {
     checkWidget();
+    markChanged( this );
     if( ( parent.getStyle() & SWT.CLOSE ) == 0 && showClose != close ) {
       showClose = close;
       parent.updateItems();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Color;
@@ -327,6 +329,7 @@ public class SashForm extends Composite {
   @Override
   public void setOrientation( int orientation ) {
     checkWidget();
+    markChanged( this );
     if( orientation == SWT.RIGHT_TO_LEFT || orientation == SWT.LEFT_TO_RIGHT ) {
       super.setOrientation( orientation );
       return;
@@ -385,6 +388,7 @@ public class SashForm extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     return;
   }
 
@@ -406,6 +410,7 @@ public class SashForm extends Composite {
    */
   public void setMaximizedControl( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control == null ) {
       if( maxControl != null ) {
         this.maxControl = null;
@@ -438,6 +443,7 @@ public class SashForm extends Composite {
    */
   public void setSashWidth( int width ) {
     checkWidget();
+    markChanged( this );
     if( SASH_WIDTH == width ) {
       return;
     }
@@ -462,6 +468,7 @@ public class SashForm extends Composite {
    */
   public void setWeights( int[] weights ) {
     checkWidget();
+    markChanged( this );
     Control[] cArray = getControls( false );
     if( weights == null || weights.length != cArray.length ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.rap.rwt.theme.ControlThemeAdapter;
@@ -117,6 +119,7 @@ public class ScrolledComposite extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     // ignore - ScrolledComposite manages its own layout
   }
 
@@ -158,6 +161,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setOrigin( int left, int top ) {
     checkWidget();
+    markChanged( this );
     if( content != null && left >= 0 && top >= 0 ) {
       int x = left;
       int y = top;
@@ -220,6 +224,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setAlwaysShowScrollBars( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( !show != !alwaysShowScroll ) {
       alwaysShowScroll = show;
       ScrollBar hBar = getHorizontalBar();
@@ -298,6 +303,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandHorizontal( boolean expand ) {
     checkWidget();
+    markChanged( this );
     if( expand != expandHorizontal ) {
       expandHorizontal = expand;
       // layout( false );
@@ -322,6 +328,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandVertical( boolean expand ) {
     checkWidget();
+    markChanged( this );
     if( expand != expandVertical ) {
       expandVertical = expand;
       // layout( false );
@@ -429,6 +436,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setMinSize( int width, int height ) {
     checkWidget();
+    markChanged( this );
     if( width != minWidth || height != minHeight ) {
       minWidth = Math.max( 0, width );
       minHeight = Math.max( 0, height );
@@ -452,6 +460,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    markChanged( this );
     if( this.content != null && !this.content.isDisposed() ) {
       this.content.removeControlListener( contentListener );
       this.content.setBounds( new Rectangle( -200, -200, 0, 0 ) );
@@ -512,6 +521,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setShowFocusedControl( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( showFocusedControl != show ) {
       showFocusedControl = show;
       if( showFocusedControl ) {
@@ -559,6 +569,7 @@ public class ScrolledComposite extends Composite {
    */
   public void showControl( Control control ) {
     checkWidget();
+    markChanged( this );
     if( control == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
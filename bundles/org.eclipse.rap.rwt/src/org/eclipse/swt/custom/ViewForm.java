@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.ControlEvent;
@@ -323,6 +325,7 @@ public class ViewForm extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    markChanged( this );
     if( content != null && content.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -351,11 +354,13 @@ public class ViewForm extends Composite {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    markChanged( this );
     return;
   }
 
   void setSelectionBackground( Color color ) {
     checkWidget();
+    markChanged( this );
     if( selectionBackground == color )
       return;
     if (color == null) color = getDisplay().getSystemColor(SELECTION_BACKGROUND);
@@ -381,6 +386,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenter( Control topCenter ) {
     checkWidget();
+    markChanged( this );
     if( topCenter != null && topCenter.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -410,6 +416,7 @@ public class ViewForm extends Composite {
    */
   public void setTopLeft( Control c ) {
     checkWidget();
+    markChanged( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -440,6 +447,7 @@ public class ViewForm extends Composite {
    */
   public void setTopRight( Control c ) {
     checkWidget();
+    markChanged( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -464,6 +472,7 @@ public class ViewForm extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    markChanged( this );
     if( showBorder == show )
       return;
     showBorder = show;
@@ -495,6 +504,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenterSeparate( boolean show ) {
     checkWidget();
+    markChanged( this );
     separateTopCenter = show;
     layout(false);
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.graphics;
 
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.swt.graphics.FontData;
 
 
@@ -34,6 +35,10 @@ public class FontDataFactory {
     return cache.get( fontData, instanceCreator );
   }
 
+  public Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
   private static FontData cloneFontData( FontData fontData ) {
     String name = fontData.getName();
     int height = fontData.getHeight();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,20 +10,23 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.rap.json.JsonObject;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
 
 public final class GCAdapter {
 
   private final List<GCOperation> gcOperations;
   private boolean forceRedraw;
   private Rectangle paintRect;
+  private int renderedGCOperationCount;
+  private long renderedGCOperationsHash;
+  private JsonObject renderedInitParameters;
 
   public GCAdapter() {
-    gcOperations = new LinkedList<>();
+    gcOperations = new ArrayList<>();
   }
 
   public void addGCOperation( GCOperation operation ) {
@@ -72,8 +75,43 @@ public final class GCAdapter {
     return paintRect;
   }
 
+  /**
+   * Remembers the number and a hash of the operations that have been sent to the client since the
+   * drawing area was initialized the last time, together with the parameters of that
+   * initialization. The operations themselves are not kept.
+   */
+  public void setRenderedGCOperations( GCOperation[] operations, JsonObject initParameters ) {
+    renderedGCOperationCount = operations == null ? 0 : operations.length;
+    renderedGCOperationsHash = operations == null ? 0 : hash( operations, operations.length );
+    renderedInitParameters = initParameters;
+  }
+
+  public int getRenderedGCOperationCount() {
+    return renderedGCOperationCount;
+  }
+
+  /**
+   * Returns whether the given operations start with the operations that have been rendered.
+   */
+  public boolean startsWithRenderedGCOperations( GCOperation[] operations ) {
+    return    renderedGCOperationCount <= operations.length
+           && renderedGCOperationsHash == hash( operations, renderedGCOperationCount );
+  }
+
+  public JsonObject getRenderedInitParameters() {
+    return renderedInitParameters;
+  }
+
+  private static long hash( GCOperation[] operations, int count ) {
+    long result = 1;
+    for( int i = 0; i < count; i++ ) {
+      result = 31 * result + operations[ i ].hashCode();
+    }
+    return result;
+  }
+
   private static boolean isDrawOperation( GCOperation operation ) {
-    return !( operation instanceof SetProperty );
+    return operation.getType() != GCOperation.SET_PROPERTY;
   }
 
 }
\ No newline at end of file
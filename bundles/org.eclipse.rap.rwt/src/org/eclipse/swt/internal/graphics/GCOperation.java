@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,40 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 
 
+/*
+ * Operations are value objects. Two operations are equal if they produce the same drawing, this
+ * allows to detect drawings that have already been sent to the client.
+ */
 public abstract class GCOperation {
 
+  public static final int SET_PROPERTY = 0;
+  public static final int DRAW_LINE = 1;
+  public static final int DRAW_POINT = 2;
+  public static final int DRAW_RECTANGLE = 3;
+  public static final int DRAW_ROUND_RECTANGLE = 4;
+  public static final int FILL_GRADIENT_RECTANGLE = 5;
+  public static final int DRAW_ARC = 6;
+  public static final int DRAW_POLYLINE = 7;
+  public static final int DRAW_IMAGE = 8;
+  public static final int DRAW_TEXT = 9;
+  public static final int DRAW_PATH = 10;
+  public static final int SET_CLIPPING = 11;
+  public static final int SET_TRANSFORM = 12;
+
+  /**
+   * Returns the type of this operation, one of the type constants defined in this class.
+   */
+  public abstract int getType();
+
   public static final class SetProperty extends GCOperation {
 
     public static final int FOREGROUND = 0;
@@ -45,6 +71,25 @@ public abstract class GCOperation {
       this.id = id;
       this.value = Integer.valueOf( value );
     }
+
+    @Override
+    public int getType() {
+      return SET_PROPERTY;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof SetProperty ) {
+        SetProperty other = ( SetProperty )object;
+        return id == other.id && Objects.equals( value, other.value );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * id + Objects.hashCode( value );
+    }
   }
 
   public static final class DrawLine extends GCOperation {
@@ -60,6 +105,25 @@ public abstract class GCOperation {
       this.x2 = x2;
       this.y2 = y2;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_LINE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawLine ) {
+        DrawLine other = ( DrawLine )object;
+        return x1 == other.x1 && y1 == other.y1 && x2 == other.x2 && y2 == other.y2;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( new int[] { x1, y1, x2, y2 } );
+    }
   }
 
   public static final class DrawPoint extends GCOperation {
@@ -71,6 +135,25 @@ public abstract class GCOperation {
       this.x = x;
       this.y = y;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_POINT;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawPoint ) {
+        DrawPoint other = ( DrawPoint )object;
+        return x == other.x && y == other.y;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * x + y;
+    }
   }
 
   public static class DrawRectangle extends GCOperation {
@@ -88,6 +171,29 @@ public abstract class GCOperation {
       this.height = bounds.height;
       this.fill = fill;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_RECTANGLE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawRectangle && object.getClass() == getClass() ) {
+        DrawRectangle other = ( DrawRectangle )object;
+        return x == other.x
+               && y == other.y
+               && width == other.width
+               && height == other.height
+               && fill == other.fill;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( new int[] { x, y, width, height, fill ? 1 : 0 } );
+    }
   }
 
   public static final class DrawRoundRectangle extends DrawRectangle {
@@ -100,6 +206,25 @@ public abstract class GCOperation {
       this.arcWidth = arcWidth;
       this.arcHeight = arcHeight;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_ROUND_RECTANGLE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( super.equals( object ) ) {
+        DrawRoundRectangle other = ( DrawRoundRectangle )object;
+        return arcWidth == other.arcWidth && arcHeight == other.arcHeight;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * ( 31 * super.hashCode() + arcWidth ) + arcHeight;
+    }
   }
 
   public static final class FillGradientRectangle extends DrawRectangle {
@@ -110,6 +235,21 @@ public abstract class GCOperation {
       super( bounds, true );
       this.vertical = vertical;
     }
+
+    @Override
+    public int getType() {
+      return FILL_GRADIENT_RECTANGLE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      return super.equals( object ) && vertical == ( ( FillGradientRectangle )object ).vertical;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * super.hashCode() + ( vertical ? 1 : 0 );
+    }
   }
 
   public static final class DrawArc extends GCOperation {
@@ -131,6 +271,32 @@ public abstract class GCOperation {
       this.arcAngle = arcAngle;
       this.fill = fill;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_ARC;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawArc ) {
+        DrawArc other = ( DrawArc )object;
+        return x == other.x
+               && y == other.y
+               && width == other.width
+               && height == other.height
+               && startAngle == other.startAngle
+               && arcAngle == other.arcAngle
+               && fill == other.fill;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      int[] values = { x, y, width, height, startAngle, arcAngle, fill ? 1 : 0 };
+      return Arrays.hashCode( values );
+    }
   }
 
   public static final class DrawPolyline extends GCOperation {
@@ -145,6 +311,25 @@ public abstract class GCOperation {
       this.close = close;
       this.fill = fill;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_POLYLINE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawPolyline ) {
+        DrawPolyline other = ( DrawPolyline )object;
+        return close == other.close && fill == other.fill && Arrays.equals( points, other.points );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( points );
+    }
   }
 
   public static final class DrawImage extends GCOperation {
@@ -172,6 +357,34 @@ public abstract class GCOperation {
       this.destHeight = dest.height;
       this.simple = simple;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_IMAGE;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawImage ) {
+        DrawImage other = ( DrawImage )object;
+        return image == other.image
+               && srcX == other.srcX
+               && srcY == other.srcY
+               && srcWidth == other.srcWidth
+               && srcHeight == other.srcHeight
+               && destX == other.destX
+               && destY == other.destY
+               && destWidth == other.destWidth
+               && destHeight == other.destHeight
+               && simple == other.simple;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( new int[] { srcX, srcY, srcWidth, srcHeight, destX, destY } );
+    }
   }
 
   public static final class DrawText extends GCOperation {
@@ -187,6 +400,25 @@ public abstract class GCOperation {
       this.y = y;
       this.flags = flags;
     }
+
+    @Override
+    public int getType() {
+      return DRAW_TEXT;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawText ) {
+        DrawText other = ( DrawText )object;
+        return x == other.x && y == other.y && flags == other.flags && text.equals( other.text );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * ( 31 * text.hashCode() + x ) + y;
+    }
   }
 
   public static final class DrawPath extends GCOperation {
@@ -201,6 +433,27 @@ public abstract class GCOperation {
       this.fill = fill;
     }
 
+    @Override
+    public int getType() {
+      return DRAW_PATH;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof DrawPath ) {
+        DrawPath other = ( DrawPath )object;
+        return fill == other.fill
+               && Arrays.equals( types, other.types )
+               && Arrays.equals( points, other.points );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( points );
+    }
+
   }
 
   public static final class SetClipping extends GCOperation {
@@ -235,6 +488,27 @@ public abstract class GCOperation {
       return types == null && points == null && rectangle == null;
     }
 
+    @Override
+    public int getType() {
+      return SET_CLIPPING;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof SetClipping ) {
+        SetClipping other = ( SetClipping )object;
+        return Objects.equals( rectangle, other.rectangle )
+               && Arrays.equals( types, other.types )
+               && Arrays.equals( points, other.points );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode( rectangle ) + Arrays.hashCode( points );
+    }
+
   }
 
   public static final class SetTransform extends GCOperation {
@@ -245,6 +519,24 @@ public abstract class GCOperation {
       this.elements = elements;
     }
 
+    @Override
+    public int getType() {
+      return SET_TRANSFORM;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object instanceof SetTransform ) {
+        return Arrays.equals( elements, ( ( SetTransform )object ).elements );
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode( elements );
+    }
+
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,46 +11,80 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Weigher;
 import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Cache for decoded image data, bounded by the total size of the pixel buffers. The least
+ * recently used image data is evicted first. Image data that exceeds the maximum size on its
+ * own is not cached.
  */
 final class ImageDataCache {
 
-  /** Maximum size of image data that is being cached */
-  private static final int MAX_DATA_SIZE = 1024;
+  /** Default maximum size of all cached image data in bytes */
+  private static final int DEFAULT_MAX_SIZE = 8 * 1024 * 1024;
 
-  private final Map<InternalImage,ImageData> cache;
-  private final Object cacheLock;
+  private final SharedInstanceBuffer<InternalImage, ImageData> cache;
 
   ImageDataCache() {
-    cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    this( getMaximumSize() );
+  }
+
+  ImageDataCache( long maximumSize ) {
+    cache = new SharedInstanceBuffer<>( maximumSize, new ImageDataWeigher() );
   }
 
   ImageData getImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
-    synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
-    }
+    ImageData cached = cache.getIfPresent( internalImage );
+    // Image#getImageData() hands out the data to clients that may modify it
     return cached != null ? ( ImageData )cached.clone() : null;
   }
 
-  void putImageData( InternalImage internalImage, ImageData imageData ) {
+  void putImageData( InternalImage internalImage, final ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
-      synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+    cache.get( internalImage, new InstanceCreator<InternalImage, ImageData>() {
+      @Override
+      public ImageData createInstance( InternalImage internalImage ) {
+        return ( ImageData )imageData.clone();
       }
+    } );
+  }
+
+  Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  static int getSize( ImageData imageData ) {
+    int result = imageData.data.length;
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
     }
+    return result;
   }
+
+  private static long getMaximumSize() {
+    int maximumSize = RWTProperties.getImageDataCacheSize( DEFAULT_MAX_SIZE );
+    return maximumSize > 0 ? maximumSize : DEFAULT_MAX_SIZE;
+  }
+
+  private static final class ImageDataWeigher implements Weigher<InternalImage, ImageData> {
+
+    @Override
+    public int weigh( InternalImage internalImage, ImageData imageData ) {
+      return getSize( imageData );
+    }
+
+  }
+
 }
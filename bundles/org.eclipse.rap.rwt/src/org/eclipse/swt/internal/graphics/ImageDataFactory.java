@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.graphics;
 
 import java.io.InputStream;
 
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.graphics.ImageData;
@@ -42,6 +43,10 @@ public class ImageDataFactory {
     return result;
   }
 
+  public Statistics getStatistics() {
+    return imageDataCache.getStatistics();
+  }
+
   private ImageData createImageData( InternalImage internalImage ) {
     ImageData result = null;
     String imagePath = internalImage.getResourceName();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
@@ -46,6 +47,10 @@ public class ImageFactory {
     cache = new SharedInstanceBuffer<String,Image>();
   }
 
+  public Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
   public Image findImage( String path ) {
     return findImage( path, ImageFactory.class.getClassLoader() );
   }
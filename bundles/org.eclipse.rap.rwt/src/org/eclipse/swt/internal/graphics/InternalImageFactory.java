@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,9 +19,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.CRC32;
 
-import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
@@ -31,10 +33,22 @@ import org.eclipse.swt.graphics.RGB;
 
 public class InternalImageFactory {
 
+  private final ResourceManager resourceManager;
   private final SharedInstanceBuffer<String, InternalImage> cache;
+  private final SharedInstanceBuffer<String, InternalImage> generatedCache;
 
-  public InternalImageFactory() {
+  public InternalImageFactory( ResourceManager resourceManager ) {
+    this.resourceManager = resourceManager;
     cache = new SharedInstanceBuffer<String, InternalImage>();
+    generatedCache = createGeneratedImageCache();
+  }
+
+  public Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  public Statistics getGeneratedImageStatistics() {
+    return generatedCache.getStatistics();
   }
 
   public InternalImage findInternalImage( final String fileName ) {
@@ -49,7 +63,7 @@ public class InternalImageFactory {
     final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
     final ImageData imageData = readImageData( bufferedStream );
     final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    return generatedCache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
         return createInternalImage( path, bufferedStream, imageData );
       }
@@ -58,7 +72,7 @@ public class InternalImageFactory {
 
   public InternalImage findInternalImage( final ImageData imageData ) {
     final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    return generatedCache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
         InputStream stream = createInputStream( imageData );
         return createInternalImage( path, stream, imageData );
@@ -107,7 +121,21 @@ public class InternalImageFactory {
     return new ByteArrayInputStream( bytes );
   }
 
-  private static InternalImage createInternalImage( String fileName ) {
+  /*
+   * Generated images are cached separately, as there is no limit to the number of images that
+   * an application may create from image data. Only the cache entry of an evicted image is
+   * dropped. Its resource stays registered, since images of other UI sessions may still refer
+   * to it.
+   */
+  private static SharedInstanceBuffer<String, InternalImage> createGeneratedImageCache() {
+    int maximumSize = RWTProperties.getGeneratedImageCacheSize( 0 );
+    if( maximumSize > 0 ) {
+      return new SharedInstanceBuffer<>( maximumSize );
+    }
+    return new SharedInstanceBuffer<>();
+  }
+
+  private InternalImage createInternalImage( String fileName ) {
     InternalImage result;
     try {
       FileInputStream stream = new FileInputStream( fileName );
@@ -122,18 +150,18 @@ public class InternalImageFactory {
     return result;
   }
 
-  private static InternalImage createInternalImage( InputStream stream ) {
+  private InternalImage createInternalImage( InputStream stream ) {
     InputStream bufferedStream = new BufferedInputStream( stream );
     ImageData imageData = readImageData( bufferedStream );
     String path = createGeneratedImagePath( imageData );
     return createInternalImage( path, bufferedStream, imageData );
   }
 
-  private static InternalImage createInternalImage( String path,
-                                                    InputStream stream,
-                                                    ImageData imageData )
+  private InternalImage createInternalImage( String path,
+                                             InputStream stream,
+                                             ImageData imageData )
   {
-    RWT.getResourceManager().register( path, stream );
+    resourceManager.register( path, stream );
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
@@ -228,4 +256,5 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
 }
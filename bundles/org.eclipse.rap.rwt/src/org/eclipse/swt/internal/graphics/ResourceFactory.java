@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.swt.internal.graphics;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Font;
@@ -71,6 +72,18 @@ public class ResourceFactory {
     return cursors.get( Integer.valueOf( style ), cursorCreator );
   }
 
+  public Statistics getColorStatistics() {
+    return colors.getStatistics();
+  }
+
+  public Statistics getFontStatistics() {
+    return fonts.getStatistics();
+  }
+
+  public Statistics getCursorStatistics() {
+    return cursors.getStatistics();
+  }
+
   private static Color createColorInstance( int colorNr ) {
     Class<?>[] paramTypes = new Class[] { int.class };
     Object[] paramValues = new Object[] { Integer.valueOf( colorNr ) };
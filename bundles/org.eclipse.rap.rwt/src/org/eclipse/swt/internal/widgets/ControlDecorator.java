@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import static org.eclipse.swt.internal.widgets.DirtyWidgets.markChanged;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
@@ -63,6 +64,7 @@ public class ControlDecorator extends Decorator {
 
   public void setImage( Image image ) {
     checkWidget();
+    markChanged( this );
     this.image = image;
   }
 
@@ -73,6 +75,7 @@ public class ControlDecorator extends Decorator {
 
   public void setText( String text ) {
     checkWidget();
+    markChanged( this );
     String newText = text == null ? "" : text;
     if( isMarkupEnabledFor( this ) && !isValidationDisabledFor( this ) ) {
       MarkupValidator.getInstance().validate( newText );
@@ -94,6 +97,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowOnlyOnFocus( boolean showOnlyOnFocus ) {
     checkWidget();
+    markChanged( this );
     if( this.showOnlyOnFocus != showOnlyOnFocus ) {
       this.showOnlyOnFocus = showOnlyOnFocus;
       if( showOnlyOnFocus ) {
@@ -111,6 +115,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowHover( boolean showHover ) {
     checkWidget();
+    markChanged( this );
     this.showHover = showHover;
   }
 
@@ -121,16 +126,19 @@ public class ControlDecorator extends Decorator {
 
   public void setMarginWidth( int marginWidth ) {
     checkWidget();
+    markChanged( this );
     this.marginWidth = marginWidth;
   }
 
   public void show() {
     checkWidget();
+    markChanged( this );
     visible = true;
   }
 
   public void hide() {
     checkWidget();
+    markChanged( this );
     visible = false;
   }
 
@@ -204,6 +212,7 @@ public class ControlDecorator extends Decorator {
 
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -214,6 +223,7 @@ public class ControlDecorator extends Decorator {
 
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
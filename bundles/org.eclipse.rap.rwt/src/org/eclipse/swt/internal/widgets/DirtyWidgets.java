@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Keeps track of the widgets of a session that have been created or modified since the last
+ * render phase. Used by the incremental life cycle to avoid traversing the entire widget tree
+ * in every phase.
+ * <p>
+ * Marking a widget dirty also marks its ancestors, thus every dirty widget can be reached from
+ * its shell by following dirty widgets only. Once the values of the widgets have been
+ * preserved for the current request, newly marked widgets are preserved <em>before</em> they
+ * are changed.
+ * </p>
+ */
+public final class DirtyWidgets implements SerializableCompatibility {
+
+  private final Map<String, Widget> widgets;
+  private final Set<Widget> dirtyWidgets;
+  private boolean preserveOnChange;
+  private boolean suspended;
+
+  public DirtyWidgets() {
+    widgets = new HashMap<>();
+    dirtyWidgets = new LinkedHashSet<>();
+  }
+
+  /**
+   * Records the given widget as changed if the incremental life cycle is enabled. To be called by
+   * widgets outside of the <code>org.eclipse.swt.widgets</code> package before they change their
+   * state.
+   */
+  public static void markChanged( Widget widget ) {
+    Display display = widget.getDisplay();
+    DirtyWidgets dirtyWidgets = display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markDirty( widget );
+    }
+  }
+
+  public void register( String id, Widget widget ) {
+    widgets.put( id, widget );
+  }
+
+  public void unregister( String id ) {
+    widgets.remove( id );
+  }
+
+  public Widget find( String id ) {
+    return widgets.get( id );
+  }
+
+  public void markDirty( Widget widget ) {
+    if( !suspended ) {
+      add( widget );
+      Widget parent = getAdapter( widget ).getParent();
+      while( parent != null && add( parent ) ) {
+        parent = getAdapter( parent ).getParent();
+      }
+    }
+  }
+
+  public boolean isDirty( Widget widget ) {
+    return dirtyWidgets.contains( widget );
+  }
+
+  public List<Widget> getAll() {
+    return new ArrayList<>( dirtyWidgets );
+  }
+
+  public void startPreserving() {
+    preserveOnChange = true;
+  }
+
+  public void suspend() {
+    suspended = true;
+  }
+
+  public void clear() {
+    dirtyWidgets.clear();
+    preserveOnChange = false;
+    suspended = false;
+  }
+
+  private boolean add( Widget widget ) {
+    boolean added = dirtyWidgets.add( widget );
+    if( added && preserveOnChange ) {
+      preserve( widget );
+    }
+    return added;
+  }
+
+  private static void preserve( Widget widget ) {
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter.isInitialized() && !widget.isDisposed() ) {
+      getLCA( widget ).preserveValues( widget );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -148,7 +148,7 @@ public class Button extends Control {
    * </ul>
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -220,7 +220,7 @@ public class Button extends Control {
    * </ul>
    */
   public void setSelection( boolean selected ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.CHECK | SWT.RADIO | SWT.TOGGLE ) ) != 0 ) {
       this.selected = selected;
     }
@@ -264,7 +264,7 @@ public class Button extends Control {
    * @since 1.2
    */
   public void setGrayed( boolean grayed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.CHECK ) != 0 ) {
       this.grayed = grayed;
     }
@@ -301,7 +301,7 @@ public class Button extends Control {
    * </ul>
    */
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -376,7 +376,7 @@ public class Button extends Control {
    */
    // TODO [rst] Remove comments from javadoc when fully implemented
   public void setAlignment( int alignment ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.ARROW ) != 0 ) {
       if( ( style & ( SWT.UP | SWT.DOWN | SWT.LEFT | SWT.RIGHT ) ) != 0 ) {
         style &= ~( SWT.UP | SWT.DOWN | SWT.LEFT | SWT.RIGHT );
@@ -473,7 +473,7 @@ public class Button extends Control {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -500,7 +500,7 @@ public class Button extends Control {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -120,7 +120,7 @@ public class Canvas extends Composite {
    * @since 1.3
    */
   public void addPaintListener( PaintListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -147,7 +147,7 @@ public class Canvas extends Composite {
    * @since 1.3
    */
   public void removePaintListener( PaintListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
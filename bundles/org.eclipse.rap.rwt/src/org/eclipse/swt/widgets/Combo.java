@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -162,7 +162,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void select( int selectionIndex ) {
-    checkWidget();
+    checkWidgetForChange();
     if( 0 <= selectionIndex && selectionIndex < getItemCount() ) {
       model.setSelection( selectionIndex );
       updateText();
@@ -182,7 +182,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void deselect( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     if( index == model.getSelectionIndex() ) {
       model.setSelection( -1 );
     }
@@ -204,7 +204,7 @@ public class Combo extends Composite {
    * @see #clearSelection
    */
   public void deselectAll() {
-    checkWidget();
+    checkWidgetForChange();
     model.deselectAll();
     text = "";
     notifyListeners( SWT.Modify, new Event() );
@@ -229,7 +229,7 @@ public class Combo extends Composite {
    * @since 1.3
    */
   public void setSelection( Point selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( selection == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -294,7 +294,7 @@ public class Combo extends Composite {
    * @since 1.3
    */
   public void clearSelection() {
-    checkWidget();
+    checkWidgetForChange();
     resetSelection();
   }
 
@@ -314,7 +314,7 @@ public class Combo extends Composite {
    * @see #add(String,int)
    */
   public void add( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     model.add( string );
   }
 
@@ -342,7 +342,7 @@ public class Combo extends Composite {
    * @see #add(String)
    */
   public void add( String string, int index ) {
-    checkWidget();
+    checkWidgetForChange();
     model.add( string, index );
   }
 
@@ -361,7 +361,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void remove( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == index ) {
       deselect( index );
@@ -386,7 +386,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void remove( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     String[] items = model.getItems();
     int lastIndex = items.length - 1;
     if(    start < 0
@@ -424,7 +424,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void remove( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     int indexOfThisString = indexOf( string );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == indexOfThisString ) {
@@ -443,7 +443,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void removeAll() {
-    checkWidget();
+    checkWidgetForChange();
     deselectAll();
     model.removeAll();
   }
@@ -467,7 +467,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void setItem( int index, String string ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setItem( index, string );
   }
 
@@ -486,7 +486,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void setItems( String... items ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setItems( items );
   }
 
@@ -583,7 +583,7 @@ public class Combo extends Composite {
    * </ul>
    */
   public void setVisibleItemCount( int count ) {
-    checkWidget();
+    checkWidgetForChange();
     if( count >= 0 ) {
       visibleCount = count;
     }
@@ -628,7 +628,7 @@ public class Combo extends Composite {
    * @since 1.3
    */
   public void setListVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
     dropped = visible;
   }
 
@@ -753,7 +753,7 @@ public class Combo extends Composite {
    *              </ul>
    */
   public void setText( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -813,7 +813,7 @@ public class Combo extends Composite {
    * @since 1.3
    */
   public void setTextLimit( int limit ) {
-    checkWidget();
+    checkWidgetForChange();
     if( limit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -913,7 +913,7 @@ public class Combo extends Composite {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -940,7 +940,7 @@ public class Combo extends Composite {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -968,7 +968,7 @@ public class Combo extends Composite {
    * @see #removeModifyListener
    */
   public void addModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -994,7 +994,7 @@ public class Combo extends Composite {
    * @see #addModifyListener
    */
   public void removeModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1021,7 +1021,7 @@ public class Combo extends Composite {
    * @see #removeVerifyListener
    */
   public void addVerifyListener( VerifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1047,7 +1047,7 @@ public class Combo extends Composite {
    * @see #addVerifyListener
    */
   public void removeVerifyListener( VerifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -151,7 +151,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void setLayout( Layout layout ) {
-    checkWidget();
+    checkWidgetForChange();
     this.layout = layout;
   }
 
@@ -194,7 +194,7 @@ public class Composite extends Scrollable {
    * @since 1.3
    */
   public void setLayoutDeferred( boolean defer ) {
-    checkWidget();
+    checkWidgetForChange();
     if( !defer ) {
       if( --layoutCount == 0 ) {
         if( hasState( LAYOUT_CHILD ) || hasState( LAYOUT_NEEDED ) ) {
@@ -274,7 +274,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void layout() {
-    checkWidget();
+    checkWidgetForChange();
     layout( true );
   }
 
@@ -317,7 +317,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void layout( boolean changed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( layout != null ) {
       layout( changed, false );
     }
@@ -364,7 +364,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void layout( boolean changed, boolean all ) {
-    checkWidget();
+    checkWidgetForChange();
     if( layout != null || all ) {
       markLayout( changed, all );
       updateLayout( true, all );
@@ -405,7 +405,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void layout( Control[] changed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( changed == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -632,7 +632,7 @@ public class Composite extends Scrollable {
    * @since 1.0
    */
   public void changed( Control[] changed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( changed == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -711,7 +711,7 @@ public class Composite extends Scrollable {
    * @since 1.1
    */
   public void setBackgroundMode( int mode ) {
-    checkWidget();
+    checkWidgetForChange();
     backgroundMode = mode;
     for( Control child : children ) {
       child.updateBackgroundMode();
@@ -737,7 +737,7 @@ public class Composite extends Scrollable {
 
   @Override
   public boolean setFocus() {
-    checkWidget();
+    checkWidgetForChange();
     for( Control child : children ) {
       if( child.setFocus() ) {
         return true;
@@ -765,7 +765,7 @@ public class Composite extends Scrollable {
    * </ul>
    */
   public void setTabList( Control[] tabList ) {
-    checkWidget();
+    checkWidgetForChange();
     Control[] newList = tabList;
     if( tabList != null ) {
       for( int i = 0; i < tabList.length; i++ ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -328,7 +328,7 @@ public abstract class Control extends Widget implements Drawable {
    * </ul>
    */
   public void setVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
     if( hasState( HIDDEN ) != !visible ) {
       preserveState( HIDDEN );
       internalSetVisible( visible );
@@ -418,7 +418,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     if( hasState( DISABLED ) != !enabled ) {
       preserveState( DISABLED );
       internalSetEnabled( enabled );
@@ -511,7 +511,7 @@ public abstract class Control extends Widget implements Drawable {
    * </ul>
    */
   public void setBackground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -577,7 +577,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.1
    */
   public void setBackgroundImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -624,7 +624,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setForeground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -743,7 +743,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setFont( Font font ) {
-    checkWidget();
+    checkWidgetForChange();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -795,7 +795,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.2
    */
   public void setCursor( Cursor cursor ) {
-    checkWidget();
+    checkWidgetForChange();
     if( cursor != null && cursor.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -842,7 +842,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #forceFocus
    */
   public boolean setFocus() {
-    checkWidget();
+    checkWidgetForChange();
     boolean result = false;
     if( ( style & SWT.NO_FOCUS ) == 0 ) {
       result = forceFocus();
@@ -864,7 +864,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #setFocus
    */
   public boolean forceFocus() {
-    checkWidget();
+    checkWidgetForChange();
     // if (display.focusEvent == SWT.FocusOut) return false;
     Shell shell = getShell(); // was: Decorations shell = menuShell();
     shell.setSavedFocus( this );
@@ -943,7 +943,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setBounds( Rectangle bounds ) {
-    checkWidget();
+    checkWidgetForChange();
     if( bounds == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1196,7 +1196,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #computeSize(int, int, boolean)
    */
   public void pack() {
-    checkWidget();
+    checkWidgetForChange();
     pack( true );
   }
 
@@ -1222,7 +1222,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #computeSize(int, int, boolean)
    */
   public void pack( boolean changed ) {
-    checkWidget();
+    checkWidgetForChange();
     setSize( computeSize( SWT.DEFAULT, SWT.DEFAULT, changed ) );
     packed = true;
   }
@@ -1377,7 +1377,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setLayoutData( Object layoutData ) {
-    checkWidget();
+    checkWidgetForChange();
     this.layoutData = layoutData;
   }
 
@@ -1406,7 +1406,7 @@ public abstract class Control extends Widget implements Drawable {
    * </ul>
    */
   public void setToolTipText( String toolTipText ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -1462,7 +1462,7 @@ public abstract class Control extends Widget implements Drawable {
    *                </ul>
    */
   public void setMenu( Menu menu ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.menu != menu ) {
       if( menu != null ) {
         if( menu.isDisposed() ) {
@@ -1525,7 +1525,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see Composite#getChildren
    */
   public void moveAbove( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1557,7 +1557,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see Composite#getChildren
    */
   public void moveBelow( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1615,7 +1615,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #removeControlListener
    */
   public void addControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1642,7 +1642,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #addControlListener
    */
   public void removeControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1672,7 +1672,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.1
    */
   public void addMouseListener( MouseListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1702,7 +1702,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.1
    */
   public void removeMouseListener( MouseListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1752,7 +1752,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.2
    */
   public void addKeyListener( KeyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1781,7 +1781,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.2
    */
   public void removeKeyListener( KeyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1811,7 +1811,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.2
    */
   public void addTraverseListener( TraverseListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1839,7 +1839,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.2
    */
   public void removeTraverseListener( TraverseListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1866,7 +1866,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #removeFocusListener
    */
   public void addFocusListener( FocusListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1893,7 +1893,7 @@ public abstract class Control extends Widget implements Drawable {
    * @see #addFocusListener
    */
   public void removeFocusListener( FocusListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1922,7 +1922,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void addHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1949,7 +1949,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void removeHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1978,7 +1978,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void addDragDetectListener( DragDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2006,7 +2006,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void removeDragDetectListener( DragDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2036,7 +2036,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2065,7 +2065,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.3
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2121,7 +2121,7 @@ public abstract class Control extends Widget implements Drawable {
    * </ul>
    */
   public void setRedraw( boolean redraw ) {
-    checkWidget();
+    checkWidgetForChange();
     internalSetRedraw( redraw );
   }
 
@@ -2141,7 +2141,7 @@ public abstract class Control extends Widget implements Drawable {
    * </ul>
    */
   public void redraw() {
-    checkWidget();
+    checkWidgetForChange();
     internalSetRedraw( true );
   }
 
@@ -2177,7 +2177,7 @@ public abstract class Control extends Widget implements Drawable {
    */
 //  * @see SWT#Paint
   public void redraw( int x, int y, int width, int height, boolean all ) {
-    checkWidget();
+    checkWidgetForChange();
     if( width > 0 && height > 0 ) {
       internalSetRedraw( true, x, y, width, height );
     }
@@ -2233,7 +2233,7 @@ public abstract class Control extends Widget implements Drawable {
    *  @since 1.3
    */
   public boolean setParent( Composite parent ) {
-    checkWidget();
+    checkWidgetForChange();
     if( parent == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2256,6 +2256,7 @@ public abstract class Control extends Widget implements Drawable {
       ReparentedControls.add( this );
       this.parent = parent;
       getRemoteAdapter().setParent( parent );
+      markDirty();
       parent.addChild( this );
     }
     return true;
@@ -2293,7 +2294,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void setOrientation( int orientation ) {
-    checkWidget();
+    checkWidgetForChange();
     int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
     if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
       return;
@@ -2384,7 +2385,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void addGestureListener( GestureListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -2407,7 +2408,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void removeGestureListener( GestureListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -2436,7 +2437,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void addTouchListener( TouchListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -2459,7 +2460,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void removeTouchListener( TouchListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -2476,7 +2477,7 @@ public abstract class Control extends Widget implements Drawable {
    * @since 1.4
    */
   public void setTouchEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
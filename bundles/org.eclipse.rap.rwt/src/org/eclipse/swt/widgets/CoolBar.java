@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1224,7 +1224,7 @@ public class CoolBar extends Composite {
    *              </ul>
    */
   public void setLocked( boolean locked ) {
-    checkWidget();
+    checkWidgetForChange();
     if( isLocked != locked ) {
       redraw();
     }
@@ -1249,7 +1249,7 @@ public class CoolBar extends Composite {
    *              </ul>
    */
   public void setWrapIndices( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     int[] newIndices = indices;
     if ( newIndices == null )
       newIndices = new int[0];
@@ -1324,7 +1324,7 @@ public class CoolBar extends Composite {
    *              </ul>
    */
   public void setItemLayout( int[] itemOrder, int[] wrapIndices, Point[] sizes ) {
-    checkWidget();
+    checkWidgetForChange();
     setItemOrder( itemOrder );
     setWrapIndices( wrapIndices );
     setItemSizes( sizes );
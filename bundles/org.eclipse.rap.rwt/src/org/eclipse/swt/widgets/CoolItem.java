@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -204,7 +204,7 @@ public class CoolItem extends Item {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -532,7 +532,7 @@ public class CoolItem extends Item {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -577,7 +577,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setControl( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if ( control != null ) {
       if ( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -615,7 +615,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setMinimumSize( int width, int height ) {
-    checkWidget();
+    checkWidgetForChange();
     Point point = parent.fixPoint( width, height );
     minimumWidth = point.x;
     minimumHeight = point.y;
@@ -641,7 +641,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setMinimumSize( Point size ) {
-    checkWidget();
+    checkWidgetForChange();
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -664,7 +664,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setPreferredSize( int width, int height ) {
-    checkWidget();
+    checkWidgetForChange();
     ideal = true;
     Point point = parent.fixPoint( width, height );
     preferredWidth = Math.max( point.x, MINIMUM_WIDTH );
@@ -689,7 +689,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setPreferredSize( Point size ) {
-    checkWidget();
+    checkWidgetForChange();
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -716,7 +716,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setSize( int width, int height ) {
-    checkWidget();
+    checkWidgetForChange();
     int newHeight = height;
     int newWidth = width;
     Point point = parent.fixPoint( newWidth, newHeight );
@@ -762,7 +762,7 @@ public class CoolItem extends Item {
    *              </ul>
    */
   public void setSize( Point size ) {
-    checkWidget();
+    checkWidgetForChange();
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
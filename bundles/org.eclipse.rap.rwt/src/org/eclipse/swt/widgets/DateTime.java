@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -255,7 +255,7 @@ public class DateTime extends Composite {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -283,7 +283,7 @@ public class DateTime extends Composite {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -455,7 +455,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setHours( int hours ) {
-    checkWidget();
+    checkWidgetForChange();
     if( checkTime( hours, getMinutes(), getSeconds() ) ) {
       rightNow.set( Calendar.HOUR_OF_DAY, hours );
       applyLimits();
@@ -477,7 +477,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setMinutes( int minutes ) {
-    checkWidget();
+    checkWidgetForChange();
     if( checkTime( getHours(), minutes, getSeconds() ) ) {
       rightNow.set( Calendar.MINUTE, minutes );
       applyLimits();
@@ -499,7 +499,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setSeconds( int seconds ) {
-    checkWidget();
+    checkWidgetForChange();
     if( checkTime( getHours(), getMinutes(), seconds ) ) {
       rightNow.set( Calendar.SECOND, seconds );
       applyLimits();
@@ -522,7 +522,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setDay( int day ) {
-    checkWidget();
+    checkWidgetForChange();
     int month = rightNow.get( Calendar.MONTH );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -546,7 +546,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setMonth( int month ) {
-    checkWidget();
+    checkWidgetForChange();
     int day = rightNow.get( Calendar.DATE );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -570,7 +570,7 @@ public class DateTime extends Composite {
    *              </ul>
    */
   public void setYear( int year ) {
-    checkWidget();
+    checkWidgetForChange();
     int day = rightNow.get( Calendar.DATE );
     int month = rightNow.get( Calendar.MONTH );
     if( checkDate( year, month, day ) ) {
@@ -593,7 +593,7 @@ public class DateTime extends Composite {
    * @since 3.2
    */
   public void setMinimum( Date date ) {
-    checkWidget();
+    checkWidgetForChange();
     if( date == null ) {
       minimum = null;
       applyLimits();
@@ -617,7 +617,7 @@ public class DateTime extends Composite {
    * @since 3.2
    */
   public void setMaximum( Date date ) {
-    checkWidget();
+    checkWidgetForChange();
     if( date == null ) {
       maximum = null;
       applyLimits();
@@ -647,7 +647,7 @@ public class DateTime extends Composite {
    * @since 1.2
    */
   public void setDate( int year, int month, int day ) {
-    checkWidget();
+    checkWidgetForChange();
     if( checkDate( year, month, day ) ) {
       // reset
       ignoreLimits = true;
@@ -679,7 +679,7 @@ public class DateTime extends Composite {
    * @since 1.2
    */
   public void setTime( int hours, int minutes, int seconds ) {
-    checkWidget();
+    checkWidgetForChange();
     if( checkTime( hours, minutes, seconds ) ) {
       setHours( hours );
       setMinutes( minutes );
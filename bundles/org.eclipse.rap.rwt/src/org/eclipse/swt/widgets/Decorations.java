@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -84,7 +84,7 @@ public class Decorations extends Canvas {
    * @since 1.3
    */
   public void setImages( Image[] images ) {
-    checkWidget();
+    checkWidgetForChange();
     if( images == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -147,7 +147,7 @@ public class Decorations extends Canvas {
    * </ul>
    */
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     this.image = image;
   }
 
@@ -194,7 +194,7 @@ public class Decorations extends Canvas {
    * @since 2.2
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -236,7 +236,7 @@ public class Decorations extends Canvas {
    * </ul>
    */
   public void setMenuBar( Menu menuBar ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.menuBar != menuBar ) {
       if( menuBar != null ) {
         if( menuBar.isDisposed() ) {
@@ -304,7 +304,7 @@ public class Decorations extends Canvas {
    * @since 2.2
    */
   public void setDefaultButton( Button button ) {
-    checkWidget();
+    checkWidgetForChange();
     if( button != null ) {
       if( button.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
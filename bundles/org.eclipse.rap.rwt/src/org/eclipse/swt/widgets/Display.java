@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,7 @@ import java.util.Set;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
@@ -62,6 +63,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -249,6 +251,7 @@ public class Display extends Device implements Adaptable {
 
   private Synchronizer synchronizer;
   private TimerExecScheduler scheduler;
+  private final DirtyWidgets dirtyWidgets;
 
   /**
    * Constructs a new instance of this class.
@@ -283,6 +286,7 @@ public class Display extends Device implements Adaptable {
     dpi = readDPI();
     depth = readDepth();
     synchronizer = new Synchronizer( this );
+    dirtyWidgets = RWTProperties.isIncrementalLifeCycle() ? new DirtyWidgets() : null;
     register();
   }
 
@@ -1063,6 +1067,45 @@ public class Display extends Device implements Adaptable {
     }
   }
 
+  /**
+   * Causes the <code>run()</code> method of the runnable to
+   * be invoked by the user-interface thread at the next
+   * reasonable opportunity. If a runnable that was passed with an equal
+   * key has not been invoked yet, it is replaced by the given runnable
+   * instead. This allows background threads to post frequent updates, e.g.
+   * progress information, without flooding the user-interface thread.
+   * <p>
+   * Note that at the time the runnable is invoked, widgets
+   * that have the receiver as their display may have been
+   * disposed. Therefore, it is necessary to check for this
+   * case inside the runnable before accessing the widget.
+   * </p>
+   *
+   * @param key the key to coalesce runnables with, must not be <code>null</code>
+   * @param runnable code to run on the user-interface thread, must not be <code>null</code>
+   *
+   * @exception IllegalArgumentException <ul>
+   *    <li>ERROR_NULL_ARGUMENT - if the key or the runnable is null</li>
+   * </ul>
+   * @exception SWTException <ul>
+   *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+   * </ul>
+   *
+   * @see #asyncExec(Runnable)
+   * @since 3.16
+   */
+  public void asyncExec( Object key, Runnable runnable ) {
+    if( key == null || runnable == null ) {
+      error( SWT.ERROR_NULL_ARGUMENT );
+    }
+    synchronized( deviceLock ) {
+      if( isDisposed() ) {
+        error( SWT.ERROR_DEVICE_DISPOSED );
+      }
+      synchronizer.asyncExec( key, runnable );
+    }
+  }
+
   /**
    * Causes the <code>run()</code> method of the runnable to
    * be invoked by the user-interface thread at the next
@@ -1297,6 +1340,10 @@ public class Display extends Device implements Adaptable {
     } );
   }
 
+  DirtyWidgets getDirtyWidgets() {
+    return dirtyWidgets;
+  }
+
   Object getDeviceLock() {
     return deviceLock;
   }
@@ -2477,6 +2524,11 @@ public class Display extends Device implements Adaptable {
       return Display.this.isListening( eventType );
     }
 
+    @Override
+    public DirtyWidgets getDirtyWidgets() {
+      return dirtyWidgets;
+    }
+
   }
 
 }
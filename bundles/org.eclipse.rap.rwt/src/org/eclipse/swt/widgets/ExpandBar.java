@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -121,7 +121,7 @@ public class ExpandBar extends Composite {
    * @see #removeExpandListener
    */
   public void addExpandListener( ExpandListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -149,7 +149,7 @@ public class ExpandBar extends Composite {
    * @see #addExpandListener
    */
   public void removeExpandListener( ExpandListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -410,7 +410,7 @@ public class ExpandBar extends Composite {
    *              </ul>
    */
   public void setSpacing( int spacing ) {
-    checkWidget();
+    checkWidgetForChange();
     if( spacing >= 0 ) {
       if( spacing != this.spacing ) {
         this.spacing = spacing;
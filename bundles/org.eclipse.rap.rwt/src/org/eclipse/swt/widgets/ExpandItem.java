@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -318,7 +318,7 @@ public class ExpandItem extends Item {
    *              </ul>
    */
   public void setControl( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -354,7 +354,7 @@ public class ExpandItem extends Item {
    *              </ul>
    */
   public void setExpanded( boolean expanded ) {
-    checkWidget();
+    checkWidgetForChange();
     this.expanded = expanded;
     parent.showItem( this );
   }
@@ -372,7 +372,7 @@ public class ExpandItem extends Item {
    *              </ul>
    */
   public void setHeight( int height ) {
-    checkWidget();
+    checkWidgetForChange();
     if( height >= 0 ) {
       setBounds( 0, 0, width, height, false, true );
       if( expanded ) {
@@ -383,7 +383,7 @@ public class ExpandItem extends Item {
 
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( image != getImage() ) {
       super.setImage( image );
       updateBounds();
@@ -403,7 +403,7 @@ public class ExpandItem extends Item {
 
   @Override
   public void setText( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -116,7 +116,7 @@ public class Group extends Composite {
    * </ul>
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Holds the cell data of a TableItem or TreeItem in one array per attribute instead of one
+ * object per cell. An attribute array is only allocated when the attribute is set for the first
+ * time, hence items that only have texts do not carry any image, font or color slots. All
+ * allocated arrays have the same length, which grows with the number of columns.
+ */
+final class ItemCells implements SerializableCompatibility {
+
+  static final int UNKNOWN_WIDTH = -1;
+
+  private static final String[] NO_TEXTS = new String[ 0 ];
+  private static final Image[] NO_IMAGES = new Image[ 0 ];
+  private static final Font[] NO_FONTS = new Font[ 0 ];
+  private static final Color[] NO_COLORS = new Color[ 0 ];
+
+  private int length;
+  private String[] texts;
+  private int[] widths;
+  private Image[] images;
+  private Font[] fonts;
+  private Color[] backgrounds;
+  private Color[] foregrounds;
+
+  ItemCells( int columnCount ) {
+    length = columnCount;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  String getText( int index ) {
+    String result = get( texts, index );
+    return result == null ? "" : result;
+  }
+
+  boolean setText( int index, String text ) {
+    if( getText( index ).equals( text ) ) {
+      return false;
+    }
+    texts = set( texts, NO_TEXTS, index, text );
+    setWidth( index, UNKNOWN_WIDTH );
+    return true;
+  }
+
+  Image getImage( int index ) {
+    return get( images, index );
+  }
+
+  boolean setImage( int index, Image image ) {
+    if( equals( getImage( index ), image ) ) {
+      return false;
+    }
+    images = set( images, NO_IMAGES, index, image );
+    return true;
+  }
+
+  Font getFont( int index ) {
+    return get( fonts, index );
+  }
+
+  boolean setFont( int index, Font font ) {
+    if( equals( getFont( index ), font ) ) {
+      return false;
+    }
+    fonts = set( fonts, NO_FONTS, index, font );
+    setWidth( index, UNKNOWN_WIDTH );
+    return true;
+  }
+
+  Color getBackground( int index ) {
+    return get( backgrounds, index );
+  }
+
+  boolean setBackground( int index, Color color ) {
+    if( equals( getBackground( index ), color ) ) {
+      return false;
+    }
+    backgrounds = set( backgrounds, NO_COLORS, index, color );
+    return true;
+  }
+
+  Color getForeground( int index ) {
+    return get( foregrounds, index );
+  }
+
+  boolean setForeground( int index, Color color ) {
+    if( equals( getForeground( index ), color ) ) {
+      return false;
+    }
+    foregrounds = set( foregrounds, NO_COLORS, index, color );
+    return true;
+  }
+
+  int getWidth( int index ) {
+    if( widths == null || index < 0 || index >= length ) {
+      return UNKNOWN_WIDTH;
+    }
+    return widths[ index ];
+  }
+
+  void setWidth( int index, int width ) {
+    if( widths == null ) {
+      if( width == UNKNOWN_WIDTH ) {
+        return;
+      }
+      widths = newWidths( length );
+    }
+    widths[ index ] = width;
+  }
+
+  void clearWidths() {
+    if( widths != null ) {
+      Arrays.fill( widths, UNKNOWN_WIDTH );
+    }
+  }
+
+  /*
+   * Makes sure that all attribute arrays can hold the given number of columns.
+   */
+  void ensureLength( int columnCount ) {
+    if( length < columnCount ) {
+      texts = copyOf( texts, columnCount );
+      images = copyOf( images, columnCount );
+      fonts = copyOf( fonts, columnCount );
+      backgrounds = copyOf( backgrounds, columnCount );
+      foregrounds = copyOf( foregrounds, columnCount );
+      if( widths != null ) {
+        int[] newWidths = newWidths( columnCount );
+        System.arraycopy( widths, 0, newWidths, 0, length );
+        widths = newWidths;
+      }
+      length = columnCount;
+    }
+  }
+
+  void insertColumn( int index ) {
+    texts = insert( texts, index );
+    images = insert( images, index );
+    fonts = insert( fonts, index );
+    backgrounds = insert( backgrounds, index );
+    foregrounds = insert( foregrounds, index );
+    if( widths != null ) {
+      int[] newWidths = newWidths( length + 1 );
+      System.arraycopy( widths, 0, newWidths, 0, index );
+      System.arraycopy( widths, index, newWidths, index + 1, length - index );
+      widths = newWidths;
+    }
+    length++;
+  }
+
+  void removeColumn( int index ) {
+    texts = remove( texts, index );
+    images = remove( images, index );
+    fonts = remove( fonts, index );
+    backgrounds = remove( backgrounds, index );
+    foregrounds = remove( foregrounds, index );
+    if( widths != null ) {
+      int[] newWidths = new int[ length - 1 ];
+      System.arraycopy( widths, 0, newWidths, 0, index );
+      System.arraycopy( widths, index + 1, newWidths, index, length - index - 1 );
+      widths = newWidths;
+    }
+    length--;
+  }
+
+  /*
+   * The following methods return the attribute values for the given number of columns, or null
+   * if the attribute is not set for any column.
+   */
+
+  String[] getTexts( int columnCount ) {
+    String[] result = null;
+    if( texts != null ) {
+      for( int i = 0; i < length; i++ ) {
+        if( texts[ i ] != null && !"".equals( texts[ i ] ) ) {
+          if( result == null ) {
+            result = new String[ columnCount ];
+            Arrays.fill( result, "" );
+          }
+          result[ i ] = texts[ i ];
+        }
+      }
+    }
+    return result;
+  }
+
+  Image[] getImages( int columnCount ) {
+    return getValues( images, new Image[ columnCount ] );
+  }
+
+  Font[] getFonts( int columnCount ) {
+    return getValues( fonts, new Font[ columnCount ] );
+  }
+
+  Color[] getBackgrounds( int columnCount ) {
+    return getValues( backgrounds, new Color[ columnCount ] );
+  }
+
+  Color[] getForegrounds( int columnCount ) {
+    return getValues( foregrounds, new Color[ columnCount ] );
+  }
+
+  //////////////////
+  // Helping methods
+
+  private <T> T get( T[] values, int index ) {
+    if( values == null || index < 0 || index >= length ) {
+      return null;
+    }
+    return values[ index ];
+  }
+
+  private <T> T[] set( T[] values, T[] empty, int index, T value ) {
+    T[] result = values;
+    if( result == null ) {
+      if( value == null ) {
+        return null;
+      }
+      result = Arrays.copyOf( empty, length );
+    }
+    result[ index ] = value;
+    return result;
+  }
+
+  private <T> T[] getValues( T[] values, T[] result ) {
+    boolean empty = true;
+    if( values != null ) {
+      for( int i = 0; i < length; i++ ) {
+        if( values[ i ] != null ) {
+          result[ i ] = values[ i ];
+          empty = false;
+        }
+      }
+    }
+    return empty ? null : result;
+  }
+
+  private static <T> T[] copyOf( T[] values, int newLength ) {
+    return values == null ? null : Arrays.copyOf( values, newLength );
+  }
+
+  private <T> T[] insert( T[] values, int index ) {
+    if( values == null ) {
+      return null;
+    }
+    T[] result = Arrays.copyOf( values, length + 1 );
+    System.arraycopy( values, index, result, index + 1, length - index );
+    result[ index ] = null;
+    return result;
+  }
+
+  private <T> T[] remove( T[] values, int index ) {
+    if( values == null ) {
+      return null;
+    }
+    T[] result = Arrays.copyOf( values, length - 1 );
+    System.arraycopy( values, index + 1, result, index, length - index - 1 );
+    return result;
+  }
+
+  private static int[] newWidths( int length ) {
+    int[] result = new int[ length ];
+    Arrays.fill( result, UNKNOWN_WIDTH );
+    return result;
+  }
+
+  private static boolean equals( Object object1, Object object2 ) {
+    return object1 == null ? object2 == null : object1.equals( object2 );
+  }
+
+}
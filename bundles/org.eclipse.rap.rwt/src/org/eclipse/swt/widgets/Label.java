@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -148,7 +148,7 @@ public class Label extends Control {
    * </ul>
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -195,7 +195,7 @@ public class Label extends Control {
   // TODO [rst] Clarify or remove this comment:
   // TODO: The LCA does not yet handle images. So, setting an image currently
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       this.image = image;
       text = "";
@@ -232,7 +232,7 @@ public class Label extends Control {
    * </ul>
    */
   public void setAlignment( int alignment ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    ( style & SWT.SEPARATOR ) == 0
         && ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 )
     {
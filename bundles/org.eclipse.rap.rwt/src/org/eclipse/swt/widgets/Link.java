@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -111,7 +111,7 @@ public class Link extends Control {
    * </ul>
    */
   public void setText( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -165,7 +165,7 @@ public class Link extends Control {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -192,7 +192,7 @@ public class Link extends Control {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -238,7 +238,7 @@ public class List extends Scrollable {
    */
   // TODO [rh] selection is not scrolled into view (see List.js)
   public void setSelection( int selection ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -265,7 +265,7 @@ public class List extends Scrollable {
    * @see List#select(int[])
    */
   public void setSelection( int[] selection ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -292,7 +292,7 @@ public class List extends Scrollable {
    * @see List#select(int,int)
    */
   public void setSelection( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setSelection( start, end );
     updateFocusIndexAfterSelectionChange();
   }
@@ -320,7 +320,7 @@ public class List extends Scrollable {
    * @see List#setSelection(int[])
    */
   public void setSelection( String[] selection ) {
-    checkWidget();
+    checkWidgetForChange();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -338,7 +338,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void select( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SINGLE ) != 0 ) {
       if( index >= 0 && index < model.getItemCount() ) {
         model.setSelection( index );
@@ -371,7 +371,7 @@ public class List extends Scrollable {
    * @see List#setSelection(int[])
    */
   public void select( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -409,7 +409,7 @@ public class List extends Scrollable {
    * @see List#setSelection(int,int)
    */
   public void select( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       int count = model.getItemCount();
       if( count != 0 && start < count ) {
@@ -437,7 +437,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void selectAll() {
-    checkWidget();
+    checkWidgetForChange();
     model.selectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -451,7 +451,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void deselectAll() {
-    checkWidget();
+    checkWidgetForChange();
     model.deselectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -471,7 +471,7 @@ public class List extends Scrollable {
    * @since 1.3
    */
   public void deselect( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     removeFromSelection( index );
   }
 
@@ -493,7 +493,7 @@ public class List extends Scrollable {
    * @since 1.3
    */
   public void deselect( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( start == 0 && end == model.getItemCount() - 1 ) {
       deselectAll();
     } else {
@@ -524,7 +524,7 @@ public class List extends Scrollable {
    * @since 1.3
    */
   public void deselect( int [] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -598,7 +598,7 @@ public class List extends Scrollable {
    * @since 1.3
    */
   public void setTopIndex( int topIndex ) {
-    checkWidget();
+    checkWidgetForChange();
     int count = model.getItemCount();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < count ) {
       this.topIndex = topIndex;
@@ -637,7 +637,7 @@ public class List extends Scrollable {
    * @since 1.3
    */
   public void showSelection() {
-    checkWidget();
+    checkWidgetForChange();
     int index = getSelectionIndex();
     if( index != -1 ) {
       int itemCount = getVisibleItemCount();
@@ -686,7 +686,7 @@ public class List extends Scrollable {
    * @see #add(String,int)
    */
   public void add( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     model.add( string );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -716,7 +716,7 @@ public class List extends Scrollable {
    * @see #add(String)
    */
   public void add( String string, int index ) {
-    checkWidget();
+    checkWidgetForChange();
     model.add( string, index );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -737,7 +737,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void remove( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     model.remove( index );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -761,7 +761,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void remove( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     model.remove( start, end );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -784,7 +784,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void remove( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     model.remove( indices );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -808,7 +808,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void remove( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     model.remove( string );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -824,7 +824,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void removeAll() {
-    checkWidget();
+    checkWidgetForChange();
     model.removeAll();
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -850,7 +850,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void setItem( int index, String string ) {
-    checkWidget();
+    checkWidgetForChange();
     validateMarkup( new String[] { string } );
     model.setItem( index, string );
     updateScrollBars();
@@ -871,7 +871,7 @@ public class List extends Scrollable {
    * </ul>
    */
   public void setItems( String[] items ) {
-    checkWidget();
+    checkWidgetForChange();
     validateMarkup( items );
     model.setItems( items );
     updateScrollBars();
@@ -1033,7 +1033,7 @@ public class List extends Scrollable {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1060,7 +1060,7 @@ public class List extends Scrollable {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -261,7 +261,7 @@ public class Menu extends Widget {
    * </ul>
    */
   public void setLocation( int x, int y ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       this.x = x;
       this.y = y;
@@ -294,7 +294,7 @@ public class Menu extends Widget {
    * @since 1.0
    */
   public void setLocation( Point location ) {
-    checkWidget();
+    checkWidgetForChange();
     if( location == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -335,7 +335,7 @@ public class Menu extends Widget {
    * @since 1.4
    */
   public void setOrientation( int orientation ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
       if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
@@ -384,7 +384,7 @@ public class Menu extends Widget {
    * </ul>
    */
   public void setVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       if( this.visible != visible ) {
         this.visible = visible;
@@ -466,7 +466,7 @@ public class Menu extends Widget {
    * </ul>
    */
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -621,7 +621,7 @@ public class Menu extends Widget {
    * @since 1.4
    */
   public void setDefaultItem( MenuItem item ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -699,7 +699,7 @@ public class Menu extends Widget {
    * @see #removeMenuListener
    */
   public void addMenuListener( MenuListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -726,7 +726,7 @@ public class Menu extends Widget {
    * @see #addMenuListener
    */
   public void removeMenuListener( MenuListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -755,7 +755,7 @@ public class Menu extends Widget {
    * @since 1.3
    */
   public void addHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -782,7 +782,7 @@ public class Menu extends Widget {
    * @since 1.3
    */
   public void removeHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -173,7 +173,7 @@ public class MenuItem extends Item {
    * </ul>
    */
   public void setMenu( Menu menu ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.menu != menu ) {
       if( ( style & SWT.CASCADE ) == 0 ) {
         SWT.error( SWT.ERROR_MENUITEM_NOT_CASCADE );
@@ -235,7 +235,7 @@ public class MenuItem extends Item {
    * @since 1.4
    */
   public void setID( int id ) {
-    checkWidget();
+    checkWidgetForChange();
     if( id < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -273,7 +273,7 @@ public class MenuItem extends Item {
    */
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       super.setImage( image );
     }
@@ -298,7 +298,7 @@ public class MenuItem extends Item {
    * @since 2.1
    */
   public void setAccelerator( int accelerator ) {
-    checkWidget();
+    checkWidgetForChange();
     if( accelerator != 0 ) {
       if( acceleratorBinding == null ) {
         acceleratorBinding = new AcceleratorBinding( this );
@@ -349,7 +349,7 @@ public class MenuItem extends Item {
    * </ul>
    */
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -431,7 +431,7 @@ public class MenuItem extends Item {
    * </ul>
    */
   public void setSelection( boolean selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.CHECK | SWT.RADIO ) ) != 0 ) {
       this.selection = selection;
     }
@@ -465,7 +465,7 @@ public class MenuItem extends Item {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -492,7 +492,7 @@ public class MenuItem extends Item {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -521,7 +521,7 @@ public class MenuItem extends Item {
    * @since 1.3
    */
   public void addHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -548,7 +548,7 @@ public class MenuItem extends Item {
    * @since 1.3
    */
   public void removeHelpListener( HelpListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -576,7 +576,7 @@ public class MenuItem extends Item {
    * @since 1.3
    */
   public void addArmListener( ArmListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -603,7 +603,7 @@ public class MenuItem extends Item {
    * @since 1.3
    */
   public void removeArmListener( ArmListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     removeListener( SWT.Arm, listener );
   }
 
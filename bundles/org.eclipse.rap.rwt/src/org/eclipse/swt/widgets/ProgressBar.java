@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -179,7 +179,7 @@ public class ProgressBar extends Control {
    *                </ul>
    */
   public void setMaximum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value > getMinimum() ) {
       maximum = value;
       if( selection > maximum ) {
@@ -205,7 +205,7 @@ public class ProgressBar extends Control {
    *                </ul>
    */
   public void setMinimum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value > 0 && value < getMaximum() ) {
       minimum = value;
       if( minimum > selection ) {
@@ -228,7 +228,7 @@ public class ProgressBar extends Control {
    *                </ul>
    */
   public void setSelection( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value < minimum ) {
       selection = minimum;
     } else if( value > maximum ) {
@@ -255,7 +255,7 @@ public class ProgressBar extends Control {
    * @since 1.3
    */
   public void setState( int state ) {
-    checkWidget();
+    checkWidgetForChange();
     if( state == SWT.NORMAL || state == SWT.PAUSED || state == SWT.ERROR ) {
       this.state = state;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -108,7 +108,7 @@ public class Scale extends Control {
    * @see #removeSelectionListener
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -134,7 +134,7 @@ public class Scale extends Control {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -254,7 +254,7 @@ public class Scale extends Control {
    *              </ul>
    */
   public void setIncrement( int increment ) {
-    checkWidget();
+    checkWidgetForChange();
     if( increment >= 1 && increment <= maximum - minimum ) {
       this.increment = increment;
     }
@@ -275,7 +275,7 @@ public class Scale extends Control {
    *              </ul>
    */
   public void setMaximum( int maximum ) {
-    checkWidget();
+    checkWidgetForChange();
     if( 0 <= minimum && minimum < maximum ) {
       this.maximum = maximum;
       if( selection > this.maximum ) {
@@ -299,7 +299,7 @@ public class Scale extends Control {
    *              </ul>
    */
   public void setMinimum( int minimum ) {
-    checkWidget();
+    checkWidgetForChange();
     if( 0 <= minimum && minimum < maximum ) {
       this.minimum = minimum;
       if( selection < this.minimum ) {
@@ -321,7 +321,7 @@ public class Scale extends Control {
    *              </ul>
    */
   public void setPageIncrement( int pageIncrement ) {
-    checkWidget();
+    checkWidgetForChange();
     if( pageIncrement >= 1 && pageIncrement <= maximum - minimum ) {
       this.pageIncrement = pageIncrement;
     }
@@ -339,7 +339,7 @@ public class Scale extends Control {
    *              </ul>
    */
   public void setSelection( int selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( selection >= minimum && selection <= maximum ) {
       this.selection = selection;
     }
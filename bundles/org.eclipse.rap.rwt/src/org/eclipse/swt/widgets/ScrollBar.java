@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -178,6 +178,7 @@ public class ScrollBar extends Widget {
     checkWidget();
     boolean isVisible = !hasState( HIDDEN );
     if( isVisible != visible ) {
+      markDirty();
       if( visible ) {
         removeState( HIDDEN );
       } else {
@@ -244,7 +245,7 @@ public class ScrollBar extends Widget {
    * </ul>
    */
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     if( enabled ) {
       removeState( DISABLED );
     } else {
@@ -348,7 +349,7 @@ public class ScrollBar extends Widget {
    * </ul>
    */
   public void setThumb( int thumb ) {
-    checkWidget();
+    checkWidgetForChange();
     this.thumb = thumb;
   }
 
@@ -381,7 +382,7 @@ public class ScrollBar extends Widget {
    * </ul>
    */
   public void setMaximum( int maximum ) {
-    checkWidget();
+    checkWidgetForChange();
     this.maximum = maximum;
   }
 
@@ -414,7 +415,7 @@ public class ScrollBar extends Widget {
    * </ul>
    */
   public void setMinimum( int minimum ) {
-    checkWidget();
+    checkWidgetForChange();
     this.minimum = minimum;
   }
 
@@ -431,7 +432,7 @@ public class ScrollBar extends Widget {
    * </ul>
    */
   public void setSelection( int selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.selection != selection ) {
       this.selection = selection;
     }
@@ -488,7 +489,7 @@ public class ScrollBar extends Widget {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -515,7 +516,7 @@ public class ScrollBar extends Widget {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
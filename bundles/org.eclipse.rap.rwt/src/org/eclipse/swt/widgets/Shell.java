@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -196,6 +196,7 @@ public class Shell extends Decorations {
     minHeight = getMinHeightLimit();
     this.display.addShell( this );
     reskinWidget();
+    markDirty();
     createWidget();
     setInitialSize();
   }
@@ -473,7 +474,7 @@ public class Shell extends Decorations {
    * @see Shell#setActive
    */
   public void setActive() {
-    checkWidget();
+    checkWidgetForChange();
     if( isVisible() ) {
       display.setActiveShell( this );
     }
@@ -500,7 +501,7 @@ public class Shell extends Decorations {
    * @see Shell#setActive
    */
   public void forceActive() {
-    checkWidget();
+    checkWidgetForChange();
     setActive();
   }
 
@@ -652,7 +653,7 @@ public class Shell extends Decorations {
 
   @Override
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     if( getEnabled() != enabled ) {
       super.setEnabled( enabled );
       if( enabled ) {
@@ -680,7 +681,7 @@ public class Shell extends Decorations {
 
   @Override
   public void setVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
     boolean wasVisible = getVisible();
     super.setVisible( visible );
     // Emulate OS behavior: in SWT, a layout is triggered during
@@ -713,7 +714,7 @@ public class Shell extends Decorations {
    * @see Shell#forceActive
    */
   public void open() {
-    checkWidget();
+    checkWidgetForChange();
     // Order of setActiveShell/bringToTop/setVisible is crucial
     display.setActiveShell( this );
     bringToTop();
@@ -739,7 +740,7 @@ public class Shell extends Decorations {
    * @see Shell#dispose()
    */
   public void close() {
-    checkWidget();
+    checkWidgetForChange();
     ProcessActionRunner.add( new Runnable() {
       @Override
       public void run() {
@@ -771,7 +772,7 @@ public class Shell extends Decorations {
    * @since 1.1
    */
   public void setAlpha( int alpha ) {
-    checkWidget();
+    checkWidgetForChange();
     this.alpha = alpha & 0xFF;
   }
 
@@ -806,7 +807,7 @@ public class Shell extends Decorations {
    * @since 1.3
    */
   public void setModified ( boolean modified ) {
-    checkWidget();
+    checkWidgetForChange();
     this.modified = modified;
   }
 
@@ -842,7 +843,7 @@ public class Shell extends Decorations {
    * @since 1.3
    */
   public void setMinimumSize( int width, int height ) {
-    checkWidget();
+    checkWidgetForChange();
     minWidth = Math.max( MIN_WIDTH_LIMIT, width );
     minHeight = Math.max( getMinHeightLimit(), height );
     Point size = getSize();
@@ -871,7 +872,7 @@ public class Shell extends Decorations {
    * @since 1.3
    */
   public void setMinimumSize( Point size ) {
-    checkWidget();
+    checkWidgetForChange();
     if( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -949,7 +950,7 @@ public class Shell extends Decorations {
    * @see #removeShellListener
    */
   public void addShellListener( ShellListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -977,7 +978,7 @@ public class Shell extends Decorations {
    * @see #addShellListener
    */
   public void removeShellListener( ShellListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1111,7 +1112,7 @@ public class Shell extends Decorations {
    * @see #setMaximized
    */
   public void setMinimized( boolean minimized ) {
-    checkWidget();
+    checkWidgetForChange();
     if( minimized ) {
       mode |= MODE_MINIMIZED;
     } else {
@@ -1146,7 +1147,7 @@ public class Shell extends Decorations {
    * @see #setMinimized
    */
   public void setMaximized( boolean maximized ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( mode & MODE_FULLSCREEN ) == 0 ) {
       if( maximized ) {
         if( ( mode & MODE_MAXIMIZED ) == 0 ) {
@@ -1229,7 +1230,7 @@ public class Shell extends Decorations {
    * @since 1.3
    */
   public void setFullScreen( boolean fullScreen ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( ( mode & MODE_FULLSCREEN ) != 0 ) != fullScreen ) {
       if( fullScreen ) {
         setActive();
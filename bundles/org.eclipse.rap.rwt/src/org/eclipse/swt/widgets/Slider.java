@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -153,7 +153,7 @@ public class Slider extends Control {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -180,7 +180,7 @@ public class Slider extends Control {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -333,7 +333,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setIncrement( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 1 && value <= maximum - minimum ) {
       increment = value;
     }
@@ -353,7 +353,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setMaximum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( 0 <= minimum && minimum < value ) {
       maximum = value;
       if( selection > maximum - thumb ) {
@@ -380,7 +380,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setMinimum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( 0 <= value && value < maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -407,7 +407,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setPageIncrement( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 1 && value <= maximum - minimum ) {
       pageIncrement = value;
     }
@@ -426,7 +426,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setSelection( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value < minimum ) {
       selection = minimum;
     } else if ( value > maximum - thumb ) {
@@ -451,7 +451,7 @@ public class Slider extends Control {
    * </ul>
    */
   public void setThumb( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 1 ) {
       thumb = value;
     }
@@ -489,7 +489,7 @@ public class Slider extends Control {
                          int increment,
                          int pageIncrement )
   {
-    checkWidget();
+    checkWidgetForChange();
     if( selection >= minimum && selection <= maximum ) {
       this.selection = selection;
     }
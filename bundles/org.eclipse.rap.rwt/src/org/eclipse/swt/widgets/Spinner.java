@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -148,7 +148,7 @@ public class Spinner extends Composite {
    * @since 1.3
    */
   public void setDigits( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -187,7 +187,7 @@ public class Spinner extends Composite {
    * </ul>
    */
   public void setIncrement( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 1 ) {
       increment = value;
     }
@@ -222,7 +222,7 @@ public class Spinner extends Composite {
    * </ul>
    */
   public void setMinimum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value <= maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -260,7 +260,7 @@ public class Spinner extends Composite {
    * </ul>
    */
   public void setMaximum( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= minimum ) {
       maximum = value;
       if( selection > maximum ) {
@@ -298,7 +298,7 @@ public class Spinner extends Composite {
    * </ul>
    */
   public void setPageIncrement( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 1 ) {
       pageIncrement = value;
     }
@@ -333,7 +333,7 @@ public class Spinner extends Composite {
    * </ul>
    */
   public void setSelection( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     selection = Math.min( Math.max( minimum, value ), maximum );
     notifyListeners( SWT.Modify, new Event() );
   }
@@ -366,7 +366,7 @@ public class Spinner extends Composite {
                          int increment,
                          int pageIncrement )
   {
-    checkWidget();
+    checkWidgetForChange();
     if( maximum >= minimum && digits >= 0 && increment >= 1 && pageIncrement >= 1 ) {
       this.minimum = minimum;
       this.maximum = maximum;
@@ -429,7 +429,7 @@ public class Spinner extends Composite {
    * @since 1.3
    */
   public void setTextLimit( int textLimit ) {
-    checkWidget();
+    checkWidgetForChange();
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -552,7 +552,7 @@ public class Spinner extends Composite {
    * @see #removeModifyListener
    */
   public void addModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -578,7 +578,7 @@ public class Spinner extends Composite {
    * @see #addModifyListener
    */
   public void removeModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -612,7 +612,7 @@ public class Spinner extends Composite {
    * @since 1.2
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -641,7 +641,7 @@ public class Spinner extends Composite {
    * @since 1.2
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
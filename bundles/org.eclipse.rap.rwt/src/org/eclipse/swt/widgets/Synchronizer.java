@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,13 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.SWT;
@@ -44,14 +50,19 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
+// RAP lock-free queue, avoids copying the messages array and locking on every enqueue
+//  int messageCount;
+//  RunnableLock [] messages;
+  final AtomicInteger messageCount = new AtomicInteger ();
+  final ConcurrentLinkedQueue<RunnableLock> messages = new ConcurrentLinkedQueue<> ();
+  final ConcurrentHashMap<Object, KeyedRunnable> keyedRunnables = new ConcurrentHashMap<> ();
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
   Object messageLock = new SerializableLock();
   Thread syncThread;
-  static final int GROW_SIZE = 4;
-  static final int MESSAGE_LIMIT = 64;
+// RAP the time that a single readAndDispatch may spend on draining queued runnables
+  final long drainBudget = RWTProperties.getAsyncExecDrainBudget( DEFAULT_DRAIN_BUDGET );
+  static final int DEFAULT_DRAIN_BUDGET = 200;
 
   //TEMPORARY CODE
   static final boolean IS_CARBON = "carbon".equals (SWT.getPlatform ());
@@ -68,35 +79,36 @@ public Synchronizer (Display display) {
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  // Increment before offering, so that the count never drops below the actual queue size
+  boolean wake = messageCount.incrementAndGet () == 1;
+  messages.offer (lock);
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
-    }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
+  if( wake ) {
+    updateHasRunnables();
   }
+  runnableAdded( lock.runnable );
+// END RAP
   if (wake) {
     display.wakeThread ();
   }
 }
 
+/*
+ * Passes the current state of the queue to the server push. Only called when the queue changes
+ * between empty and non-empty. As the state is read under the lock instead of passing the
+ * transition, the last update always reflects the final state of concurrent transitions.
+ */
+private void updateHasRunnables() {
+  RWT.getUISession( display ).exec( new Runnable() {
+    @Override
+    public void run() {
+      synchronized( messageLock ) {
+        ServerPushManager.getInstance().setHasRunnables( messageCount.get() > 0 );
+      }
+    }
+  } );
+}
+
 @SuppressWarnings( "unused" )
 protected void runnableAdded( Runnable runnable ) {
 }
@@ -123,12 +135,46 @@ protected void asyncExec (Runnable runnable) {
   addLast (new RunnableLock (runnable));
 }
 
-int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
+/**
+ * Causes the <code>run()</code> method of the runnable to
+ * be invoked by the user-interface thread at the next
+ * reasonable opportunity. If a runnable that was passed with
+ * an equal key is still pending, it is replaced by the given
+ * runnable instead, keeping its position in the queue.
+ *
+ * @param key the key to coalesce runnables with, must not be <code>null</code>
+ * @param runnable code to run on the user-interface thread, must not be <code>null</code>
+ *
+ * @see #asyncExec(Runnable)
+ * @since 3.16
+ */
+protected void asyncExec (Object key, Runnable runnable) {
+  if (key == null || runnable == null) {
+    SWT.error (SWT.ERROR_NULL_ARGUMENT);
+  }
+  boolean replaced = false;
+  while( !replaced ) {
+    KeyedRunnable pending = keyedRunnables.get( key );
+    if( pending != null ) {
+      replaced = pending.replace( runnable );
+      if( !replaced && keyedRunnables.remove( key, pending ) ) {
+        pending = null;
+      }
+    }
+    if( pending == null ) {
+      KeyedRunnable keyedRunnable = new KeyedRunnable( key, runnable );
+      if( keyedRunnables.putIfAbsent( key, keyedRunnable ) == null ) {
+        asyncExec( keyedRunnable );
+        replaced = true;
+      }
+    }
   }
 }
 
+int getMessageCount () {
+  return messageCount.get ();
+}
+
 void releaseSynchronizer () {
   // RAP [rh] release all threads that are waiting in syncExec(), see bug 352437
   RunnableLock runnableLock = removeFirst();
@@ -143,36 +189,19 @@ void releaseSynchronizer () {
   }
   // END RAP
 //	display = null;
-  messages = null;
-  messageLock = null;
+  messages.clear ();
+  keyedRunnables.clear ();
   syncThread = null;
 }
 
 RunnableLock removeFirst () {
-  synchronized (messageLock) {
-    if (messageCount == 0) {
-      return null;
-    }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
-    }
+  RunnableLock lock = messages.poll ();
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
-    }
-// END RAP
-    return lock;
+  if( lock != null && messageCount.decrementAndGet() == 0 ) {
+    updateHasRunnables();
   }
+// END RAP
+  return lock;
 }
 
 boolean runAsyncMessages () {
@@ -181,6 +210,11 @@ boolean runAsyncMessages () {
 
 boolean runAsyncMessages (boolean all) {
   boolean run = false;
+// RAP drain the queue in batches: a single call runs queued runnables until the drain budget
+//     is used up, which is scoped to this call. Returns true whenever a runnable was run, so
+//     callers keep calling readAndDispatch while runnables are left in the queue.
+  boolean batch = !all && drainBudget > 0;
+  long deadline = batch ? System.nanoTime () + drainBudget * 1000000L : 0;
   do {
     RunnableLock lock = removeFirst ();
     if (lock == null) {
@@ -203,7 +237,7 @@ boolean runAsyncMessages (boolean all) {
         lock.notifyAll ();
       }
     }
-  } while (all);
+  } while (all || (batch && System.nanoTime () - deadline < 0));
   return run;
 }
 
@@ -266,4 +300,34 @@ protected void syncExec (Runnable runnable) {
   }
 }
 
+/*
+ * Holds the most recent runnable for a key until it is executed. Replacing the runnable fails
+ * once the execution has started, a new runnable has to be enqueued in that case.
+ */
+final class KeyedRunnable implements Runnable, SerializableCompatibility {
+
+  private final Object key;
+  private final AtomicReference<Runnable> runnable;
+
+  KeyedRunnable( Object key, Runnable runnable ) {
+    this.key = key;
+    this.runnable = new AtomicReference<>( runnable );
+  }
+
+  boolean replace( Runnable newRunnable ) {
+    Runnable current = runnable.get();
+    return current != null && runnable.compareAndSet( current, newRunnable );
+  }
+
+  @Override
+  public void run() {
+    keyedRunnables.remove( key, this );
+    Runnable current = runnable.getAndSet( null );
+    if( current != null ) {
+      current.run();
+    }
+  }
+
+}
+
 }
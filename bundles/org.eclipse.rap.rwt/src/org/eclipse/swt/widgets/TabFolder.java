@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -280,7 +280,7 @@ public class TabFolder extends Composite {
    * </ul>
    */
   public void setSelection( TabItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -303,7 +303,7 @@ public class TabFolder extends Composite {
    * </ul>
    */
   public void setSelection( TabItem[] items ) {
-    checkWidget();
+    checkWidgetForChange();
     if( items == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -363,7 +363,7 @@ public class TabFolder extends Composite {
 
   @Override
   public void layout() {
-    checkWidget();
+    checkWidgetForChange();
     Control[] children = getChildren();
     for( int i = 0; i < children.length; i++ ) {
       children[ i ].setBounds( getClientArea() );
@@ -471,7 +471,7 @@ public class TabFolder extends Composite {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -498,7 +498,7 @@ public class TabFolder extends Composite {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
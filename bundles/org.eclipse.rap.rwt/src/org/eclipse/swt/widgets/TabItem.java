@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -175,7 +175,7 @@ public class TabItem extends Item {
    * </ul>
    */
   public void setControl( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -268,7 +268,7 @@ public class TabItem extends Item {
 
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     int index = parent.indexOf( this );
     if( index > -1 ) {
       super.setImage( image );
@@ -289,7 +289,7 @@ public class TabItem extends Item {
    * @since 1.2
    */
   public void setToolTipText( String toolTipText ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
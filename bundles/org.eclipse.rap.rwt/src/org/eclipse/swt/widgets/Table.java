@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -542,7 +542,7 @@ public class Table extends Composite {
    * @see SWT#Move
    */
   public void setColumnOrder( int[] order ) {
-    checkWidget();
+    checkWidgetForChange();
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -632,7 +632,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setItemCount( int count ) {
-    checkWidget();
+    checkWidgetForChange();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount && !isInDispose() ) {
@@ -814,7 +814,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void removeAll() {
-    checkWidget();
+    checkWidgetForChange();
     while( itemCount > 0 ) {
       removeItem( itemCount - 1 );
     }
@@ -840,7 +840,7 @@ public class Table extends Composite {
    *              </ul>
    */
   public void remove( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         error( SWT.ERROR_INVALID_RANGE );
@@ -868,7 +868,7 @@ public class Table extends Composite {
    *              </ul>
    */
   public void remove( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     if( !( 0 <= index && index < itemCount ) ) {
       SWT.error( SWT.ERROR_ITEM_NOT_REMOVED );
     }
@@ -894,7 +894,7 @@ public class Table extends Composite {
    *              </ul>
    */
   public void remove( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -940,7 +940,7 @@ public class Table extends Composite {
    * @see SWT#SetData
    */
   public void clear( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     if( index < 0 || index >= itemCount ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -972,7 +972,7 @@ public class Table extends Composite {
    * @see SWT#SetData
    */
   public void clear( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1005,7 +1005,7 @@ public class Table extends Composite {
    * @see SWT#SetData
    */
   public void clearAll() {
-    checkWidget();
+    checkWidgetForChange();
     for( int i = 0; i < itemCount; i++ ) {
       TableItem item = items[ i ];
       if( item != null ) {
@@ -1036,7 +1036,7 @@ public class Table extends Composite {
    * @see SWT#SetData
    */
   public void clear( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1104,7 +1104,7 @@ public class Table extends Composite {
    * @see Table#select(int)
    */
   public void setSelection( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     deselectAll();
     select( index );
     setFocusIndex( index );
@@ -1149,7 +1149,7 @@ public class Table extends Composite {
    * @see Table#select(int,int)
    */
   public void setSelection( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     deselectAll();
     select( start, end );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
@@ -1207,7 +1207,7 @@ public class Table extends Composite {
    * @see Table#select(int[])
    */
   public void setSelection( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1239,7 +1239,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setSelection( TableItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1271,7 +1271,7 @@ public class Table extends Composite {
    * @see Table#setSelection(int[])
    */
   public void setSelection( TableItem[] items ) {
-    checkWidget();
+    checkWidgetForChange();
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1346,7 +1346,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void select( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     if( index >= 0 && index < itemCount ) {
       if( ( style & SWT.SINGLE ) != 0 ) {
         selection = new int[] { index };
@@ -1386,7 +1386,7 @@ public class Table extends Composite {
    * @see Table#setSelection(int,int)
    */
   public void select( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       if( itemCount != 0 && start < itemCount ) {
         int adjustedStart = Math.max( 0, start );
@@ -1426,7 +1426,7 @@ public class Table extends Composite {
    * @see Table#setSelection(int[])
    */
   public void select( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1452,7 +1452,7 @@ public class Table extends Composite {
   // TODO [rh] revise: a VIRTUAL table would resolve all its items when
   //      selectAll is called. Compare how SWT handles this.
   public void selectAll() {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SINGLE ) == 0 ) {
       setSelection( getItems() );
     }
@@ -1471,7 +1471,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void deselect( int index ) {
-    checkWidget();
+    checkWidgetForChange();
     removeFromSelection( index );
   }
 
@@ -1491,7 +1491,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void deselect( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     if( start == 0 && end == itemCount - 1 ) {
       deselectAll();
     } else {
@@ -1520,7 +1520,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void deselect( int[] indices ) {
-    checkWidget();
+    checkWidgetForChange();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1538,7 +1538,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void deselectAll() {
-    checkWidget();
+    checkWidgetForChange();
     selection = EMPTY_SELECTION;
   }
 
@@ -1558,7 +1558,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setTopIndex( int topIndex ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < itemCount ) {
       this.topIndex = topIndex;
       adjustTopIndex();
@@ -1604,7 +1604,7 @@ public class Table extends Composite {
    * @see Table#showSelection()
    */
   public void showItem( TableItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1641,7 +1641,7 @@ public class Table extends Composite {
    * @since 1.3
    */
   public void showColumn( TableColumn column ) {
-    checkWidget();
+    checkWidgetForChange();
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1692,7 +1692,7 @@ public class Table extends Composite {
    * @see Table#showItem(TableItem)
    */
   public void showSelection() {
-    checkWidget();
+    checkWidgetForChange();
     int index = getSelectionIndex();
     if( index != -1 ) {
       showItem( _getItem( index ) );
@@ -1719,7 +1719,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setHeaderVisible( boolean headerVisible ) {
-    checkWidget();
+    checkWidgetForChange();
     boolean changed = headerVisible != this.headerVisible;
     this.headerVisible = headerVisible;
     if( changed ) {
@@ -1764,7 +1764,7 @@ public class Table extends Composite {
    * @since 3.6
    */
   public void setHeaderBackground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1802,7 +1802,7 @@ public class Table extends Composite {
    * @since 3.6
    */
   public void setHeaderForeground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1864,7 +1864,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setLinesVisible( boolean linesVisible ) {
-    checkWidget();
+    checkWidgetForChange();
     this.linesVisible = linesVisible;
   }
 
@@ -1884,7 +1884,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setSortColumn( TableColumn column ) {
-    checkWidget();
+    checkWidgetForChange();
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1922,7 +1922,7 @@ public class Table extends Composite {
    * </ul>
    */
   public void setSortDirection( int direction ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( direction & ( SWT.UP | SWT.DOWN ) ) != 0 || direction == SWT.NONE ) {
       sortDirection = direction;
     }
@@ -2060,7 +2060,7 @@ public class Table extends Composite {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2087,7 +2087,7 @@ public class Table extends Composite {
    * @see #addSelectionListener(SelectionListener)
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -184,7 +184,7 @@ public class TableColumn extends Item {
    * </ul>
    */
   public void setToolTipText( String toolTipText ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -223,7 +223,7 @@ public class TableColumn extends Item {
    * </ul>
    */
   public void setAlignment( int alignment ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 ) {
       style &= ~( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
       style |= alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
@@ -265,7 +265,7 @@ public class TableColumn extends Item {
    * </ul>
    */
   public void setWidth( int width ) {
-    checkWidget();
+    checkWidgetForChange();
     if( width >= 0 ) {
       this.width = width;
       parent.updateScrollBars();
@@ -286,7 +286,7 @@ public class TableColumn extends Item {
    * </ul>
    */
   public void pack() {
-    checkWidget();
+    checkWidgetForChange();
     int width = getPreferredWidth();
     if( width != getWidth() ) {
       setWidth( width );
@@ -314,7 +314,7 @@ public class TableColumn extends Item {
    * @see SWT#Move
    */
   public void setMoveable( boolean moveable ) {
-    checkWidget();
+    checkWidgetForChange();
     this.moveable = moveable;
   }
 
@@ -356,7 +356,7 @@ public class TableColumn extends Item {
    * </ul>
    */
   public void setResizable( boolean resizable ) {
-    checkWidget();
+    checkWidgetForChange();
     this.resizable = resizable;
   }
 
@@ -400,7 +400,7 @@ public class TableColumn extends Item {
    * @see #removeControlListener
    */
   public void addControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,7 +427,7 @@ public class TableColumn extends Item {
    * @see #addControlListener
    */
   public void removeControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -460,7 +460,7 @@ public class TableColumn extends Item {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -487,7 +487,7 @@ public class TableColumn extends Item {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
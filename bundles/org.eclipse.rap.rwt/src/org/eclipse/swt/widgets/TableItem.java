@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,8 +14,6 @@ package org.eclipse.swt.widgets;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
-import java.util.Arrays;
-
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -24,7 +22,6 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.ITableItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
@@ -53,7 +50,7 @@ public class TableItem extends Item {
   final Table parent;
   boolean cached;
   int index;
-  private Data[] data;
+  private ItemCells cells;
   private boolean checked;
   private boolean grayed;
   private Color background;
@@ -177,7 +174,7 @@ public class TableItem extends Item {
 
   @Override
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     setText( 0, text );
   }
 
@@ -196,7 +193,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setText( int index, String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -205,10 +202,7 @@ public class TableItem extends Item {
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !text.equals( data[ index ].text ) ) {
-        data[ index ].text = text;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( ensureCells( count ).setText( index, text ) ) {
         markCached();
         if( parent.getColumnCount() == 0 ) {
           parent.updateScrollBars();
@@ -234,7 +228,7 @@ public class TableItem extends Item {
    * @since 1.2
    */
   public void setText( String[] strings ) {
-    checkWidget();
+    checkWidgetForChange();
     if( strings == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -269,11 +263,7 @@ public class TableItem extends Item {
     if( !parent.checkData( this, parent.indexOf( this ) ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
-    String result = "";
-    if( hasData( index ) ) {
-      result = data[ index ].text;
-    }
-    return result;
+    return cells == null ? "" : cells.getText( index );
   }
 
   ////////////////////////////
@@ -281,7 +271,7 @@ public class TableItem extends Item {
 
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     setImage( 0, image );
   }
 
@@ -300,16 +290,15 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setImage( int index, Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].image, image ) ) {
-        parent.updateColumnImageCount( index, data[ index ].image, image );
-        data[ index ].image = image;
+      Image oldImage = ensureCells( count ).getImage( index );
+      if( cells.setImage( index, image ) ) {
+        parent.updateColumnImageCount( index, oldImage, image );
         parent.updateItemImageSize( image );
         markCached();
         if( parent.getColumnCount() == 0 ) {
@@ -335,7 +324,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setImage( Image[] images ) {
-    checkWidget();
+    checkWidgetForChange();
     if( images == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -376,11 +365,7 @@ public class TableItem extends Item {
   }
 
   Image getImageInternal( int index ) {
-    Image result = null;
-    if( hasData( index ) ) {
-      result = data[ index ].image;
-    }
-    return result;
+    return cells == null ? null : cells.getImage( index );
   }
 
   ////////////////////
@@ -402,7 +387,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setBackground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -455,15 +440,13 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setBackground( int index, Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].background, color ) ) {
-        data[ index ].background = color;
+      if( ensureCells( count ).setBackground( index, color ) ) {
         markCached();
         parent.redraw();
       }
@@ -487,8 +470,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getBackground();
-    if( hasData( index ) && data[ index ].background != null ) {
-      result = data[ index ].background;
+    if( cells != null && cells.getBackground( index ) != null ) {
+      result = cells.getBackground( index );
     }
     return result;
   }
@@ -512,7 +495,7 @@ public class TableItem extends Item {
    *              </ul>
    */
   public void setForeground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -564,15 +547,13 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setForeground( int index, Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].foreground, color ) ) {
-        data[ index ].foreground = color;
+      if( ensureCells( count ).setForeground( index, color ) ) {
         markCached();
         parent.redraw();
       }
@@ -597,8 +578,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getForeground();
-    if( hasData( index ) && data[ index ].foreground != null ) {
-      result = data[ index ].foreground;
+    if( cells != null && cells.getForeground( index ) != null ) {
+      result = cells.getForeground( index );
     }
     return result;
   }
@@ -619,7 +600,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setFont( Font font ) {
-    checkWidget();
+    checkWidgetForChange();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -676,16 +657,13 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setFont( int index, Font font ) {
-    checkWidget();
+    checkWidgetForChange();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( font, data[ index ].font ) ) {
-        data[ index ].font = font;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( ensureCells( count ).setFont( index, font ) ) {
         markCached();
         parent.redraw();
       }
@@ -710,8 +688,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Font result = getFont();
-    if( hasData( index ) && data[ index ].font != null ) {
-      result = data[ index ].font;
+    if( cells != null && cells.getFont( index ) != null ) {
+      result = cells.getFont( index );
     }
     return result;
   }
@@ -733,7 +711,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setChecked( boolean checked ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -778,7 +756,7 @@ public class TableItem extends Item {
    * </ul>
    */
   public void setGrayed( boolean grayed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -1030,30 +1008,24 @@ public class TableItem extends Item {
 
   private int getTextWidth( int index, Font font ) {
     int result = 0;
-    if( hasData( index ) ) {
-      if( data[ index ].textWidth == Data.UNKNOWN_WIDTH ) {
-        data[ index ].textWidth = parent.getStringExtent( font, data[ index ].text ).x;
+    if( cells != null && index >= 0 && index < cells.getLength() ) {
+      result = cells.getWidth( index );
+      if( result == ItemCells.UNKNOWN_WIDTH ) {
+        result = parent.getStringExtent( font, cells.getText( index ) ).x;
+        cells.setWidth( index, result );
       }
-      result = data[ index ].textWidth;
     }
     return result;
   }
 
   void clearTextWidths() {
-    if( data != null ) {
-      for( int i = 0; i < data.length; i++ ) {
-        if( data[ i ] != null ) {
-          data[ i ].textWidth = Data.UNKNOWN_WIDTH;
-        }
-      }
+    if( cells != null ) {
+      cells.clearWidths();
     }
   }
 
   boolean hasTextWidthBuffer( int index ) {
-    if( hasData( index ) ) {
-      return data[ index ].textWidth != Data.UNKNOWN_WIDTH;
-    }
-    return false;
+    return cells != null && cells.getWidth( index ) != ItemCells.UNKNOWN_WIDTH;
   }
 
   private int getSpacing( int index ) {
@@ -1068,27 +1040,22 @@ public class TableItem extends Item {
   // Manage item data (texts, images, etc)
 
   final void shiftData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length + 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index;
-      System.arraycopy( data, index, newData, index + 1, offSet );
-      data = newData;
+    markDirty();
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      cells.insertColumn( index );
     }
   }
 
   final void removeData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length - 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index - 1;
-      System.arraycopy( data, index + 1, newData, index, offSet );
-      data = newData;
+    markDirty();
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      cells.removeColumn( index );
     }
   }
 
   final void clear() {
-    data = null;
+    markDirty();
+    cells = null;
     checked = false;
     grayed = false;
     parent.updateScrollBars();
@@ -1125,21 +1092,13 @@ public class TableItem extends Item {
     }
   }
 
-  private void ensureData( int index, int columnCount ) {
-    if( data == null ) {
-      data = new Data[ columnCount ];
-    } else if( data.length < columnCount ) {
-      Data[] newData = new Data[ columnCount ];
-      System.arraycopy( data, 0, newData, 0, data.length );
-      data = newData;
-    }
-    if( data[ index ] == null ) {
-      data[ index ] = new Data();
+  private ItemCells ensureCells( int columnCount ) {
+    if( cells == null ) {
+      cells = new ItemCells( columnCount );
+    } else {
+      cells.ensureLength( columnCount );
     }
-  }
-
-  private boolean hasData( int index ) {
-    return data != null && index >= 0 && index < data.length && data[ index ] != null;
+    return cells;
   }
 
   private static boolean equals( Object object1, Object object2 ) {
@@ -1183,104 +1142,33 @@ public class TableItem extends Item {
     @Override
     public String[] getTexts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      String[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          String text = data[ i ] == null ? "" : data[ i ].text;
-          if( !"".equals( text ) ) {
-            if( result == null ) {
-              result = new String[ columnCount ];
-              Arrays.fill( result, "" );
-            }
-            result[ i ] = text;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getTexts( columnCount );
     }
 
     @Override
     public Image[] getImages() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Image[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Image image = data[ i ] == null ? null : data[ i ].image;
-          if( image != null ) {
-            if( result == null ) {
-              result = new Image[ columnCount ];
-            }
-            result[ i ] = image;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getImages( columnCount );
     }
 
     @Override
     public Color[] getCellBackgrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color background = data[ i ] == null ? null : data[ i ].background;
-          if( background != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = background;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getBackgrounds( columnCount );
     }
 
     @Override
     public Color[] getCellForegrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color foreground = data[ i ] == null ? null : data[ i ].foreground;
-          if( foreground != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = foreground;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getForegrounds( columnCount );
     }
 
     @Override
     public Font[] getCellFonts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Font[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Font font = data[ i ] == null ? null : data[ i ].font;
-          if( font != null ) {
-            if( result == null ) {
-              result = new Font[ columnCount ];
-            }
-            result[ i ] = font;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getFonts( columnCount );
     }
 
   }
 
-  private static final class Data implements SerializableCompatibility {
-    static final int UNKNOWN_WIDTH = -1;
-    String text = "";
-    int textWidth = UNKNOWN_WIDTH;
-    Image image;
-    Font font;
-    Color background;
-    Color foreground;
-  }
-
 }
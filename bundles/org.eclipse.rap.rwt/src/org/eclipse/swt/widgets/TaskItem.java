@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -196,7 +196,7 @@ public class TaskItem extends Item {
    * </ul>
    */
   public void setMenu( Menu menu ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -227,7 +227,7 @@ public class TaskItem extends Item {
    * </ul>
    */
   public void setOverlayImage( Image overlayImage ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -257,7 +257,7 @@ public class TaskItem extends Item {
    * </ul>
    */
   public void setOverlayText( String overlayText ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -286,7 +286,7 @@ public class TaskItem extends Item {
    * #see {@link #setProgressState(int)}
    */
   public void setProgress( int progress ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -325,7 +325,7 @@ public class TaskItem extends Item {
    * #see {@link #setProgress(int)}
    */
   public void setProgressState( int progressState ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
 }
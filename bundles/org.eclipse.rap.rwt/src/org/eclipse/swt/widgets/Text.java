@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -177,7 +177,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -224,7 +224,7 @@ public class Text extends Scrollable {
    * @since 1.4
    */
   public void setTextChars( char[] text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -315,7 +315,7 @@ public class Text extends Scrollable {
    */
   // TODO [rh] fire VerifyEvent missing
   public void append( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -375,7 +375,7 @@ public class Text extends Scrollable {
    * @since 1.3
    */
   public void setMessage( String message ) {
-    checkWidget();
+    checkWidgetForChange();
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -426,7 +426,7 @@ public class Text extends Scrollable {
    * @since 1.3
    */
   public void setEchoChar( char echo ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.MULTI ) == 0 ) {
       echoChar = echo;
     }
@@ -480,7 +480,7 @@ public class Text extends Scrollable {
    * @see #LIMIT
    */
   public void setTextLimit( int textLimit ) {
-    checkWidget();
+    checkWidgetForChange();
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -552,7 +552,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void setSelection( int start ) {
-    checkWidget();
+    checkWidgetForChange();
     setSelection( start, start );
  }
 
@@ -582,7 +582,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void setSelection( int start, int end ) {
-    checkWidget();
+    checkWidgetForChange();
     int validatedStart = selection.x;
     int validatedEnd = selection.y;
     if( start >= 0 && end >= start ) {
@@ -626,7 +626,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void setSelection( Point selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( selection == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -695,7 +695,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void clearSelection() {
-    checkWidget();
+    checkWidgetForChange();
     selection.x = selection.y;
   }
 
@@ -708,7 +708,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void selectAll() {
-    checkWidget();
+    checkWidgetForChange();
     selection.x = 0;
     selection.y = text.length();
   }
@@ -743,7 +743,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void setEditable( boolean editable ) {
-    checkWidget();
+    checkWidgetForChange();
     style &= ~SWT.READ_ONLY;
     if( !editable ) {
       style |= SWT.READ_ONLY;
@@ -782,7 +782,7 @@ public class Text extends Scrollable {
    * </ul>
    */
   public void insert( String string ) {
-    checkWidget();
+    checkWidgetForChange();
     if( string == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -885,7 +885,7 @@ public class Text extends Scrollable {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -912,7 +912,7 @@ public class Text extends Scrollable {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -940,7 +940,7 @@ public class Text extends Scrollable {
    * @see #removeModifyListener
    */
   public void addModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -966,7 +966,7 @@ public class Text extends Scrollable {
    * @see #addModifyListener
    */
   public void removeModifyListener( ModifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -993,7 +993,7 @@ public class Text extends Scrollable {
    * @see #removeVerifyListener
    */
   public void addVerifyListener( VerifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1019,7 +1019,7 @@ public class Text extends Scrollable {
    * @see #addVerifyListener
    */
   public void removeVerifyListener( VerifyListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1044,7 +1044,7 @@ public class Text extends Scrollable {
    * @since 3.16
    */
   public void cut() {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1106,7 +1106,7 @@ public class Text extends Scrollable {
    * @since 3.16
    */
   public void paste() {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,11 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
-import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
@@ -28,29 +27,44 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 
 
+/*
+ * Schedules the runnables of Display#timerExec on the scheduler of the application, which is
+ * shared by all UI sessions. The tasks are kept by runnable, so that re-scheduling and cancelling
+ * a runnable does not need to search for its task.
+ */
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  private final Map<Runnable, TimerExecTask> tasks;
+  private transient ApplicationScheduler applicationScheduler;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
-      TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      long time = getCurrentTime() + milliseconds;
+      TimerExecTask task = tasks.get( runnable );
+      if( task == null ) {
+        task = createTask( runnable );
+        tasks.put( runnable, task );
+        task.schedule( time );
+      } else if( task.getTime() != time ) {
+        // re-scheduling a pending runnable for the same time is a no-op
+        task.schedule( time );
+      }
     }
   }
 
   void cancel( Runnable runnable ) {
-    TimerExecTask task = findAndRemoveTask( runnable );
+    TimerExecTask task;
+    synchronized( display.getDeviceLock() ) {
+      task = tasks.remove( runnable );
+    }
     if( task != null ) {
       task.cancel();
     }
@@ -58,69 +72,52 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
+      for( TimerExecTask task : tasks.values() ) {
+        task.cancelFuture();
       }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
-  }
-
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
-  }
-
-  private TimerExecTask findOrAddTask( Runnable runnable ) {
-    synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
-      }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
-      return task;
-    }
-  }
-
   TimerExecTask createTask( Runnable runnable ) {
     return new TimerExecTask( this, runnable );
   }
 
-  private TimerExecTask findAndRemoveTask( Runnable runnable ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
+      if( tasks.get( task.getRunnable() ) == task ) {
+        tasks.remove( task.getRunnable() );
       }
     }
-    return null;
   }
 
-  void removeTask( TimerTask task ) {
-    synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+  ApplicationScheduler getApplicationScheduler() {
+    if( applicationScheduler == null ) {
+      UISession uiSession = getUISession();
+      ApplicationContextImpl applicationContext
+        = ( ApplicationContextImpl )uiSession.getApplicationContext();
+      applicationScheduler = applicationContext.getScheduler();
     }
+    return applicationScheduler;
+  }
+
+  long getCurrentTime() {
+    return System.currentTimeMillis();
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
-      if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
-        }
+      for( TimerExecTask task : tasks.values() ) {
+        task.schedule( task.getTime() );
       }
     }
   }
 
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     synchronized( display.getDeviceLock() ) {
       stream.defaultWriteObject();
@@ -143,10 +140,5 @@ class TimerExecScheduler implements SerializableCompatibility {
         }
       } );
     }
-
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
   }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,19 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long time;
+  // incremented with every (re-)scheduling to ignore executions of outdated schedules
+  private int generation;
+  private transient ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,9 +30,41 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
+  /*
+   * Schedules the task for the given point in time. A previous schedule of this task is
+   * discarded. Must be called while holding the device lock.
+   */
+  void schedule( long time ) {
+    cancelFuture();
+    this.time = time;
+    final int scheduledGeneration = ++generation;
+    Runnable execution = new Runnable() {
+      @Override
+      public void run() {
+        execute( scheduledGeneration );
+      }
+    };
+    long delay = time - scheduler.getCurrentTime();
+    future = scheduler.getApplicationScheduler().schedule( execution, delay );
+  }
+
+  long getTime() {
+    return time;
+  }
+
   @Override
   public void run() {
     synchronized( scheduler.display.getDeviceLock() ) {
+      execute( generation );
+    }
+  }
+
+  private void execute( int scheduledGeneration ) {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      if( scheduledGeneration != generation ) {
+        return;
+      }
+      generation++;
       scheduler.removeTask( this );
       if( !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
@@ -37,10 +73,27 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
+    boolean result;
+    synchronized( scheduler.display.getDeviceLock() ) {
+      generation++;
+      result = cancelFuture();
+    }
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return result;
+  }
+
+  /*
+   * Discards the current schedule without deactivating the server push. Must be called while
+   * holding the device lock.
+   */
+  boolean cancelFuture() {
+    boolean result = false;
+    if( future != null ) {
+      result = future.cancel( false );
+      future = null;
+    }
+    return result;
   }
 
   Runnable getRunnable() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -195,7 +195,7 @@ public class ToolItem extends Item {
    */
   @Override
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -207,7 +207,7 @@ public class ToolItem extends Item {
 
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       super.setImage( image );
       parent.layoutItems();
@@ -234,7 +234,7 @@ public class ToolItem extends Item {
    * @since 1.2
    */
   public void setDisabledImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       disabledImage = image;
       parent.layoutItems();
@@ -280,7 +280,7 @@ public class ToolItem extends Item {
    * @since 1.2
    */
   public void setHotImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       hotImage = image;
       parent.layoutItems();
@@ -323,7 +323,7 @@ public class ToolItem extends Item {
    * </ul>
    */
   public void setControl( Control control ) {
-    checkWidget();
+    checkWidgetForChange();
     if( control != null ) {
       if( control.isDisposed() ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -372,7 +372,7 @@ public class ToolItem extends Item {
    * </ul>
    */
   public void setToolTipText( String toolTipText ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -428,7 +428,7 @@ public class ToolItem extends Item {
    * </ul>
    */
   public void setEnabled( boolean enabled ) {
-    checkWidget();
+    checkWidgetForChange();
     if( enabled ) {
       removeState( DISABLED );
     } else {
@@ -676,7 +676,7 @@ public class ToolItem extends Item {
    * </ul>
    */
   public void setWidth( int width ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.SEPARATOR ) != 0 && width >= 0 ) {
       computedWidth = false;
       this.width = width;
@@ -729,7 +729,7 @@ public class ToolItem extends Item {
    * </ul>
    */
   public void setSelection( boolean selected ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & ( SWT.CHECK | SWT.RADIO ) ) != 0 ) {
       this.selected = selected;
     }
@@ -764,7 +764,7 @@ public class ToolItem extends Item {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -791,7 +791,7 @@ public class ToolItem extends Item {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Rüdiger Herrmann and others.
+ * Copyright (c) 2011, 2026 Rüdiger Herrmann and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -172,7 +172,7 @@ public class ToolTip extends Widget {
    * @see #setVisible
    */
   public void setAutoHide( boolean autoHide ) {
-    checkWidget();
+    checkWidgetForChange();
     this.autoHide = autoHide;
   }
 
@@ -237,7 +237,7 @@ public class ToolTip extends Widget {
    * </ul>
    */
   public void setVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
     this.visible = visible;
   }
 
@@ -271,7 +271,7 @@ public class ToolTip extends Widget {
    * </ul>
    */
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -311,7 +311,7 @@ public class ToolTip extends Widget {
    * </ul>
    */
   public void setMessage( String message ) {
-    checkWidget();
+    checkWidgetForChange();
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -339,7 +339,7 @@ public class ToolTip extends Widget {
    * </ul>
    */
   public void setLocation( int x, int y ) {
-    checkWidget();
+    checkWidgetForChange();
     this.x = x;
     this.y = y;
   }
@@ -367,7 +367,7 @@ public class ToolTip extends Widget {
    * </ul>
    */
   public void setLocation( Point location ) {
-    checkWidget();
+    checkWidgetForChange();
     if( location == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -399,7 +399,7 @@ public class ToolTip extends Widget {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -426,7 +426,7 @@ public class ToolTip extends Widget {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -121,7 +121,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -178,7 +178,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -197,7 +197,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void setToolTipText( String value ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -213,7 +213,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void setVisible( boolean visible ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
@@ -238,7 +238,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -265,7 +265,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -285,7 +285,7 @@ public class TrayItem extends Item {
    * @since 1.4
    */
   public void setToolTip( ToolTip toolTip ) {
-    checkWidget();
+    checkWidgetForChange();
   }
 
   /**
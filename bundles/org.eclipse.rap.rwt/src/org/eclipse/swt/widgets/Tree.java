@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -265,7 +265,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setItemCount( int count ) {
-    checkWidget();
+    checkWidgetForChange();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -426,7 +426,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void removeAll() {
-    checkWidget();
+    checkWidgetForChange();
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -456,7 +456,7 @@ public class Tree extends Composite {
    * @see Tree#showSelection()
    */
   public void showItem( TreeItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -503,7 +503,7 @@ public class Tree extends Composite {
    * @since 1.4
    */
   public void setTopItem( TreeItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -578,7 +578,7 @@ public class Tree extends Composite {
    * @since 1.3
    */
   public void showColumn( TreeColumn column ) {
-    checkWidget();
+    checkWidgetForChange();
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -629,7 +629,7 @@ public class Tree extends Composite {
    * @see Tree#showItem(TreeItem)
    */
   public void showSelection() {
-    checkWidget();
+    checkWidgetForChange();
     if( selection.length == 0 ) {
       return;
     }
@@ -695,7 +695,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setSelection( TreeItem selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -726,7 +726,7 @@ public class Tree extends Composite {
    * @see Tree#deselectAll()
    */
   public void setSelection( TreeItem[] selection ) {
-    checkWidget();
+    checkWidgetForChange();
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -786,7 +786,7 @@ public class Tree extends Composite {
    * @since 1.3
    */
   public void select( TreeItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -818,7 +818,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void selectAll() {
-    checkWidget();
+    checkWidgetForChange();
     if( ( style & SWT.MULTI ) != 0 ) {
       final java.util.List<TreeItem> allItems = new ArrayList<>();
       WidgetTreeUtil.accept( this, new WidgetTreeVisitor() {
@@ -853,7 +853,7 @@ public class Tree extends Composite {
    * @since 1.3
    */
   public void deselect( TreeItem item ) {
-    checkWidget();
+    checkWidgetForChange();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -878,7 +878,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void deselectAll() {
-    checkWidget();
+    checkWidgetForChange();
     selection = EMPTY_SELECTION;
   }
 
@@ -899,7 +899,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setLinesVisible( boolean value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( linesVisible == value ) {
       return; /* no change */
     }
@@ -966,7 +966,7 @@ public class Tree extends Composite {
    * @see SWT#SetData
    */
   public void clear( int index, boolean recursive ) {
-    checkWidget();
+    checkWidgetForChange();
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1061,7 +1061,7 @@ public class Tree extends Composite {
    * @see SWT#SetData
    */
   public void clearAll( boolean recursive ) {
-    checkWidget();
+    checkWidgetForChange();
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
       if( item != null ) {
@@ -1204,7 +1204,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setHeaderVisible( boolean value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( headerVisible != value ) {
       headerVisible = value;
       layoutCache.invalidateHeaderHeight();
@@ -1248,7 +1248,7 @@ public class Tree extends Composite {
    * @since 3.6
    */
   public void setHeaderBackground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1286,7 +1286,7 @@ public class Tree extends Composite {
    * @since 3.6
    */
   public void setHeaderForeground( Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1421,7 +1421,7 @@ public class Tree extends Composite {
    * @see SWT#Move
    */
   public void setColumnOrder( int[] order ) {
-    checkWidget();
+    checkWidgetForChange();
     if( order == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1475,7 +1475,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setSortColumn( TreeColumn column ) {
-    checkWidget();
+    checkWidgetForChange();
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1503,7 +1503,7 @@ public class Tree extends Composite {
    *              </ul>
    */
   public void setSortDirection( int direction ) {
-    checkWidget();
+    checkWidgetForChange();
     if( direction != SWT.UP && direction != SWT.DOWN && direction != SWT.NONE )
     {
       return;
@@ -1617,7 +1617,7 @@ public class Tree extends Composite {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1643,7 +1643,7 @@ public class Tree extends Composite {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1669,7 +1669,7 @@ public class Tree extends Composite {
    * @see #removeTreeListener
    */
   public void addTreeListener( TreeListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1695,7 +1695,7 @@ public class Tree extends Composite {
    * @see #addTreeListener
    */
   public void removeTreeListener( TreeListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
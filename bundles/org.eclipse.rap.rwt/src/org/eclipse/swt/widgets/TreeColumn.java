@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -167,7 +167,7 @@ public class TreeColumn extends Item {
    * @see #removeControlListener
    */
   public void addControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -193,7 +193,7 @@ public class TreeColumn extends Item {
    * @see #addControlListener
    */
   public void removeControlListener( ControlListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -225,7 +225,7 @@ public class TreeColumn extends Item {
    * @see SelectionEvent
    */
   public void addSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -251,7 +251,7 @@ public class TreeColumn extends Item {
    * @see #addSelectionListener
    */
   public void removeSelectionListener( SelectionListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -414,7 +414,7 @@ public class TreeColumn extends Item {
    *              </ul>
    */
   public void pack() {
-    checkWidget();
+    checkWidgetForChange();
     int newWidth = getPreferredWidth();
     int contentWidth = parent.getMaxContentWidth( this );
     newWidth = Math.max( newWidth, contentWidth );
@@ -439,7 +439,7 @@ public class TreeColumn extends Item {
    *              </ul>
    */
   public void setAlignment( int alignment ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) == 0 ) {
       return;
     }
@@ -470,7 +470,7 @@ public class TreeColumn extends Item {
    * @see SWT#Move
    */
   public void setMoveable( boolean moveable ) {
-    checkWidget();
+    checkWidgetForChange();
     this.moveable = moveable;
   }
 
@@ -486,7 +486,7 @@ public class TreeColumn extends Item {
    *              </ul>
    */
   public void setResizable( boolean value ) {
-    checkWidget();
+    checkWidgetForChange();
     resizable = value;
   }
 
@@ -498,7 +498,7 @@ public class TreeColumn extends Item {
 
   @Override
   public void setText( String value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -520,7 +520,7 @@ public class TreeColumn extends Item {
    *              </ul>
    */
   public void setToolTipText( String toolTipText ) {
-    checkWidget();
+    checkWidgetForChange();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -541,7 +541,7 @@ public class TreeColumn extends Item {
    *              </ul>
    */
   public void setWidth( int value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value >= 0 && width != value ) {
       width = value;
       parent.updateScrollBars();
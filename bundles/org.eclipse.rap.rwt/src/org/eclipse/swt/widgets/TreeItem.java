@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,7 +26,6 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
@@ -58,7 +57,7 @@ public class TreeItem extends Item {
   int itemCount;
   private transient ITreeItemAdapter treeItemAdapter;
   int index;
-  private Data[] data;
+  private ItemCells cells;
   private Font font;
   private boolean expanded;
   private boolean checked;
@@ -221,6 +220,7 @@ public class TreeItem extends Item {
     this.index = index;
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
+      parentItem.markDirty();
     }
     parent.invalidateFlatIndex();
     setEmpty();
@@ -357,7 +357,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setExpanded( boolean expanded ) {
-    checkWidget();
+    checkWidgetForChange();
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
       this.expanded = expanded;
       if( !expanded ) {
@@ -444,8 +444,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result;
-    if( hasData( index ) && data[ index ].background != null ) {
-      result = data[ index ].background;
+    if( cells != null && cells.getBackground( index ) != null ) {
+      result = cells.getBackground( index );
     } else if( background == null ) {
       result = parent.getBackground();
     } else {
@@ -472,8 +472,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Font result;
-    if( hasData( index ) && data[ index ].font != null ) {
-      result = data[ index ].font;
+    if( cells != null && cells.getFont( index ) != null ) {
+      result = cells.getFont( index );
     } else if( font == null ) {
       result = parent.getFont();
     } else {
@@ -499,8 +499,8 @@ public class TreeItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result;
-    if( hasData( index ) && data[ index ].foreground != null ) {
-      result = data[ index ].foreground;
+    if( cells != null && cells.getForeground( index ) != null ) {
+      result = cells.getForeground( index );
     } else if( foreground == null ) {
       result = parent.getForeground();
     } else {
@@ -527,15 +527,13 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setBackground( int index, Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].background, color ) ) {
-        data[ index ].background = color;
+      if( ensureCells( count ).setBackground( index, color ) ) {
         markCached();
         parent.redraw();
       }
@@ -560,16 +558,13 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setFont( int index, Font font ) {
-    checkWidget();
+    checkWidgetForChange();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( font, data[ index ].font ) ) {
-        data[ index ].font = font;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      if( ensureCells( count ).setFont( index, font ) ) {
         markCached();
         parent.redraw();
       }
@@ -594,15 +589,13 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setForeground( int index, Color color ) {
-    checkWidget();
+    checkWidgetForChange();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].foreground, color ) ) {
-        data[ index ].foreground = color;
+      if( ensureCells( count ).setForeground( index, color ) ) {
         markCached();
         parent.redraw();
       }
@@ -626,7 +619,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setFont( Font font ) {
-    checkWidget();
+    checkWidgetForChange();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -682,7 +675,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setBackground( Color value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -757,7 +750,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setForeground( Color value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -779,7 +772,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setChecked( boolean checked ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -818,7 +811,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setGrayed( boolean grayed ) {
-    checkWidget();
+    checkWidgetForChange();
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -882,11 +875,7 @@ public class TreeItem extends Item {
   }
 
   String getTextWithoutMaterialize( int index ) {
-    String result = "";
-    if( hasData( index ) ) {
-      result = data[ index ].text;
-    }
-    return result;
+    return cells == null ? "" : cells.getText( index );
   }
 
   /**
@@ -932,7 +921,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setText( String[] value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -956,7 +945,7 @@ public class TreeItem extends Item {
    */
   @Override
   public void setText( String text ) {
-    checkWidget();
+    checkWidgetForChange();
     setText( 0, text );
   }
 
@@ -973,7 +962,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setText( int index, String text ) {
-    checkWidget();
+    checkWidgetForChange();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -982,10 +971,7 @@ public class TreeItem extends Item {
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !text.equals( data[ index ].text ) ) {
-        data[ index ].text = text;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      if( ensureCells( count ).setText( index, text ) ) {
         markCached();
         if( parent.getColumnCount() == 0 ) {
           parent.updateScrollBars();
@@ -1029,11 +1015,7 @@ public class TreeItem extends Item {
     if( !parent.checkData( this, this.index ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
-    Image result = null;
-    if( hasData( index ) ) {
-      result = data[ index ].image;
-    }
-    return result;
+    return cells == null ? null : cells.getImage( index );
   }
 
   /**
@@ -1075,7 +1057,8 @@ public class TreeItem extends Item {
   }
 
   void clear() {
-    data = null;
+    markDirty();
+    cells = null;
     checked = false;
     grayed = false;
     foreground = null;
@@ -1107,7 +1090,7 @@ public class TreeItem extends Item {
    * @see SWT#SetData
    */
   public void clear( int index, boolean recursive ) {
-    checkWidget();
+    checkWidgetForChange();
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1125,7 +1108,7 @@ public class TreeItem extends Item {
 
   @Override
   public void setImage( Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     setImage( 0, image );
   }
 
@@ -1145,17 +1128,16 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setImage( int index, Image image ) {
-    checkWidget();
+    checkWidgetForChange();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].image, image ) ) {
-        parent.updateColumnImageCount( index, data[ index ].image, image );
-        data[ index ].image = image;
-        data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
+      Image oldImage = ensureCells( count ).getImage( index );
+      if( cells.setImage( index, image ) ) {
+        cells.setWidth( index, ItemCells.UNKNOWN_WIDTH );
+        parent.updateColumnImageCount( index, oldImage, image );
         parent.updateItemImageSize( image );
         markCached();
         if( parent.getColumnCount() == 0 ) {
@@ -1182,7 +1164,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setImage( Image[] value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1219,7 +1201,7 @@ public class TreeItem extends Item {
   }
 
   void clearAll( boolean recursive, boolean doVisualUpdate ) {
-    checkWidget();
+    checkWidgetForChange();
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
       if( item != null ) {
@@ -1382,7 +1364,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void removeAll() {
-    checkWidget();
+    checkWidgetForChange();
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -1404,7 +1386,7 @@ public class TreeItem extends Item {
    *              </ul>
    */
   public void setItemCount( int count ) {
-    checkWidget();
+    checkWidgetForChange();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -1489,29 +1471,21 @@ public class TreeItem extends Item {
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
-    return getPreferredWidthBuffer( index ) != Data.UNKNOWN_WIDTH;
+    return getPreferredWidthBuffer( index ) != ItemCells.UNKNOWN_WIDTH;
   }
 
   int getPreferredWidthBuffer( int index ) {
-    int result = Data.UNKNOWN_WIDTH;
-    if( hasData( index ) ) {
-      result = data[ index ].preferredWidthBuffer;
-    }
-    return result;
+    return cells == null ? ItemCells.UNKNOWN_WIDTH : cells.getWidth( index );
   }
 
   void setPreferredWidthBuffer( int index, int preferredWidthBuffer ) {
     int count = Math.max( 1, parent.getColumnCount() );
-    ensureData( index, count );
-    data[ index ].preferredWidthBuffer = preferredWidthBuffer;
+    ensureCells( count ).setWidth( index, preferredWidthBuffer );
   }
 
   void clearPreferredWidthBuffers( boolean recursive ) {
-    int count = Math.max( 1, parent.getColumnCount() );
-    for( int i = 0; i < count; i++ ) {
-      if( hasData( i ) ) {
-        data[ i ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
-      }
+    if( cells != null ) {
+      cells.clearWidths();
     }
     if( recursive && expanded ) {
       for( int i = 0; i < itemCount; i++ ) {
@@ -1534,6 +1508,15 @@ public class TreeItem extends Item {
     return innerHeight;
   }
 
+  @Override
+  void markDirty() {
+    super.markDirty();
+    // Items are traversed through their parent item, thus the parent item has to be dirty, too
+    if( parentItem != null ) {
+      parentItem.markDirty();
+    }
+  }
+
   void markCached() {
     if( parent.isVirtual() ) {
       cached = true;
@@ -1565,30 +1548,19 @@ public class TreeItem extends Item {
   ////////////////////////////////////////
   // Manage item data (texts, images, etc)
 
-  private void ensureData( int index, int columnCount ) {
-    if( data == null ) {
-      data = new Data[ columnCount ];
-    } else if( data.length < columnCount ) {
-      Data[] newData = new Data[ columnCount ];
-      System.arraycopy( data, 0, newData, 0, data.length );
-      data = newData;
-    }
-    if( data[ index ] == null ) {
-      data[ index ] = new Data();
+  private ItemCells ensureCells( int columnCount ) {
+    if( cells == null ) {
+      cells = new ItemCells( columnCount );
+    } else {
+      cells.ensureLength( columnCount );
     }
-  }
-
-  private boolean hasData( int index ) {
-    return data != null && index >= 0 && index < data.length && data[ index ] != null;
+    return cells;
   }
 
   final void shiftData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length + 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index;
-      System.arraycopy( data, index, newData, index + 1, offSet );
-      data = newData;
+    markDirty();
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      cells.insertColumn( index );
     }
     for( int i = 0; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1598,12 +1570,9 @@ public class TreeItem extends Item {
   }
 
   final void removeData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length - 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index - 1;
-      System.arraycopy( data, index + 1, newData, index, offSet );
-      data = newData;
+    markDirty();
+    if( cells != null && cells.getLength() > index && parent.getColumnCount() > 1 ) {
+      cells.removeColumn( index );
     }
     for( int i = 0; i < itemCount; i++ ) {
       if( items[ i ] != null ) {
@@ -1674,92 +1643,31 @@ public class TreeItem extends Item {
     @Override
     public String[] getTexts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      String[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          String text = data[ i ] == null ? "" : data[ i ].text;
-          if( !"".equals( text ) ) {
-            if( result == null ) {
-              result = new String[ columnCount ];
-              Arrays.fill( result, "" );
-            }
-            result[ i ] = text;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getTexts( columnCount );
     }
 
     @Override
     public Image[] getImages() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Image[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Image image = data[ i ] == null ? null : data[ i ].image;
-          if( image != null ) {
-            if( result == null ) {
-              result = new Image[ columnCount ];
-            }
-            result[ i ] = image;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getImages( columnCount );
     }
 
     @Override
     public Color[] getCellBackgrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color background = data[ i ] == null ? null : data[ i ].background;
-          if( background != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = background;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getBackgrounds( columnCount );
     }
 
     @Override
     public Color[] getCellForegrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color foreground = data[ i ] == null ? null : data[ i ].foreground;
-          if( foreground != null ) {
-            if( result == null ) {
-              result = new Color[ columnCount ];
-            }
-            result[ i ] = foreground;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getForegrounds( columnCount );
     }
 
     @Override
     public Font[] getCellFonts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
-      Font[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Font font = data[ i ] == null ? null : data[ i ].font;
-          if( font != null ) {
-            if( result == null ) {
-              result = new Font[ columnCount ];
-            }
-            result[ i ] = font;
-          }
-        }
-      }
-      return result;
+      return cells == null ? null : cells.getFonts( columnCount );
     }
 
   }
@@ -1791,17 +1699,4 @@ public class TreeItem extends Item {
 
   }
 
-  private static final class Data implements SerializableCompatibility {
-    static final int UNKNOWN_WIDTH = -1;
-    String text = "";
-    // Note [fappel]: Yourkit analysis with the UI workbench testsuite showed an extensive
-    //                appearance of preferred width calculations. Buffering the preferred width
-    //                speeds up the suite on my machine to 1/4th of the time needed without buffering.
-    int preferredWidthBuffer = UNKNOWN_WIDTH;
-    Image image;
-    Font font;
-    Color background;
-    Color foreground;
-  }
-
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import org.eclipse.swt.internal.SWTEventListener;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
@@ -158,6 +159,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    markDirty();
   }
 
   /**
@@ -240,7 +242,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #getData()
    */
   public void setData( Object data ) {
-    checkWidget();
+    checkWidgetForChange();
     if( hasState( KEYED_DATA ) ) {
       ( ( Object[] )this.data )[ 0 ] = data;
     } else {
@@ -314,7 +316,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #getData(String)
    */
   public void setData( String key, Object value ) {
-    checkWidget();
+    checkWidgetForChange();
     if( key == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -448,7 +450,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #removeDisposeListener
    */
   public void addDisposeListener( DisposeListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -474,7 +476,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #addDisposeListener
    */
   public void removeDisposeListener( DisposeListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -512,7 +514,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #notifyListeners
    */
   public void addListener( int eventType, Listener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -548,7 +550,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @see #notifyListeners
    */
   public void removeListener( int eventType, Listener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -670,7 +672,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @since 2.0
    */
   protected void removeListener( int eventType, SWTEventListener listener ) {
-    checkWidget();
+    checkWidgetForChange();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -735,7 +737,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    * @since 1.3
    */
   public void reskin( int flags ) {
-    checkWidget();
+    checkWidgetForChange();
     reskinWidget();
     if( ( flags & SWT.ALL ) != 0 ) {
       reskinChildren( flags );
@@ -848,6 +850,10 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         releaseParent();
         releaseWidget();
         getAdapter( RemoteAdapter.class ).markDisposed( this );
+        DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+        if( dirtyWidgets != null ) {
+          dirtyWidgets.unregister( remoteAdapter.getId() );
+        }
       }
     }
   }
@@ -960,6 +966,26 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
   }
 
+  /*
+   * Like checkWidget(), but also records this widget as changed. To be called by methods that
+   * change the state of the widget, before the state is changed.
+   */
+  void checkWidgetForChange() {
+    checkWidget();
+    markDirty();
+  }
+
+  /*
+   * Records this widget as changed in the current request if the incremental life cycle is
+   * enabled.
+   */
+  void markDirty() {
+    DirtyWidgets dirtyWidgets = display == null ? null : display.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markDirty( this );
+    }
+  }
+
   /*
    * Returns <code>true</code> when the current thread is
    * the thread that created the widget and <code>false</code>
@@ -1048,6 +1074,10 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.register( id, this );
+    }
     return createRemoteAdapter( parent, id );
   }
 
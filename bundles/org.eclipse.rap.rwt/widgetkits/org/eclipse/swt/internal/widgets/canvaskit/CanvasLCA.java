@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,15 +21,19 @@ import static org.eclipse.swt.internal.widgets.canvaskit.GCOperationWriter.getGc
 
 import java.io.IOException;
 
+import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.remote.RemoteObject;
+import org.eclipse.rap.rwt.scripting.ClientListener;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.graphics.GCAdapter;
 import org.eclipse.swt.internal.graphics.GCOperation;
 import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Listener;
 
 
 public final class CanvasLCA extends WidgetLCA<Canvas> {
@@ -56,6 +60,7 @@ public final class CanvasLCA extends WidgetLCA<Canvas> {
     remoteObject.set( "style", createJsonArray( getStyles( canvas, ALLOWED_STYLES ) ) );
     RemoteObject remoteObjectForGC = createRemoteObject( getGcId( canvas ), TYPE_GC );
     remoteObjectForGC.set( "parent", WidgetUtil.getId( canvas ) );
+    canvas.getAdapter( GCAdapter.class ).setRenderedGCOperations( null, null );
   }
 
   @Override
@@ -80,16 +85,47 @@ public final class CanvasLCA extends WidgetLCA<Canvas> {
     GCOperation[] operations = adapter.getTrimmedGCOperations();
     if( operations.length > 0 || adapter.getForceRedraw() ) {
       GCOperationWriter operationWriter = new GCOperationWriter( canvas );
-      operationWriter.initialize();
-      for( int i = 0; i < operations.length; i++ ) {
+      JsonObject initParameters = operationWriter.getInitParameters();
+      int start = 0;
+      if( canResumeDrawing( canvas, initParameters, operations ) ) {
+        // the client already shows the beginning of the drawing, only send what has been added
+        start = adapter.getRenderedGCOperationCount();
+        operationWriter.resume( operations, start );
+      } else {
+        operationWriter.initialize();
+      }
+      for( int i = start; i < operations.length; i++ ) {
         operationWriter.write( operations[ i ] );
       }
       operationWriter.render();
+      adapter.setRenderedGCOperations( operations, initParameters );
     }
     adapter.clearGCOperations();
     adapter.setForceRedraw( false );
   }
 
+  // the paint area, font and colors of the client drawing are set on initialization
+  private static boolean canResumeDrawing( Canvas canvas,
+                                           JsonObject initParameters,
+                                           GCOperation[] operations )
+  {
+    GCAdapter adapter = canvas.getAdapter( GCAdapter.class );
+    return    adapter.getRenderedGCOperationCount() > 0
+           && initParameters.equals( adapter.getRenderedInitParameters() )
+           && !hasClientPaintListener( canvas )
+           && adapter.startsWithRenderedGCOperations( operations );
+  }
+
+  // client-side paint listeners are notified when the drawing is initialized
+  private static boolean hasClientPaintListener( Canvas canvas ) {
+    for( Listener listener : canvas.getListeners( SWT.Paint ) ) {
+      if( listener instanceof ClientListener ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public static void renderClientArea( Canvas canvas ) {
     renderProperty( canvas, PROP_CLIENT_AREA, canvas.getClientArea(), null );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.swt.internal.widgets.canvaskit;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.rap.json.JsonArray.unmodifiableArray;
 import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 
 import org.eclipse.rap.json.JsonArray;
@@ -44,7 +45,22 @@ import org.eclipse.swt.widgets.Widget;
 
 final class GCOperationWriter {
 
+  // operations without arguments and frequently used operation names are shared, as a drawing
+  // may consist of hundreds of thousands of client operations
+  private static final JsonValue BEGIN_PATH = createClientOperation( "beginPath" );
+  private static final JsonValue CLOSE_PATH = createClientOperation( "closePath" );
+  private static final JsonValue STROKE = createClientOperation( "stroke" );
+  private static final JsonValue FILL = createClientOperation( "fill" );
+  private static final JsonValue SAVE = createClientOperation( "save" );
+  private static final JsonValue RESTORE = createClientOperation( "restore" );
+  private static final JsonValue CLIP = createClientOperation( "clip" );
+  private static final JsonValue RESET_CLIP = createClientOperation( "resetClip" );
+  private static final JsonValue MOVE_TO = JsonValue.valueOf( "moveTo" );
+  private static final JsonValue LINE_TO = JsonValue.valueOf( "lineTo" );
+  private static final JsonValue RECT = JsonValue.valueOf( "rect" );
+
   private final Control control;
+  private JsonObject initParameters;
   private boolean initialized;
   private JsonArray operations;
   private int lineWidth;
@@ -55,21 +71,47 @@ final class GCOperationWriter {
     this.control = control;
   }
 
-  void initialize() {
-    if( !initialized ) {
-      lineWidth = 1;
-      foreground = control.getForeground().getRGB();
-      background = control.getBackground().getRGB();
-      Rectangle paintRect = getPaintRect();
-      JsonObject parameters = new JsonObject()
+  /*
+   * Returns the parameters that the client drawing is initialized with. They reflect the paint
+   * area, font and colors of the control when the writer has been created.
+   */
+  JsonObject getInitParameters() {
+    if( initParameters == null ) {
+      Rectangle paintRect = getPaintRect( control );
+      initParameters = new JsonObject()
         .add( "x", paintRect.x )
         .add( "y", paintRect.y )
         .add( "width", paintRect.width )
         .add( "height", paintRect.height )
         .add( "font", toJson( control.getFont() ) )
-        .add( "fillStyle", toJson( background ) )
-        .add( "strokeStyle", toJson( foreground ) );
-      getRemoteObject( getGcId( control ) ).call( "init", parameters );
+        .add( "fillStyle", toJson( control.getBackground().getRGB() ) )
+        .add( "strokeStyle", toJson( control.getForeground().getRGB() ) );
+    }
+    return initParameters;
+  }
+
+  void initialize() {
+    if( !initialized ) {
+      initializeState();
+      getRemoteObject( getGcId( control ) ).call( "init", getInitParameters() );
+      operations = new JsonArray();
+      initialized = true;
+    }
+  }
+
+  /*
+   * Continues the drawing on the client without clearing it. The first count operations must be
+   * those that have been rendered since the client has been initialized the last time, with
+   * parameters equal to the current init parameters.
+   */
+  void resume( GCOperation[] gcOperations, int count ) {
+    if( !initialized ) {
+      initializeState();
+      for( int i = 0; i < count; i++ ) {
+        if( gcOperations[ i ].getType() == GCOperation.SET_PROPERTY ) {
+          updateState( ( SetProperty )gcOperations[ i ] );
+        }
+      }
       operations = new JsonArray();
       initialized = true;
     }
@@ -77,35 +119,49 @@ final class GCOperationWriter {
 
   void write( GCOperation operation ) {
     initialize();
-    if( operation instanceof DrawLine ) {
-      drawLine( ( DrawLine )operation );
-    } else if( operation instanceof DrawPoint ) {
-      drawPoint( ( DrawPoint )operation );
-    } else if( operation instanceof DrawRoundRectangle ) {
-      drawRoundRectangle( ( DrawRoundRectangle )operation );
-    } else if( operation instanceof FillGradientRectangle ) {
-      fillGradientRectangle( ( FillGradientRectangle )operation );
-    } else if( operation instanceof DrawRectangle ) {
-      drawRectangle( ( DrawRectangle )operation );
-    } else if( operation instanceof DrawArc ) {
-      drawArc( ( DrawArc )operation );
-    } else if( operation instanceof DrawPolyline ) {
-      drawPolyline( ( DrawPolyline )operation );
-    } else if( operation instanceof DrawImage ) {
-      drawImage( ( DrawImage )operation );
-    } else if( operation instanceof DrawText ) {
-      drawText( ( DrawText )operation );
-    } else if( operation instanceof DrawPath ) {
-      drawPath( ( DrawPath )operation );
-    } else if( operation instanceof SetProperty ) {
-      setProperty( ( SetProperty )operation );
-    } else if( operation instanceof SetClipping ) {
-      setClipping( ( SetClipping )operation );
-    } else if( operation instanceof SetTransform ) {
-      setTransform( ( SetTransform )operation );
-    } else {
-      String name = operation.getClass().getName();
-      throw new IllegalArgumentException( "Unsupported GCOperation: " + name );
+    switch( operation.getType() ) {
+      case GCOperation.DRAW_LINE:
+        drawLine( ( DrawLine )operation );
+      break;
+      case GCOperation.DRAW_POINT:
+        drawPoint( ( DrawPoint )operation );
+      break;
+      case GCOperation.DRAW_ROUND_RECTANGLE:
+        drawRoundRectangle( ( DrawRoundRectangle )operation );
+      break;
+      case GCOperation.FILL_GRADIENT_RECTANGLE:
+        fillGradientRectangle( ( FillGradientRectangle )operation );
+      break;
+      case GCOperation.DRAW_RECTANGLE:
+        drawRectangle( ( DrawRectangle )operation );
+      break;
+      case GCOperation.DRAW_ARC:
+        drawArc( ( DrawArc )operation );
+      break;
+      case GCOperation.DRAW_POLYLINE:
+        drawPolyline( ( DrawPolyline )operation );
+      break;
+      case GCOperation.DRAW_IMAGE:
+        drawImage( ( DrawImage )operation );
+      break;
+      case GCOperation.DRAW_TEXT:
+        drawText( ( DrawText )operation );
+      break;
+      case GCOperation.DRAW_PATH:
+        drawPath( ( DrawPath )operation );
+      break;
+      case GCOperation.SET_PROPERTY:
+        setProperty( ( SetProperty )operation );
+      break;
+      case GCOperation.SET_CLIPPING:
+        setClipping( ( SetClipping )operation );
+      break;
+      case GCOperation.SET_TRANSFORM:
+        setTransform( ( SetTransform )operation );
+      break;
+      default:
+        String name = operation.getClass().getName();
+        throw new IllegalArgumentException( "Unsupported GCOperation: " + name );
     }
   }
 
@@ -119,26 +175,32 @@ final class GCOperationWriter {
     }
   }
 
+  private void initializeState() {
+    lineWidth = 1;
+    foreground = control.getForeground().getRGB();
+    background = control.getBackground().getRGB();
+  }
+
   private void drawLine( DrawLine operation ) {
     float offset = getOffset( false );
-    addClientOperation( "beginPath" );
-    addClientOperation( "moveTo", operation.x1 + offset, operation.y1 + offset );
-    addClientOperation( "lineTo", operation.x2 + offset, operation.y2 + offset );
-    addClientOperation( "stroke" );
+    addClientOperation( BEGIN_PATH );
+    addClientOperation( MOVE_TO, operation.x1 + offset, operation.y1 + offset );
+    addClientOperation( LINE_TO, operation.x2 + offset, operation.y2 + offset );
+    addClientOperation( STROKE );
   }
 
   private void drawPoint( DrawPoint operation ) {
     float x = operation.x;
     float y = operation.y;
-    addClientOperation( "save" );
+    addClientOperation( SAVE );
     operations.add( new JsonArray()
       .add( "fillStyle" )
       .add( toJson( foreground ) ) );
     addClientOperation( "lineWidth", 1 );
-    addClientOperation( "beginPath" );
-    addClientOperation( "rect", x, y, 1, 1 );
-    addClientOperation( "fill" );
-    addClientOperation( "restore" );
+    addClientOperation( BEGIN_PATH );
+    addClientOperation( RECT, x, y, 1, 1 );
+    addClientOperation( FILL );
+    addClientOperation( RESTORE );
   }
 
   private void drawRectangle( DrawRectangle operation ) {
@@ -147,9 +209,9 @@ final class GCOperationWriter {
     float y = operation.y + offset;
     float width = operation.width;
     float height = operation.height;
-    addClientOperation( "beginPath" );
-    addClientOperation( "rect", x, y, width, height );
-    addClientOperation( operation.fill ? "fill" : "stroke" );
+    addClientOperation( BEGIN_PATH );
+    addClientOperation( RECT, x, y, width, height );
+    addClientOperation( operation.fill ? FILL : STROKE );
   }
 
   private void fillGradientRectangle( FillGradientRectangle operation )  {
@@ -175,7 +237,7 @@ final class GCOperationWriter {
     RGB endColor = swapColors ? foreground : background ;
     float x2 = vertical ? x1 : x1 + Math.abs( width );
     float y2 = vertical ? y1 + Math.abs( height ) : y1;
-    addClientOperation( "save" );
+    addClientOperation( SAVE );
     addClientOperation( "createLinearGradient", x1, y1, x2, y2 );
     operations.add( new JsonArray()
       .add( "addColorStop" )
@@ -186,10 +248,10 @@ final class GCOperationWriter {
       .add( 1 )
       .add( toJson( endColor ) ) );
     addClientOperation( "fillStyle", "linearGradient" );
-    addClientOperation( "beginPath" );
-    addClientOperation( "rect", x1, y1, width, height );
-    addClientOperation( "fill" );
-    addClientOperation( "restore" );
+    addClientOperation( BEGIN_PATH );
+    addClientOperation( RECT, x1, y1, width, height );
+    addClientOperation( FILL );
+    addClientOperation( RESTORE );
   }
 
   private void drawRoundRectangle( DrawRoundRectangle operation ) {
@@ -201,17 +263,17 @@ final class GCOperationWriter {
     float h = operation.height;
     float rx = ( ( float )operation.arcWidth ) / 2 + 1;
     float ry = ( ( float )operation.arcHeight ) / 2 + 1;
-    addClientOperation( "beginPath" );
-    addClientOperation( "moveTo", x, y + ry );
-    addClientOperation( "lineTo", x, y + h - ry );
+    addClientOperation( BEGIN_PATH );
+    addClientOperation( MOVE_TO, x, y + ry );
+    addClientOperation( LINE_TO, x, y + h - ry );
     addClientOperation( "quadraticCurveTo", x, y + h, x + rx, y + h );
-    addClientOperation( "lineTo", x + w - rx, y + h );
+    addClientOperation( LINE_TO, x + w - rx, y + h );
     addClientOperation( "quadraticCurveTo", x + w, y + h, x + w, y + h - ry );
-    addClientOperation( "lineTo", x + w, y + ry );
+    addClientOperation( LINE_TO, x + w, y + ry );
     addClientOperation( "quadraticCurveTo", x + w, y, x + w - rx, y );
-    addClientOperation( "lineTo", x + rx, y );
+    addClientOperation( LINE_TO, x + rx, y );
     addClientOperation( "quadraticCurveTo", x, y, x, y + ry );
-    addClientOperation( operation.fill ? "fill" : "stroke" );
+    addClientOperation( operation.fill ? FILL : STROKE );
   }
 
   private void drawArc( DrawArc operation ) {
@@ -223,8 +285,8 @@ final class GCOperationWriter {
     float cy = operation.y + ry + offset;
     float startAngle = round( operation.startAngle * factor * -1, 4 );
     float arcAngle = round( operation.arcAngle * factor * -1, 4 );
-    addClientOperation( "save" );
-    addClientOperation( "beginPath" );
+    addClientOperation( SAVE );
+    addClientOperation( BEGIN_PATH );
     operations.add( new JsonArray()
       .add( "ellipse" )
       .add( cx )
@@ -237,28 +299,28 @@ final class GCOperationWriter {
       .add( arcAngle < 0 )
     );
     if( operation.fill ) {
-      addClientOperation( "lineTo", 0, 0 );
-      addClientOperation( "closePath" );
+      addClientOperation( LINE_TO, 0, 0 );
+      addClientOperation( CLOSE_PATH );
     }
-    addClientOperation( operation.fill ? "fill" : "stroke" );
-    addClientOperation( "restore" );
+    addClientOperation( operation.fill ? FILL : STROKE );
+    addClientOperation( RESTORE );
   }
 
   private void drawPolyline( DrawPolyline operation ) {
     int[] points = operation.points;
     float offset = getOffset( operation.fill );
-    addClientOperation( "beginPath" );
+    addClientOperation( BEGIN_PATH );
     for( int i = 0; i < points.length; i += 2 ) {
       if( i == 0 ) {
-        addClientOperation( "moveTo", points[ i ] + offset, points[ i + 1 ] + offset );
+        addClientOperation( MOVE_TO, points[ i ] + offset, points[ i + 1 ] + offset );
       } else {
-        addClientOperation( "lineTo", points[ i ] + offset, points[ i + 1 ] + offset );
+        addClientOperation( LINE_TO, points[ i ] + offset, points[ i + 1 ] + offset );
       }
     }
     if( operation.close && points.length > 1 ) {
-      addClientOperation( "lineTo", points[ 0 ] + offset, points[ 1 ] + offset );
+      addClientOperation( LINE_TO, points[ 0 ] + offset, points[ 1 ] + offset );
     }
-    addClientOperation( operation.fill ? "fill" : "stroke" );
+    addClientOperation( operation.fill ? FILL : STROKE );
   }
 
   private void drawImage( DrawImage operation ) {
@@ -299,21 +361,20 @@ final class GCOperationWriter {
 
   private void drawPath( DrawPath operation ) {
     renderPath( operation.types, operation.points );
-    addClientOperation( operation.fill ? "fill" : "stroke" );
+    addClientOperation( operation.fill ? FILL : STROKE );
   }
 
   private void setProperty( SetProperty operation ) {
     String name;
     JsonValue value;
+    updateState( operation );
     switch( operation.id ) {
       case SetProperty.FOREGROUND:
         name = "strokeStyle";
-        foreground = ( RGB )operation.value;
         value = toJson( foreground );
       break;
       case SetProperty.BACKGROUND:
         name = "fillStyle";
-        background = ( RGB )operation.value;
         value = toJson( background );
       break;
       case SetProperty.ALPHA:
@@ -324,10 +385,7 @@ final class GCOperationWriter {
       break;
       case SetProperty.LINE_WIDTH:
         name = "lineWidth";
-        int width = ( ( Integer )operation.value ).intValue();
-        width = width < 1 ? 1 : width;
-        value = JsonValue.valueOf( width );
-        lineWidth = width;
+        value = JsonValue.valueOf( lineWidth );
       break;
       case SetProperty.LINE_CAP:
         name = "lineCap";
@@ -370,19 +428,34 @@ final class GCOperationWriter {
     operations.add( new JsonArray().add( name ).add( value ) );
   }
 
+  private void updateState( SetProperty operation ) {
+    switch( operation.id ) {
+      case SetProperty.FOREGROUND:
+        foreground = ( RGB )operation.value;
+      break;
+      case SetProperty.BACKGROUND:
+        background = ( RGB )operation.value;
+      break;
+      case SetProperty.LINE_WIDTH:
+        int width = ( ( Integer )operation.value ).intValue();
+        lineWidth = width < 1 ? 1 : width;
+      break;
+    }
+  }
+
   private void setClipping( SetClipping operation ) {
     if( operation.isReset() ) {
-      addClientOperation( "resetClip" );
+      addClientOperation( RESET_CLIP );
     } else {
-      addClientOperation( "save" );
+      addClientOperation( SAVE );
       if( operation.isRectangular() ) {
         Rectangle rect = operation.rectangle;
-        addClientOperation( "beginPath" );
-        addClientOperation( "rect", rect.x, rect.y, rect.width, rect.height );
+        addClientOperation( BEGIN_PATH );
+        addClientOperation( RECT, rect.x, rect.y, rect.width, rect.height );
       } else {
         renderPath( operation.types, operation.points );
       }
-      addClientOperation( "clip" );
+      addClientOperation( CLIP );
     }
   }
 
@@ -391,14 +464,14 @@ final class GCOperationWriter {
   }
 
   private void renderPath( byte[] types, float[] points ) {
-    addClientOperation( "beginPath" );
+    addClientOperation( BEGIN_PATH );
     for( int i = 0, j = 0; i < types.length; i++ ) {
       switch( types[ i ] ) {
         case SWT.PATH_MOVE_TO:
-          addClientOperation( "moveTo", points[ j++ ], points[ j++ ] );
+          addClientOperation( MOVE_TO, points[ j++ ], points[ j++ ] );
         break;
         case SWT.PATH_LINE_TO:
-          addClientOperation( "lineTo", points[ j++ ], points[ j++ ] );
+          addClientOperation( LINE_TO, points[ j++ ], points[ j++ ] );
         break;
         case SWT.PATH_CUBIC_TO:
           addClientOperation( "bezierCurveTo",
@@ -417,7 +490,7 @@ final class GCOperationWriter {
                               points[ j++ ] );
         break;
         case SWT.PATH_CLOSE:
-          addClientOperation( "closePath" );
+          addClientOperation( CLOSE_PATH );
         break;
         default:
           String msg = "Unsupported point type: " + types[ i ];
@@ -426,7 +499,15 @@ final class GCOperationWriter {
     }
   }
 
+  private void addClientOperation( JsonValue operation ) {
+    operations.add( operation );
+  }
+
   private void addClientOperation( String name, float... args ) {
+    addClientOperation( JsonValue.valueOf( name ), args );
+  }
+
+  private void addClientOperation( JsonValue name, float... args ) {
     JsonArray operation = new JsonArray().add( name );
     for( int i = 0; i < args.length; i++ ) {
       operation.add( args[ i ] );
@@ -450,7 +531,7 @@ final class GCOperationWriter {
     return result;
   }
 
-  private Rectangle getPaintRect() {
+  static Rectangle getPaintRect( Control control ) {
     Rectangle paintRect = control.getAdapter( GCAdapter.class ).getPaintRect();
     if( paintRect == null ) {
       Point size = control.getSize();
@@ -459,6 +540,10 @@ final class GCOperationWriter {
     return paintRect;
   }
 
+  private static JsonValue createClientOperation( String name ) {
+    return unmodifiableArray( new JsonArray().add( name ) );
+  }
+
   static float round( double value, int decimals ) {
     int factor = ( int )Math.pow( 10, decimals );
     return ( ( float )Math.round( factor * value ) ) / factor;
@@ -36,6 +36,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.VisitedWidgets;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
@@ -47,6 +48,7 @@ import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
@@ -80,14 +82,19 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
     if( adapter.isInitialized() ) {
-      for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+      WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
+        @Override
+        public boolean visit( Widget widget ) {
+          getLCA( widget ).preserveValues( widget );
+          return true;
+        }
+      };
+      DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+      if( dirtyWidgets != null ) {
+        visitDirtyWidgets( dirtyWidgets, visitor );
+        dirtyWidgets.startPreserving();
+      } else {
+        visitShells( display, visitor );
       }
     }
   }
@@ -114,14 +121,19 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
+    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+        return true;
+      }
+    };
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      visitDirtyWidgets( dirtyWidgets, visitor );
+      dirtyWidgets.clear();
+    } else {
+      visitShells( display, visitor );
     }
   }
 
@@ -144,9 +156,40 @@ public class DisplayLCA {
         return true;
       }
     };
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      visitTargets( dirtyWidgets, visitor );
+    } else {
+      visitShells( display, visitor );
+    }
+  }
+
+  private static void visitTargets( DirtyWidgets dirtyWidgets, WidgetTreeVisitor visitor ) {
+    int count = 0;
+    for( String target : ProtocolUtil.getClientMessage().getTargets() ) {
+      Widget widget = dirtyWidgets.find( target );
+      if( widget != null && !widget.isDisposed() ) {
+        visitor.visit( widget );
+        count++;
+      }
+    }
+    VisitedWidgets.add( count );
+  }
+
+  private static void visitDirtyWidgets( DirtyWidgets dirtyWidgets, WidgetTreeVisitor visitor ) {
+    List<Widget> widgets = dirtyWidgets.getAll();
+    for( Widget widget : widgets ) {
+      visitor.visit( widget );
+    }
+    VisitedWidgets.add( widgets.size() );
+  }
+
+  private static void visitShells( Display display, WidgetTreeVisitor visitor ) {
+    CountingVisitor countingVisitor = new CountingVisitor( visitor, null );
     for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
+      WidgetTreeUtil.accept( shell, countingVisitor );
     }
+    VisitedWidgets.add( countingVisitor.count );
   }
 
   private static void renderOverflow( Display display ) {
@@ -171,9 +214,18 @@ public class DisplayLCA {
 
   private static void renderShells( Display display ) throws IOException {
     RenderVisitor visitor = new RenderVisitor();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
-      visitor.reThrowProblem();
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.suspend();
+    }
+    CountingVisitor countingVisitor = new CountingVisitor( visitor, dirtyWidgets );
+    try {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, countingVisitor );
+        visitor.reThrowProblem();
+      }
+    } finally {
+      VisitedWidgets.add( countingVisitor.count );
     }
   }
 
@@ -291,6 +343,38 @@ public class DisplayLCA {
     return getDisplayAdapter( display ).getShells();
   }
 
+  private static DirtyWidgets getDirtyWidgets( Display display ) {
+    return getDisplayAdapter( display ).getDirtyWidgets();
+  }
+
+  /*
+   * Counts the visited widgets. If dirty widgets are given, subtrees that have neither been
+   * changed nor need to be initialized are skipped.
+   */
+  private static final class CountingVisitor implements WidgetTreeVisitor {
+
+    private final WidgetTreeVisitor delegate;
+    private final DirtyWidgets dirtyWidgets;
+    private int count;
+
+    CountingVisitor( WidgetTreeVisitor delegate, DirtyWidgets dirtyWidgets ) {
+      this.delegate = delegate;
+      this.dirtyWidgets = dirtyWidgets;
+    }
+
+    @Override
+    public boolean visit( Widget widget ) {
+      if(    dirtyWidgets != null
+          && !dirtyWidgets.isDirty( widget )
+          && getAdapter( widget ).isInitialized() )
+      {
+        return false;
+      }
+      count++;
+      return delegate.visit( widget );
+    }
+  }
+
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
     private IOException ioProblem;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -155,10 +155,21 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
 	// RAPEND: [bm] 
 
 	
+    // RAP: shared with ViewRegistrySnapshot
+    static final Comparator VIEW_COMPARATOR = new ViewDescriptorComparator();
+
 	/**
 	 * A set that will only ever contain ViewDescriptors.
 	 */
-    private SortedSet views = new TreeSet(new ViewDescriptorComparator());
+    // RAP: the views and sticky views of the application wide snapshot are used until
+    // they are changed in this session, they are copied on the first change
+//    private SortedSet views = new TreeSet(new ViewDescriptorComparator());
+    private SortedSet views;
+
+    private boolean sharedViews;
+
+    private boolean sharedSticky;
+    // RAPEND
 
     private List categories;
 
@@ -178,10 +189,54 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
     public ViewRegistry() {
         super();    
         categories = new ArrayList();       
-        sticky = new ArrayList();        
+        // RAP: read the descriptors from the application wide snapshot instead of
+        // reading the extension point in every session
+//        sticky = new ArrayList();        
         PlatformUI.getWorkbench().getExtensionTracker().registerHandler(this, ExtensionTracker.createExtensionPointFilter(getExtensionPointFilter()));
-        reader.readViews(Platform.getExtensionRegistry(), this);
+//        reader.readViews(Platform.getExtensionRegistry(), this);
+        readSnapshot(ViewRegistrySnapshot.getInstance());
+        // RAPEND
+    }
+
+    // RAP: initializes the registry from the shared descriptors of the snapshot
+    private void readSnapshot(ViewRegistrySnapshot snapshot) {
+        reader.setViewRegistry(this);
+        for (Iterator i = snapshot.getCategoryElements().iterator(); i.hasNext();) {
+            reader.readCategory((IConfigurationElement) i.next());
+        }
+        views = snapshot.getViews();
+        sharedViews = true;
+        for (Iterator i = views.iterator(); i.hasNext();) {
+            ViewDescriptor desc = (ViewDescriptor) i.next();
+            registerObject(desc.getConfigurationElement(), desc);
+        }
+        sticky = snapshot.getStickyViews();
+        sharedSticky = true;
+        for (Iterator i = sticky.iterator(); i.hasNext();) {
+            StickyViewDescriptor desc = (StickyViewDescriptor) i.next();
+            registerObject(desc.getConfigurationElement(), desc);
+        }
+    }
+
+    private static void registerObject(IConfigurationElement element, Object desc) {
+        PlatformUI.getWorkbench().getExtensionTracker().registerObject(
+                element.getDeclaringExtension(), desc, IExtensionTracker.REF_WEAK);
+    }
+
+    private void copySharedViews() {
+        if (sharedViews) {
+            views = new TreeSet(views);
+            sharedViews = false;
+        }
+    }
+
+    private void copySharedSticky() {
+        if (sharedSticky) {
+            sticky = new ArrayList(sticky);
+            sharedSticky = false;
+        }
     }
+    // RAPEND
 
     /**
      * Add a category to the registry.
@@ -212,7 +267,12 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
      * @param desc the descriptor to add
      */
     public void add(ViewDescriptor desc) {
-    	if (views.add(desc)) {
+        // RAP: copy the shared views before they are changed
+//    	if (views.add(desc)) {
+    	if (!views.contains(desc)) {
+    	    copySharedViews();
+    	    views.add(desc);
+        // RAPEND
             dirtyViewCategoryMappings = true;
             PlatformUI.getWorkbench().getExtensionTracker().registerObject(
                     desc.getConfigurationElement().getDeclaringExtension(),
@@ -227,6 +287,8 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
      */
     public void add(StickyViewDescriptor desc) {
     	if (!sticky.contains(desc)) {
+    	    // RAP: copy the shared sticky views before they are changed
+    	    copySharedSticky();
 	        sticky.add(desc);
 	        PlatformUI.getWorkbench().getExtensionTracker()
 			.registerObject(
@@ -425,9 +487,13 @@ public class ViewRegistry implements IViewRegistry, IExtensionChangeHandler {
     public void removeExtension(IExtension extension,Object[] objects) {
         for (int i = 0; i < objects.length; i++) {
             if (objects[i] instanceof StickyViewDescriptor) {           
+                // RAP: copy the shared sticky views before they are changed
+                copySharedSticky();
                 sticky.remove(objects[i]);
             }
             else if (objects[i] instanceof ViewDescriptor) {
+                // RAP: copy the shared views before they are changed
+                copySharedViews();
                 views.remove(objects[i]);
                 dirtyViewCategoryMappings = true;
             }
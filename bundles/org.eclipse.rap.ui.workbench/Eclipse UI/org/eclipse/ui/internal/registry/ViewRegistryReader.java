@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -97,6 +97,13 @@ public class ViewRegistryReader extends RegistryReader {
         }
     }
 
+    // RAP: the view registry reads the initial descriptors from the ViewRegistrySnapshot,
+    // this reader is only used for categories and dynamically added extensions
+    void setViewRegistry(ViewRegistry viewRegistry) {
+        this.viewRegistry = viewRegistry;
+    }
+    // RAPEND
+
     /**
      * Read the view extensions within a registry.
      * @param in the extension registry
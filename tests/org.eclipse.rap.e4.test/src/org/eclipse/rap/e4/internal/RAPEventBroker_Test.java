@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+
+public class RAPEventBroker_Test {
+
+  private List<Runnable> backgroundTasks;
+  private UISynchronize uiSync;
+  private EventAdmin eventAdmin;
+  private BundleContext bundleContext;
+  private RAPEventBroker broker;
+
+  @Before
+  public void setUp() {
+    backgroundTasks = new ArrayList<Runnable>();
+    uiSync = mock( UISynchronize.class );
+    eventAdmin = mock( EventAdmin.class );
+    bundleContext = mock( BundleContext.class );
+    doReturn( mock( ServiceRegistration.class ) )
+      .when( bundleContext ).registerService( anyString(), any(), any( Dictionary.class ) );
+    broker = new RAPEventBroker( new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        backgroundTasks.add( command );
+      }
+    } ) {
+      @Override
+      EventAdmin getEventAdmin() {
+        return eventAdmin;
+      }
+      @Override
+      BundleContext getBundleContext() {
+        return bundleContext;
+      }
+    };
+    broker.logger = mock( Logger.class );
+    broker.uiSync = uiSync;
+    broker.instanceId = "instance";
+  }
+
+  @Test
+  public void testSend_notifiesHeadlessHandlerInCallingThread() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", null, handler, true );
+
+    broker.send( "topic", "data" );
+
+    assertEquals( asList( "data" ), handler.data );
+    assertEquals( "instance/topic", handler.topics.get( 0 ) );
+    verifyZeroInteractions( uiSync );
+    assertTrue( backgroundTasks.isEmpty() );
+  }
+
+  @Test
+  public void testSend_notifiesUIHandlerWithSyncExec() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", handler );
+
+    broker.send( "topic", "data" );
+
+    assertTrue( handler.data.isEmpty() );
+    runCaptured( true );
+    assertEquals( asList( "data" ), handler.data );
+  }
+
+  @Test
+  public void testPost_notifiesHeadlessHandlerInBackground() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", null, handler, true );
+
+    broker.post( "topic", "data" );
+
+    assertTrue( handler.data.isEmpty() );
+    verifyZeroInteractions( uiSync );
+    runBackgroundTasks();
+    assertEquals( asList( "data" ), handler.data );
+  }
+
+  @Test
+  public void testPost_notifiesUIHandlerWithAsyncExec() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", handler );
+
+    broker.post( "topic", "data" );
+
+    assertTrue( handler.data.isEmpty() );
+    assertTrue( backgroundTasks.isEmpty() );
+    runCaptured( false );
+    assertEquals( asList( "data" ), handler.data );
+  }
+
+  @Test
+  public void testPost_keepsOrderOfEvents() {
+    RecordingHandler headlessHandler = new RecordingHandler();
+    RecordingHandler uiHandler = new RecordingHandler();
+    broker.subscribe( "topic", null, headlessHandler, true );
+    broker.subscribe( "topic", uiHandler );
+
+    broker.post( "topic", "first" );
+    broker.post( "topic", "second" );
+    broker.post( "topic", "third" );
+
+    runBackgroundTasks();
+    runCaptured( false );
+    assertEquals( asList( "first", "second", "third" ), headlessHandler.data );
+    assertEquals( asList( "first", "second", "third" ), uiHandler.data );
+  }
+
+  @Test
+  public void testPost_notifiesHandlersInBackgroundWithoutUISynchronize() {
+    broker.uiSync = null;
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", handler );
+
+    broker.post( "topic", "data" );
+
+    assertTrue( handler.data.isEmpty() );
+    runBackgroundTasks();
+    assertEquals( asList( "data" ), handler.data );
+  }
+
+  @Test
+  public void testSubscribe_withWildcard() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic/*", null, handler, true );
+
+    broker.send( "topic/a", "a" );
+    broker.send( "topic/a/b", "b" );
+    broker.send( "other", "other" );
+
+    assertEquals( asList( "a", "b" ), handler.data );
+  }
+
+  @Test
+  public void testSubscribe_withFilter() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", "(" + IEventBroker.DATA + "=match)", handler, true );
+
+    broker.send( "topic", "match" );
+    broker.send( "topic", "other" );
+
+    assertEquals( asList( "match" ), handler.data );
+  }
+
+  @Test
+  public void testSubscribe_withInvalidFilter() {
+    boolean result = broker.subscribe( "topic", "(invalid", new RecordingHandler(), true );
+
+    assertFalse( result );
+  }
+
+  @Test
+  public void testSubscribe_isolatesInstances() {
+    RAPEventBroker otherBroker = new RAPEventBroker( new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        command.run();
+      }
+    } );
+    otherBroker.logger = mock( Logger.class );
+    otherBroker.instanceId = "other";
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", null, handler, true );
+
+    otherBroker.send( "topic", "data" );
+
+    assertTrue( handler.data.isEmpty() );
+  }
+
+  @Test
+  public void testSend_continuesAfterFailingHandler() {
+    EventHandler failingHandler = mock( EventHandler.class );
+    doThrow( new IllegalStateException() ).when( failingHandler ).handleEvent( any( Event.class ) );
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", null, failingHandler, true );
+    broker.subscribe( "topic", null, handler, true );
+
+    broker.send( "topic", "data" );
+
+    assertEquals( asList( "data" ), handler.data );
+  }
+
+  @Test
+  public void testUnsubscribe_stopsNotifications() {
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribe( "topic", null, handler, true );
+
+    boolean result = broker.unsubscribe( handler );
+    broker.send( "topic", "data" );
+
+    assertTrue( result );
+    assertTrue( handler.data.isEmpty() );
+  }
+
+  @Test
+  public void testUnsubscribe_withUnknownHandler() {
+    assertFalse( broker.unsubscribe( new RecordingHandler() ) );
+  }
+
+  @Test
+  public void testSend_doesNotForwardWithoutGlobalSubscriptions() {
+    broker.subscribe( "topic", null, new RecordingHandler(), true );
+
+    broker.send( "topic", "data" );
+    broker.post( "topic", "data" );
+
+    verifyZeroInteractions( eventAdmin );
+  }
+
+  @Test
+  public void testSubscribeGlobally_registersEventHandler() {
+    boolean result = broker.subscribeGlobally( "topic", "(a=b)", new RecordingHandler(), true );
+
+    assertTrue( result );
+    ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass( Dictionary.class );
+    verify( bundleContext ).registerService( eq( EventHandler.class.getName() ),
+                                             any( RAPUIEventHandler.class ),
+                                             captor.capture() );
+    Object topics = captor.getValue().get( EventConstants.EVENT_TOPIC );
+    assertArrayEquals( new String[] { "instance/topic" }, ( String[] )topics );
+    assertEquals( "(a=b)", captor.getValue().get( EventConstants.EVENT_FILTER ) );
+  }
+
+  @Test
+  public void testSend_forwardsToEventAdminWithGlobalSubscriptions() {
+    broker.subscribeGlobally( "topic", null, new RecordingHandler(), true );
+
+    broker.send( "topic", "data" );
+
+    ArgumentCaptor<Event> captor = ArgumentCaptor.forClass( Event.class );
+    verify( eventAdmin ).sendEvent( captor.capture() );
+    assertEquals( "instance/topic", captor.getValue().getTopic() );
+    assertEquals( "data", captor.getValue().getProperty( IEventBroker.DATA ) );
+  }
+
+  @Test
+  public void testPost_forwardsToEventAdminWithGlobalSubscriptions() {
+    broker.subscribeGlobally( "topic", null, new RecordingHandler(), true );
+
+    broker.post( "topic", "data" );
+
+    ArgumentCaptor<Event> captor = ArgumentCaptor.forClass( Event.class );
+    verify( eventAdmin ).postEvent( captor.capture() );
+    assertTrue( RAPEventBroker.isAsyncEvent( captor.getValue() ) );
+  }
+
+  @Test
+  public void testUnsubscribe_unregistersGlobalSubscription() {
+    ServiceRegistration<?> registration = mock( ServiceRegistration.class );
+    doReturn( registration )
+      .when( bundleContext ).registerService( anyString(), any(), any( Dictionary.class ) );
+    RecordingHandler handler = new RecordingHandler();
+    broker.subscribeGlobally( "topic", null, handler, true );
+
+    boolean result = broker.unsubscribe( handler );
+    broker.send( "topic", "data" );
+
+    assertTrue( result );
+    verify( registration ).unregister();
+    verify( eventAdmin, never() ).sendEvent( any( Event.class ) );
+  }
+
+  private void runBackgroundTasks() {
+    while( !backgroundTasks.isEmpty() ) {
+      backgroundTasks.remove( 0 ).run();
+    }
+  }
+
+  private void runCaptured( boolean sync ) {
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    if( sync ) {
+      verify( uiSync ).syncExec( captor.capture() );
+    } else {
+      verify( uiSync, atLeastOnce() ).asyncExec( captor.capture() );
+    }
+    for( Runnable runnable : captor.getAllValues() ) {
+      runnable.run();
+    }
+  }
+
+  private static class RecordingHandler implements EventHandler {
+
+    final List<Object> data = new ArrayList<Object>();
+    final List<String> topics = new ArrayList<String>();
+
+    @Override
+    public void handleEvent( Event event ) {
+      data.add( event.getProperty( IEventBroker.DATA ) );
+      topics.add( event.getTopic() );
+    }
+  }
+
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.e4.internal.RAPEventBus.Subscription;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+
+public class RAPEventBus_Test {
+
+  private RAPEventBus eventBus;
+  private EventHandler handler;
+
+  @Before
+  public void setUp() {
+    eventBus = new RAPEventBus();
+    handler = mock( EventHandler.class );
+  }
+
+  @Test
+  public void testGetSubscriptions_matchesTopic() {
+    eventBus.subscribe( "a/b", null, handler, false );
+
+    List<Subscription> subscriptions = eventBus.getSubscriptions( createEvent( "a/b" ) );
+
+    assertEquals( 1, subscriptions.size() );
+    assertSame( handler, subscriptions.get( 0 ).getHandler() );
+    assertFalse( subscriptions.get( 0 ).isHeadless() );
+  }
+
+  @Test
+  public void testGetSubscriptions_doesNotMatchOtherTopics() {
+    eventBus.subscribe( "a/b", null, handler, false );
+
+    assertTrue( eventBus.getSubscriptions( createEvent( "a" ) ).isEmpty() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "a/bc" ) ).isEmpty() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "a/b/c" ) ).isEmpty() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "b" ) ).isEmpty() );
+  }
+
+  @Test
+  public void testGetSubscriptions_matchesWildcardBelowTopic() {
+    eventBus.subscribe( "a/*", null, handler, true );
+
+    assertEquals( 1, eventBus.getSubscriptions( createEvent( "a/b" ) ).size() );
+    assertEquals( 1, eventBus.getSubscriptions( createEvent( "a/b/c" ) ).size() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "a" ) ).isEmpty() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "ab/c" ) ).isEmpty() );
+  }
+
+  @Test
+  public void testGetSubscriptions_matchesWildcardForAllTopics() {
+    eventBus.subscribe( "*", null, handler, true );
+
+    assertEquals( 1, eventBus.getSubscriptions( createEvent( "a" ) ).size() );
+    assertEquals( 1, eventBus.getSubscriptions( createEvent( "a/b/c" ) ).size() );
+  }
+
+  @Test
+  public void testGetSubscriptions_matchesAllLevels() {
+    EventHandler wildcardHandler = mock( EventHandler.class );
+    eventBus.subscribe( "a/b", null, handler, false );
+    eventBus.subscribe( "a/*", null, wildcardHandler, false );
+
+    List<Subscription> subscriptions = eventBus.getSubscriptions( createEvent( "a/b" ) );
+
+    assertEquals( 2, subscriptions.size() );
+    assertSame( wildcardHandler, subscriptions.get( 0 ).getHandler() );
+    assertSame( handler, subscriptions.get( 1 ).getHandler() );
+  }
+
+  @Test
+  public void testGetSubscriptions_appliesFilter() throws InvalidSyntaxException {
+    eventBus.subscribe( "a", FrameworkUtil.createFilter( "(key=value)" ), handler, false );
+    Map<String, Object> matching = new HashMap<String, Object>();
+    matching.put( "key", "value" );
+    Map<String, Object> other = new HashMap<String, Object>();
+    other.put( "key", "other" );
+
+    assertEquals( 1, eventBus.getSubscriptions( new Event( "a", matching ) ).size() );
+    assertTrue( eventBus.getSubscriptions( new Event( "a", other ) ).isEmpty() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "a" ) ).isEmpty() );
+  }
+
+  @Test
+  public void testUnsubscribe_removesAllSubscriptionsOfHandler() {
+    EventHandler otherHandler = mock( EventHandler.class );
+    eventBus.subscribe( "a", null, handler, false );
+    eventBus.subscribe( "b/*", null, handler, false );
+    eventBus.subscribe( "a", null, otherHandler, false );
+
+    boolean result = eventBus.unsubscribe( handler );
+
+    assertTrue( result );
+    List<Subscription> subscriptions = eventBus.getSubscriptions( createEvent( "a" ) );
+    assertEquals( 1, subscriptions.size() );
+    assertSame( otherHandler, subscriptions.get( 0 ).getHandler() );
+    assertTrue( eventBus.getSubscriptions( createEvent( "b/c" ) ).isEmpty() );
+  }
+
+  @Test
+  public void testUnsubscribe_withUnknownHandler() {
+    assertFalse( eventBus.unsubscribe( handler ) );
+  }
+
+  @Test
+  public void testClear_removesAllSubscriptions() {
+    eventBus.subscribe( "a", null, handler, false );
+    eventBus.subscribe( "*", null, mock( EventHandler.class ), false );
+
+    eventBus.clear();
+
+    assertTrue( eventBus.getSubscriptions( createEvent( "a" ) ).isEmpty() );
+    assertFalse( eventBus.unsubscribe( handler ) );
+  }
+
+  private static Event createEvent( String topic ) {
+    return new Event( topic, new HashMap<String, Object>() );
+  }
+
+}
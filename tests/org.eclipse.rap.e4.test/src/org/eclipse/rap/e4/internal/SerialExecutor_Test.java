@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+
+public class SerialExecutor_Test {
+
+  @Test
+  public void testExecute_runsTasksInOrder() {
+    List<Runnable> sharedTasks = new ArrayList<Runnable>();
+    List<Integer> log = new ArrayList<Integer>();
+    SerialExecutor executor = new SerialExecutor( createQueueingExecutor( sharedTasks ) );
+
+    executor.execute( createLoggingTask( log, 1 ) );
+    executor.execute( createLoggingTask( log, 2 ) );
+    executor.execute( createLoggingTask( log, 3 ) );
+
+    assertEquals( 1, sharedTasks.size() );
+    sharedTasks.remove( 0 ).run();
+    assertEquals( asList( 1, 2, 3 ), log );
+    assertTrue( sharedTasks.isEmpty() );
+  }
+
+  @Test
+  public void testExecute_continuesAfterFailingTask() {
+    List<Runnable> sharedTasks = new ArrayList<Runnable>();
+    List<Integer> log = new ArrayList<Integer>();
+    SerialExecutor executor = new SerialExecutor( createQueueingExecutor( sharedTasks ) );
+    executor.execute( new Runnable() {
+      @Override
+      public void run() {
+        throw new IllegalStateException();
+      }
+    } );
+    executor.execute( createLoggingTask( log, 1 ) );
+
+    try {
+      sharedTasks.remove( 0 ).run();
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException expected ) {
+    }
+
+    assertEquals( 1, sharedTasks.size() );
+    sharedTasks.remove( 0 ).run();
+    assertEquals( asList( 1 ), log );
+  }
+
+  @Test
+  public void testExecute_runsTasksInCallingThreadWhenRejected() {
+    List<Integer> log = new ArrayList<Integer>();
+    SerialExecutor executor = new SerialExecutor( new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        throw new RejectedExecutionException();
+      }
+    } );
+
+    executor.execute( createLoggingTask( log, 1 ) );
+
+    assertEquals( asList( 1 ), log );
+  }
+
+  @Test
+  public void testExecute_runsTasksOneAtATime() throws InterruptedException {
+    ExecutorService sharedExecutor = Executors.newFixedThreadPool( 4 );
+    final List<Integer> log = new ArrayList<Integer>();
+    final CountDownLatch latch = new CountDownLatch( 1000 );
+    SerialExecutor executor = new SerialExecutor( sharedExecutor );
+    try {
+      for( int i = 0; i < 1000; i++ ) {
+        final int value = i;
+        executor.execute( new Runnable() {
+          @Override
+          public void run() {
+            // not synchronized, the executor guarantees that tasks do not overlap
+            log.add( Integer.valueOf( value ) );
+            latch.countDown();
+          }
+        } );
+      }
+      assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+    } finally {
+      sharedExecutor.shutdown();
+    }
+    for( int i = 0; i < 1000; i++ ) {
+      assertEquals( Integer.valueOf( i ), log.get( i ) );
+    }
+  }
+
+  private static Executor createQueueingExecutor( final List<Runnable> tasks ) {
+    return new Executor() {
+      @Override
+      public void execute( Runnable command ) {
+        tasks.add( command );
+      }
+    };
+  }
+
+  private static Runnable createLoggingTask( final List<Integer> log, final int value ) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        log.add( Integer.valueOf( value ) );
+      }
+    };
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -246,6 +246,15 @@ public class FileUploadHandler_Test {
     assertThat( getResponseContent(), containsString( "HTTP ERROR 408" ) );
   }
 
+  @Test
+  public void testProgressInterval() {
+    assertEquals( 0, handler.getProgressInterval() );
+
+    handler.setProgressInterval( 500 );
+
+    assertEquals( 500, handler.getProgressInterval() );
+  }
+
   @Test
   public void testUploadWithException() throws IOException, ServletException {
     FileUploadReceiver receiver = new FileUploadReceiver() {
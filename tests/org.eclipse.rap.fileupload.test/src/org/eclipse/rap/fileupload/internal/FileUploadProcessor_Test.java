@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -148,6 +148,19 @@ public class FileUploadProcessor_Test {
     assertEquals( "bar.png", values.get( 1 ).getFileName() );
   }
 
+  @Test
+  public void testHandleFileUpload_withProgressInterval_throttlesProgress() throws IOException {
+    uploadHandler.addUploadListener( testListener );
+    uploadHandler.setProgressInterval( 60000 );
+
+    fakeUploadRequest( uploadHandler, createContent( 12000 ), "text/plain", "foo.txt" );
+    uploadProcessor.handleFileUpload( RWT.getRequest(), RWT.getResponse() );
+
+    assertEquals( "progress.progress.finished.", testListener.getLog() );
+    FileUploadEvent event = testListener.getLastEvent();
+    assertEquals( event.getContentLength(), event.getBytesRead() );
+  }
+
   @Test
   public void testHandleFileUpload_withoutData() throws IOException {
     uploadHandler.addUploadListener( testListener );
@@ -187,6 +200,14 @@ public class FileUploadProcessor_Test {
     assertEquals( HttpServletResponse.SC_INTERNAL_SERVER_ERROR, getResponseErrorStatus() );
   }
 
+  private static String createContent( int length ) {
+    StringBuilder result = new StringBuilder( length );
+    for( int i = 0; i < length; i++ ) {
+      result.append( ( char )( 'a' + i % 26 ) );
+    }
+    return result.toString();
+  }
+
   private static void stubReceiveMethod( FileUploadReceiver receiver ) throws IOException {
     Answer<?> answer = new Answer<Object>() {
       @Override
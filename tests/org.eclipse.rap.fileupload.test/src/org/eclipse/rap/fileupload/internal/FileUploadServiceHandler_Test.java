@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.util.List;
 
 import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.fileupload.FileUploadEvent;
@@ -101,6 +103,50 @@ public class FileUploadServiceHandler_Test {
     assertEquals( "text/plain", uploadedItem.getFileDetails()[ 0 ].getContentType() );
   }
 
+  @Test
+  public void testUploadBigFile_withProgressInterval() throws IOException, ServletException {
+    TestFileUploadListener testListener = new TestFileUploadListener() {
+      @Override
+      public void uploadProgress( FileUploadEvent info ) {
+        log.append( "progress(" + info.getBytesRead() + "/" + info.getContentLength() + ").");
+      }
+    };
+    uploadHandler.addUploadListener( testListener );
+    uploadHandler.setProgressInterval( 60000 );
+    String content = createExampleContent( 12000 );
+
+    fakeUploadRequest( content, "text/plain", "test.txt"  );
+    serviceHandler.service( RWT.getRequest(), RWT.getResponse() );
+
+    assertEquals( 0, getResponseErrorStatus() );
+    String expected = "progress(4096/12134).progress(12134/12134).finished.";
+    assertEquals( expected, testListener.getLog() );
+    assertEquals( content, new String( testReceiver.getContent() ) );
+  }
+
+  @Test
+  public void testUploadBigFile_withProgressIntervalAndUnknownContentLength()
+    throws IOException, ServletException
+  {
+    TestFileUploadListener testListener = new TestFileUploadListener() {
+      @Override
+      public void uploadProgress( FileUploadEvent info ) {
+        log.append( "progress(" + info.getBytesRead() + "/" + info.getContentLength() + ").");
+      }
+    };
+    uploadHandler.addUploadListener( testListener );
+    uploadHandler.setProgressInterval( 60000 );
+    String content = createExampleContent( 12000 );
+
+    fakeUploadRequest( content, "text/plain", "test.txt"  );
+    serviceHandler.service( createRequestWithoutContentLength(), RWT.getResponse() );
+
+    assertEquals( 0, getResponseErrorStatus() );
+    String expected = "progress(4096/-1).progress(12134/-1).finished.";
+    assertEquals( expected, testListener.getLog() );
+    assertEquals( content, new String( testReceiver.getContent() ) );
+  }
+
   @Test
   public void testCanUploadEmptyFile() throws IOException, ServletException {
     uploadHandler.addUploadListener( testListener );
@@ -241,6 +287,19 @@ public class FileUploadServiceHandler_Test {
     FileUploadTestUtil.fakeUploadRequest( token, "TestContent", "text/plain", "test.txt" );
   }
 
+  private static HttpServletRequest createRequestWithoutContentLength() {
+    return new HttpServletRequestWrapper( RWT.getRequest() ) {
+      @Override
+      public int getContentLength() {
+        return -1;
+      }
+      @Override
+      public long getContentLengthLong() {
+        return -1;
+      }
+    };
+  }
+
   private static List<String> getQueryParameters( String url ) {
     int queryIndex = url.indexOf( '?' );
     String queryString = queryIndex == -1 ? "" : url.substring( queryIndex + 1 );
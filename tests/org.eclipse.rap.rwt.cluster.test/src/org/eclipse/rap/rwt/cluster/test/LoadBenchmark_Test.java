@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.rap.rwt.cluster.test.entrypoints.ButtonEntryPoint;
+import org.eclipse.rap.rwt.cluster.test.entrypoints.ServerPushEntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.client.ClientScript;
+import org.eclipse.rap.rwt.cluster.testfixture.client.RWTClient;
+import org.eclipse.rap.rwt.cluster.testfixture.load.LoadTest;
+import org.eclipse.rap.rwt.cluster.testfixture.load.LoadTestResult;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineFactory;
+import org.eclipse.rap.rwt.cluster.testfixture.server.JettyFactory;
+import org.eclipse.rap.rwt.cluster.testfixture.server.TomcatFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+
+@RunWith( Parameterized.class )
+public class LoadBenchmark_Test {
+
+  private static final int VIRTUAL_USERS = 20;
+
+  private final IServletEngineFactory servletEngineFactory;
+  private IServletEngine servletEngine;
+
+  @Parameters
+  public static Collection<Object[]> getParameters() {
+    return Arrays.asList( new Object[][] { { new JettyFactory() }, { new TomcatFactory() } } );
+  }
+
+  public LoadBenchmark_Test( IServletEngineFactory servletEngineFactory ) {
+    this.servletEngineFactory = servletEngineFactory;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    servletEngine = servletEngineFactory.createServletEngine();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    servletEngine.stop();
+  }
+
+  @Test
+  public void testReplayRecordedScript() throws Exception {
+    servletEngine.start( ButtonEntryPoint.class );
+    ClientScript script = recordScript();
+    LoadTest loadTest = new LoadTest( servletEngine, script );
+    loadTest.setVirtualUsers( VIRTUAL_USERS );
+    loadTest.setThinkTime( 10 );
+
+    LoadTestResult result = loadTest.run();
+
+    assertEquals( 0, result.getFailedRequestCount() );
+    assertEquals( VIRTUAL_USERS * script.getMessageCount(), result.getRequestCount() );
+    assertEquals( VIRTUAL_USERS + 1, servletEngine.getSessions().length );
+    assertTrue( result.getLatencyPercentile( 99 ) >= result.getMedianLatency() );
+  }
+
+  @Test
+  public void testReplayWithServerPush() throws Exception {
+    servletEngine.start( ServerPushEntryPoint.class );
+    ClientScript script = recordScript();
+    LoadTest loadTest = new LoadTest( servletEngine, script );
+    loadTest.setVirtualUsers( VIRTUAL_USERS );
+    loadTest.setServerPush( true );
+    loadTest.setServerPushTimeout( 500 );
+
+    LoadTestResult result = loadTest.run();
+
+    assertEquals( 0, result.getFailedRequestCount() );
+    assertEquals( VIRTUAL_USERS * script.getMessageCount(), result.getRequestCount() );
+    assertEquals( 0, result.getFailedServerPushRequestCount() );
+    assertTrue( result.getServerPushRequestCount() >= VIRTUAL_USERS );
+  }
+
+  private ClientScript recordScript() throws Exception {
+    ClientScript result = new ClientScript();
+    RWTClient client = new RWTClient( servletEngine );
+    client.sendStartupRequest();
+    client.startRecording( result );
+    client.sendInitializationRequest();
+    for( int i = 0; i < 5; i++ ) {
+      client.sendDisplayResizeRequest( 800 + i, 600 + i );
+    }
+    client.stopRecording();
+    return result;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ClientScript_Test {
+
+  private static final String OPERATION_1 = "[\"set\",\"w1\",{\"bounds\":[0,0,800,600]}]";
+  private static final String OPERATION_2 = "[\"notify\",\"w4\",\"Selection\",{}]";
+
+  private ClientScript script;
+
+  @Before
+  public void setUp() {
+    script = new ClientScript();
+  }
+
+  @Test
+  public void testAddMessage() {
+    JsonMessage message = new JsonMessage();
+    message.addOperation( OPERATION_1 );
+    message.addOperation( OPERATION_2 );
+
+    script.addMessage( message );
+
+    assertEquals( 1, script.getMessageCount() );
+    assertEquals( Arrays.asList( OPERATION_1, OPERATION_2 ), script.getOperations( 0 ) );
+  }
+
+  @Test
+  public void testCreateMessage() {
+    script.addMessage( Arrays.asList( OPERATION_1 ) );
+
+    JsonMessage message = script.createMessage( 0 );
+
+    assertEquals( "{\"head\":{},\"operations\":[" + OPERATION_1 + "]}", message.toString() );
+  }
+
+  @Test
+  public void testCreateMessage_createsNewInstance() {
+    script.addMessage( Arrays.asList( OPERATION_1 ) );
+
+    JsonMessage message = script.createMessage( 0 );
+    message.setRequestCounter( 1 );
+
+    assertNotSame( message, script.createMessage( 0 ) );
+    assertEquals( "{\"head\":{},\"operations\":[" + OPERATION_1 + "]}",
+                  script.createMessage( 0 ).toString() );
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    script.addMessage( Arrays.asList( OPERATION_1 ) );
+    script.addMessage( Arrays.asList( OPERATION_1, OPERATION_2 ) );
+    StringWriter writer = new StringWriter();
+
+    script.write( writer );
+
+    String expected = "[" + OPERATION_1 + "]\n" + "[" + OPERATION_1 + "," + OPERATION_2 + "]\n";
+    assertEquals( expected, writer.toString() );
+  }
+
+  @Test
+  public void testRead() throws IOException {
+    String text = "[" + OPERATION_1 + "]\n\n" + "[" + OPERATION_1 + "," + OPERATION_2 + "]\n";
+
+    ClientScript result = ClientScript.read( new StringReader( text ) );
+
+    assertEquals( 2, result.getMessageCount() );
+    assertEquals( Arrays.asList( OPERATION_1 ), result.getOperations( 0 ) );
+    assertEquals( Arrays.asList( OPERATION_1, OPERATION_2 ), result.getOperations( 1 ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -207,6 +207,35 @@ public class RWTClient_Test {
     assertTrue( connectionUrl.contains( expectedCidParam ) );
   }
 
+  @Test
+  public void testStartRecording() throws IOException {
+    connectionProvider.setConnection( new TestHttpUrlConnection( "{\"cid\":\"12345678\"}" ) );
+    RWTClient client = new RWTClient( servletEngine, connectionProvider );
+    ClientScript script = new ClientScript();
+
+    client.startRecording( script );
+    client.sendInitializationRequest();
+    client.sendDisplayResizeRequest( 100, 200 );
+
+    assertEquals( 2, script.getMessageCount() );
+    assertEquals( "[\"set\",\"w1\",{\"bounds\":[0,0,100,200]}]",
+                  script.getOperations( 1 ).get( 0 ) );
+  }
+
+  @Test
+  public void testStopRecording() throws IOException {
+    connectionProvider.setConnection( new TestHttpUrlConnection( "" ) );
+    RWTClient client = new RWTClient( servletEngine, connectionProvider );
+    ClientScript script = new ClientScript();
+    client.startRecording( script );
+    client.sendDisplayResizeRequest( 100, 200 );
+
+    client.stopRecording();
+    client.sendDisplayResizeRequest( 300, 400 );
+
+    assertEquals( 1, script.getMessageCount() );
+  }
+
   @Test
   public void testChangeServletEngine() {
     RWTClient client = new RWTClient( servletEngine );
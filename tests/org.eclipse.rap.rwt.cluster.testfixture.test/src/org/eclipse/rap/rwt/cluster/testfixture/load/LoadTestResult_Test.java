@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+
+public class LoadTestResult_Test {
+
+  private static final long MILLIS = 1000000;
+
+  @Test
+  public void testGetLatencyPercentile() {
+    LoadTestResult result = createResult( 100 );
+
+    assertEquals( 1d, result.getLatencyPercentile( 0 ), 0 );
+    assertEquals( 50d, result.getMedianLatency(), 0 );
+    assertEquals( 99d, result.getLatencyPercentile( 99 ), 0 );
+    assertEquals( 100d, result.getMaxLatency(), 0 );
+  }
+
+  @Test
+  public void testGetLatencyPercentile_withoutRequests() {
+    LoadTestResult result = createResult( 0 );
+
+    assertEquals( 0d, result.getLatencyPercentile( 99 ), 0 );
+  }
+
+  @Test
+  public void testGetLatencyPercentile_outOfRange() {
+    try {
+      createResult( 1 ).getLatencyPercentile( 101 );
+      fail();
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  @Test
+  public void testGetRequestsPerSecond() {
+    LoadTestResult result = new LoadTestResult( new long[ 50 ], 0, 2000 * MILLIS, 0, 0, 0, 0 );
+
+    assertEquals( 25d, result.getRequestsPerSecond(), 0.001 );
+  }
+
+  @Test
+  public void testLatencyRecorder() {
+    LatencyRecorder recorder = new LatencyRecorder();
+    for( int i = 2000; i > 0; i-- ) {
+      recorder.addSample( i * MILLIS );
+    }
+    recorder.addFailure();
+
+    LoadTestResult result = new LoadTestResult( recorder.getSortedSamples(),
+                                                recorder.getFailureCount(),
+                                                0,
+                                                0,
+                                                0,
+                                                0,
+                                                0 );
+
+    assertEquals( 2000, result.getRequestCount() );
+    assertEquals( 1, result.getFailedRequestCount() );
+    assertEquals( 1000d, result.getMedianLatency(), 0 );
+  }
+
+  private static LoadTestResult createResult( int requests ) {
+    long[] latencies = new long[ requests ];
+    for( int i = 0; i < requests; i++ ) {
+      latencies[ i ] = ( i + 1 ) * MILLIS;
+    }
+    return new LoadTestResult( latencies, 0, 1000 * MILLIS, 0, 0, 0, 0 );
+  }
+
+}
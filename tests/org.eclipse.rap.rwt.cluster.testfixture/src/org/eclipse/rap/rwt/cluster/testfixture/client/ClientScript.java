@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonValue;
+
+
+/**
+ * A sequence of client messages that can be recorded from an <code>RWTClient</code> and replayed
+ * by any number of clients. Only the operations of a message are stored, the message headers
+ * (e.g. the request counter) are created by the replaying client.
+ * <p>
+ * The textual form of a script contains one message per line, each written as a JSON array of
+ * operations.
+ * </p>
+ */
+public class ClientScript {
+
+  private final List<List<String>> messages;
+
+  public ClientScript() {
+    messages = new ArrayList<List<String>>();
+  }
+
+  public void addMessage( JsonMessage message ) {
+    addMessage( message.getOperations() );
+  }
+
+  public void addMessage( List<String> operations ) {
+    messages.add( Collections.unmodifiableList( new ArrayList<String>( operations ) ) );
+  }
+
+  public int getMessageCount() {
+    return messages.size();
+  }
+
+  public List<String> getOperations( int index ) {
+    return messages.get( index );
+  }
+
+  /**
+   * Creates a new message for the message at the given index. A new instance is created on every
+   * call since the sending client adds headers to the message.
+   */
+  public JsonMessage createMessage( int index ) {
+    JsonMessage result = new JsonMessage();
+    for( String operation : messages.get( index ) ) {
+      result.addOperation( operation );
+    }
+    return result;
+  }
+
+  public void write( Writer writer ) throws IOException {
+    for( List<String> operations : messages ) {
+      JsonArray array = new JsonArray();
+      for( String operation : operations ) {
+        array.add( JsonValue.readFrom( operation ) );
+      }
+      array.writeTo( writer );
+      writer.write( '\n' );
+    }
+    writer.flush();
+  }
+
+  public static ClientScript read( Reader reader ) throws IOException {
+    ClientScript result = new ClientScript();
+    BufferedReader bufferedReader = new BufferedReader( reader );
+    String line = bufferedReader.readLine();
+    while( line != null ) {
+      if( line.trim().length() > 0 ) {
+        List<String> operations = new ArrayList<String>();
+        for( JsonValue operation : JsonArray.readFrom( line ) ) {
+          operations.add( operation.toString() );
+        }
+        result.addMessage( operations );
+      }
+      line = bufferedReader.readLine();
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,10 @@ public class JsonMessage {
     operations.add( operation );
   }
 
+  public List<String> getOperations() {
+    return new ArrayList<String>( operations );
+  }
+
   @Override
   public String toString() {
     StringBuilder json = new StringBuilder();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -39,6 +39,7 @@ public class RWTClient {
   private String sessionId;
   private int requestCounter;
   private String connectionId;
+  private ClientScript recorder;
 
   public RWTClient( IServletEngine servletEngine ) {
     this( servletEngine, new DefaultConnectionProvider() );
@@ -68,6 +69,18 @@ public class RWTClient {
     return connectionId;
   }
 
+  /**
+   * Records all subsequent client messages into the given script until
+   * <code>stopRecording()</code> is called.
+   */
+  public void startRecording( ClientScript script ) {
+    recorder = script;
+  }
+
+  public void stopRecording() {
+    recorder = null;
+  }
+
   public Response sendStartupRequest() throws IOException {
     return sendGetRequest( new HashMap<String, String>() );
   }
@@ -147,7 +160,10 @@ public class RWTClient {
     return new Response( connection );
   }
 
-  Response sendPostRequest( JsonMessage message ) throws IOException {
+  public Response sendPostRequest( JsonMessage message ) throws IOException {
+    if( recorder != null ) {
+      recorder.addMessage( message );
+    }
     if( requestCounter >= 0 ) {
       message.setRequestCounter( requestCounter );
     }
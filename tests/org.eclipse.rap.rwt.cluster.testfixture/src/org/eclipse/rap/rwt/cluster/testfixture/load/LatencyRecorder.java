@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.load;
+
+import java.util.Arrays;
+
+
+/*
+ * Collects request latencies of all virtual users. Samples are stored in a growing primitive
+ * array to avoid boxing a Long for every request.
+ */
+class LatencyRecorder {
+
+  private final Object lock;
+  private long[] samples;
+  private int count;
+  private int failures;
+
+  LatencyRecorder() {
+    lock = new Object();
+    samples = new long[ 1024 ];
+  }
+
+  void addSample( long nanos ) {
+    synchronized( lock ) {
+      if( count == samples.length ) {
+        samples = Arrays.copyOf( samples, count * 2 );
+      }
+      samples[ count++ ] = nanos;
+    }
+  }
+
+  void addFailure() {
+    synchronized( lock ) {
+      failures++;
+    }
+  }
+
+  int getFailureCount() {
+    synchronized( lock ) {
+      return failures;
+    }
+  }
+
+  long[] getSortedSamples() {
+    long[] result;
+    synchronized( lock ) {
+      result = Arrays.copyOf( samples, count );
+    }
+    Arrays.sort( result );
+    return result;
+  }
+
+}
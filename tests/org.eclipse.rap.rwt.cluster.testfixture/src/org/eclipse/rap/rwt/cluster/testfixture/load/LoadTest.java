@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.load;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.cluster.testfixture.client.ClientScript;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+
+
+/**
+ * Drives a number of virtual users against a started servlet engine. Every virtual user opens its
+ * own UI session and replays the given client script with the configured think time between two
+ * messages. Optionally, every virtual user keeps a server push request running once its script
+ * is finished. The measurements are taken when the first server push request of every virtual
+ * user has completed.
+ * <p>
+ * When all virtual users have finished their scripts, the heap usage per session and the number
+ * of live UI threads are measured while all sessions are still open. Since the servlet engines of
+ * the cluster testfixture run embedded, these values reflect the server side.
+ * </p>
+ *
+ * <pre>
+ * LoadTest loadTest = new LoadTest( servletEngine, script );
+ * loadTest.setVirtualUsers( 200 );
+ * loadTest.setThinkTime( 100 );
+ * LoadTestResult result = loadTest.run();
+ * </pre>
+ */
+public class LoadTest {
+
+  private static final String UI_THREAD_NAME = "UIThread";
+  private static final long DEFAULT_TIMEOUT = 5 * 60 * 1000;
+
+  private final IServletEngine servletEngine;
+  private final ClientScript script;
+  private int virtualUsers;
+  private long thinkTime;
+  private boolean serverPush;
+  private int serverPushTimeout;
+  private long timeout;
+
+  public LoadTest( IServletEngine servletEngine, ClientScript script ) {
+    this.servletEngine = servletEngine;
+    this.script = script;
+    virtualUsers = 1;
+    serverPushTimeout = 30000;
+    timeout = DEFAULT_TIMEOUT;
+  }
+
+  public void setVirtualUsers( int virtualUsers ) {
+    if( virtualUsers < 1 ) {
+      throw new IllegalArgumentException( "Number of virtual users must be positive" );
+    }
+    this.virtualUsers = virtualUsers;
+  }
+
+  public int getVirtualUsers() {
+    return virtualUsers;
+  }
+
+  /**
+   * Sets the time in milliseconds a virtual user waits between two messages.
+   */
+  public void setThinkTime( long thinkTime ) {
+    this.thinkTime = thinkTime;
+  }
+
+  public long getThinkTime() {
+    return thinkTime;
+  }
+
+  public void setServerPush( boolean serverPush ) {
+    this.serverPush = serverPush;
+  }
+
+  public boolean isServerPush() {
+    return serverPush;
+  }
+
+  /**
+   * Sets the read timeout in milliseconds of the server push requests.
+   */
+  public void setServerPushTimeout( int serverPushTimeout ) {
+    this.serverPushTimeout = serverPushTimeout;
+  }
+
+  public int getServerPushTimeout() {
+    return serverPushTimeout;
+  }
+
+  /**
+   * Sets the maximum time in milliseconds to wait for all virtual users to finish their scripts.
+   */
+  public void setTimeout( long timeout ) {
+    this.timeout = timeout;
+  }
+
+  public LoadTestResult run() throws InterruptedException {
+    LatencyRecorder recorder = new LatencyRecorder();
+    AtomicInteger serverPushRequests = new AtomicInteger();
+    AtomicInteger failedServerPushRequests = new AtomicInteger();
+    CountDownLatch startSignal = new CountDownLatch( 1 );
+    CountDownLatch scriptFinished = new CountDownLatch( virtualUsers );
+    CountDownLatch stopSignal = new CountDownLatch( 1 );
+    CountDownLatch serverPushStarted = new CountDownLatch( virtualUsers );
+    ExecutorService executor = Executors.newFixedThreadPool( virtualUsers );
+    try {
+      for( int i = 0; i < virtualUsers; i++ ) {
+        executor.execute( new VirtualUser( servletEngine,
+                                           script,
+                                           this,
+                                           recorder,
+                                           startSignal,
+                                           scriptFinished,
+                                           stopSignal,
+                                           serverPushStarted,
+                                           serverPushRequests,
+                                           failedServerPushRequests ) );
+      }
+      long heapBefore = getUsedHeap();
+      int uiThreadsBefore = countUIThreads();
+      long start = System.nanoTime();
+      startSignal.countDown();
+      if( !scriptFinished.await( timeout, TimeUnit.MILLISECONDS ) ) {
+        throw new IllegalStateException( "Virtual users did not finish within " + timeout + "ms" );
+      }
+      long duration = System.nanoTime() - start;
+      if( !serverPushStarted.await( timeout, TimeUnit.MILLISECONDS ) ) {
+        throw new IllegalStateException( "Server push did not start within " + timeout + "ms" );
+      }
+      long heapPerSession = Math.max( 0, getUsedHeap() - heapBefore ) / virtualUsers;
+      int uiThreads = countUIThreads() - uiThreadsBefore;
+      return new LoadTestResult( recorder.getSortedSamples(),
+                                 recorder.getFailureCount(),
+                                 duration,
+                                 heapPerSession,
+                                 uiThreads,
+                                 serverPushRequests.get(),
+                                 failedServerPushRequests.get() );
+    } finally {
+      stopSignal.countDown();
+      executor.shutdown();
+    }
+  }
+
+  private static long getUsedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static int countUIThreads() {
+    int result = 0;
+    for( Thread thread : Thread.getAllStackTraces().keySet() ) {
+      if( thread.isAlive() && thread.getName().startsWith( UI_THREAD_NAME ) ) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+}
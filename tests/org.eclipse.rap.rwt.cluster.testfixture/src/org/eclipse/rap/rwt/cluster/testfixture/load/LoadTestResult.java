@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.load;
+
+import java.util.Locale;
+
+
+/**
+ * The measurements of a load test run. Latencies are measured on the client side for every
+ * replayed message, server push requests are not included.
+ */
+public class LoadTestResult {
+
+  private static final double NANOS_PER_MILLI = 1000000d;
+  private static final double NANOS_PER_SECOND = 1000000000d;
+
+  private final long[] latencies;
+  private final int failedRequests;
+  private final long duration;
+  private final long heapPerSession;
+  private final int uiThreads;
+  private final int serverPushRequests;
+  private final int failedServerPushRequests;
+
+  LoadTestResult( long[] sortedLatencies,
+                  int failedRequests,
+                  long duration,
+                  long heapPerSession,
+                  int uiThreads,
+                  int serverPushRequests,
+                  int failedServerPushRequests )
+  {
+    latencies = sortedLatencies;
+    this.failedRequests = failedRequests;
+    this.duration = duration;
+    this.heapPerSession = heapPerSession;
+    this.uiThreads = uiThreads;
+    this.serverPushRequests = serverPushRequests;
+    this.failedServerPushRequests = failedServerPushRequests;
+  }
+
+  public int getRequestCount() {
+    return latencies.length;
+  }
+
+  public int getFailedRequestCount() {
+    return failedRequests;
+  }
+
+  /**
+   * Returns the number of server push requests that have been answered or timed out while the
+   * load test was running.
+   */
+  public int getServerPushRequestCount() {
+    return serverPushRequests;
+  }
+
+  public int getFailedServerPushRequestCount() {
+    return failedServerPushRequests;
+  }
+
+  /**
+   * Returns the latency in milliseconds below which the given percentage (0 to 100) of all
+   * successful requests have been answered, using the nearest-rank method.
+   */
+  public double getLatencyPercentile( double percentile ) {
+    if( percentile < 0 || percentile > 100 ) {
+      throw new IllegalArgumentException( "Percentile out of range: " + percentile );
+    }
+    if( latencies.length == 0 ) {
+      return 0;
+    }
+    int rank = ( int )Math.ceil( percentile / 100 * latencies.length );
+    return latencies[ Math.max( rank, 1 ) - 1 ] / NANOS_PER_MILLI;
+  }
+
+  public double getMedianLatency() {
+    return getLatencyPercentile( 50 );
+  }
+
+  public double getMaxLatency() {
+    return getLatencyPercentile( 100 );
+  }
+
+  public double getRequestsPerSecond() {
+    return duration == 0 ? 0 : latencies.length / ( duration / NANOS_PER_SECOND );
+  }
+
+  /**
+   * Returns the duration in milliseconds until all virtual users finished their scripts.
+   */
+  public double getDuration() {
+    return duration / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Returns the increase of the used heap in bytes divided by the number of virtual users. The
+   * value is only an approximation as it depends on the garbage collector.
+   */
+  public long getHeapPerSession() {
+    return heapPerSession;
+  }
+
+  /**
+   * Returns the number of UI threads that have been started during the load test and were still
+   * alive when all virtual users finished their scripts.
+   */
+  public int getUIThreadCount() {
+    return uiThreads;
+  }
+
+  @Override
+  public String toString() {
+    return String.format( Locale.ENGLISH,
+                          "requests: %d (%d failed), p50: %.2fms, p99: %.2fms, max: %.2fms, "
+                          + "%.1f req/s, heap/session: %d KB, UI threads: %d, push requests: %d (%d failed)",
+                          Integer.valueOf( getRequestCount() ),
+                          Integer.valueOf( failedRequests ),
+                          Double.valueOf( getMedianLatency() ),
+                          Double.valueOf( getLatencyPercentile( 99 ) ),
+                          Double.valueOf( getMaxLatency() ),
+                          Double.valueOf( getRequestsPerSecond() ),
+                          Long.valueOf( heapPerSession / 1024 ),
+                          Integer.valueOf( uiThreads ),
+                          Integer.valueOf( serverPushRequests ),
+                          Integer.valueOf( failedServerPushRequests ) );
+  }
+
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.testfixture.load;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.cluster.testfixture.client.ClientScript;
+import org.eclipse.rap.rwt.cluster.testfixture.client.RWTClient;
+import org.eclipse.rap.rwt.cluster.testfixture.client.Response;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+
+
+/*
+ * Replays a client script in its own UI session. After the script is finished, the session is
+ * kept open (and server push requests keep running) until the load test is stopped, so that the
+ * load test can take its measurements while all sessions are alive. Server push requests that
+ * fail with another error than a read timeout are counted as failures and end the server push.
+ */
+class VirtualUser implements Runnable {
+
+  private final RWTClient client;
+  private final ClientScript script;
+  private final LoadTest loadTest;
+  private final LatencyRecorder recorder;
+  private final CountDownLatch startSignal;
+  private final CountDownLatch scriptFinished;
+  private final CountDownLatch stopSignal;
+  private final CountDownLatch serverPushStarted;
+  private final AtomicInteger serverPushRequests;
+  private final AtomicInteger failedServerPushRequests;
+
+  VirtualUser( IServletEngine servletEngine,
+               ClientScript script,
+               LoadTest loadTest,
+               LatencyRecorder recorder,
+               CountDownLatch startSignal,
+               CountDownLatch scriptFinished,
+               CountDownLatch stopSignal,
+               CountDownLatch serverPushStarted,
+               AtomicInteger serverPushRequests,
+               AtomicInteger failedServerPushRequests )
+  {
+    client = new RWTClient( servletEngine );
+    this.script = script;
+    this.loadTest = loadTest;
+    this.recorder = recorder;
+    this.startSignal = startSignal;
+    this.scriptFinished = scriptFinished;
+    this.stopSignal = stopSignal;
+    this.serverPushStarted = serverPushStarted;
+    this.serverPushRequests = serverPushRequests;
+    this.failedServerPushRequests = failedServerPushRequests;
+  }
+
+  @Override
+  public void run() {
+    Thread serverPushThread = null;
+    try {
+      startSignal.await();
+      if( runScript() && loadTest.isServerPush() ) {
+        serverPushThread = startServerPushThread();
+      }
+    } catch( InterruptedException interrupted ) {
+      Thread.currentThread().interrupt();
+    } finally {
+      scriptFinished.countDown();
+      if( serverPushThread == null ) {
+        serverPushStarted.countDown();
+      }
+    }
+    awaitStop();
+    if( serverPushThread != null ) {
+      serverPushThread.interrupt();
+    }
+  }
+
+  private boolean runScript() throws InterruptedException {
+    try {
+      client.sendStartupRequest();
+      for( int i = 0; i < script.getMessageCount(); i++ ) {
+        if( i > 0 ) {
+          think();
+        }
+        long start = System.nanoTime();
+        Response response = client.sendPostRequest( script.createMessage( i ) );
+        long duration = System.nanoTime() - start;
+        if( !response.isValidJsonResponse() ) {
+          recorder.addFailure();
+          return false;
+        }
+        recorder.addSample( duration );
+      }
+    } catch( IOException exception ) {
+      recorder.addFailure();
+      return false;
+    }
+    return true;
+  }
+
+  private void think() throws InterruptedException {
+    long thinkTime = loadTest.getThinkTime();
+    if( thinkTime > 0 ) {
+      Thread.sleep( thinkTime );
+    }
+  }
+
+  private Thread startServerPushThread() {
+    Thread result = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        boolean succeeded = sendServerPushRequest();
+        serverPushStarted.countDown();
+        try {
+          while( succeeded && stopSignal.getCount() > 0 ) {
+            think();
+            succeeded = sendServerPushRequest();
+          }
+        } catch( InterruptedException interrupted ) {
+          // the load test is stopped
+        }
+      }
+    } );
+    result.setName( "ServerPush [" + client.getConnectionId() + "]" );
+    result.setDaemon( true );
+    result.start();
+    return result;
+  }
+
+  private boolean sendServerPushRequest() {
+    try {
+      client.sendServerPushRequest( loadTest.getServerPushTimeout() );
+    } catch( SocketTimeoutException exception ) {
+      // read timeouts are expected while no runnables are pending
+    } catch( IOException exception ) {
+      if( stopSignal.getCount() > 0 ) {
+        failedServerPushRequests.incrementAndGet();
+      }
+      return false;
+    }
+    serverPushRequests.incrementAndGet();
+    return true;
+  }
+
+  private void awaitStop() {
+    try {
+      stopSignal.await();
+    } catch( InterruptedException interrupted ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
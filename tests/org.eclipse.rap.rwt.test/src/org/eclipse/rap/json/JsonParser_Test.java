@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 EclipseSource.
+ * Copyright (c) 2013, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.json;
 
 import static org.eclipse.rap.json.TestUtil.assertException;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
@@ -442,6 +443,67 @@ public class JsonParser_Test {
     assertParseException( 5, "Unexpected character", "falsex" );
   }
 
+  @Test
+  public void parse_reusesNamesWithinDocument() {
+    JsonArray array = ( JsonArray )parse( "[{\"name\": 1}, {\"name\": 2}]" );
+
+    String name1 = array.get( 0 ).asObject().names().get( 0 );
+    String name2 = array.get( 1 ).asObject().names().get( 0 );
+    assertSame( name1, name2 );
+  }
+
+  @Test
+  public void parse_doesNotReuseNamesAcrossDocuments() {
+    JsonObject object1 = ( JsonObject )parse( "{\"name\": 1}" );
+    JsonObject object2 = ( JsonObject )parse( "{\"name\": 1}" );
+
+    assertNotSame( object1.names().get( 0 ), object2.names().get( 0 ) );
+  }
+
+  @Test
+  public void parse_doesNotReuseStringValues() {
+    JsonArray array = ( JsonArray )parse( "[\"value\", \"value\"]" );
+
+    assertNotSame( array.get( 0 ).asString(), array.get( 1 ).asString() );
+  }
+
+  @Test
+  public void parse_readsEscapedNamesThatAreCached() {
+    JsonArray array = ( JsonArray )parse( "[{\"foo\": 1}, {\"f\\\"oo\": 2}, {\"foo\": 3}]" );
+
+    assertEquals( "f\"oo", array.get( 1 ).asObject().names().get( 0 ) );
+    assertEquals( "foo", array.get( 2 ).asObject().names().get( 0 ) );
+  }
+
+  @Test
+  public void stringCache_returnsCachedString() {
+    JsonParser.StringCache cache = new JsonParser.StringCache( 16 );
+    char[] chars = "xfoox".toCharArray();
+
+    String first = cache.get( chars, 1, 3 );
+    String second = cache.get( chars, 1, 3 );
+
+    assertEquals( "foo", first );
+    assertSame( first, second );
+  }
+
+  @Test
+  public void stringCache_replacesCollidingString() {
+    JsonParser.StringCache cache = new JsonParser.StringCache( 1 );
+
+    String foo = cache.get( "foo".toCharArray(), 0, 3 );
+    String bar = cache.get( "bar".toCharArray(), 0, 3 );
+
+    assertEquals( "foo", foo );
+    assertEquals( "bar", bar );
+    assertSame( bar, cache.get( "bar".toCharArray(), 0, 3 ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void stringCache_rejectsInvalidSize() {
+    new JsonParser.StringCache( 12 );
+  }
+
   private static void assertParseException( int offset, String message, final String json ) {
     ParseException exception = assertException( ParseException.class, new Runnable() {
       public void run() {
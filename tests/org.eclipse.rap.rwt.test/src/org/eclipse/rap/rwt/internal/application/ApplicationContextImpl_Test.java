@@ -219,6 +219,37 @@ public class ApplicationContextImpl_Test {
     assertTrue( applicationContext.getSettingStoreManager().hasFactory() );
   }
 
+  @Test
+  public void testActivate_withFailingResourcesKeepsOriginalFailure() throws IOException {
+    // resources cannot be written to a directory below a regular file
+    File contextDirectory = File.createTempFile( "context", null, Fixture.TEMP_DIR );
+    final RuntimeException failure = new RuntimeException( "failure" );
+    ApplicationConfiguration configuration = new ApplicationConfiguration() {
+      @Override
+      public void configure( Application application ) {
+        application.addStyleSheet( THEME_ID, STYLE_SHEET );
+        application.addResource( TEST_RESOURCE, new ResourceLoader() {
+          @Override
+          public InputStream getResourceAsStream( String resourceName ) {
+            throw failure;
+          }
+        } );
+      }
+    };
+    applicationContext = new ApplicationContextImpl( configuration,
+                                                     createServletContext( contextDirectory ) );
+
+    try {
+      applicationContext.activate();
+      fail();
+    } catch( RuntimeException exception ) {
+      assertSame( failure, exception );
+      assertEquals( 1, exception.getSuppressed().length );
+    } finally {
+      contextDirectory.delete();
+    }
+  }
+
   @Test
   public void testActivate_canBeCalledTwice() {
     applicationContext = createApplicationContextSpy();
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.application;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ApplicationScheduler_Test {
+
+  private ApplicationScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler = new ApplicationScheduler();
+    scheduler.activate();
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.deactivate();
+  }
+
+  @Test
+  public void testSchedule_executesTask() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    ScheduledFuture<?> future = scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1 );
+
+    assertNotNull( future );
+    assertTrue( latch.await( 5, SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_withNegativeDelay() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, -100 );
+
+    assertTrue( latch.await( 5, SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_whenDeactivated() {
+    scheduler.deactivate();
+
+    ScheduledFuture<?> future = scheduler.schedule( mock( Runnable.class ), 1 );
+
+    assertNull( future );
+  }
+
+  @Test
+  public void testScheduleWithFixedDelay_executesTaskRepeatedly() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch( 3 );
+
+    ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1 );
+
+    assertNotNull( future );
+    assertTrue( latch.await( 5, SECONDS ) );
+  }
+
+  @Test
+  public void testScheduleWithFixedDelay_whenDeactivated() {
+    scheduler.deactivate();
+
+    ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay( mock( Runnable.class ), 1 );
+
+    assertNull( future );
+  }
+
+  @Test
+  public void testGetTaskCount() {
+    scheduler.schedule( mock( Runnable.class ), 100000 );
+    scheduler.schedule( mock( Runnable.class ), 100000 );
+
+    assertEquals( 2, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testGetTaskCount_excludesCancelledTasks() {
+    ScheduledFuture<?> future = scheduler.schedule( mock( Runnable.class ), 100000 );
+
+    future.cancel( false );
+
+    assertEquals( 0, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testGetTaskCount_whenDeactivated() {
+    scheduler.schedule( mock( Runnable.class ), 100000 );
+
+    scheduler.deactivate();
+
+    assertEquals( 0, scheduler.getTaskCount() );
+  }
+
+}
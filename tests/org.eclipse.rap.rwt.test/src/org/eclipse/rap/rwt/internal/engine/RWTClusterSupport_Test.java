@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.mockito.Matchers.endsWith;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,11 +24,14 @@ import javax.servlet.FilterChain;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -50,6 +54,11 @@ public class RWTClusterSupport_Test {
     rwtClusterSupport = new RWTClusterSupport();
   }
 
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.REPLICATE_CHANGES_ONLY );
+  }
+
   @Test
   public void testDoFilter_passesParametersToFilterChain() throws Exception {
     rwtClusterSupport.doFilter( request, response, chain );
@@ -128,6 +137,100 @@ public class RWTClusterSupport_Test {
     verify( httpSession ).setAttribute( endsWith( "foo" ), same( deserializedUISession ) );
   }
 
+  @Test
+  public void testDoFilter_marksUISessionAsChangedForServiceHandlerRequest() throws Exception {
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "servicehandler", "foo" );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withReplicateChangesOnly_marksUISessionAsChangedForUIRequest()
+    throws Exception
+  {
+    System.setProperty( RWTProperties.REPLICATE_CHANGES_ONLY, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withReplicateChangesOnly_marksServiceHandlerRequest()
+    throws Exception
+  {
+    System.setProperty( RWTProperties.REPLICATE_CHANGES_ONLY, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "servicehandler", "foo" );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withReplicateChangesOnly_skipsUnchangedServerPushRequest()
+    throws Exception
+  {
+    System.setProperty( RWTProperties.REPLICATE_CHANGES_ONLY, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "servicehandler", ServerPushServiceHandler.HANDLER_ID );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, never() ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withReplicateChangesOnly_marksChangedServerPushRequest()
+    throws Exception
+  {
+    System.setProperty( RWTProperties.REPLICATE_CHANGES_ONLY, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "servicehandler", ServerPushServiceHandler.HANDLER_ID );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+    deserializedUISession.setAttribute( "bar", "baz" );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withReplicateChangesOnly_marksExplicitlyChangedServerPushRequest()
+    throws Exception
+  {
+    System.setProperty( RWTProperties.REPLICATE_CHANGES_ONLY, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    request.setParameter( "servicehandler", ServerPushServiceHandler.HANDLER_ID );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+    deserializedUISession.markChanged();
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
   private static HttpSession mockHttpSession() {
     return mockHttpSession( mock( ServletContext.class ) );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
@@ -953,6 +954,71 @@ public class RWTLifeCycle_Test {
     assertNotNull( uiThread );
   }
 
+  @Test
+  public void testCreateUIThread_usesPlatformThreadByDefault() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+
+    lifeCycle.execute();
+
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+    assertTrue( uiThread instanceof UIThread );
+  }
+
+  @Test
+  public void testCreateUIThread_usesUIThreadFactory() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    final AtomicReference<IUIThreadHolder> createdUIThread = new AtomicReference<>();
+    lifeCycle.setUIThreadFactory( new UIThreadFactory() {
+      @Override
+      public IUIThreadHolder createUIThread( Runnable runnable ) {
+        createdUIThread.set( new UIThread( runnable ) );
+        return createdUIThread.get();
+      }
+    } );
+
+    lifeCycle.execute();
+
+    assertSame( createdUIThread.get(), LifeCycleUtil.getUIThread( ContextProvider.getUISession() ) );
+  }
+
+  @Test
+  public void testVirtualUIThread_runsEventLoop() throws Throwable {
+    assumeTrue( VirtualUIThreadFactory.isAvailable() );
+    UISession uiSession = ContextProvider.getUISession();
+    Class<? extends EntryPoint> entryPointClass = SessionInvalidateWithEventLoopEntryPoint.class;
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    lifeCycle.setUIThreadFactory( new VirtualUIThreadFactory() );
+
+    lifeCycle.execute();
+
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( uiSession );
+    Thread uiThread = uiThreadHolder.getThread();
+    assertTrue( isVirtual( uiThread ) );
+    assertTrue( uiThread.isAlive() );
+    assertSame( uiThread, LifeCycleUtil.getSessionDisplay( uiSession ).getThread() );
+  }
+
+  @Test
+  public void testVirtualUIThread_terminatesOnSessionInvalidate() throws Throwable {
+    assumeTrue( VirtualUIThreadFactory.isAvailable() );
+    UISession uiSession = ContextProvider.getUISession();
+    Class<? extends EntryPoint> entryPointClass = SessionInvalidateWithEventLoopEntryPoint.class;
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+    RWTLifeCycle lifeCycle = new RWTLifeCycle( getApplicationContext() );
+    lifeCycle.setUIThreadFactory( new VirtualUIThreadFactory() );
+    lifeCycle.execute();
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( uiSession );
+
+    invalidateSession( uiSession );
+
+    assertFalse( uiThreadHolder.getThread().isAlive() );
+    assertFalse( uiSession.isBound() );
+    assertEquals( "", log.toString() );
+  }
+
   @Test
   public void testNotifyUIThreadListeners() throws IOException {
     entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestPhasesEntryPoint.class, null );
@@ -1015,6 +1081,10 @@ public class RWTLifeCycle_Test {
     return ( RWTLifeCycle )getApplicationContext().getLifeCycleFactory().getLifeCycle();
   }
 
+  private static boolean isVirtual( Thread thread ) throws Exception {
+    return ( ( Boolean )Thread.class.getMethod( "isVirtual" ).invoke( thread ) ).booleanValue();
+  }
+
   private static void invalidateSession( final UISession uiSession ) throws Throwable {
     Runnable runnable = new Runnable() {
       @Override
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.eclipse.rap.rwt.internal.metrics.Histogram.Snapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Histogram_Test {
+
+  private Histogram histogram;
+
+  @Before
+  public void setUp() {
+    histogram = new Histogram();
+  }
+
+  @Test
+  public void testGetSnapshot_initial() {
+    Snapshot snapshot = histogram.getSnapshot();
+
+    assertEquals( 0, snapshot.getCount() );
+    assertEquals( 0, snapshot.getMax() );
+    assertEquals( 0, snapshot.getPercentile( 99 ) );
+    assertEquals( 0d, snapshot.getMean(), 0 );
+  }
+
+  @Test
+  public void testRecord() {
+    histogram.record( 10 );
+    histogram.record( 30 );
+
+    Snapshot snapshot = histogram.getSnapshot();
+
+    assertEquals( 2, snapshot.getCount() );
+    assertEquals( 40, snapshot.getSum() );
+    assertEquals( 30, snapshot.getMax() );
+    assertEquals( 20d, snapshot.getMean(), 0 );
+  }
+
+  @Test
+  public void testRecord_negativeValue() {
+    histogram.record( -5 );
+
+    assertEquals( 0, histogram.getSnapshot().getSum() );
+  }
+
+  @Test
+  public void testGetPercentile() {
+    for( int i = 1; i <= 1000; i++ ) {
+      histogram.record( i );
+    }
+
+    Snapshot snapshot = histogram.getSnapshot();
+
+    assertEquals( 1, snapshot.getPercentile( 0 ) );
+    assertEquals( 511, snapshot.getPercentile( 50 ) );
+    assertEquals( 1000, snapshot.getPercentile( 99 ) );
+    assertEquals( 1000, snapshot.getPercentile( 100 ) );
+  }
+
+  @Test
+  public void testGetPercentile_withMaxValue() {
+    histogram.record( Long.MAX_VALUE );
+
+    assertEquals( Long.MAX_VALUE, histogram.getSnapshot().getPercentile( 100 ) );
+  }
+
+  @Test
+  public void testGetBucketUpperBound_lastBucket() {
+    assertEquals( Long.MAX_VALUE, Histogram.getBucketUpperBound( 63 ) );
+  }
+
+  @Test
+  public void testGetPercentile_outOfRange() {
+    try {
+      histogram.getSnapshot().getPercentile( -1 );
+      fail();
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  @Test
+  public void testGetBucketIndex() {
+    assertEquals( 0, Histogram.getBucketIndex( 0 ) );
+    assertEquals( 1, Histogram.getBucketIndex( 1 ) );
+    assertEquals( 2, Histogram.getBucketIndex( 3 ) );
+    assertEquals( 3, Histogram.getBucketIndex( 4 ) );
+    assertEquals( 63, Histogram.getBucketIndex( Long.MAX_VALUE ) );
+  }
+
+  @Test
+  public void testReset() {
+    histogram.record( 10 );
+
+    histogram.reset();
+
+    assertEquals( 0, histogram.getSnapshot().getCount() );
+    assertEquals( 0, histogram.getSnapshot().getMax() );
+  }
+
+  @Test
+  public void testRecord_concurrently() throws InterruptedException {
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < 1000; i++ ) {
+          histogram.record( i );
+        }
+      }
+    };
+
+    Thread[] threads = startThreads( 8, runnable );
+    joinThreads( threads );
+
+    Snapshot snapshot = histogram.getSnapshot();
+    assertEquals( 8000, snapshot.getCount() );
+    assertEquals( 999, snapshot.getMax() );
+  }
+
+}
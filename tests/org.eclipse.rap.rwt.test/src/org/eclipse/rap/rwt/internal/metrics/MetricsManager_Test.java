@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings( "deprecation" )
+public class MetricsManager_Test {
+
+  private static final String ENTRY_POINT = TestRequest.DEFAULT_SERVLET_PATH;
+
+  private MetricsManager metricsManager;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    metricsManager = new MetricsManager( true );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsEnabled_disabledByDefault() {
+    assertFalse( new MetricsManager().isEnabled() );
+  }
+
+  @Test
+  public void testBeginRequest_whenDisabled() {
+    MetricsManager disabledManager = new MetricsManager( false );
+
+    RequestMetrics requestMetrics = disabledManager.beginRequest( ContextProvider.getContext() );
+
+    assertNull( requestMetrics );
+    assertNull( RequestMetrics.getCurrent() );
+  }
+
+  @Test
+  public void testBeginRequest_attachesToServiceContext() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+
+    assertSame( requestMetrics, RequestMetrics.getCurrent() );
+  }
+
+  @Test
+  public void testEndRequest_recordsMeasuredValues() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+    requestMetrics.add( Metric.OPERATIONS_IN, 3 );
+    requestMetrics.add( Metric.OPERATIONS_IN, 2 );
+
+    metricsManager.endRequest( requestMetrics );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( ENTRY_POINT );
+    assertEquals( 1, metrics.getSnapshot( Metric.OPERATIONS_IN ).getCount() );
+    assertEquals( 5, metrics.getSnapshot( Metric.OPERATIONS_IN ).getMax() );
+    assertEquals( 1, metrics.getSnapshot( Metric.REQUEST_TIME ).getCount() );
+  }
+
+  @Test
+  public void testEndRequest_skipsValuesThatWereNotMeasured() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+
+    metricsManager.endRequest( requestMetrics );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( ENTRY_POINT );
+    assertEquals( 0, metrics.getSnapshot( Metric.READ_DATA_TIME ).getCount() );
+    assertEquals( 0, metrics.getSnapshot( Metric.RESPONSE_BYTES ).getCount() );
+  }
+
+  @Test
+  public void testEndRequest_recordsPhaseDuration() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+    requestMetrics.beginPhase( PhaseId.RENDER );
+    requestMetrics.endPhase( PhaseId.RENDER );
+
+    metricsManager.endRequest( requestMetrics );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( ENTRY_POINT );
+    assertEquals( 1, metrics.getSnapshot( Metric.RENDER_TIME ).getCount() );
+  }
+
+  @Test
+  public void testEndRequest_ignoresUnmeasuredPhases() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+    requestMetrics.beginPhase( PhaseId.PREPARE_UI_ROOT );
+    requestMetrics.endPhase( PhaseId.PREPARE_UI_ROOT );
+    requestMetrics.endPhase( PhaseId.RENDER );
+
+    metricsManager.endRequest( requestMetrics );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( ENTRY_POINT );
+    assertEquals( 0, metrics.getSnapshot( Metric.RENDER_TIME ).getCount() );
+  }
+
+  @Test
+  public void testEndRequest_recordsUIThreadHandOver() {
+    RequestMetrics requestMetrics = metricsManager.beginRequest( ContextProvider.getContext() );
+    requestMetrics.beginUIThreadHandOver();
+    requestMetrics.endUIThreadHandOver();
+
+    metricsManager.endRequest( requestMetrics );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( ENTRY_POINT );
+    assertEquals( 1, metrics.getSnapshot( Metric.UI_THREAD_WAIT ).getCount() );
+  }
+
+  @Test
+  public void testRecordServerPushHold() {
+    metricsManager.recordServerPushHold( "/foo", 1000 );
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( "/foo" );
+    assertEquals( 1000, metrics.getSnapshot( Metric.SERVER_PUSH_HOLD ).getMax() );
+  }
+
+  @Test
+  public void testRecordServerPushHold_whenDisabled() {
+    MetricsManager disabledManager = new MetricsManager( false );
+
+    disabledManager.recordServerPushHold( "/foo", 1000 );
+
+    assertTrue( disabledManager.getAllEntryPointMetrics().isEmpty() );
+  }
+
+  @Test
+  public void testGetAllEntryPointMetrics() {
+    metricsManager.recordServerPushHold( "/foo", 1 );
+    metricsManager.recordServerPushHold( "/bar", 1 );
+
+    assertEquals( "[/bar, /foo]",
+                  metricsManager.getAllEntryPointMetrics().keySet().toString() );
+  }
+
+  @Test
+  public void testReset() {
+    metricsManager.recordServerPushHold( "/foo", 1000 );
+
+    metricsManager.reset();
+
+    EntryPointMetrics metrics = metricsManager.getEntryPointMetrics( "/foo" );
+    assertEquals( 0, metrics.getSnapshot( Metric.SERVER_PUSH_HOLD ).getCount() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -179,6 +181,34 @@ public class Message_Test {
     assertEquals( JsonObject.readFrom( json ), JsonObject.readFrom( string ) );
   }
 
+  @Test
+  public void testWriteTo_isEqualToJson() throws IOException {
+    String json = "{ \"head\" : { \"foo\" : \"b\\\"ar\" }, \"operations\" : ["
+        + "[ \"create\", \"w3\", \"rwt.widgets.Label\", { \"parent\" : \"w2\" } ],"
+        + "[ \"set\", \"w3\", { \"foo\" : 23 } ],"
+        + "[ \"listen\", \"w3\", { \"Selection\" : true } ],"
+        + "[ \"call\", \"w4\", \"method\", { \"bar\" : [ 1, 2 ] } ],"
+        + "[ \"notify\", \"w3\", \"widgetSelected\", {} ],"
+        + "[ \"destroy\", \"w3\" ]"
+        + "] }";
+    Message message = new Message( JsonObject.readFrom( json ) );
+    StringWriter writer = new StringWriter();
+
+    message.writeTo( writer );
+
+    assertEquals( message.toJson().toString(), writer.toString() );
+  }
+
+  @Test
+  public void testWriteTo_withEmptyMessage() throws IOException {
+    Message message = new Message( new JsonObject(), new ArrayList<Operation>() );
+    StringWriter writer = new StringWriter();
+
+    message.writeTo( writer );
+
+    assertEquals( "{\"head\":{},\"operations\":[]}", writer.toString() );
+  }
+
   @Test
   public void testSerialize() throws Exception {
     JsonObject head = new JsonObject().add( "foo", 23 );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,7 +31,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -53,6 +55,7 @@ public class ResourceManagerImpl_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.COMPRESSION );
     File path = new File( getWebContextDirectory(), ResourceDirectory.DIRNAME );
     FileUtil.delete( path );
     Fixture.tearDown();
@@ -400,6 +403,180 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testGetRegisteredContent_returnsContentOfLargeResource() throws IOException {
+    byte[] bytes = new byte[ ResourceManagerImpl.MAX_MEMORY_RESOURCE_SIZE + 1 ];
+    bytes[ 0 ] = 23;
+    resourceManager.register( "large", new ByteArrayInputStream( bytes ) );
+
+    InputStream content = resourceManager.getRegisteredContent( "large" );
+
+    assertArrayEquals( bytes, read( content ) );
+  }
+
+  @Test
+  public void testRegister_streamsLargeResourceToDisk() throws IOException {
+    final int headSize = ResourceManagerImpl.MAX_MEMORY_RESOURCE_SIZE + 1;
+    final byte[] bytes = new byte[ 2 * headSize ];
+    final long[] fileSize = new long[ 1 ];
+    InputStream inputStream = new InputStream() {
+      private int position;
+      @Override
+      public int read() {
+        if( position == headSize ) {
+          fileSize[ 0 ] = getResourceCopyFile( "large" ).length();
+        }
+        return position < bytes.length ? bytes[ position++ ] : -1;
+      }
+    };
+
+    resourceManager.register( "large", inputStream );
+
+    assertTrue( fileSize[ 0 ] >= headSize );
+    assertEquals( bytes.length, getResourceCopyFile( "large" ).length() );
+  }
+
+  @Test
+  public void testGetRegisteredContent_readsStreamedResourceFromDisk() {
+    byte[] bytes = new byte[ ResourceManagerImpl.MAX_MEMORY_RESOURCE_SIZE + 1 ];
+    resourceManager.register( "large", new ByteArrayInputStream( bytes ) );
+    FileUtil.delete( getResourceCopyFile( "large" ) );
+
+    try {
+      resourceManager.getRegisteredContent( "large" );
+      fail();
+    } catch( RuntimeException expected ) {
+    }
+  }
+
+  @Test
+  public void testGetRegisteredContent_doesNotReadSmallResourceFromDisk() throws IOException {
+    resourceManager.register( "small", createInputStream() );
+    FileUtil.delete( getResourceCopyFile( "small" ) );
+
+    InputStream content = resourceManager.getRegisteredContent( "small" );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( content ) );
+  }
+
+  @Test
+  public void testBatchRegistration() throws IOException {
+    resourceManager.startBatch();
+    for( int i = 0; i < 100; i++ ) {
+      resourceManager.register( "path/" + i, createInputStream() );
+    }
+
+    resourceManager.finishBatch();
+
+    for( int i = 0; i < 100; i++ ) {
+      assertTrue( resourceManager.isRegistered( "path/" + i ) );
+      assertArrayEquals( new byte[] { 1, 2, 3 }, read( getResourceCopyFile( "path/" + i ) ) );
+    }
+  }
+
+  @Test
+  public void testBatchRegistration_servesContentBeforeFinish() throws IOException {
+    byte[] bytes = new byte[ ResourceManagerImpl.MAX_MEMORY_RESOURCE_SIZE + 1 ];
+    resourceManager.startBatch();
+    resourceManager.register( "large", new ByteArrayInputStream( bytes ) );
+
+    InputStream content = resourceManager.getRegisteredContent( "large" );
+
+    assertArrayEquals( bytes, read( content ) );
+    resourceManager.finishBatch();
+  }
+
+  @Test
+  public void testBatchRegistration_withUnregister() {
+    resourceManager.startBatch();
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    resourceManager.unregister( "path/to/resource" );
+    resourceManager.finishBatch();
+
+    assertFalse( resourceManager.isRegistered( "path/to/resource" ) );
+    assertFalse( getResourceCopyFile( "path/to/resource" ).exists() );
+  }
+
+  @Test
+  public void testFinishBatch_withoutStartBatch() {
+    resourceManager.finishBatch();
+  }
+
+  @Test
+  public void testRegister_writesCompressedCopy() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    byte[] bytes = new byte[ 2000 ];
+
+    resourceManager.register( "path/lib.js", new ByteArrayInputStream( bytes ) );
+
+    File compressedFile = getResourceCopyFile( "path/lib.js.gz" );
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( compressedFile ) );
+    byte[] uncompressed = new byte[ bytes.length ];
+    int count = 0;
+    while( count < uncompressed.length ) {
+      count += inputStream.read( uncompressed, count, uncompressed.length - count );
+    }
+    assertEquals( -1, inputStream.read() );
+    inputStream.close();
+    assertArrayEquals( bytes, uncompressed );
+  }
+
+  @Test
+  public void testRegister_writesCompressedCopyOfStreamedResource() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    byte[] bytes = new byte[ 2 * ResourceManagerImpl.MAX_MEMORY_RESOURCE_SIZE ];
+    bytes[ bytes.length - 1 ] = 23;
+
+    resourceManager.register( "path/lib.js", new ByteArrayInputStream( bytes ) );
+
+    File compressedFile = getResourceCopyFile( "path/lib.js.gz" );
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( compressedFile ) );
+    byte[] uncompressed = new byte[ bytes.length ];
+    int count = 0;
+    while( count < uncompressed.length ) {
+      count += inputStream.read( uncompressed, count, uncompressed.length - count );
+    }
+    assertEquals( -1, inputStream.read() );
+    inputStream.close();
+    assertArrayEquals( bytes, uncompressed );
+  }
+
+  @Test
+  public void testRegister_doesNotCompressSmallResource() {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+
+    resourceManager.register( "path/lib.js", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "path/lib.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_doesNotCompressImages() {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+
+    resourceManager.register( "path/image.png", new ByteArrayInputStream( new byte[ 2000 ] ) );
+
+    assertFalse( getResourceCopyFile( "path/image.png.gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_doesNotCompressByDefault() {
+    resourceManager.register( "path/lib.js", new ByteArrayInputStream( new byte[ 2000 ] ) );
+
+    assertFalse( getResourceCopyFile( "path/lib.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testUnregister_deletesCompressedCopy() {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    resourceManager.register( "path/lib.js", new ByteArrayInputStream( new byte[ 2000 ] ) );
+
+    resourceManager.unregister( "path/lib.js" );
+
+    assertFalse( getResourceCopyFile( "path/lib.js.gz" ).exists() );
+  }
+
   private InputStream createInputStream() {
     return new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
   }
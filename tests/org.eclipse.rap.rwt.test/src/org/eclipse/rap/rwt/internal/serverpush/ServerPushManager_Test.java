@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.runInThread;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -19,6 +21,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -28,10 +32,13 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionBindingListener;
 
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
@@ -210,6 +217,22 @@ public class ServerPushManager_Test {
     assertEquals( "", log );
   }
 
+  @Test
+  public void testCallBackRequest_doesNotChangeUISession() throws Throwable {
+    ServiceContext context = ContextProvider.getContext();
+    UISessionImpl uiSession = ( UISessionImpl )context.getUISession();
+    uiSession.attachToHttpSession();
+    CallBackRequestSimulator callBackRequestSimulator = new CallBackRequestSimulator( context );
+    callBackRequestSimulator.sendRequest();
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+    callBackRequestSimulator.waitForRequest();
+
+    assertFalse( callBackRequestSimulator.isRequestRunning() );
+    assertFalse( uiSession.isChanged() );
+  }
+
   @Test
   public void testCallBackRequestNotBlockedWhenRunnablesExist() throws Throwable {
     ServiceContext context = ContextProvider.getContext();
@@ -563,6 +586,169 @@ public class ServerPushManager_Test {
     assertNotNull( response.getHeader( "Expires" ) );
   }
 
+  @Test
+  public void testAsyncRequest_doesNotBlock() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).setTimeout( 0 );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_schedulesCheckOnApplicationScheduler() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    ApplicationScheduler scheduler = getApplicationContext().getServerPushScheduler();
+
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    assertEquals( 1, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testAsyncRequest_cancelsCheckOnCompletion() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    ApplicationScheduler scheduler = getApplicationContext().getServerPushScheduler();
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    assertEquals( 0, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testAsyncRequest_suspendedRequestIsNotSerializedWithUISession() throws Exception {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( "serializable handle" );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    UISessionImpl deserializedUISession = serializeAndDeserialize( uiSession );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    assertNotNull( deserializedUISession );
+  }
+
+  @Test
+  public void testAsyncRequest_doesNotChangeUISession() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    uiSession.attachToHttpSession();
+
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext ).complete();
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testAsyncRequest_notSuspendedWhenRunnablesExist() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    TestRequest request = createAsyncRequest( asyncContext );
+    manager.activateServerPushFor( HANDLE_1 );
+    display.asyncExec( EMPTY_RUNNABLE );
+
+    pushServiceHandler.service( request, ContextProvider.getResponse() );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext, never() ).setTimeout( 0 );
+  }
+
+  @Test
+  public void testAsyncRequest_completedOnWakeClient() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_notCompletedOnWakeClientWhileUIThreadRunning() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.notifyUIThreadStart();
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( asyncContext, never() ).complete();
+    manager.notifyUIThreadEnd();
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_completedOnDeactivation() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_completedOnSessionInvalidation() throws IOException {
+    AsyncContext asyncContext = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_releasesPreviousRequest() throws IOException {
+    AsyncContext asyncContext1 = mockAsyncContext( ContextProvider.getResponse() );
+    AsyncContext asyncContext2 = mockAsyncContext( ContextProvider.getResponse() );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext1 ), ContextProvider.getResponse() );
+
+    pushServiceHandler.service( createAsyncRequest( asyncContext2 ), ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+  }
+
+  @Test
+  public void testAsyncRequest_completedWhenConnectionBreaks() throws Exception {
+    manager.setRequestCheckInterval( 20 );
+    TestResponse response = new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        PrintWriter failingWriter = mock( PrintWriter.class );
+        when( new Boolean( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
+        return failingWriter;
+      }
+    };
+    AsyncContext asyncContext = mockAsyncContext( response );
+    manager.activateServerPushFor( HANDLE_1 );
+    pushServiceHandler.service( createAsyncRequest( asyncContext ), response );
+
+    Thread.sleep( SLEEP_TIME );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
   private void simulateBackgroundAddition( final ServiceContext serviceContext ) throws Throwable {
     Runnable runnable = new Runnable() {
       @Override
@@ -609,6 +795,18 @@ public class ServerPushManager_Test {
     ContextProvider.getUISession().setAttribute( "org.eclipse.swt.display", display );
   }
 
+  private static AsyncContext mockAsyncContext( ServletResponse response ) {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    when( asyncContext.getResponse() ).thenReturn( response );
+    return asyncContext;
+  }
+
+  private static TestRequest createAsyncRequest( AsyncContext asyncContext ) {
+    TestRequest request = new TestRequest();
+    request.setAsyncContext( asyncContext );
+    return request;
+  }
+
   private static ServiceContext createServiceContext( TestResponse response ) {
     UISession uiSession = ContextProvider.getContext().getUISession();
     TestRequest request = new TestRequest();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,9 +26,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -37,8 +41,10 @@ import javax.servlet.http.HttpSession;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
+import org.eclipse.rap.rwt.internal.protocol.Message;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
@@ -54,6 +60,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponseMessage;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -83,6 +90,7 @@ public class LifeCycleServiceHandler_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.COMPRESSION );
     Fixture.tearDown();
   }
 
@@ -279,6 +287,36 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testSendBufferedResponse_withCompression() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    fakeResponseMessage( 2000 );
+    simulateUiRequest();
+    int requestCounter = RequestCounter.getInstance().currentRequestId();
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    assertEquals( firstResponse, readCompressedContent() );
+  }
+
+  @Test
+  public void testBufferedResponse_doesNotKeepMessage() throws IOException {
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    UISession uiSession = getUISession();
+    for( String name : Collections.list( uiSession.getAttributeNames() ) ) {
+      assertFalse( uiSession.getAttribute( name ) instanceof Message );
+    }
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -375,6 +413,57 @@ public class LifeCycleServiceHandler_Test {
     assertNull( getUISession() );
   }
 
+  @Test
+  public void testCompressesLargeResponse() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    fakeResponseMessage( 2000 );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", getResponse().getHeader( "Vary" ) );
+    JsonObject message = JsonObject.readFrom( readCompressedContent() );
+    assertEquals( 2000, message.get( "head" ).asObject().get( "test" ).asString().length() );
+  }
+
+  @Test
+  public void testDoesNotCompressSmallResponse() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getResponse().getContent() );
+  }
+
+  @Test
+  public void testDoesNotCompressWithoutAcceptEncoding() throws IOException {
+    System.setProperty( RWTProperties.COMPRESSION, "true" );
+    fakeResponseMessage( 2000 );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getResponse().getContent() );
+  }
+
+  @Test
+  public void testDoesNotCompressByDefault() throws IOException {
+    fakeResponseMessage( 2000 );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    assertNull( getResponse().getHeader( "Vary" ) );
+  }
+
   private void simulateUiRequest() {
     Fixture.fakeNewRequest();
     Fixture.fakeHeadParameter( "requestCounter", RequestCounter.getInstance().currentRequestId() );
@@ -395,6 +484,33 @@ public class LifeCycleServiceHandler_Test {
     Fixture.fakeHeadParameter( "requestCounter", 23 );
   }
 
+  private void fakeResponseMessage( int length ) {
+    StringBuilder value = new StringBuilder();
+    for( int i = 0; i < length; i++ ) {
+      value.append( ( char )( 'a' + i % 26 ) );
+    }
+    ResponseMessage responseMessage = new TestResponseMessage();
+    responseMessage.getHead().add( "test", value.toString() );
+    when( filter.handleMessage( any( RequestMessage.class ), any( MessageFilterChain.class ) ) )
+      .thenReturn( responseMessage  );
+  }
+
+  private static String readCompressedContent() throws IOException {
+    TestServletOutputStream output = ( TestServletOutputStream )getResponse().getOutputStream();
+    byte[] content = output.getContent().toByteArray();
+    GZIPInputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) );
+    InputStreamReader reader = new InputStreamReader( inputStream, "UTF-8" );
+    StringBuilder result = new StringBuilder();
+    char[] buffer = new char[ 1024 ];
+    int count = reader.read( buffer );
+    while( count != -1 ) {
+      result.append( buffer, 0, count );
+      count = reader.read( buffer );
+    }
+    reader.close();
+    return result.toString();
+  }
+
   private static MessageFilter mockMessageFilter() {
     MessageFilter filter = mock( MessageFilter.class );
     ResponseMessage responseMessage = new TestResponseMessage();
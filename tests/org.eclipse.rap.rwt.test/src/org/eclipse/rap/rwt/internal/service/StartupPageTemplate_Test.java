@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,11 +14,14 @@ package org.eclipse.rap.rwt.internal.service;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.internal.service.StartupPageTemplate.VariableWriter;
 import org.eclipse.rap.rwt.internal.util.HTTP;
@@ -68,6 +71,29 @@ public class StartupPageTemplate_Test {
     variableValueProvider.writeVariable( printWriter, "var" );
   }
 
+  @Test
+  public void testResolve() throws UnsupportedEncodingException {
+    VariableWriter staticValueProvider = new VariableWriter() {
+      @Override
+      public void writeVariable( PrintWriter printWriter, String variableName ) {
+        printWriter.write( "static" );
+      }
+    };
+    doAnswer( new Answer() {
+      public Object answer( InvocationOnMock invocation ) throws Throwable {
+        printWriter.write( "dynamic" );
+        return null;
+      }
+    } ).when( variableValueProvider ).writeVariable( printWriter, "var2" );
+    StartupPageTemplate template = new StartupPageTemplate( "<html ${var1} ${var2} page/>" );
+
+    StartupPageTemplate resolved = template.resolve( staticValueProvider, Arrays.asList( "var1" ) );
+    resolved.writePage( printWriter, variableValueProvider );
+
+    assertEquals( "<html static dynamic page/>", getWrittenOutput() );
+    verify( variableValueProvider, never() ).writeVariable( printWriter, "var1" );
+  }
+
   private String getWrittenOutput() throws UnsupportedEncodingException {
     return outputStream.toString( HTTP.CHARSET_UTF_8 );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,13 +16,18 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicatio
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,6 +42,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 
 public class StartupPage_Test {
@@ -65,9 +72,82 @@ public class StartupPage_Test {
     StartupPage.setResponseHeaders( response );
 
     assertEquals( "text/html; charset=UTF-8", response.getHeader( "Content-Type" ) );
+    assertTrue( response.getHeader( "Cache-Control" ).contains( "no-cache" ) );
     assertTrue( response.getHeader( "Cache-Control" ).contains( "no-store" ) );
   }
 
+  @Test
+  public void testSend_writesRequestVariablesWithOverriddenMethod() throws IOException {
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_NO_SCRIPT_MESSAGE ) );
+    startupPage.send( response );
+
+    doAnswer( new Answer<Void>() {
+      @Override
+      public Void answer( InvocationOnMock invocation ) {
+        ( ( PrintWriter )invocation.getArguments()[ 0 ] ).write( "other" );
+        return null;
+      }
+    } ).when( startupPage ).writeNoScriptMessage( any( PrintWriter.class ) );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertEquals( "other", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_rendersPageAgainAfterEntryPointRegisteredAnew() throws IOException {
+    registerEntryPoint( WebClient.PAGE_TITLE, "title" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_TITLE ) );
+    startupPage.send( response );
+
+    getApplicationContext().getEntryPointManager().deregisterAll();
+    registerEntryPoint( WebClient.PAGE_TITLE, "other title" );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertEquals( "other title", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_rendersStaticVariablesOnce() throws IOException {
+    registerEntryPoint( WebClient.PAGE_TITLE, "title" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_TITLE ) );
+    startupPage.send( response );
+
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    verify( startupPage, times( 1 ) ).writeTitle( any( PrintWriter.class ) );
+    assertEquals( "title", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_rendersRequestVariablesForEveryRequest() throws IOException {
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_NO_SCRIPT_MESSAGE ) );
+    startupPage.send( response );
+
+    startupPage.send( new TestResponse() );
+
+    verify( startupPage, times( 2 ) ).writeNoScriptMessage( any( PrintWriter.class ) );
+  }
+
+  @Test
+  public void testAddJsLibrary_afterSend() throws IOException {
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_LIBRARIES ) );
+    startupPage.send( response );
+
+    startupPage.addJsLibrary( "library.js" );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertTrue( subsequentResponse.getContent().contains( "library.js" ) );
+  }
+
   @Test
   public void testSend() throws IOException {
     startupPage.activate();
@@ -123,7 +203,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeTitle( response.getWriter() );
+    verify( startupPage ).writeTitle( any( PrintWriter.class ) );
     assertEquals( "", response.getContent() );
   }
 
@@ -189,7 +269,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeBody( response.getWriter() );
+    verify( startupPage ).writeBody( any( PrintWriter.class ) );
     assertEquals( "", response.getContent() );
   }
 
@@ -201,7 +281,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeScriptTag( response.getWriter(), "client.js" );
+    verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "client.js" ) );
   }
 
   @Test
@@ -214,8 +294,8 @@ public class StartupPage_Test {
     startupPage.send( response );
 
     InOrder order = inOrder( startupPage );
-    order.verify( startupPage ).writeScriptTag( response.getWriter(), "client.js" );
-    order.verify( startupPage ).writeScriptTag( response.getWriter(), "library.js" );
+    order.verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "client.js" ) );
+    order.verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "library.js" ) );
   }
 
   @Test
@@ -225,7 +305,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeBackgroundImage( response.getWriter() );
+    verify( startupPage ).writeBackgroundImage( any( PrintWriter.class ) );
   }
 
   @Test
@@ -235,7 +315,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeNoScriptMessage( response.getWriter() );
+    verify( startupPage ).writeNoScriptMessage( any( PrintWriter.class ) );
   }
 
   @Test
@@ -245,7 +325,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeAppScript( response.getWriter() );
+    verify( startupPage ).writeAppScript( any( PrintWriter.class ) );
   }
 
   @Test
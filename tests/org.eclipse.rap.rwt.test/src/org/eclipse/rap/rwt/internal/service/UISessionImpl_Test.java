@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -305,6 +305,58 @@ public class UISessionImpl_Test {
     assertFalse( result );
   }
 
+  @Test
+  public void testIsChanged_initiallyFalse() {
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterSetAttribute() {
+    uiSession.setAttribute( "name", "value" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterRemoveAttribute() {
+    uiSession.removeAttribute( "name" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterAddUISessionListener() {
+    uiSession.addUISessionListener( mock( UISessionListener.class ) );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterMarkChanged() {
+    uiSession.markChanged();
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterAddTransientUISessionListener() {
+    UISessionListener listener = mock( UISessionListener.class );
+
+    uiSession.addTransientUISessionListener( listener );
+    uiSession.removeTransientUISessionListener( listener );
+
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_resetByAttachToHttpSession() {
+    uiSession.setAttribute( "name", "value" );
+
+    uiSession.attachToHttpSession();
+
+    assertFalse( uiSession.isChanged() );
+  }
+
   @Test
   public void testSetAttribute_whileDestroyingUISession() {
     final AtomicBoolean resultCaptor = new AtomicBoolean();
@@ -498,6 +550,50 @@ public class UISessionImpl_Test {
     assertSame( uiSession, eventLog.get( 0 ).getUISession() );
   }
 
+  @Test
+  public void testBeforeDestroyEvent_notifiesTransientListener() {
+    UISessionListener listener = mock( UISessionListener.class );
+    uiSession.addTransientUISessionListener( listener );
+
+    httpSession.invalidate();
+
+    verify( listener ).beforeDestroy( any( UISessionEvent.class ) );
+  }
+
+  @Test
+  public void testBeforeDestroyEvent_doesNotNotifyRemovedTransientListener() {
+    UISessionListener listener = mock( UISessionListener.class );
+    uiSession.addTransientUISessionListener( listener );
+    uiSession.removeTransientUISessionListener( listener );
+
+    httpSession.invalidate();
+
+    verify( listener, never() ).beforeDestroy( any( UISessionEvent.class ) );
+  }
+
+  @Test
+  public void testAddTransientUISessionListener_returnsFalseWhenUnbound() {
+    httpSession.invalidate();
+
+    boolean added = uiSession.addTransientUISessionListener( mock( UISessionListener.class ) );
+
+    assertFalse( added );
+  }
+
+  @Test
+  public void testTransientUISessionListenerIsNotSerialized() throws Exception {
+    // not serializable, as the anonymous class refers to the test case
+    uiSession.addTransientUISessionListener( new UISessionListener() {
+      @Override
+      public void beforeDestroy( UISessionEvent event ) {
+      }
+    } );
+
+    UISessionImpl deserializedUiSession = serializeAndDeserialize( uiSession );
+
+    assertNotNull( deserializedUiSession );
+  }
+
   @Test
   public void testExceptionHandlingInUISessionListeners() {
     uiSession.addUISessionListener( new UISessionListener() {
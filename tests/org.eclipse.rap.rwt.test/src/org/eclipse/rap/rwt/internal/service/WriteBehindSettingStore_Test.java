@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.ScheduledFuture;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
+import org.eclipse.rap.rwt.service.SettingStoreEvent;
+import org.eclipse.rap.rwt.service.SettingStoreListener;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+
+public class WriteBehindSettingStore_Test {
+
+  private File workDir;
+  private ApplicationScheduler scheduler;
+  private WriteBehindSettingStore store;
+
+  @Before
+  public void setUp() throws IOException {
+    workDir = Files.createTempDirectory( "settings" ).toFile();
+    scheduler = mock( ApplicationScheduler.class );
+    doReturn( mock( ScheduledFuture.class ) )
+      .when( scheduler ).schedule( any( Runnable.class ), anyLong() );
+    store = new WriteBehindSettingStore( workDir, false, scheduler, 100 );
+    store.loadById( "store" );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( workDir );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_failsWithoutDirectory() {
+    new WriteBehindSettingStore( new File( workDir, "missing" ), false, scheduler, 100 );
+  }
+
+  @Test
+  public void testSetAttribute_isNotWrittenImmediately() throws IOException {
+    store.setAttribute( "key", "value" );
+
+    assertEquals( "value", store.getAttribute( "key" ) );
+    assertFalse( store.getStoreFile().exists() );
+    assertTrue( store.hasPendingChanges() );
+  }
+
+  @Test
+  public void testSetAttribute_schedulesSingleFlush() throws IOException {
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.removeAttribute( "key1" );
+
+    verify( scheduler, times( 1 ) ).schedule( any( Runnable.class ), eq( 100L ) );
+  }
+
+  @Test
+  public void testSetAttribute_doesNotScheduleFlushForUnchangedValue() throws IOException {
+    store.setAttribute( "key", "value" );
+    store.flush();
+
+    store.setAttribute( "key", "value" );
+
+    verify( scheduler, times( 1 ) ).schedule( any( Runnable.class ), anyLong() );
+    assertFalse( store.hasPendingChanges() );
+  }
+
+  @Test
+  public void testSetAttribute_scheduledFlushWritesChanges() throws IOException {
+    store.setAttribute( "key", "value" );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( scheduler ).schedule( captor.capture(), anyLong() );
+
+    captor.getValue().run();
+
+    assertFalse( store.hasPendingChanges() );
+    assertEquals( "value", readProperties( store.getStoreFile() ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_reschedulesFailedFlush() throws IOException {
+    store.setAttribute( "key", "value" );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( scheduler ).schedule( captor.capture(), anyLong() );
+    FileUtil.delete( workDir );
+
+    captor.getValue().run();
+
+    assertTrue( store.hasPendingChanges() );
+    verify( scheduler, times( 2 ) ).schedule( captor.capture(), eq( 100L ) );
+    workDir.mkdir();
+    captor.getValue().run();
+    assertFalse( store.hasPendingChanges() );
+    assertEquals( "value", readProperties( store.getStoreFile() ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_flushesImmediatelyWithoutActiveScheduler() throws IOException {
+    store = new WriteBehindSettingStore( workDir, false, new ApplicationScheduler(), 100 );
+    store.loadById( "store" );
+
+    store.setAttribute( "key", "value" );
+
+    assertFalse( store.hasPendingChanges() );
+    assertEquals( "value", readProperties( store.getStoreFile() ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSetAttribute_notifiesListeners() throws IOException {
+    SettingStoreListener listener = mock( SettingStoreListener.class );
+    store.addSettingStoreListener( listener );
+
+    store.setAttribute( "key", "value" );
+
+    ArgumentCaptor<SettingStoreEvent> captor = ArgumentCaptor.forClass( SettingStoreEvent.class );
+    verify( listener ).settingChanged( captor.capture() );
+    assertSame( store, captor.getValue().getSource() );
+    assertEquals( "key", captor.getValue().getAttributeName() );
+    assertNull( captor.getValue().getOldValue() );
+    assertEquals( "value", captor.getValue().getNewValue() );
+  }
+
+  @Test
+  public void testFlush_writesPropertiesCompatibleWithFileSettingStore() throws IOException {
+    store.setAttribute( "key", "value" );
+    store.setAttribute( "other", "a=b\nc" );
+
+    store.flush();
+
+    Properties properties = readProperties( new File( workDir, "store" ) );
+    assertEquals( "value", properties.getProperty( "key" ) );
+    assertEquals( "a=b\nc", properties.getProperty( "other" ) );
+  }
+
+  @Test
+  public void testFlush_doesNotLeaveTemporaryFiles() throws IOException {
+    store.setAttribute( "key", "value" );
+
+    store.flush();
+
+    assertEquals( 1, workDir.list().length );
+  }
+
+  @Test
+  public void testLoadById_loadsFlushedAttributes() throws IOException {
+    store.setAttribute( "key", "value" );
+    store.removeAttribute( "key" );
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+
+    WriteBehindSettingStore newStore
+      = new WriteBehindSettingStore( workDir, false, scheduler, 100 );
+    newStore.loadById( "store" );
+
+    assertNull( newStore.getAttribute( "key" ) );
+    assertEquals( "value2", newStore.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testLoadById_flushesPendingChangesOfPreviousId() throws IOException {
+    store.setAttribute( "key", "value" );
+
+    store.loadById( "other" );
+
+    assertNull( store.getAttribute( "key" ) );
+    assertEquals( "value", readProperties( new File( workDir, "store" ) ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testAppendOnlyLog_appendsChangedAttributes() throws IOException {
+    store = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    store.loadById( "store" );
+    store.setAttribute( "key1", "value1" );
+    store.flush();
+    long length = store.getStoreFile().length();
+
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+
+    assertTrue( store.getStoreFile().getName().endsWith( WriteBehindSettingStore.LOG_SUFFIX ) );
+    assertTrue( store.getStoreFile().length() > length );
+    assertEquals( 2, Files.readAllLines( store.getStoreFile().toPath() ).size() );
+  }
+
+  @Test
+  public void testAppendOnlyLog_replaysLog() throws IOException {
+    store = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    store.loadById( "store" );
+    store.setAttribute( "key=1", "value\\1\n" );
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+    store.removeAttribute( "key2" );
+    store.setAttribute( "key3", "" );
+    store.flush();
+
+    WriteBehindSettingStore newStore = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    newStore.loadById( "store" );
+
+    assertEquals( "value\\1\n", newStore.getAttribute( "key=1" ) );
+    assertNull( newStore.getAttribute( "key2" ) );
+    assertEquals( "", newStore.getAttribute( "key3" ) );
+  }
+
+  @Test
+  public void testAppendOnlyLog_isCompacted() throws IOException {
+    store = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    store.loadById( "store" );
+
+    for( int i = 0; i < 1001; i++ ) {
+      store.setAttribute( "key", String.valueOf( i ) );
+      store.flush();
+    }
+
+    assertEquals( 1, Files.readAllLines( store.getStoreFile().toPath() ).size() );
+    assertEquals( "1000", store.getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testAppendOnlyLog_isSharedByStoresWithSameId() throws IOException {
+    store = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    store.loadById( "store" );
+    WriteBehindSettingStore otherStore
+      = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    otherStore.loadById( "store" );
+    otherStore.setAttribute( "other", "value" );
+    otherStore.flush();
+
+    for( int i = 0; i < 1001; i++ ) {
+      store.setAttribute( "key", String.valueOf( i ) );
+      store.flush();
+    }
+
+    WriteBehindSettingStore newStore = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    newStore.loadById( "store" );
+    assertEquals( 2, Files.readAllLines( store.getStoreFile().toPath() ).size() );
+    assertEquals( "1000", newStore.getAttribute( "key" ) );
+    assertEquals( "value", newStore.getAttribute( "other" ) );
+  }
+
+  @Test
+  public void testAppendOnlyLog_concurrentFlushes() throws Exception {
+    final WriteBehindSettingStore[] stores = new WriteBehindSettingStore[ 4 ];
+    Thread[] threads = new Thread[ stores.length ];
+    for( int i = 0; i < stores.length; i++ ) {
+      stores[ i ] = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+      stores[ i ].loadById( "store" );
+      final int index = i;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for( int j = 0; j < 600; j++ ) {
+              stores[ index ].setAttribute( "key" + index, String.valueOf( j ) );
+              stores[ index ].flush();
+            }
+          } catch( IOException exception ) {
+            throw new RuntimeException( exception );
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    WriteBehindSettingStore newStore = new WriteBehindSettingStore( workDir, true, scheduler, 100 );
+    newStore.loadById( "store" );
+    for( int i = 0; i < stores.length; i++ ) {
+      assertEquals( "599", newStore.getAttribute( "key" + i ) );
+    }
+  }
+
+  @Test
+  public void testEscape() {
+    String escaped = WriteBehindSettingStore.escape( "a=b\\c\nd\re", true );
+
+    assertEquals( "a\\=b\\\\c\\nd\\re", escaped );
+    assertEquals( "a=b\\c\nd\re", WriteBehindSettingStore.unescape( escaped ) );
+  }
+
+  private static Properties readProperties( File file ) throws IOException {
+    Properties result = new Properties();
+    try( InputStream inputStream = new FileInputStream( file ) ) {
+      result.load( inputStream );
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStorageFile_Test {
+
+  private static final FontData FONT_DATA = new FontData( "Ärial", 10, SWT.BOLD );
+
+  private File file;
+  private TextSizeStorage storage;
+
+  @Before
+  public void setUp() throws IOException {
+    Fixture.setUp();
+    file = File.createTempFile( "rap-", ".textsizes" );
+    file.delete();
+    storage = new TextSizeStorage();
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testExists() throws IOException {
+    TextSizeStorageFile storageFile = new TextSizeStorageFile( file );
+    assertFalse( storageFile.exists() );
+
+    storageFile.save( storage );
+
+    assertTrue( storageFile.exists() );
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    storage.storeFont( FONT_DATA );
+    storage.storeTextSize( Integer.valueOf( 1 ), new Point( 10, 20 ) );
+    storage.storeTextSize( Integer.valueOf( -1 ), new Point( 30, 40 ) );
+
+    new TextSizeStorageFile( file ).save( storage );
+    TextSizeStorage loaded = new TextSizeStorage();
+    new TextSizeStorageFile( file ).load( loaded );
+
+    assertArrayEquals( new FontData[] { FONT_DATA }, loaded.getFontList() );
+    assertEquals( new Point( 10, 20 ), loaded.lookupTextSize( Integer.valueOf( 1 ) ) );
+    assertEquals( new Point( 30, 40 ), loaded.lookupTextSize( Integer.valueOf( -1 ) ) );
+    assertEquals( 2, loaded.getSize() );
+  }
+
+  @Test
+  public void testSaveAndLoad_keepsMostRecentlyUsedEntries() throws IOException {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
+      storage.storeTextSize( Integer.valueOf( i ), new Point( i, i ) );
+    }
+    storage.lookupTextSize( Integer.valueOf( 0 ) );
+
+    new TextSizeStorageFile( file ).save( storage );
+    TextSizeStorage loaded = new TextSizeStorage();
+    loaded.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    new TextSizeStorageFile( file ).load( loaded );
+    loaded.storeTextSize( Integer.valueOf( -1 ), new Point( -1, -1 ) );
+
+    assertEquals( new Point( 0, 0 ), loaded.lookupTextSize( Integer.valueOf( 0 ) ) );
+    assertNull( loaded.lookupTextSize( Integer.valueOf( 1 ) ) );
+  }
+
+  @Test
+  public void testSave_overwritesExistingFile() throws IOException {
+    storage.storeTextSize( Integer.valueOf( 1 ), new Point( 1, 1 ) );
+    new TextSizeStorageFile( file ).save( storage );
+
+    new TextSizeStorageFile( file ).save( new TextSizeStorage() );
+
+    TextSizeStorage loaded = new TextSizeStorage();
+    new TextSizeStorageFile( file ).load( loaded );
+    assertEquals( 0, loaded.getSize() );
+  }
+
+  @Test
+  public void testLoad_withIncompatibleFile() throws IOException {
+    writeFile( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 } );
+
+    try {
+      new TextSizeStorageFile( file ).load( storage );
+      fail();
+    } catch( IOException expected ) {
+    }
+  }
+
+  @Test
+  public void testLoad_withTruncatedFile() throws IOException {
+    storage.storeFont( FONT_DATA );
+    storage.storeTextSize( Integer.valueOf( 1 ), new Point( 1, 1 ) );
+    new TextSizeStorageFile( file ).save( storage );
+    byte[] content = Files.readAllBytes( file.toPath() );
+    byte[] truncated = new byte[ content.length - 4 ];
+    System.arraycopy( content, 0, truncated, 0, truncated.length );
+    writeFile( truncated );
+    TextSizeStorage loaded = new TextSizeStorage();
+
+    try {
+      new TextSizeStorageFile( file ).load( loaded );
+      fail();
+    } catch( IOException expected ) {
+    }
+    assertEquals( 0, loaded.getFontList().length );
+    assertEquals( 0, loaded.getSize() );
+  }
+
+  private void writeFile( byte[] content ) throws IOException {
+    try( FileOutputStream stream = new FileOutputStream( file ) ) {
+      stream.write( content );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,7 +17,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -86,6 +90,67 @@ public class TextSizeStorage_Test {
     checkRangeCleanup();
   }
 
+  @Test
+  public void testStorageOverflowHandling_removesClearRange() {
+    populateUntilOverflowThresholdIsReached();
+
+    forceOverflow();
+
+    assertEquals( TextSizeStorage.MIN_STORE_SIZE - 100, storage.getSize() );
+  }
+
+  @Test
+  public void testStoreTextSize_replacesExistingEntry() {
+    Integer key = Integer.valueOf( 1 );
+    storage.storeTextSize( key, new Point( 1, 1 ) );
+
+    storage.storeTextSize( key, new Point( 2, 2 ) );
+
+    assertEquals( new Point( 2, 2 ), storage.lookupTextSize( key ) );
+    assertEquals( 1, storage.getSize() );
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    final CountDownLatch start = new CountDownLatch( 1 );
+    final List<Throwable> problems = new ArrayList<>();
+    Thread[] threads = new Thread[ 16 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final int offset = i * 97;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            for( int j = 0; j < 20000; j++ ) {
+              Integer key = Integer.valueOf( ( offset + j ) % 3000 );
+              Point size = storage.lookupTextSize( key );
+              if( size == null ) {
+                storage.storeTextSize( key, new Point( key.intValue(), -key.intValue() ) );
+              } else if( size.x != key.intValue() || size.y != -key.intValue() ) {
+                throw new IllegalStateException( "Wrong size for " + key + ": " + size );
+              }
+            }
+          } catch( Throwable throwable ) {
+            synchronized( problems ) {
+              problems.add( throwable );
+            }
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+
+    start.countDown();
+    for( Thread thread : threads ) {
+      thread.join( TimeUnit.SECONDS.toMillis( 30 ) );
+    }
+
+    assertEquals( new ArrayList<Throwable>(), problems );
+    assertTrue( String.valueOf( storage.getSize() ), storage.getSize() <= TextSizeStorage.MIN_STORE_SIZE + threads.length );
+  }
+
   @Test
   public void testMaximumStoreSize() {
     int maximumStoreSize = 2000;
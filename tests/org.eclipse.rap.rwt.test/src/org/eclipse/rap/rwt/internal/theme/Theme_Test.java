@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeTestUtil.RESOURCE_LOADER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -145,6 +146,91 @@ public class Theme_Test {
     }
   }
 
+  @Test( expected = IllegalStateException.class )
+  public void testGetValues_uncompiled() {
+    Theme theme = new Theme( "some.id", "Test", null );
+    theme.initialize( new ThemeableWidget[] { createSimpleButtonWidget() } );
+
+    theme.getValues( "Button", "color" );
+  }
+
+  @Test
+  public void testGetValues_includesFallbackValues() throws Exception {
+    Theme theme = createTheme( "Button.special { color: #bbbbbb; }\n" );
+    Theme fallbackTheme = createTheme( "Button { color: #aaaaaa; }\n" );
+
+    theme.compile( fallbackTheme );
+
+    ConditionalValue[] values = theme.getValues( "Button", "color" );
+    assertEquals( 2, values.length );
+    assertEquals( "#bbbbbb", values[ 0 ].value.toDefaultString() );
+    assertEquals( "#aaaaaa", values[ 1 ].value.toDefaultString() );
+  }
+
+  @Test
+  public void testGetValues_omitsValuesWithSameConstraints() throws Exception {
+    Theme theme = createTheme( "Button.special { color: #bbbbbb; }\n" );
+    Theme fallbackTheme = createTheme( "Button.special { color: #cccccc; }\n" );
+
+    theme.compile( fallbackTheme );
+
+    ConditionalValue[] values = theme.getValues( "Button", "color" );
+    assertEquals( 1, values.length );
+    assertEquals( "#bbbbbb", values[ 0 ].value.toDefaultString() );
+  }
+
+  @Test
+  public void testGetValues_omitsUnreachableValues() throws Exception {
+    Theme theme = createTheme( "Button { color: #bbbbbb; }\n" );
+    Theme fallbackTheme = createTheme( "Button.special { color: #cccccc; }\n" );
+
+    theme.compile( fallbackTheme );
+
+    ConditionalValue[] values = theme.getValues( "Button", "color" );
+    assertEquals( 1, values.length );
+    assertEquals( "#bbbbbb", values[ 0 ].value.toDefaultString() );
+  }
+
+  @Test
+  public void testGetValues_withoutFallbackTheme() throws Exception {
+    Theme theme = createTheme( "Button.special { color: #bbbbbb; }\n" );
+
+    theme.compile( null );
+
+    assertEquals( 1, theme.getValues( "Button", "color" ).length );
+  }
+
+  @Test
+  public void testGetValues_withPropertyOnlyInFallbackTheme() throws Exception {
+    Theme theme = createTheme( "Button { color: #bbbbbb; }\n" );
+    Theme fallbackTheme = createTheme( "Button { cursor: pointer; }\n" );
+    theme.compile( fallbackTheme );
+
+    ConditionalValue[] values = theme.getValues( "Button", "cursor" );
+
+    assertEquals( 1, values.length );
+    assertEquals( "pointer", values[ 0 ].value.toDefaultString() );
+    assertSame( values, theme.getValues( "Button", "cursor" ) );
+  }
+
+  @Test
+  public void testGetValues_withUndefinedProperty() throws Exception {
+    Theme theme = createTheme( "Button { color: #bbbbbb; }\n" );
+    theme.compile( null );
+
+    ConditionalValue[] values = theme.getValues( "Button", "background-color" );
+
+    assertEquals( 0, values.length );
+    assertSame( values, theme.getValues( "Button", "background-color" ) );
+  }
+
+  private static Theme createTheme( String css ) throws Exception {
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( css );
+    Theme result = new Theme( "some.id", "Test", styleSheet );
+    result.initialize( new ThemeableWidget[] { createSimpleButtonWidget() } );
+    return result;
+  }
+
   private static ThemeableWidget createSimpleButtonWidget() {
     ThemeableWidget buttonWidget = new ThemeableWidget( Button.class.getName(), null );
     CssElement buttonElement = new CssElementImpl( "Button" )
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+
+public class ContentEncoding_Test {
+
+  @Test
+  public void testGetAcceptedEncoding_withoutHeader() {
+    assertNull( ContentEncoding.getAcceptedEncoding( mockRequest( null ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withUnsupportedEncoding() {
+    assertNull( ContentEncoding.getAcceptedEncoding( mockRequest( "br, identity" ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_prefersGzip() {
+    assertEquals( "gzip", ContentEncoding.getAcceptedEncoding( mockRequest( "deflate, gzip" ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withDeflate() {
+    assertEquals( "deflate", ContentEncoding.getAcceptedEncoding( mockRequest( "deflate" ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withQuality() {
+    String header = "gzip;q=0, deflate;q=0.5";
+
+    assertEquals( "deflate", ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withWildcard() {
+    assertEquals( "gzip", ContentEncoding.getAcceptedEncoding( mockRequest( "*" ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withWildcardAndExcludedGzip() {
+    String header = "gzip;q=0, *";
+
+    assertEquals( "deflate", ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withWildcardAndAllExcluded() {
+    String header = "gzip;q=0, deflate;q=0, *";
+
+    assertNull( ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withExcludedWildcard() {
+    assertNull( ContentEncoding.getAcceptedEncoding( mockRequest( "*;q=0" ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_withExcludedWildcardAndDeflate() {
+    String header = "deflate, *;q=0";
+
+    assertEquals( "deflate", ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_prefersHigherQuality() {
+    String header = "gzip;q=0.5, deflate;q=0.8";
+
+    assertEquals( "deflate", ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testGetAcceptedEncoding_prefersGzipWithEqualQuality() {
+    String header = "deflate;q=0.5, gzip;q=0.5";
+
+    assertEquals( "gzip", ContentEncoding.getAcceptedEncoding( mockRequest( header ) ) );
+  }
+
+  @Test
+  public void testEncode_gzip() throws IOException {
+    byte[] content = createContent( 10000 );
+
+    byte[] encoded = ContentEncoding.encode( content, "gzip" );
+
+    assertTrue( encoded.length < content.length );
+    assertArrayEquals( content, read( new GZIPInputStream( new ByteArrayInputStream( encoded ) ) ) );
+  }
+
+  @Test
+  public void testEncode_deflate() throws IOException {
+    byte[] content = createContent( 10000 );
+
+    byte[] encoded = ContentEncoding.encode( content, "deflate" );
+
+    InputStream inputStream = new InflaterInputStream( new ByteArrayInputStream( encoded ) );
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testEncode_reusesDeflater() throws IOException {
+    byte[] content1 = createContent( 5000 );
+    byte[] content2 = createContent( 7000 );
+
+    ContentEncoding.encode( content1, "gzip" );
+    byte[] encoded = ContentEncoding.encode( content2, "gzip" );
+
+    assertArrayEquals( content2, read( new GZIPInputStream( new ByteArrayInputStream( encoded ) ) ) );
+  }
+
+  @Test
+  public void testEncode_withUnsupportedEncoding() {
+    try {
+      ContentEncoding.encode( new byte[ 0 ], "br" );
+      fail();
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  @Test
+  public void testCreateOutputStream_gzip() throws IOException {
+    byte[] content = createContent( 10000 );
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    OutputStream encodingStream = ContentEncoding.createOutputStream( output, "gzip" );
+    encodingStream.write( content, 0, 6000 );
+    encodingStream.write( content, 6000, 4000 );
+    encodingStream.close();
+
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( output.toByteArray() ) );
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testCreateOutputStream_deflate() throws IOException {
+    byte[] content = createContent( 10000 );
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    OutputStream encodingStream = ContentEncoding.createOutputStream( output, "deflate" );
+    encodingStream.write( content );
+    encodingStream.close();
+
+    InputStream inputStream = new InflaterInputStream( new ByteArrayInputStream( output.toByteArray() ) );
+    assertArrayEquals( content, read( inputStream ) );
+  }
+
+  @Test
+  public void testCreateOutputStream_doesNotCloseOutput() throws IOException {
+    final boolean[] closed = { false };
+    OutputStream output = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed[ 0 ] = true;
+      }
+    };
+
+    ContentEncoding.createOutputStream( output, "gzip" ).close();
+
+    assertFalse( closed[ 0 ] );
+  }
+
+  @Test
+  public void testCreateOutputStream_closesOnWriteFailure() throws IOException {
+    OutputStream output = new OutputStream() {
+      private int writeCount;
+      @Override
+      public void write( int value ) throws IOException {
+        write( new byte[] { ( byte )value }, 0, 1 );
+      }
+      @Override
+      public void write( byte[] bytes, int offset, int length ) throws IOException {
+        // let the gzip header pass
+        if( writeCount++ > 0 ) {
+          throw new IOException( "Connection reset" );
+        }
+      }
+    };
+    OutputStream encodingStream = ContentEncoding.createOutputStream( output, "gzip" );
+
+    try {
+      encodingStream.write( createRandomContent( 100000 ) );
+      fail();
+    } catch( IOException expected ) {
+      assertEquals( "Connection reset", expected.getMessage() );
+    }
+
+    try {
+      encodingStream.write( 1 );
+      fail();
+    } catch( IOException expected ) {
+      assertEquals( "Stream closed", expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testCreateOutputStream_withUnsupportedEncoding() throws IOException {
+    try {
+      ContentEncoding.createOutputStream( new ByteArrayOutputStream(), "br" );
+      fail();
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  private static HttpServletRequest mockRequest( String acceptEncoding ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( request.getHeader( "Accept-Encoding" ) ).thenReturn( acceptEncoding );
+    return request;
+  }
+
+  private static byte[] createContent( int length ) {
+    byte[] result = new byte[ length ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i ] = ( byte )( 'a' + i % 26 );
+    }
+    return result;
+  }
+
+  private static byte[] createRandomContent( int length ) {
+    byte[] result = new byte[ length ];
+    new Random( 1 ).nextBytes( result );
+    return result;
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int count = inputStream.read( buffer );
+    while( count != -1 ) {
+      result.write( buffer, 0, count );
+      count = inputStream.read( buffer );
+    }
+    inputStream.close();
+    return result.toByteArray();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,30 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.EvictionListener;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Weigher;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -106,6 +121,278 @@ public class SharedInstanceBuffer_Test {
     assertSame( value, removed );
   }
 
+  @Test
+  public void testGet_doesNotCacheFailedCreation() {
+    InstanceCreator<Object, Object> failingCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        throw new IllegalStateException();
+      }
+    };
+    try {
+      keyValueStore.get( key, failingCreator );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException expected ) {
+    }
+
+    Object returnedValue = keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test
+  public void testGet_doesNotCacheNull() {
+    keyValueStore.get( key, mockInstanceCreator( null ) );
+
+    Object returnedValue = keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test
+  public void testGet_createsOnlyOnceForConcurrentCallers() throws Exception {
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    final CountDownLatch creationBlocked = new CountDownLatch( 1 );
+    final AtomicInteger creations = new AtomicInteger();
+    final InstanceCreator<Object, Object> slowCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        creations.incrementAndGet();
+        creationStarted.countDown();
+        await( creationBlocked );
+        return value;
+      }
+    };
+    Thread[] threads = new Thread[ 4 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          keyValueStore.get( key, slowCreator );
+        }
+      } );
+      threads[ i ].start();
+    }
+    creationStarted.await( 5, TimeUnit.SECONDS );
+
+    creationBlocked.countDown();
+    for( Thread thread : threads ) {
+      thread.join( 5000 );
+    }
+
+    assertEquals( 1, creations.get() );
+  }
+
+  @Test
+  public void testGet_doesNotBlockOtherKeys() throws Exception {
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    final CountDownLatch creationBlocked = new CountDownLatch( 1 );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        keyValueStore.get( key, new InstanceCreator<Object, Object>() {
+          @Override
+          public Object createInstance( Object key ) {
+            creationStarted.countDown();
+            await( creationBlocked );
+            return value;
+          }
+        } );
+      }
+    } );
+    thread.start();
+    creationStarted.await( 5, TimeUnit.SECONDS );
+
+    try {
+      Object otherValue = new Object();
+      assertSame( otherValue, keyValueStore.get( new Object(), mockInstanceCreator( otherValue ) ) );
+    } finally {
+      creationBlocked.countDown();
+      thread.join( 5000 );
+    }
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_withZeroMaximumSize() {
+    new SharedInstanceBuffer<Object, Object>( 0 );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullWeigher() {
+    new SharedInstanceBuffer<Object, Object>( 10, null );
+  }
+
+  @Test
+  public void testGet_evictsLeastRecentlyUsed_withMaximumSize() {
+    SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>( 2 );
+    buffer.get( "a", createInstanceCreator() );
+    buffer.get( "b", createInstanceCreator() );
+    buffer.get( "a", createInstanceCreator() );
+
+    buffer.get( "c", createInstanceCreator() );
+
+    assertEquals( 2, buffer.getStatistics().getSize() );
+    assertEquals( 1, buffer.getStatistics().getEvictionCount() );
+    assertNull( buffer.remove( "b" ) );
+  }
+
+  @Test
+  public void testGet_evictsLeastRecentlyUsed_afterGetIfPresent() {
+    SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>( 2 );
+    buffer.get( "a", createInstanceCreator() );
+    buffer.get( "b", createInstanceCreator() );
+    buffer.getIfPresent( "a" );
+
+    buffer.get( "c", createInstanceCreator() );
+
+    assertNotNull( buffer.getIfPresent( "a" ) );
+    assertNull( buffer.getIfPresent( "b" ) );
+  }
+
+  @Test
+  public void testGet_notifiesEvictionListener() {
+    final List<String> evictedKeys = new ArrayList<>();
+    final List<Object> evictedInstances = new ArrayList<>();
+    SharedInstanceBuffer<String, Object> buffer
+      = new SharedInstanceBuffer<>( 1, createUnitWeigher(), new EvictionListener<String, Object>() {
+        @Override
+        public void evicted( String key, Object instance ) {
+          evictedKeys.add( key );
+          evictedInstances.add( instance );
+        }
+      } );
+    Object instance = buffer.get( "a", createInstanceCreator() );
+
+    buffer.get( "b", createInstanceCreator() );
+
+    assertEquals( asList( "a" ), evictedKeys );
+    assertEquals( asList( instance ), evictedInstances );
+  }
+
+  @Test
+  public void testRemove_doesNotNotifyEvictionListener() {
+    @SuppressWarnings( "unchecked" )
+    EvictionListener<String, Object> listener = mock( EvictionListener.class );
+    SharedInstanceBuffer<String, Object> buffer
+      = new SharedInstanceBuffer<>( 1, createUnitWeigher(), listener );
+    buffer.get( "a", createInstanceCreator() );
+
+    buffer.remove( "a" );
+    buffer.get( "b", createInstanceCreator() );
+
+    verifyZeroInteractions( listener );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullEvictionListener() {
+    new SharedInstanceBuffer<String, Object>( 10, createUnitWeigher(), null );
+  }
+
+  @Test
+  public void testGet_evictsUntilWeightIsWithinBound() {
+    SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>( 10, new Weigher<String, Object>() {
+      @Override
+      public int weigh( String key, Object instance ) {
+        return key.length();
+      }
+    } );
+    buffer.get( "aaaa", createInstanceCreator() );
+    buffer.get( "bbbb", createInstanceCreator() );
+
+    buffer.get( "cccccccc", createInstanceCreator() );
+
+    assertEquals( 1, buffer.getStatistics().getSize() );
+    assertEquals( 8, buffer.getStatistics().getWeight() );
+    assertEquals( 2, buffer.getStatistics().getEvictionCount() );
+  }
+
+  @Test
+  public void testRemove_releasesWeight() {
+    SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>( 2 );
+    buffer.get( "a", createInstanceCreator() );
+
+    buffer.remove( "a" );
+
+    assertEquals( 0, buffer.getStatistics().getWeight() );
+  }
+
+  @Test
+  public void testGet_doesNotBufferInstanceExceedingMaximumWeight() {
+    SharedInstanceBuffer<String, Object> buffer = new SharedInstanceBuffer<>( 3, new Weigher<String, Object>() {
+      @Override
+      public int weigh( String key, Object instance ) {
+        return key.length();
+      }
+    } );
+    buffer.get( "a", createInstanceCreator() );
+
+    Object instance = buffer.get( "bbbb", createInstanceCreator() );
+
+    assertNotNull( instance );
+    assertNull( buffer.getIfPresent( "bbbb" ) );
+    assertNotNull( buffer.getIfPresent( "a" ) );
+  }
+
+  @Test
+  public void testGetIfPresent() {
+    keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    assertSame( value, keyValueStore.getIfPresent( key ) );
+    assertNull( keyValueStore.getIfPresent( new Object() ) );
+    assertEquals( 1, keyValueStore.getStatistics().getHitCount() );
+    assertEquals( 1, keyValueStore.getStatistics().getMissCount() );
+  }
+
+  @Test
+  public void testGetStatistics() {
+    keyValueStore.get( key, mockInstanceCreator( value ) );
+    keyValueStore.get( key, mockInstanceCreator( value ) );
+    keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    Statistics statistics = keyValueStore.getStatistics();
+
+    assertEquals( 2, statistics.getHitCount() );
+    assertEquals( 1, statistics.getMissCount() );
+    assertEquals( 2.0 / 3, statistics.getHitRate(), 0.001 );
+    assertEquals( 1, statistics.getSize() );
+    assertEquals( 0, statistics.getEvictionCount() );
+    assertTrue( statistics.getTotalCreationTime() >= 0 );
+  }
+
+  @Test
+  public void testGetStatistics_initial() {
+    Statistics statistics = keyValueStore.getStatistics();
+
+    assertEquals( 1.0, statistics.getHitRate(), 0 );
+    assertEquals( 0, statistics.getAverageCreationTime() );
+  }
+
+  private static InstanceCreator<String, Object> createInstanceCreator() {
+    return new InstanceCreator<String, Object>() {
+      @Override
+      public Object createInstance( String key ) {
+        return new Object();
+      }
+    };
+  }
+
+  private static Weigher<String, Object> createUnitWeigher() {
+    return new Weigher<String, Object>() {
+      @Override
+      public int weigh( String key, Object instance ) {
+        return 1;
+      }
+    };
+  }
+
+  private static void await( CountDownLatch latch ) {
+    try {
+      latch.await( 5, TimeUnit.SECONDS );
+    } catch( InterruptedException exception ) {
+      throw new RuntimeException( exception );
+    }
+  }
+
   @SuppressWarnings( "unchecked" )
   private static InstanceCreator<Object, Object> mockInstanceCreator( Object value ) {
     InstanceCreator mock = mock( InstanceCreator.class );
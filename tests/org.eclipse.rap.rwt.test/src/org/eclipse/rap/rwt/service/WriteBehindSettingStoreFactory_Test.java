@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.service.WriteBehindSettingStore;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WriteBehindSettingStoreFactory_Test {
+
+  private File directory;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    directory.deleteOnExit();
+    String directoryPath = directory.getAbsolutePath();
+    Fixture.getServletContext().setInitParameter( FileSettingStore.FILE_SETTING_STORE_DIR,
+                                                  directoryPath );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_failsWithNullId() {
+    new WriteBehindSettingStoreFactory().createSettingStore( null );
+  }
+
+  @Test
+  public void testCreate_createsInstancesWithCorrectType() {
+    SettingStore store = new WriteBehindSettingStoreFactory().createSettingStore( "id" );
+
+    assertSame( WriteBehindSettingStore.class, store.getClass() );
+    assertEquals( "id", store.getId() );
+    assertTrue( directory.isDirectory() );
+  }
+
+  @Test
+  public void testCreate_flushesOnSessionEnd() throws IOException {
+    SettingStore store = createStore( new WriteBehindSettingStoreFactory(), "id" );
+    store.setAttribute( "key", "value" );
+    File file = new File( directory, "id" );
+    assertFalse( file.exists() );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    assertTrue( file.exists() );
+  }
+
+  @Test
+  public void testCreate_readsSettingsOfFileSettingStore() throws IOException {
+    SettingStore fileStore = new FileSettingStoreFactory().createSettingStore( "id" );
+    fileStore.setAttribute( "key", "value" );
+
+    SettingStore store = new WriteBehindSettingStoreFactory().createSettingStore( "id" );
+
+    assertEquals( "value", store.getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testCreate_withAppendOnlyLog() throws IOException {
+    SettingStore store = createStore( new WriteBehindSettingStoreFactory( true ), "id" );
+    store.setAttribute( "key", "value" );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    assertTrue( new File( directory, "id.log" ).exists() );
+  }
+
+  @Test
+  public void testCreate_doesNotFlushStoreRemovedFromSession() throws IOException {
+    SettingStore store = createStore( new WriteBehindSettingStoreFactory(), "id" );
+    store.setAttribute( "key", "value" );
+    ContextProvider.getUISession().removeAttribute( "id" );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    assertFalse( new File( directory, "id" ).exists() );
+  }
+
+  @Test
+  public void testCreate_usesIOScheduler() throws IOException {
+    SettingStore store = createStore( new WriteBehindSettingStoreFactory(), "id" );
+    store.setAttribute( "key", "value" );
+
+    assertEquals( 1, ContextProvider.getApplicationContext().getIOScheduler().getTaskCount() );
+    assertEquals( 0, ContextProvider.getApplicationContext().getScheduler().getTaskCount() );
+  }
+
+  private static SettingStore createStore( SettingStoreFactory factory, String id ) {
+    SettingStore result = factory.createSettingStore( id );
+    // like the SettingStoreManager, which keeps the store in the UI session
+    ContextProvider.getUISession().setAttribute( id, result );
+    return result;
+  }
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.graphics.GCOperation.DrawLine;
+import org.eclipse.swt.internal.graphics.GCOperation.DrawPolyline;
+import org.eclipse.swt.internal.graphics.GCOperation.DrawRectangle;
+import org.eclipse.swt.internal.graphics.GCOperation.DrawRoundRectangle;
+import org.eclipse.swt.internal.graphics.GCOperation.FillGradientRectangle;
+import org.eclipse.swt.internal.graphics.GCOperation.SetClipping;
+import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
+import org.junit.Test;
+
+
+public class GCOperation_Test {
+
+  @Test
+  public void testGetType() {
+    Rectangle bounds = new Rectangle( 1, 2, 3, 4 );
+
+    assertEquals( GCOperation.DRAW_LINE, new DrawLine( 1, 2, 3, 4 ).getType() );
+    assertEquals( GCOperation.DRAW_RECTANGLE, new DrawRectangle( bounds, true ).getType() );
+    assertEquals( GCOperation.DRAW_ROUND_RECTANGLE,
+                  new DrawRoundRectangle( bounds, 1, 1, true ).getType() );
+    assertEquals( GCOperation.FILL_GRADIENT_RECTANGLE,
+                  new FillGradientRectangle( bounds, true ).getType() );
+  }
+
+  @Test
+  public void testEquals() {
+    assertEquals( new DrawLine( 1, 2, 3, 4 ), new DrawLine( 1, 2, 3, 4 ) );
+    assertEquals( new DrawLine( 1, 2, 3, 4 ).hashCode(), new DrawLine( 1, 2, 3, 4 ).hashCode() );
+    assertFalse( new DrawLine( 1, 2, 3, 4 ).equals( new DrawLine( 1, 2, 3, 5 ) ) );
+  }
+
+  @Test
+  public void testEquals_withArrays() {
+    DrawPolyline polyline = new DrawPolyline( new int[] { 1, 2, 3, 4 }, false, false );
+
+    assertEquals( polyline, new DrawPolyline( new int[] { 1, 2, 3, 4 }, false, false ) );
+    assertFalse( polyline.equals( new DrawPolyline( new int[] { 1, 2, 3, 4 }, true, false ) ) );
+  }
+
+  @Test
+  public void testEquals_withValue() {
+    SetProperty property = new SetProperty( SetProperty.FOREGROUND, new RGB( 1, 2, 3 ) );
+
+    assertEquals( property, new SetProperty( SetProperty.FOREGROUND, new RGB( 1, 2, 3 ) ) );
+    assertFalse( property.equals( new SetProperty( SetProperty.BACKGROUND, new RGB( 1, 2, 3 ) ) ) );
+    assertEquals( new SetClipping(), new SetClipping() );
+  }
+
+  @Test
+  public void testEquals_withSubclass() {
+    Rectangle bounds = new Rectangle( 1, 2, 3, 4 );
+    DrawRectangle rectangle = new DrawRectangle( bounds, true );
+
+    assertFalse( rectangle.equals( new FillGradientRectangle( bounds, true ) ) );
+    assertFalse( new FillGradientRectangle( bounds, true ).equals( rectangle ) );
+  }
+
+}
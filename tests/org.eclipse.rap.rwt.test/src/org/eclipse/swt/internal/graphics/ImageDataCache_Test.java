@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -53,15 +54,57 @@ public class ImageDataCache_Test {
   }
 
   @Test
-  public void testBigImageIsNotCached() throws IOException {
+  public void testBigImageIsCached() throws IOException {
     ImageDataCache cache = new ImageDataCache();
     ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
     InternalImage internalImage
       = new InternalImage( "testpath", imageData.width, imageData.height, false );
     cache.putImageData( internalImage, imageData );
+    assertEqualsImageData( imageData, cache.getImageData( internalImage ) );
+  }
+
+  @Test
+  public void testImageExceedingMaximumSizeIsNotCached() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 1024 );
+    ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
+    InternalImage internalImage
+      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    cache.putImageData( internalImage, imageData );
     assertNull( cache.getImageData( internalImage ) );
   }
 
+  @Test
+  public void testLeastRecentlyUsedImageIsEvicted() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 ); // 129 bytes
+    ImageDataCache cache = new ImageDataCache( 2 * ImageDataCache.getSize( imageData ) );
+    InternalImage internalImage1 = new InternalImage( "path1", 1, 1, false );
+    InternalImage internalImage2 = new InternalImage( "path2", 1, 1, false );
+    InternalImage internalImage3 = new InternalImage( "path3", 1, 1, false );
+    cache.putImageData( internalImage1, imageData );
+    cache.putImageData( internalImage2, imageData );
+    cache.getImageData( internalImage1 );
+
+    cache.putImageData( internalImage3, imageData );
+
+    assertNotNull( cache.getImageData( internalImage1 ) );
+    assertNull( cache.getImageData( internalImage2 ) );
+    assertNotNull( cache.getImageData( internalImage3 ) );
+    assertEquals( 1, cache.getStatistics().getEvictionCount() );
+  }
+
+  @Test
+  public void testStatistics() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = new InternalImage( "testpath", 1, 1, false );
+    cache.putImageData( internalImage, imageData );
+    cache.getImageData( internalImage );
+
+    assertEquals( 1, cache.getStatistics().getHitCount() );
+    assertEquals( 1, cache.getStatistics().getMissCount() );
+    assertEquals( ImageDataCache.getSize( imageData ), cache.getStatistics().getWeight() );
+  }
+
   @Test
   public void testSafeCopiesReturned() throws IOException {
     ImageDataCache cache = new ImageDataCache();
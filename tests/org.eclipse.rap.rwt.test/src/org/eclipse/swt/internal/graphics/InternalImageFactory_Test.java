@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
@@ -26,6 +30,8 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
@@ -52,7 +58,7 @@ public class InternalImageFactory_Test {
   public void setUp() {
     Fixture.createApplicationContext( true );
     Fixture.createServiceContext();
-    internalImageFactory = new InternalImageFactory();
+    internalImageFactory = new InternalImageFactory( RWT.getResourceManager() );
   }
 
   @After
@@ -124,6 +130,61 @@ public class InternalImageFactory_Test {
     assertSame( internalImage1, internalImage2 );
   }
 
+  @Test
+  public void testGeneratedImagesAreUnboundedByDefault() {
+    for( int i = 0; i < 3; i++ ) {
+      internalImageFactory.findInternalImage( createImageData( i ) );
+    }
+
+    assertEquals( 3, internalImageFactory.getGeneratedImageStatistics().getSize() );
+    assertEquals( 0, internalImageFactory.getGeneratedImageStatistics().getEvictionCount() );
+  }
+
+  @Test
+  public void testGeneratedImagesAreEvicted_withCacheSize() {
+    System.setProperty( RWTProperties.GENERATED_IMAGE_CACHE_SIZE, "2" );
+    try {
+      internalImageFactory = new InternalImageFactory( RWT.getResourceManager() );
+      InternalImage internalImage = internalImageFactory.findInternalImage( createImageData( 0 ) );
+      internalImageFactory.findInternalImage( createImageData( 1 ) );
+      internalImageFactory.findInternalImage( createImageData( 2 ) );
+
+      assertEquals( 2, internalImageFactory.getGeneratedImageStatistics().getSize() );
+      assertEquals( 1, internalImageFactory.getGeneratedImageStatistics().getEvictionCount() );
+      assertNotSame( internalImage, internalImageFactory.findInternalImage( createImageData( 0 ) ) );
+      assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+    } finally {
+      System.getProperties().remove( RWTProperties.GENERATED_IMAGE_CACHE_SIZE );
+    }
+  }
+
+  @Test
+  public void testEvictedGeneratedImagesStayRegistered() {
+    System.setProperty( RWTProperties.GENERATED_IMAGE_CACHE_SIZE, "1" );
+    try {
+      internalImageFactory = new InternalImageFactory( RWT.getResourceManager() );
+      InternalImage internalImage = internalImageFactory.findInternalImage( createImageData( 0 ) );
+
+      internalImageFactory.findInternalImage( createImageData( 1 ) );
+
+      assertEquals( 1, internalImageFactory.getGeneratedImageStatistics().getEvictionCount() );
+      assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+    } finally {
+      System.getProperties().remove( RWTProperties.GENERATED_IMAGE_CACHE_SIZE );
+    }
+  }
+
+  @Test
+  public void testRegistersWithGivenResourceManager() {
+    ResourceManager resourceManager = mock( ResourceManager.class );
+    internalImageFactory = new InternalImageFactory( resourceManager );
+
+    InternalImage internalImage = internalImageFactory.findInternalImage( createImageData( 0 ) );
+
+    verify( resourceManager ).register( eq( internalImage.getResourceName() ),
+                                        any( InputStream.class ) );
+  }
+
   @Test
   public void testInternalImagesDifferForDifferentPalettes() {
     PaletteData palette1 = new PaletteData( new RGB[] { new RGB( 23, 1, 7 ) } );
@@ -215,6 +276,11 @@ public class InternalImageFactory_Test {
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
   }
 
+  private static ImageData createImageData( int color ) {
+    PaletteData palette = new PaletteData( new RGB[] { new RGB( color, 0, 0 ) } );
+    return new ImageData( 8, 8, 8, palette );
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
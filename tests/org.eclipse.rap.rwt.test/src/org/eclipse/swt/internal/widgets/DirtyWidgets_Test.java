@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CLabel;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private Shell shell;
+  private Composite composite;
+  private Label label;
+  private DirtyWidgets dirtyWidgets;
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  @Before
+  public void setUp() {
+    System.setProperty( RWTProperties.INCREMENTAL_LIFECYCLE, "true" );
+    display = new Display();
+    shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    label = new Label( composite, SWT.NONE );
+    dirtyWidgets = display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+  }
+
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.INCREMENTAL_LIFECYCLE );
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    display.dispose();
+    System.getProperties().remove( RWTProperties.INCREMENTAL_LIFECYCLE );
+
+    Display display = new Display();
+
+    assertNull( display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets() );
+  }
+
+  @Test
+  public void testNewWidgetsAreDirty() {
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+    assertTrue( dirtyWidgets.isDirty( label ) );
+  }
+
+  @Test
+  public void testClear() {
+    dirtyWidgets.clear();
+
+    assertFalse( dirtyWidgets.isDirty( shell ) );
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkDirty_marksAncestors() {
+    Composite sibling = new Composite( shell, SWT.NONE );
+    dirtyWidgets.clear();
+
+    label.setText( "foo" );
+
+    assertTrue( dirtyWidgets.isDirty( label ) );
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+    assertFalse( dirtyWidgets.isDirty( sibling ) );
+  }
+
+  @Test
+  public void testMarkDirty_marksParentItems() {
+    Tree tree = new Tree( composite, SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    dirtyWidgets.clear();
+
+    subItem.setText( "foo" );
+
+    assertTrue( dirtyWidgets.isDirty( item ) );
+    assertTrue( dirtyWidgets.isDirty( tree ) );
+  }
+
+  @Test
+  public void testGettersDoNotMarkDirty() {
+    dirtyWidgets.clear();
+
+    label.getText();
+    composite.getChildren();
+    shell.getBounds();
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkDirty_singleItemChange() {
+    Table table = new Table( composite, SWT.NONE );
+    for( int i = 0; i < 200; i++ ) {
+      new TableItem( table, SWT.NONE );
+    }
+    TableItem item = table.getItem( 100 );
+    dirtyWidgets.clear();
+
+    item.setText( "foo" );
+
+    assertEquals( asList( item, table, composite, shell ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testMarkDirty_clearSingleItem() {
+    Table table = new Table( composite, SWT.NONE );
+    for( int i = 0; i < 200; i++ ) {
+      new TableItem( table, SWT.NONE ).setText( "item " + i );
+    }
+    dirtyWidgets.clear();
+
+    table.clear( 0 );
+
+    assertEquals( asList( table, composite, shell, table.getItem( 0 ) ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testMarkChanged() {
+    CLabel cLabel = new CLabel( composite, SWT.NONE );
+    dirtyWidgets.clear();
+
+    cLabel.setText( "foo" );
+
+    assertTrue( dirtyWidgets.isDirty( cLabel ) );
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+  }
+
+  @Test
+  public void testMarkDirty_whenSuspended() {
+    dirtyWidgets.clear();
+    dirtyWidgets.suspend();
+
+    label.setText( "foo" );
+
+    assertFalse( dirtyWidgets.isDirty( label ) );
+  }
+
+  @Test
+  public void testMarkDirty_afterReparent() {
+    Composite newParent = new Composite( shell, SWT.NONE );
+    dirtyWidgets.clear();
+
+    label.setParent( newParent );
+
+    assertTrue( dirtyWidgets.isDirty( newParent ) );
+  }
+
+  @Test
+  public void testMarkDirty_preservesBeforeChange() {
+    label.setText( "old" );
+    Fixture.markInitialized( label );
+    dirtyWidgets.clear();
+    dirtyWidgets.startPreserving();
+
+    label.setText( "new" );
+
+    assertEquals( "old", getAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirty_doesNotPreserveWithoutStartPreserving() {
+    label.setText( "old" );
+    Fixture.markInitialized( label );
+    dirtyWidgets.clear();
+
+    label.setText( "new" );
+
+    assertNull( getAdapter( label ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testFind() {
+    assertSame( label, dirtyWidgets.find( getId( label ) ) );
+  }
+
+  @Test
+  public void testFind_afterDispose() {
+    String id = getId( label );
+
+    label.dispose();
+
+    assertNull( dirtyWidgets.find( id ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -316,6 +316,154 @@ public class CanvasLCA_Test {
     assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
   }
 
+  @Test
+  public void testRenderOperations_redrawUnchanged() throws IOException {
+    prepareRedraw( 2 );
+    renderRedraw();
+
+    renderRedraw();
+
+    assertNull( getGCOperation( canvas, "init" ) );
+    assertNull( getGCOperation( canvas, "draw" ) );
+  }
+
+  @Test
+  public void testRenderOperations_redrawWithAddedOperations() throws IOException {
+    LinePainter painter = prepareRedraw( 2 );
+    renderRedraw();
+    painter.lineCount = 3;
+
+    renderRedraw();
+
+    assertNull( getGCOperation( canvas, "init" ) );
+    CallOperation draw = getGCOperation( canvas, "draw" );
+    JsonArray operations = draw.getParameters().get( "operations" ).asArray();
+    assertEquals( 4, operations.size() );
+    assertEquals( JsonArray.readFrom( "[\"moveTo\", 2.5, 2.5]" ), operations.get( 1 ) );
+  }
+
+  @Test
+  public void testRenderOperations_redrawWithChangedOperations() throws IOException {
+    LinePainter painter = prepareRedraw( 2 );
+    renderRedraw();
+    painter.lineCount = 1;
+
+    renderRedraw();
+
+    assertNotNull( getGCOperation( canvas, "init" ) );
+    CallOperation draw = getGCOperation( canvas, "draw" );
+    assertEquals( 4, draw.getParameters().get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testRenderOperations_redrawWithClientPaintListener() throws IOException {
+    prepareRedraw( 2 );
+    canvas.addListener( SWT.Paint, new ClientListener( "" ) );
+    renderRedraw();
+
+    renderRedraw();
+
+    assertNotNull( getGCOperation( canvas, "init" ) );
+    CallOperation draw = getGCOperation( canvas, "draw" );
+    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testRenderOperations_redrawAfterResize() throws IOException {
+    prepareRedraw( 2 );
+    renderRedraw();
+
+    canvas.setSize( 100, 100 );
+    renderRedraw();
+
+    assertNotNull( getGCOperation( canvas, "init" ) );
+  }
+
+  @Test
+  public void testRenderOperations_redrawAfterFontChange() throws IOException {
+    prepareRedraw( 2 );
+    renderRedraw();
+
+    canvas.setFont( new Font( display, "Arial", 20, SWT.BOLD ) );
+    renderRedraw();
+
+    CallOperation init = getGCOperation( canvas, "init" );
+    assertNotNull( init );
+    assertEquals( JsonArray.readFrom( "[[\"Arial\"], 20, true, false]" ),
+                  init.getParameters().get( "font" ) );
+  }
+
+  @Test
+  public void testRenderOperations_redrawAfterForegroundChange() throws IOException {
+    prepareRedraw( 2 );
+    renderRedraw();
+
+    canvas.setForeground( display.getSystemColor( SWT.COLOR_RED ) );
+    renderRedraw();
+
+    CallOperation init = getGCOperation( canvas, "init" );
+    assertNotNull( init );
+    assertEquals( JsonArray.readFrom( "[255, 0, 0, 255]" ),
+                  init.getParameters().get( "strokeStyle" ) );
+    CallOperation draw = getGCOperation( canvas, "draw" );
+    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testRenderOperations_redrawAfterBackgroundChange() throws IOException {
+    prepareRedraw( 2 );
+    renderRedraw();
+
+    canvas.setBackground( display.getSystemColor( SWT.COLOR_RED ) );
+    renderRedraw();
+
+    CallOperation init = getGCOperation( canvas, "init" );
+    assertNotNull( init );
+    assertEquals( JsonArray.readFrom( "[255, 0, 0, 255]" ),
+                  init.getParameters().get( "fillStyle" ) );
+  }
+
+  @Test
+  public void testRenderOperations_remembersRenderedOperationCount() throws IOException {
+    prepareRedraw( 2 );
+
+    renderRedraw();
+
+    assertEquals( 2, canvas.getAdapter( GCAdapter.class ).getRenderedGCOperationCount() );
+  }
+
+  @Test
+  public void testRenderOperations_redrawWithInsertedOperation() throws IOException {
+    final LinePainter painter = prepareRedraw( 2 );
+    renderRedraw();
+    canvas.removePaintListener( painter );
+    canvas.addPaintListener( new PaintListener() {
+      @Override
+      public void paintControl( PaintEvent event ) {
+        event.gc.drawLine( 5, 5, 15, 15 );
+        painter.paintControl( event );
+      }
+    } );
+
+    renderRedraw();
+
+    assertNotNull( getGCOperation( canvas, "init" ) );
+  }
+
+  @Test
+  public void testRenderOperations_redrawLargeChart() throws IOException {
+    LinePainter painter = prepareRedraw( 50000 );
+    renderRedraw();
+    CallOperation draw = getGCOperation( canvas, "draw" );
+    assertEquals( 200000, draw.getParameters().get( "operations" ).asArray().size() );
+    painter.lineCount = 50001;
+
+    renderRedraw();
+
+    draw = getGCOperation( canvas, "draw" );
+    assertEquals( 4, draw.getParameters().get( "operations" ).asArray().size() );
+  }
+
   @Test
   public void testClearDrawing() throws IOException {
     Fixture.fakePhase( PhaseId.PROCESS_ACTION );
@@ -394,9 +542,42 @@ public class CanvasLCA_Test {
     return result;
   }
 
+  private LinePainter prepareRedraw( int lineCount ) {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    canvas.setSize( 50, 50 );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( canvas );
+    LinePainter painter = new LinePainter( lineCount );
+    canvas.addPaintListener( painter );
+    return painter;
+  }
+
+  private void renderRedraw() throws IOException {
+    Fixture.preserveWidgets();
+    Fixture.fakeResponseWriter();
+    canvas.redraw();
+    lca.renderChanges( canvas );
+  }
+
   private static CallOperation getGCOperation( Canvas canvas, String method ) {
     TestMessage message = Fixture.getProtocolMessage();
     return message.findCallOperation( getGcId( canvas ), method );
   }
 
+  private static class LinePainter implements PaintListener {
+
+    int lineCount;
+
+    LinePainter( int lineCount ) {
+      this.lineCount = lineCount;
+    }
+
+    @Override
+    public void paintControl( PaintEvent event ) {
+      for( int i = 0; i < lineCount; i++ ) {
+        event.gc.drawLine( i, i, i + 10, i + 10 );
+      }
+    }
+  }
+
 }
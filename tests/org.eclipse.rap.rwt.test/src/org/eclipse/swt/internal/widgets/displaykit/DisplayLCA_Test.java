@@ -29,6 +29,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -45,13 +46,16 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.VisitedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
@@ -73,6 +77,7 @@ import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Button;
@@ -107,6 +112,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    System.getProperties().remove( RWTProperties.INCREMENTAL_LIFECYCLE );
   }
 
   @Test
@@ -175,6 +181,94 @@ public class DisplayLCA_Test {
     verifyNoMoreInteractions( lca );
   }
 
+  @Test
+  public void testReadData_countsVisitedWidgets() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    new CustomLCAWidget( shell, lca );
+    new CustomLCAWidget( shell, lca );
+    Fixture.fakePhase( PhaseId.READ_DATA );
+
+    displayLCA.readData( display );
+
+    assertEquals( 3, VisitedWidgets.getCount( PhaseId.READ_DATA ) );
+  }
+
+  @Test
+  public void testReadData_withIncrementalLifeCycle_visitsTargetsOnly() {
+    enableIncrementalLifeCycle();
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakePhase( PhaseId.READ_DATA );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( text );
+    verifyNoMoreInteractions( lca );
+    assertEquals( 1, VisitedWidgets.getCount( PhaseId.READ_DATA ) );
+  }
+
+  @Test
+  public void testRender_withIncrementalLifeCycle_skipsUnchangedWidgets() throws IOException {
+    enableIncrementalLifeCycle();
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Composite button = new CustomLCAWidget( shell, lca );
+    Composite text = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    Fixture.markInitialized( text );
+    Fixture.markInitialized( display );
+    Fixture.preserveWidgets();
+    Fixture.fakeNewRequest();
+    Fixture.fakePhase( PhaseId.RENDER );
+
+    text.setBounds( 1, 2, 3, 4 );
+    displayLCA.render( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).render( shell );
+    inOrder.verify( lca ).render( text );
+    verify( lca, never() ).render( button );
+    assertEquals( 2, VisitedWidgets.getCount( PhaseId.RENDER ) );
+  }
+
+  @Test
+  public void testRender_withIncrementalLifeCycle_rendersNewWidgets() throws IOException {
+    enableIncrementalLifeCycle();
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Composite button = new CustomLCAWidget( shell, lca );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    Fixture.markInitialized( display );
+    Fixture.preserveWidgets();
+
+    Composite text = new CustomLCAWidget( shell, lca );
+    displayLCA.render( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).render( shell );
+    inOrder.verify( lca ).render( text );
+    verify( lca, never() ).render( button );
+  }
+
+  @Test
+  public void testClearPreserved_withIncrementalLifeCycle_resetsDirtyWidgets() {
+    enableIncrementalLifeCycle();
+    Shell shell = new Shell( display );
+    Fixture.fakePhase( PhaseId.RENDER );
+
+    displayLCA.clearPreserved( display );
+
+    DirtyWidgets dirtyWidgets = display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+    assertFalse( dirtyWidgets.isDirty( shell ) );
+    assertEquals( 1, VisitedWidgets.getCount( PhaseId.RENDER ) );
+  }
+
   @Test
   public void testReadDisplayBounds() {
     Fixture.fakeSetProperty( getId( display ), "bounds", createJsonArray( 0, 0, 30, 70 ) );
@@ -631,6 +725,12 @@ public class DisplayLCA_Test {
     assertNull( message.findSetOperation( displayId, "overflow" ) );
   }
 
+  private void enableIncrementalLifeCycle() {
+    display.dispose();
+    System.setProperty( RWTProperties.INCREMENTAL_LIFECYCLE, "true" );
+    display = new Display();
+  }
+
   private static void setEnableUiTests( boolean value ) {
     Field field;
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -39,6 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
@@ -1594,6 +1595,149 @@ public class Display_Test {
     }
   }
 
+  @Test
+  public void testAsyncExecWithKey_delegatesToSynchronizer() {
+    Synchronizer synchronizer = mock( Synchronizer.class );
+    display.setSynchronizer( synchronizer );
+    Runnable runnable = mock( Runnable.class );
+
+    display.asyncExec( "key", runnable );
+
+    verify( synchronizer ).asyncExec( "key", runnable );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testAsyncExecWithKey_failsWithNullKey() {
+    display.asyncExec( null, mock( Runnable.class ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testAsyncExecWithKey_failsWithNullRunnable() {
+    display.asyncExec( "key", null );
+  }
+
+  @Test
+  public void testAsyncExecWithKey_replacesPendingRunnable() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+
+    display.asyncExec( "key", runnable1 );
+    display.asyncExec( "key", runnable2 );
+    while( display.readAndDispatch() ) {
+    }
+
+    verify( runnable1, never() ).run();
+    verify( runnable2 ).run();
+    assertEquals( 0, display.getSynchronizer().getMessageCount() );
+  }
+
+  @Test
+  public void testAsyncExecWithKey_doesNotReplaceRunnableWithDifferentKey() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+
+    display.asyncExec( "key1", runnable1 );
+    display.asyncExec( "key2", runnable2 );
+    while( display.readAndDispatch() ) {
+    }
+
+    verify( runnable1 ).run();
+    verify( runnable2 ).run();
+  }
+
+  @Test
+  public void testAsyncExecWithKey_enqueuesAgainAfterExecution() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable = mock( Runnable.class );
+
+    display.asyncExec( "key", runnable );
+    display.readAndDispatch();
+    display.asyncExec( "key", runnable );
+    display.readAndDispatch();
+
+    verify( runnable, times( 2 ) ).run();
+  }
+
+  @Test
+  public void testReadAndDispatch_drainsRunnablesWithinBudget() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+    display.asyncExec( runnable1 );
+    display.asyncExec( runnable2 );
+
+    boolean first = display.readAndDispatch();
+    boolean second = display.readAndDispatch();
+
+    assertTrue( first );
+    assertFalse( second );
+    verify( runnable1 ).run();
+    verify( runnable2 ).run();
+  }
+
+  @Test
+  public void testReadAndDispatch_stopsDrainWhenBudgetIsExceeded() {
+    setDrainBudget( "10" );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable slowRunnable = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep( 20 );
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    Runnable runnable = mock( Runnable.class );
+    display.asyncExec( slowRunnable );
+    display.asyncExec( runnable );
+
+    boolean first = display.readAndDispatch();
+    verify( runnable, never() ).run();
+    boolean second = display.readAndDispatch();
+    boolean third = display.readAndDispatch();
+
+    assertTrue( first );
+    assertTrue( second );
+    assertFalse( third );
+    verify( runnable ).run();
+  }
+
+  @Test
+  public void testReadAndDispatch_budgetIsScopedToSingleCall() throws InterruptedException {
+    setDrainBudget( "10" );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    display.asyncExec( mock( Runnable.class ) );
+    display.readAndDispatch();
+    Thread.sleep( 20 );
+    Runnable runnable = mock( Runnable.class );
+    display.asyncExec( runnable );
+
+    boolean result = display.readAndDispatch();
+
+    assertTrue( result );
+    verify( runnable ).run();
+  }
+
+  @Test
+  public void testReadAndDispatch_withoutDrainBudget_runsSingleRunnable() {
+    setDrainBudget( "0" );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    Runnable runnable1 = mock( Runnable.class );
+    Runnable runnable2 = mock( Runnable.class );
+    display.asyncExec( runnable1 );
+    display.asyncExec( runnable2 );
+
+    boolean result = display.readAndDispatch();
+
+    assertTrue( result );
+    verify( runnable1 ).run();
+    verify( runnable2, never() ).run();
+  }
+
   @Test
   public void testSyncExec_delegatesToSynchronizer() {
     Synchronizer synchronizer = mock( Synchronizer.class );
@@ -1840,6 +1984,15 @@ public class Display_Test {
     adapter.setCursorLocation( x, y );
   }
 
+  private void setDrainBudget( String budget ) {
+    System.setProperty( RWTProperties.ASYNC_EXEC_DRAIN_BUDGET, budget );
+    try {
+      display.setSynchronizer( new Synchronizer( display ) );
+    } finally {
+      System.getProperties().remove( RWTProperties.ASYNC_EXEC_DRAIN_BUDGET );
+    }
+  }
+
   public static class EnsureIdEntryPoint implements EntryPoint {
     @Override
     public int createUI() {
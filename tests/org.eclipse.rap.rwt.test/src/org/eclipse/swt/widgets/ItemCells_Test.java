@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.swt.graphics.Image;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ItemCells_Test {
+
+  private ItemCells cells;
+
+  @Before
+  public void setUp() {
+    cells = new ItemCells( 3 );
+  }
+
+  @Test
+  public void testInitialValues() {
+    assertEquals( 3, cells.getLength() );
+    assertEquals( "", cells.getText( 0 ) );
+    assertNull( cells.getImage( 0 ) );
+    assertNull( cells.getFont( 0 ) );
+    assertNull( cells.getBackground( 0 ) );
+    assertNull( cells.getForeground( 0 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 0 ) );
+    assertNull( cells.getTexts( 3 ) );
+    assertNull( cells.getImages( 3 ) );
+  }
+
+  @Test
+  public void testSetText() {
+    assertTrue( cells.setText( 1, "foo" ) );
+
+    assertEquals( "foo", cells.getText( 1 ) );
+    assertArrayEquals( new String[] { "", "foo", "" }, cells.getTexts( 3 ) );
+  }
+
+  @Test
+  public void testSetText_unchanged() {
+    cells.setText( 1, "foo" );
+
+    assertFalse( cells.setText( 1, "foo" ) );
+    assertFalse( cells.setText( 0, "" ) );
+  }
+
+  @Test
+  public void testSetText_resetsWidth() {
+    cells.setWidth( 1, 42 );
+
+    cells.setText( 1, "foo" );
+
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 1 ) );
+  }
+
+  @Test
+  public void testSetImage() {
+    Image image = mock( Image.class );
+
+    assertTrue( cells.setImage( 2, image ) );
+
+    assertSame( image, cells.getImage( 2 ) );
+    assertArrayEquals( new Image[] { null, null, image }, cells.getImages( 3 ) );
+  }
+
+  @Test
+  public void testClearWidths() {
+    cells.setWidth( 0, 10 );
+    cells.setWidth( 2, 20 );
+
+    cells.clearWidths();
+
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 0 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 2 ) );
+  }
+
+  @Test
+  public void testEnsureLength() {
+    cells.setText( 2, "foo" );
+    cells.setWidth( 2, 10 );
+
+    cells.ensureLength( 5 );
+
+    assertEquals( 5, cells.getLength() );
+    assertEquals( "foo", cells.getText( 2 ) );
+    assertEquals( 10, cells.getWidth( 2 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 4 ) );
+  }
+
+  @Test
+  public void testInsertColumn() {
+    cells.setText( 0, "a" );
+    cells.setText( 1, "b" );
+    cells.setWidth( 1, 10 );
+
+    cells.insertColumn( 1 );
+
+    assertEquals( 4, cells.getLength() );
+    assertArrayEquals( new String[] { "a", "", "b", "" }, cells.getTexts( 4 ) );
+    assertEquals( ItemCells.UNKNOWN_WIDTH, cells.getWidth( 1 ) );
+    assertEquals( 10, cells.getWidth( 2 ) );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    Image image = mock( Image.class );
+    cells.setText( 0, "a" );
+    cells.setText( 2, "c" );
+    cells.setImage( 2, image );
+
+    cells.removeColumn( 1 );
+
+    assertEquals( 2, cells.getLength() );
+    assertArrayEquals( new String[] { "a", "c" }, cells.getTexts( 2 ) );
+    assertSame( image, cells.getImage( 1 ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,17 +15,22 @@ import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.start
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
 import org.junit.After;
@@ -36,26 +41,30 @@ import org.mockito.ArgumentCaptor;
 
 public class TimerExecScheduler_Test {
 
+  private static final long NOW = 1000;
+
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private ApplicationScheduler applicationScheduler;
+  private ScheduledFuture<?> future;
 
   @Before
   public void setUp() {
     Fixture.setUp();
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
     display = new Display();
-    timer = mock( Timer.class );
+    applicationScheduler = mock( ApplicationScheduler.class );
+    future = mock( ScheduledFuture.class );
+    doReturn( future ).when( applicationScheduler ).schedule( any( Runnable.class ), anyLong() );
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      ApplicationScheduler getApplicationScheduler() {
+        return applicationScheduler;
       }
       @Override
-      TimerExecTask createTask( Runnable runnable ) {
-        TimerExecTask task = mock( TimerExecTask.class );
-        when( task.getRunnable() ).thenReturn( runnable );
-        return task;
+      long getCurrentTime() {
+        return NOW;
       }
     };
     exceptions = Collections.synchronizedList( new LinkedList<Throwable>() );
@@ -67,27 +76,80 @@ public class TimerExecScheduler_Test {
   }
 
   @Test
-  public void testSchedule_schedulesRunnable() {
+  public void testSchedule_schedulesTask() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    verify( applicationScheduler ).schedule( any( Runnable.class ), eq( 23L ) );
+  }
+
+  @Test
+  public void testSchedule_reschedulesSameRunnable() {
     Runnable runnable = mock( Runnable.class );
 
     scheduler.schedule( 23, runnable );
+    scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    verify( applicationScheduler ).schedule( any( Runnable.class ), eq( 23L ) );
+    verify( applicationScheduler ).schedule( any( Runnable.class ), eq( 42L ) );
+    verify( future ).cancel( false );
   }
 
   @Test
-  public void testSchedule_reschedulesSameRunnable() {
+  public void testSchedule_coalescesIdenticalSchedules() {
     Runnable runnable = mock( Runnable.class );
 
+    scheduler.schedule( 23, runnable );
+    scheduler.schedule( 23, runnable );
+
+    verify( applicationScheduler, times( 1 ) ).schedule( any( Runnable.class ), anyLong() );
+    verify( future, times( 0 ) ).cancel( false );
+  }
+
+  @Test
+  public void testSchedule_ignoresOutdatedSchedule() {
+    Runnable runnable = mock( Runnable.class );
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( applicationScheduler, times( 2 ) ).schedule( captor.capture(), anyLong() );
+
+    captor.getAllValues().get( 0 ).run();
+    display.readAndDispatch();
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    verify( runnable, times( 0 ) ).run();
+  }
+
+  @Test
+  public void testSchedule_executesRunnable() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
+    verify( applicationScheduler ).schedule( captor.capture(), anyLong() );
+
+    captor.getValue().run();
+    display.readAndDispatch();
+
+    verify( runnable ).run();
+  }
+
+  @Test
+  public void testSchedule_withApplicationScheduler() throws InterruptedException {
+    final boolean[] executed = { false };
+    scheduler = new TimerExecScheduler( display );
+
+    scheduler.schedule( 1, new Runnable() {
+      @Override
+      public void run() {
+        executed[ 0 ] = true;
+      }
+    } );
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while( !executed[ 0 ] && System.currentTimeMillis() < deadline ) {
+      Thread.sleep( 5 );
+      display.readAndDispatch();
+    }
+    assertTrue( executed[ 0 ] );
   }
 
   @Test
@@ -97,9 +159,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( future ).cancel( false );
   }
 
   @Test
@@ -111,20 +171,29 @@ public class TimerExecScheduler_Test {
   public void testCancel_removesTask() {
     Runnable runnable = mock( Runnable.class );
     scheduler.schedule( 23, runnable );
+    ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass( Runnable.class );
 
     scheduler.cancel( runnable );
-    scheduler.schedule( 42, runnable );
+    scheduler.schedule( 23, runnable );
+
+    verify( applicationScheduler, times( 2 ) ).schedule( captor.capture(), eq( 23L ) );
+    assertNotSame( captor.getAllValues().get( 0 ), captor.getAllValues().get( 1 ) );
+  }
+
+  @Test
+  public void testDispose_cancelsTasks() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    scheduler.dispose();
+
+    verify( future ).cancel( false );
   }
 
   @Test
   public void testSerializationIsThreadSafe() throws Exception {
     scheduler = new TimerExecScheduler( display );
     Runnable runnable = new Runnable() {
+      @Override
       public void run() {
         try {
           scheduler.schedule( 1, new NoOpRunnable() );
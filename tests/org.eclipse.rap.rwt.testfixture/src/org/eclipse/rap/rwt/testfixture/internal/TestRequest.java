@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -74,6 +74,7 @@ public final class TestRequest implements HttpServletRequest {
   private String body;
   private String method;
   private Locale[] locales;
+  private AsyncContext asyncContext;
 
   public TestRequest() {
     requestURL = new StringBuffer();
@@ -442,13 +443,13 @@ public final class TestRequest implements HttpServletRequest {
   }
 
   public AsyncContext startAsync() throws IllegalStateException {
-    return null;
+    return asyncContext;
   }
 
   public AsyncContext startAsync( ServletRequest servletRequest, ServletResponse servletResponse )
     throws IllegalStateException
   {
-    return null;
+    return asyncContext;
   }
 
   public boolean isAsyncStarted() {
@@ -456,11 +457,15 @@ public final class TestRequest implements HttpServletRequest {
   }
 
   public boolean isAsyncSupported() {
-    return false;
+    return asyncContext != null;
   }
 
   public AsyncContext getAsyncContext() {
-    return null;
+    return asyncContext;
+  }
+
+  public void setAsyncContext( AsyncContext asyncContext ) {
+    this.asyncContext = asyncContext;
   }
 
   public DispatcherType getDispatcherType() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2011 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ public class AllTests {
       // RAP UI Tests
       suite.addTestSuite( ServiceHandlerExtensionTest.class );
       suite.addTestSuite( RWTConfigurationWrapper.class );
+      suite.addTestSuite( ViewRegistrySnapshotTest.class );
       // RAP JFace Tests
       suite.addTestSuite( Bug264226TableViewerTest.class );
       suite.addTestSuite(SerializableEventManagerTest.class );
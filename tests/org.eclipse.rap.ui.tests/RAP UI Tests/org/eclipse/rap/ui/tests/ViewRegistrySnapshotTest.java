@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.ui.tests;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.registry.ViewDescriptor;
+import org.eclipse.ui.internal.registry.ViewRegistry;
+import org.eclipse.ui.internal.registry.ViewRegistrySnapshot;
+
+public class ViewRegistrySnapshotTest extends TestCase {
+
+  private static final String SESSION_VIEW_ID = "org.eclipse.rap.ui.tests.sessionView";
+
+  private ViewRegistrySnapshot snapshot;
+  private ViewDescriptor sharedView;
+  private ViewRegistry registry;
+
+  protected void setUp() {
+    snapshot = ViewRegistrySnapshot.getInstance();
+    sharedView = ( ViewDescriptor )snapshot.getViews().first();
+    registry = new ViewRegistry();
+  }
+
+  protected void tearDown() {
+    registry.dispose();
+  }
+
+  public void testCreate_sharesDescriptors() {
+    ViewRegistry otherRegistry = new ViewRegistry();
+    try {
+      String id = sharedView.getId();
+      assertSame( sharedView, registry.findInternal( id ) );
+      assertSame( sharedView, otherRegistry.findInternal( id ) );
+    } finally {
+      otherRegistry.dispose();
+    }
+  }
+
+  public void testAdd_doesNotChangeSnapshot() throws CoreException {
+    int size = snapshot.getViews().size();
+    ViewDescriptor sessionView = createSessionView();
+
+    registry.add( sessionView );
+
+    assertSame( sessionView, registry.findInternal( SESSION_VIEW_ID ) );
+    assertEquals( size, snapshot.getViews().size() );
+    assertFalse( snapshot.getViews().contains( sessionView ) );
+    assertNull( createRegistryAndFind( SESSION_VIEW_ID ) );
+  }
+
+  public void testRemoveExtension_doesNotChangeSnapshot() {
+    String id = sharedView.getId();
+    IConfigurationElement element = sharedView.getConfigurationElement();
+
+    registry.removeExtension( element.getDeclaringExtension(), new Object[] { sharedView } );
+
+    assertNull( registry.findInternal( id ) );
+    assertTrue( snapshot.getViews().contains( sharedView ) );
+    assertSame( sharedView, createRegistryAndFind( id ) );
+  }
+
+  private static Object createRegistryAndFind( String id ) {
+    ViewRegistry otherRegistry = new ViewRegistry();
+    try {
+      return otherRegistry.findInternal( id );
+    } finally {
+      otherRegistry.dispose();
+    }
+  }
+
+  // a view of the same extension with a different id, as if it had been added to this session
+  private ViewDescriptor createSessionView() throws CoreException {
+    final IConfigurationElement element = sharedView.getConfigurationElement();
+    InvocationHandler handler = new InvocationHandler() {
+      public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable {
+        if(    "getAttribute".equals( method.getName() )
+            && IWorkbenchRegistryConstants.ATT_ID.equals( args[ 0 ] ) )
+        {
+          return SESSION_VIEW_ID;
+        }
+        return method.invoke( element, args );
+      }
+    };
+    ClassLoader loader = IConfigurationElement.class.getClassLoader();
+    Class[] interfaces = new Class[] { IConfigurationElement.class };
+    Object proxy = Proxy.newProxyInstance( loader, interfaces, handler );
+    return new ViewDescriptor( ( IConfigurationElement )proxy );
+  }
+
+}